@@ -0,0 +1,91 @@
+package io.mend.maven.analyzer.benchmark;
+
+import io.mend.maven.analyzer.config.AnalysisOptions;
+import io.mend.maven.analyzer.config.MavenResolverConfig;
+import io.mend.maven.analyzer.config.ResolverOptions;
+import io.mend.maven.analyzer.exception.DependencyAnalysisException;
+import io.mend.maven.analyzer.model.response.AnalysisResult;
+import io.mend.maven.analyzer.service.DependencyAnalysisService;
+import io.mend.maven.analyzer.service.analysis.DependencyNodeListener;
+import io.mend.maven.analyzer.service.analysis.GraphMode;
+import io.mend.maven.analyzer.service.profile.PhaseProfiler;
+import io.mend.maven.analyzer.support.SyntheticRepositoryGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full {@link DependencyAnalysisService} runs against a generated repository served over {@code file://}.
+ * The setup run fills the local repository, so iterations measure the warm path: descriptor reads,
+ * conflict resolution, tree building and hashing. {@code graphMode} shows what conflict resolution and
+ * verbose conflict data cost on top of collection.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class AnalysisPipelineBenchmark {
+    
+    @Param({"1000", "10000"})
+    private int artifactCount;
+    
+    @Param({"resolved", "verbose", "raw"})
+    private String graphMode;
+    
+    private Path directory;
+    private String projectPath;
+    private DependencyAnalysisService analysisService;
+    private AnalysisOptions analysisOptions;
+    
+    @Setup
+    public void setUp() throws IOException, DependencyAnalysisException {
+        directory = BenchmarkFixtures.createTempDirectory("pipeline");
+        SyntheticRepositoryGenerator.GeneratedProject project = SyntheticRepositoryGenerator.generate(directory,
+            SyntheticRepositoryGenerator.Spec.builder()
+                .artifactCount(artifactCount)
+                .depth(6)
+                .fanOut(4)
+                .directDependencies(20)
+                .conflictRate(0.1)
+                .build());
+        
+        ResolverOptions options = ResolverOptions.builder()
+                .localRepository(project.getLocalRepositoryDirectory().toString())
+                .settingsFile(directory.resolve("no-settings.xml").toString())
+                .build();
+        analysisService = new DependencyAnalysisService(new MavenResolverConfig(options),
+                new PrintStream(OutputStream.nullOutputStream()));
+        projectPath = project.getProjectDirectory().toString();
+        analysisOptions = AnalysisOptions.builder()
+                .graphMode(GraphMode.fromValue(graphMode).orElseThrow())
+                .build();
+        analyze();
+    }
+    
+    @TearDown
+    public void tearDown() throws IOException {
+        BenchmarkFixtures.deleteRecursively(directory);
+    }
+    
+    @Benchmark
+    public AnalysisResult analyze() throws DependencyAnalysisException {
+        return analysisService.analyze(projectPath, DependencyNodeListener.NONE, PhaseProfiler.DISABLED, analysisOptions);
+    }
+}
\ No newline at end of file
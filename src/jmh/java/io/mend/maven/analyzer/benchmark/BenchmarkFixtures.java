@@ -0,0 +1,178 @@
+package io.mend.maven.analyzer.benchmark;
+
+import io.mend.maven.analyzer.config.MavenResolverConfig;
+import io.mend.maven.analyzer.config.ResolverOptions;
+import io.mend.maven.analyzer.model.entity.AnalyzedDependency;
+import io.mend.maven.analyzer.model.response.AnalysisResult;
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.eclipse.aether.graph.DefaultDependencyNode;
+import org.eclipse.aether.graph.Dependency;
+import org.eclipse.aether.graph.DependencyNode;
+import lombok.experimental.UtilityClass;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+/**
+ * Generates the offline inputs the benchmarks run against; everything is seeded so runs are comparable.
+ */
+@UtilityClass
+public class BenchmarkFixtures {
+    
+    public static final int FAN_OUT = 8;
+    
+    private static final long SEED = 42L;
+    private static final int GROUP_COUNT = 50;
+    private static final String[] SCOPES = {"compile", "runtime", "provided", "test"};
+    
+    public static Path createTempDirectory(String prefix) throws IOException {
+        return Files.createTempDirectory("mda-bench-" + prefix);
+    }
+    
+    public static void deleteRecursively(Path directory) throws IOException {
+        if (directory == null || !Files.exists(directory)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+    
+    /**
+     * Resolver config over an empty, offline local repository, so nothing touches the network.
+     */
+    public static MavenResolverConfig createOfflineConfig(Path localRepository) {
+        return new MavenResolverConfig(ResolverOptions.builder()
+                .offline(true)
+                .localRepository(localRepository.toString())
+                .build());
+    }
+    
+    /**
+     * Writes a POM whose dependency and managed versions all come from properties, with
+     * {@code propertyCount} properties and one dependency for every fourth property.
+     */
+    public static Path writePropertyHeavyPom(Path directory, int propertyCount) throws IOException {
+        StringBuilder pom = new StringBuilder(propertyCount * 160)
+                .append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n")
+                .append("<project xmlns=\"http://maven.apache.org/POM/4.0.0\">\n")
+                .append("  <modelVersion>4.0.0</modelVersion>\n")
+                .append("  <groupId>bench</groupId>\n")
+                .append("  <artifactId>property-heavy</artifactId>\n")
+                .append("  <version>1.0.0</version>\n")
+                .append("  <properties>\n");
+        for (int i = 0; i < propertyCount; i++) {
+            pom.append("    <lib").append(i).append(".version>").append(i % 10).append('.').append(i).append(".0</lib")
+               .append(i).append(".version>\n");
+        }
+        pom.append("  </properties>\n  <dependencyManagement>\n    <dependencies>\n");
+        for (int i = 1; i < propertyCount; i += 4) {
+            appendDependency(pom, "      ", i);
+        }
+        pom.append("    </dependencies>\n  </dependencyManagement>\n  <dependencies>\n");
+        for (int i = 0; i < propertyCount; i += 4) {
+            appendDependency(pom, "    ", i);
+        }
+        pom.append("  </dependencies>\n</project>\n");
+        
+        Path pomFile = directory.resolve("pom.xml");
+        Files.writeString(pomFile, pom);
+        return pomFile;
+    }
+    
+    private static void appendDependency(StringBuilder pom, String indent, int index) {
+        pom.append(indent).append("<dependency>\n")
+           .append(indent).append("  <groupId>bench.group").append(index % GROUP_COUNT).append("</groupId>\n")
+           .append(indent).append("  <artifactId>lib-").append(index).append("</artifactId>\n")
+           .append(indent).append("  <version>${lib").append(index).append(".version}</version>\n")
+           .append(indent).append("</dependency>\n");
+    }
+    
+    /**
+     * Builds a resolver graph of {@code nodeCount} distinct dependencies below a root, breadth first
+     * with {@link #FAN_OUT} children per node.
+     */
+    public static DependencyNode createDependencyGraph(int nodeCount) {
+        DefaultDependencyNode root = new DefaultDependencyNode(new DefaultArtifact("bench:root:1.0.0"));
+        Deque<DefaultDependencyNode> parents = new ArrayDeque<>();
+        parents.add(root);
+        
+        int created = 0;
+        while (created < nodeCount) {
+            DefaultDependencyNode parent = parents.poll();
+            List<DependencyNode> children = new ArrayList<>(FAN_OUT);
+            for (int i = 0; i < FAN_OUT && created < nodeCount; i++, created++) {
+                DefaultArtifact artifact = new DefaultArtifact("bench.group" + (created % GROUP_COUNT),
+                        "lib-" + created, "jar", "1." + (created % 10) + ".0");
+                DefaultDependencyNode child = new DefaultDependencyNode(new Dependency(artifact, SCOPES[created % SCOPES.length]));
+                children.add(child);
+                parents.add(child);
+            }
+            parent.setChildren(children);
+        }
+        return root;
+    }
+    
+    /**
+     * Builds an analysis result with {@code nodeCount} dependencies shaped like {@link #createDependencyGraph(int)}.
+     */
+    public static AnalysisResult createAnalysisResult(int nodeCount) {
+        Random random = new Random(SEED);
+        AnalyzedDependency root = new AnalyzedDependency("bench", "root", "1.0.0", null);
+        Deque<AnalyzedDependency> parents = new ArrayDeque<>();
+        parents.add(root);
+        
+        int created = 0;
+        while (created < nodeCount) {
+            AnalyzedDependency parent = parents.poll();
+            for (int i = 0; i < FAN_OUT && created < nodeCount; i++, created++) {
+                AnalyzedDependency child = new AnalyzedDependency("bench.group" + (created % GROUP_COUNT),
+                        "lib-" + created, "1." + (created % 10) + ".0", SCOPES[created % SCOPES.length]);
+                child.setSha1(randomSha1(random));
+                parent.addChild(child);
+                parents.add(child);
+            }
+        }
+        
+        AnalysisResult result = new AnalysisResult("/bench/project", "bench", "root", "1.0.0");
+        result.setDependencies(root.getChildren());
+        return result;
+    }
+    
+    /**
+     * Writes {@code size} bytes of seeded random data.
+     */
+    public static Path writeRandomFile(Path file, long size) throws IOException {
+        Random random = new Random(SEED);
+        byte[] buffer = new byte[64 * 1024];
+        try (OutputStream outputStream = Files.newOutputStream(file)) {
+            long remaining = size;
+            while (remaining > 0) {
+                random.nextBytes(buffer);
+                int chunk = (int) Math.min(buffer.length, remaining);
+                outputStream.write(buffer, 0, chunk);
+                remaining -= chunk;
+            }
+        }
+        return file;
+    }
+    
+    private static String randomSha1(Random random) {
+        StringBuilder sha1 = new StringBuilder(40);
+        for (int i = 0; i < 5; i++) {
+            sha1.append(String.format("%08x", random.nextInt()));
+        }
+        return sha1.toString();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,63 @@
+package io.mend.maven.analyzer.benchmark;
+
+import io.mend.maven.analyzer.model.entity.AnalyzedDependency;
+import io.mend.maven.analyzer.service.analysis.DependencyTreeBuilderService;
+import io.mend.maven.analyzer.service.hash.Sha1HashService;
+import org.eclipse.aether.graph.DependencyNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Traversal of synthetic resolver graphs. The local repository is empty, so each node costs one
+ * missing-file check instead of a hash; {@link Sha1HashBenchmark} covers hashing itself.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class DependencyTreeBuilderBenchmark {
+    
+    @Param({"1000", "10000", "100000"})
+    private int nodeCount;
+    
+    private Path localRepository;
+    private DependencyNode rootNode;
+    private DependencyTreeBuilderService treeBuilderService;
+    
+    @Setup
+    public void setUp() throws IOException {
+        localRepository = BenchmarkFixtures.createTempDirectory("tree");
+        rootNode = BenchmarkFixtures.createDependencyGraph(nodeCount);
+        Sha1HashService sha1HashService = new Sha1HashService(BenchmarkFixtures.createOfflineConfig(localRepository));
+        treeBuilderService = new DependencyTreeBuilderService(sha1HashService, new PrintStream(OutputStream.nullOutputStream()));
+    }
+    
+    @TearDown
+    public void tearDown() throws IOException {
+        BenchmarkFixtures.deleteRecursively(localRepository);
+    }
+    
+    @Benchmark
+    public List<AnalyzedDependency> buildDependencyTree() {
+        return treeBuilderService.buildDependencyTree(rootNode);
+    }
+}
\ No newline at end of file
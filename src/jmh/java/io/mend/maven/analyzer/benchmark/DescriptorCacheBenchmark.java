@@ -0,0 +1,85 @@
+package io.mend.maven.analyzer.benchmark;
+
+import io.mend.maven.analyzer.config.MavenResolverConfig;
+import io.mend.maven.analyzer.config.ResolverOptions;
+import io.mend.maven.analyzer.exception.DependencyAnalysisException;
+import io.mend.maven.analyzer.model.response.AnalysisResult;
+import io.mend.maven.analyzer.service.DependencyAnalysisService;
+import io.mend.maven.analyzer.support.SyntheticRepositoryGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One analysis per invocation with a fresh {@link MavenResolverConfig}, as a new process would run it,
+ * so no descriptor survives in the session cache. With {@code descriptorCache} on, the setup run fills
+ * the cache file and every descriptor read is a cache lookup; off, each one parses the POM, its parent
+ * and the imported BOM.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class DescriptorCacheBenchmark {
+    
+    @Param({"2000"})
+    private int artifactCount;
+    
+    @Param({"false", "true"})
+    private boolean descriptorCache;
+    
+    private Path directory;
+    private String projectPath;
+    private ResolverOptions options;
+    
+    @Setup
+    public void setUp() throws IOException, DependencyAnalysisException {
+        directory = BenchmarkFixtures.createTempDirectory("descriptor-cache");
+        SyntheticRepositoryGenerator.GeneratedProject project = SyntheticRepositoryGenerator.generate(directory,
+            SyntheticRepositoryGenerator.Spec.builder()
+                .artifactCount(artifactCount)
+                .depth(6)
+                .fanOut(4)
+                .directDependencies(20)
+                .conflictRate(0.1)
+                .minJarSize(256)
+                .maxJarSize(1024)
+                .build());
+        
+        options = ResolverOptions.builder()
+                .localRepository(project.getLocalRepositoryDirectory().toString())
+                .settingsFile(directory.resolve("no-settings.xml").toString())
+                .descriptorCache(descriptorCache ? directory.resolve("descriptors.json").toString() : null)
+                .build();
+        projectPath = project.getProjectDirectory().toString();
+        analyze();
+    }
+    
+    @TearDown
+    public void tearDown() throws IOException {
+        BenchmarkFixtures.deleteRecursively(directory);
+    }
+    
+    @Benchmark
+    public AnalysisResult analyze() throws DependencyAnalysisException {
+        return new DependencyAnalysisService(new MavenResolverConfig(options), new PrintStream(OutputStream.nullOutputStream()))
+                .analyze(projectPath);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,57 @@
+package io.mend.maven.analyzer.benchmark;
+
+import io.mend.maven.analyzer.model.response.AnalysisResult;
+import io.mend.maven.analyzer.service.output.JsonOutputService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialization of dependency trees to a file through the atomic writer, without fsync.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class JsonOutputBenchmark {
+    
+    @Param({"1000", "10000", "100000"})
+    private int nodeCount;
+    
+    private final JsonOutputService jsonOutputService = new JsonOutputService();
+    private Path directory;
+    private String outputPath;
+    private AnalysisResult result;
+    
+    @Setup
+    public void setUp() throws IOException {
+        directory = BenchmarkFixtures.createTempDirectory("json");
+        outputPath = directory.resolve("dependencies.json").toString();
+        result = BenchmarkFixtures.createAnalysisResult(nodeCount);
+    }
+    
+    @TearDown
+    public void tearDown() throws IOException {
+        BenchmarkFixtures.deleteRecursively(directory);
+    }
+    
+    @Benchmark
+    public void writeToFile() throws IOException {
+        jsonOutputService.writeToFile(result, outputPath);
+    }
+}
\ No newline at end of file
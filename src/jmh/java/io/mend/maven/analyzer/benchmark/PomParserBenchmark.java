@@ -0,0 +1,57 @@
+package io.mend.maven.analyzer.benchmark;
+
+import io.mend.maven.analyzer.exception.MavenProjectException;
+import io.mend.maven.analyzer.service.detection.PomParser;
+import org.apache.maven.model.Model;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing and property interpolation of POMs whose versions all come from properties.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class PomParserBenchmark {
+    
+    @Param({"10", "100", "1000"})
+    private int propertyCount;
+    
+    private final PomParser pomParser = new PomParser();
+    private Path directory;
+    private File pomFile;
+    
+    @Setup
+    public void setUp() throws IOException {
+        directory = BenchmarkFixtures.createTempDirectory("pom");
+        pomFile = BenchmarkFixtures.writePropertyHeavyPom(directory, propertyCount).toFile();
+    }
+    
+    @TearDown
+    public void tearDown() throws IOException {
+        BenchmarkFixtures.deleteRecursively(directory);
+    }
+    
+    @Benchmark
+    public Model parsePomXml() throws MavenProjectException {
+        return pomParser.parsePomXml(pomFile);
+    }
+}
\ No newline at end of file
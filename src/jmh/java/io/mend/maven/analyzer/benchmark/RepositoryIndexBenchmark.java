@@ -0,0 +1,89 @@
+package io.mend.maven.analyzer.benchmark;
+
+import io.mend.maven.analyzer.config.MavenResolverConfig;
+import io.mend.maven.analyzer.config.ResolverOptions;
+import io.mend.maven.analyzer.service.hash.Sha1HashService;
+import io.mend.maven.analyzer.service.index.LocalRepositoryIndex;
+import io.mend.maven.analyzer.service.index.LocalRepositoryIndexer;
+import io.mend.maven.analyzer.support.SyntheticRepositoryGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SHA1 and size of every JAR in a generated repository of 2k artifacts, as the hashing phase asks for
+ * them. With {@code repositoryIndex} on, each lookup is a binary search of the mapped index; off, each
+ * JAR is checked and read from the repository, which the page cache serves after the first iteration.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class RepositoryIndexBenchmark {
+    
+    @Param({"2000"})
+    private int artifactCount;
+    
+    @Param({"false", "true"})
+    private boolean repositoryIndex;
+    
+    private Path directory;
+    private List<String[]> artifacts;
+    private Sha1HashService sha1HashService;
+    
+    @Setup
+    public void setUp() throws IOException {
+        directory = BenchmarkFixtures.createTempDirectory("repository-index");
+        SyntheticRepositoryGenerator.GeneratedProject project = SyntheticRepositoryGenerator.generate(directory,
+            SyntheticRepositoryGenerator.Spec.builder()
+                .artifactCount(artifactCount)
+                .minJarSize(4096)
+                .maxJarSize(65536)
+                .build());
+        // The generated remote has the local repository layout
+        Path repository = project.getRepositoryDirectory();
+        Path indexFile = LocalRepositoryIndex.defaultFile(repository);
+        new LocalRepositoryIndexer().index(repository, indexFile);
+        
+        ResolverOptions options = ResolverOptions.builder()
+                .offline(true)
+                .localRepository(repository.toString())
+                .settingsFile(directory.resolve("no-settings.xml").toString())
+                .repositoryIndex(repositoryIndex ? indexFile.toString() : null)
+                .build();
+        sha1HashService = new Sha1HashService(new MavenResolverConfig(options));
+        artifacts = project.getJarSha1s().keySet().stream().map(coordinates -> coordinates.split(":")).toList();
+    }
+    
+    @TearDown
+    public void tearDown() throws IOException {
+        BenchmarkFixtures.deleteRecursively(directory);
+    }
+    
+    @Benchmark
+    public long hashArtifacts() {
+        long bytes = 0;
+        for (String[] artifact : artifacts) {
+            if (sha1HashService.calculateSha1Hash(artifact[0], artifact[1], artifact[2]) != null) {
+                bytes += sha1HashService.getArtifactSize(artifact[0], artifact[1], artifact[2]);
+            }
+        }
+        return bytes;
+    }
+}
\ No newline at end of file
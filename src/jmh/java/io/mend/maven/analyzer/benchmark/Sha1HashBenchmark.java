@@ -0,0 +1,56 @@
+package io.mend.maven.analyzer.benchmark;
+
+import io.mend.maven.analyzer.service.hash.Sha1HashService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SHA1 of JAR-sized files from 4 KB to 64 MB; after the first iteration the file is served from the page cache.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class Sha1HashBenchmark {
+    
+    @Param({"4096", "262144", "4194304", "67108864"})
+    private long fileSize;
+    
+    private Path directory;
+    private File jarFile;
+    private Sha1HashService sha1HashService;
+    
+    @Setup
+    public void setUp() throws IOException {
+        directory = BenchmarkFixtures.createTempDirectory("sha1");
+        jarFile = BenchmarkFixtures.writeRandomFile(directory.resolve("artifact.jar"), fileSize).toFile();
+        sha1HashService = new Sha1HashService(BenchmarkFixtures.createOfflineConfig(directory));
+    }
+    
+    @TearDown
+    public void tearDown() throws IOException {
+        BenchmarkFixtures.deleteRecursively(directory);
+    }
+    
+    @Benchmark
+    public String calculateSha1Hash() {
+        return sha1HashService.calculateSha1Hash(jarFile);
+    }
+}
\ No newline at end of file
@@ -1,17 +1,50 @@
 package io.mend.maven.analyzer;
 
 import io.mend.maven.analyzer.cli.CommandLineHandler;
+import io.mend.maven.analyzer.cli.DiffCommandHandler;
+import io.mend.maven.analyzer.cli.IndexRepositoryCommandHandler;
+import io.mend.maven.analyzer.cli.PrefetchCommandHandler;
+import io.mend.maven.analyzer.config.AnalysisOptions;
 import io.mend.maven.analyzer.config.MavenConstants;
 import io.mend.maven.analyzer.config.MavenResolverConfig;
+import io.mend.maven.analyzer.config.ResolverOptions;
 import io.mend.maven.analyzer.exception.DependencyAnalysisException;
 import io.mend.maven.analyzer.model.response.AnalysisResult;
+import io.mend.maven.analyzer.model.response.DependencyDiff;
+import io.mend.maven.analyzer.model.response.IncrementalStatistics;
+import io.mend.maven.analyzer.model.response.PhaseProfile;
+import io.mend.maven.analyzer.model.response.PrefetchResult;
+import io.mend.maven.analyzer.model.response.RepositoryIndexResult;
 import io.mend.maven.analyzer.service.DependencyAnalysisService;
+import io.mend.maven.analyzer.service.analysis.DependencyNodeListener;
+import io.mend.maven.analyzer.service.analysis.DependencySelection;
+import io.mend.maven.analyzer.service.diff.DependencyDiffReport;
+import io.mend.maven.analyzer.service.diff.DependencyDiffService;
+import io.mend.maven.analyzer.service.index.LocalRepositoryIndex;
+import io.mend.maven.analyzer.service.index.LocalRepositoryIndexer;
+import io.mend.maven.analyzer.service.index.RepositoryIndexReport;
+import io.mend.maven.analyzer.service.jfr.AnalysisRecording;
+import io.mend.maven.analyzer.service.jfr.OutputWriteEvent;
+import io.mend.maven.analyzer.service.lock.LockfileService;
+import io.mend.maven.analyzer.service.metrics.ResolverMetricsReport;
+import io.mend.maven.analyzer.service.output.AtomicOutputWriter;
 import io.mend.maven.analyzer.service.output.JsonOutputService;
+import io.mend.maven.analyzer.service.output.NdjsonOutputService;
+import io.mend.maven.analyzer.service.output.OutputFormat;
+import io.mend.maven.analyzer.service.prefetch.ArtifactPrefetchService;
+import io.mend.maven.analyzer.service.prefetch.PrefetchReport;
+import io.mend.maven.analyzer.service.profile.AnalysisPhase;
+import io.mend.maven.analyzer.service.profile.PhaseProfileReport;
+import io.mend.maven.analyzer.service.profile.PhaseProfiler;
 import org.apache.commons.cli.ParseException;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
 
 @Slf4j
 public class MavenDependencyAnalyzerApplication {
@@ -22,6 +55,7 @@ public class MavenDependencyAnalyzerApplication {
     private static final int EXIT_CODE_UNEXPECTED_ERROR = 4;
 
     public static void main(String[] args) {
+        keepLockFiles();
         try {
             new MavenDependencyAnalyzerApplication().run(args);
         } catch (ParseException e) {
@@ -40,7 +74,32 @@ public class MavenDependencyAnalyzerApplication {
         }
     }
     
+    /**
+     * Keeps the resolver's lock files instead of deleting them on close: on Linux, {@code DELETE_ON_CLOSE}
+     * unlinks a file as soon as it is opened, so processes sharing a local repository would each lock a
+     * file of their own. The resolver only reads this from a system property, so it is set before any
+     * resolver class is loaded, unless given on the command line.
+     */
+    private static void keepLockFiles() {
+        if (System.getProperty(MavenConstants.DELETE_LOCK_FILES_PROPERTY) == null) {
+            System.setProperty(MavenConstants.DELETE_LOCK_FILES_PROPERTY, Boolean.FALSE.toString());
+        }
+    }
+    
     public void run(@NonNull String[] args) throws ParseException, DependencyAnalysisException, IOException {
+        if (args.length > 0 && DiffCommandHandler.COMMAND.equals(args[0])) {
+            runDiff(Arrays.copyOfRange(args, 1, args.length));
+            return;
+        }
+        if (args.length > 0 && PrefetchCommandHandler.COMMAND.equals(args[0])) {
+            runPrefetch(Arrays.copyOfRange(args, 1, args.length));
+            return;
+        }
+        if (args.length > 0 && IndexRepositoryCommandHandler.COMMAND.equals(args[0])) {
+            runIndexRepository(Arrays.copyOfRange(args, 1, args.length));
+            return;
+        }
+        
         CommandLineHandler cliHandler = new CommandLineHandler();
         CommandLineHandler.CommandLineArguments arguments = cliHandler.parseArguments(args);
         
@@ -54,16 +113,194 @@ public class MavenDependencyAnalyzerApplication {
         
         String displayPath = getDisplayPath(projectPath);
         
-        System.out.println("Analyzing project: " + displayPath);
+        // Keep stdout clean for the results when they are piped
+        PrintStream console = AtomicOutputWriter.isStandardOutput(outputPath) ? System.err : System.out;
+        
+        console.println("Analyzing project: " + displayPath);
+        if (arguments.isOffline()) {
+            console.println("Offline mode: resolving from the local repository only");
+        }
+        console.println();
+        
+        if (arguments.getJfrOutputPath() == null) {
+            analyzeProject(arguments, console);
+            return;
+        }
+        
+        Path jfrPath = Path.of(arguments.getJfrOutputPath());
+        try (AnalysisRecording ignored = AnalysisRecording.start(jfrPath)) {
+            analyzeProject(arguments, console);
+        }
+        console.println("  JFR recording: " + jfrPath);
+    }
+    
+    private void runDiff(String[] args) throws ParseException, IOException {
+        DiffCommandHandler diffHandler = new DiffCommandHandler();
+        DiffCommandHandler.DiffArguments arguments = diffHandler.parseArguments(args);
+        
+        if (arguments.isHelpRequested()) {
+            diffHandler.printHelp();
+            return;
+        }
+        
+        String outputPath = arguments.getOutputPath();
+        PrintStream console = outputPath != null && AtomicOutputWriter.isStandardOutput(outputPath) ? System.err : System.out;
+        console.println("Comparing " + arguments.getOldFile() + " with " + arguments.getNewFile());
+        console.println();
+        
+        DependencyDiff diff = new DependencyDiffService().diff(Path.of(arguments.getOldFile()), Path.of(arguments.getNewFile()));
+        DependencyDiffReport.print(console, diff);
+        
+        if (outputPath != null) {
+            new JsonOutputService().writeValue(diff, outputPath, arguments.isFsync());
+            console.println("  Output file: " + (AtomicOutputWriter.isStandardOutput(outputPath) ? "<stdout>" : outputPath));
+        }
+    }
+    
+    private void runPrefetch(String[] args) throws ParseException, DependencyAnalysisException, IOException {
+        PrefetchCommandHandler prefetchHandler = new PrefetchCommandHandler();
+        PrefetchCommandHandler.PrefetchArguments arguments = prefetchHandler.parseArguments(args);
+        
+        if (arguments.isHelpRequested()) {
+            prefetchHandler.printHelp();
+            return;
+        }
+        
+        ResolverOptions resolverOptions = ResolverOptions.builder()
+                .settingsFile(arguments.getSettingsFile())
+                .localRepository(arguments.getLocalRepository())
+                .transferThreads(arguments.getTransferThreads())
+                .maxConnectionsPerRoute(arguments.getMaxConnectionsPerRoute())
+                .lockGranularity(arguments.getLockGranularity())
+                .lockTimeout(toSeconds(arguments.getLockTimeoutSeconds()))
+                .build();
+        System.out.println("Prefetching artifacts listed in " + arguments.getInputFile());
         System.out.println();
         
-        DependencyAnalysisService analysisService = new DependencyAnalysisService(new MavenResolverConfig());
-        AnalysisResult analysisResult = analysisService.analyze(projectPath);
+        PrefetchResult result = new ArtifactPrefetchService(new MavenResolverConfig(resolverOptions))
+                .prefetch(Path.of(arguments.getInputFile()));
+        PrefetchReport.print(System.out, result);
+        
+        if (result.hasFailures()) {
+            throw new DependencyAnalysisException("Prefetch failed for " + result.getFailed().size()
+                    + " files and found " + result.getSha1Mismatches().size() + " SHA1 mismatches");
+        }
+    }
+    
+    private void runIndexRepository(String[] args) throws ParseException, IOException {
+        IndexRepositoryCommandHandler indexHandler = new IndexRepositoryCommandHandler();
+        IndexRepositoryCommandHandler.IndexRepositoryArguments arguments = indexHandler.parseArguments(args);
+        
+        if (arguments.isHelpRequested()) {
+            indexHandler.printHelp();
+            return;
+        }
+        
+        // Only the local repository location is needed, so nothing is set up for downloads
+        ResolverOptions resolverOptions = ResolverOptions.builder()
+                .offline(true)
+                .settingsFile(arguments.getSettingsFile())
+                .localRepository(arguments.getLocalRepository())
+                .build();
+        Path repository = Path.of(new MavenResolverConfig(resolverOptions).getLocalRepositoryPath());
+        Path indexFile = arguments.getIndexFile() != null ? Path.of(arguments.getIndexFile()) : LocalRepositoryIndex.defaultFile(repository);
+        System.out.println("Indexing local repository " + repository);
+        
+        LocalRepositoryIndexer indexer = arguments.getThreads() != null
+                ? new LocalRepositoryIndexer(arguments.getThreads()) : new LocalRepositoryIndexer();
+        RepositoryIndexResult result = indexer.index(repository, indexFile);
+        RepositoryIndexReport.print(System.out, result);
+    }
+    
+    private void analyzeProject(CommandLineHandler.CommandLineArguments arguments, PrintStream console)
+            throws DependencyAnalysisException, IOException {
+        String projectPath = arguments.getDirectory();
+        String outputPath = arguments.getOutputPath();
         
+        ResolverOptions resolverOptions = ResolverOptions.builder()
+                .offline(arguments.isOffline())
+                .settingsFile(arguments.getSettingsFile())
+                .transferThreads(arguments.getTransferThreads())
+                .maxConnectionsPerRoute(arguments.getMaxConnectionsPerRoute())
+                .connectTimeout(toDuration(arguments.getConnectTimeoutMillis()))
+                .requestTimeout(toDuration(arguments.getRequestTimeoutMillis()))
+                .lockGranularity(arguments.getLockGranularity())
+                .lockTimeout(toSeconds(arguments.getLockTimeoutSeconds()))
+                .updatePolicy(arguments.getUpdatePolicy())
+                .checksumPolicy(arguments.getChecksumPolicy())
+                .descriptorCache(arguments.getDescriptorCachePath())
+                .repositoryIndex(arguments.getRepositoryIndexPath())
+                .metrics(arguments.isMetrics())
+                .build();
+        DependencyAnalysisService analysisService = new DependencyAnalysisService(new MavenResolverConfig(resolverOptions), console);
+        PhaseProfiler profiler = arguments.isProfile() ? new PhaseProfiler() : PhaseProfiler.DISABLED;
+        AnalysisOptions analysisOptions = AnalysisOptions.builder()
+                .snapshotFile(arguments.getSnapshotPath() != null ? Path.of(arguments.getSnapshotPath()) : null)
+                .lockfile(arguments.isLockfile())
+                .selection(DependencySelection.builder()
+                        .scopes(arguments.getScopes())
+                        .maxDepth(arguments.getMaxDepth())
+                        .excludes(arguments.getExcludes())
+                        .build())
+                .graphMode(arguments.getGraphMode())
+                .fingerprints(arguments.isFingerprints())
+                .compact(arguments.isCompact())
+                .build();
         JsonOutputService jsonOutputService = new JsonOutputService();
-        jsonOutputService.writeToFile(analysisResult, outputPath);
+        AnalysisResult analysisResult;
+        
+        if (arguments.getOutputFormat() == OutputFormat.NDJSON) {
+            try (NdjsonOutputService ndjsonOutputService = NdjsonOutputService.forFile(outputPath, arguments.isFsync())) {
+                analysisResult = analysisService.analyze(projectPath, ndjsonOutputService, profiler, analysisOptions);
+                OutputWriteEvent outputEvent = new OutputWriteEvent();
+                outputEvent.begin();
+                try (PhaseProfiler.Phase ignored = profiler.start(AnalysisPhase.OUTPUT)) {
+                    ndjsonOutputService.commit();
+                } finally {
+                    outputEvent.complete(formatProjectId(analysisResult), OutputFormat.NDJSON.getValue(), outputPath);
+                }
+            }
+        } else {
+            analysisResult = analysisService.analyze(projectPath, DependencyNodeListener.NONE, profiler, analysisOptions);
+            
+            OutputWriteEvent outputEvent = new OutputWriteEvent();
+            outputEvent.begin();
+            try (PhaseProfiler.Phase ignored = profiler.start(AnalysisPhase.OUTPUT)) {
+                jsonOutputService.writeToFile(analysisResult, outputPath, arguments.isFsync());
+            } finally {
+                outputEvent.complete(formatProjectId(analysisResult), OutputFormat.JSON.getValue(), outputPath);
+            }
+        }
         
-        printSuccessSummary(analysisResult.getTotalDependencies(), outputPath);
+        printSuccessSummary(console, analysisResult.getTotalDependencies(), outputPath);
+        if (analysisResult.getIncremental() != null) {
+            printIncrementalSummary(console, analysisResult.getIncremental());
+        }
+        if (Boolean.TRUE.equals(analysisResult.getResolvedFromLockfile())) {
+            console.println("  Resolved from lockfile: " + LockfileService.FILE_NAME);
+        }
+        if (analysisResult.getMetrics() != null) {
+            ResolverMetricsReport.print(console, analysisResult.getMetrics());
+        }
+        if (profiler.isEnabled()) {
+            PhaseProfile profile = profiler.toProfile();
+            PhaseProfileReport.print(console, profile);
+            if (arguments.getProfileOutputPath() != null) {
+                jsonOutputService.writeValue(profile, arguments.getProfileOutputPath(), arguments.isFsync());
+            }
+        }
+    }
+    
+    private static String formatProjectId(AnalysisResult result) {
+        return result.getProjectGroupId() + ":" + result.getProjectArtifactId() + ":" + result.getProjectVersion();
+    }
+    
+    private static Duration toDuration(Integer millis) {
+        return millis != null ? Duration.ofMillis(millis) : null;
+    }
+    
+    private static Duration toSeconds(Integer seconds) {
+        return seconds != null ? Duration.ofSeconds(seconds) : null;
     }
     
     private String getDisplayPath(String projectPath) {
@@ -71,10 +308,16 @@ public class MavenDependencyAnalyzerApplication {
         return (dockerPath != null && !dockerPath.isEmpty()) ? dockerPath : projectPath;
     }
     
-    private void printSuccessSummary(int totalDependencies, String outputPath) {
-        System.out.println();
-        System.out.println("✓ Analysis completed successfully!");
-        System.out.println("  Total dependencies: " + totalDependencies);
-        System.out.println("  Output file: " + outputPath);
+    private void printSuccessSummary(PrintStream console, int totalDependencies, String outputPath) {
+        console.println();
+        console.println("✓ Analysis completed successfully!");
+        console.println("  Total dependencies: " + totalDependencies);
+        console.println("  Output file: " + (AtomicOutputWriter.isStandardOutput(outputPath) ? "<stdout>" : outputPath));
+    }
+    
+    private void printIncrementalSummary(PrintStream console, IncrementalStatistics incremental) {
+        console.println("  Incremental: reused " + incremental.getReusedSubtrees() + " of " + incremental.getDirectDependencies()
+                + " direct dependency subtrees and " + incremental.getReusedHashes() + " of "
+                + (incremental.getReusedHashes() + incremental.getComputedHashes()) + " hashes");
     }
 }
@@ -1,15 +1,57 @@
 package io.mend.maven.analyzer.cli;
 
+import io.mend.maven.analyzer.config.LockGranularity;
+import io.mend.maven.analyzer.service.analysis.GraphMode;
+import io.mend.maven.analyzer.service.output.OutputFormat;
+import lombok.Builder;
 import lombok.Getter;
 import lombok.NonNull;
-import lombok.RequiredArgsConstructor;
 import org.apache.commons.cli.*;
+import org.eclipse.aether.repository.RepositoryPolicy;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
 
 public class CommandLineHandler {
     
     private static final String OPTION_DIRECTORY = "d";
     private static final String OPTION_OUTPUT = "o";
+    private static final String OPTION_FORMAT = "f";
+    private static final String OPTION_FSYNC = "fsync";
+    private static final String OPTION_OFFLINE = "offline";
+    private static final String OPTION_SETTINGS = "s";
+    private static final String OPTION_THREADS = "threads";
+    private static final String OPTION_MAX_CONNECTIONS = "max-connections";
+    private static final String OPTION_CONNECT_TIMEOUT = "connect-timeout";
+    private static final String OPTION_REQUEST_TIMEOUT = "request-timeout";
+    private static final String OPTION_LOCK = "lock";
+    private static final String OPTION_LOCK_TIMEOUT = "lock-timeout";
+    private static final String OPTION_UPDATE_POLICY = "update-policy";
+    private static final String OPTION_CHECKSUM_POLICY = "checksum-policy";
+    private static final String OPTION_METRICS = "metrics";
+    private static final String OPTION_PROFILE = "profile";
+    private static final String OPTION_PROFILE_OUTPUT = "profile-output";
+    private static final String OPTION_JFR = "jfr";
+    private static final String OPTION_SNAPSHOT = "snapshot";
+    private static final String OPTION_LOCKFILE = "lockfile";
+    private static final String OPTION_FINGERPRINTS = "fingerprints";
+    private static final String OPTION_COMPACT = "compact";
+    private static final String OPTION_DESCRIPTOR_CACHE = "descriptor-cache";
+    private static final String OPTION_REPOSITORY_INDEX = "repository-index";
+    private static final String OPTION_SCOPE = "scope";
+    private static final String OPTION_MAX_DEPTH = "max-depth";
+    private static final String OPTION_EXCLUDE = "exclude";
+    private static final String OPTION_GRAPH = "graph";
     private static final String OPTION_HELP = "help";
+    private static final List<String> SCOPES = List.of("compile", "runtime", "provided", "test", "system");
+    private static final List<String> UPDATE_POLICIES = List.of(RepositoryPolicy.UPDATE_POLICY_NEVER,
+            RepositoryPolicy.UPDATE_POLICY_DAILY, RepositoryPolicy.UPDATE_POLICY_ALWAYS);
+    private static final String UPDATE_POLICY_INTERVAL_PREFIX = RepositoryPolicy.UPDATE_POLICY_INTERVAL + ":";
+    private static final List<String> CHECKSUM_POLICIES = List.of(RepositoryPolicy.CHECKSUM_POLICY_FAIL,
+            RepositoryPolicy.CHECKSUM_POLICY_WARN, RepositoryPolicy.CHECKSUM_POLICY_IGNORE);
     
     private final Options options;
     
@@ -32,10 +74,179 @@ public class CommandLineHandler {
                 .longOpt("output")
                 .hasArg()
                 .argName("file")
-                .desc("Output path for the resulting JSON file")
+                .desc("Output path for the resulting JSON file, or - for standard output")
+                .required(false)
+                .build();
+        
+        Option formatOption = Option.builder(OPTION_FORMAT)
+                .longOpt("format")
+                .hasArg()
+                .argName("json|ndjson")
+                .desc("Output format: hierarchical json (default) or flat ndjson, one record per dependency")
                 .required(false)
                 .build();
         
+        Option fsyncOption = Option.builder()
+                .longOpt(OPTION_FSYNC)
+                .desc("Force the output file to disk before it is moved into place")
+                .build();
+        
+        Option offlineOption = Option.builder()
+                .longOpt(OPTION_OFFLINE)
+                .desc("Resolve from the local repository only and list any missing artifacts instead of downloading them")
+                .build();
+        
+        Option settingsOption = Option.builder(OPTION_SETTINGS)
+                .longOpt("settings")
+                .hasArg()
+                .argName("file")
+                .desc("Maven settings.xml with mirrors, servers, proxies and local repository (default: ~/.m2/settings.xml)")
+                .build();
+        
+        Option threadsOption = Option.builder()
+                .longOpt(OPTION_THREADS)
+                .hasArg()
+                .argName("count")
+                .desc("Parallel artifact downloads per repository (default: 5)")
+                .build();
+        
+        Option maxConnectionsOption = Option.builder()
+                .longOpt(OPTION_MAX_CONNECTIONS)
+                .hasArg()
+                .argName("count")
+                .desc("Maximum pooled HTTP connections per repository host (default: 50)")
+                .build();
+        
+        Option connectTimeoutOption = Option.builder()
+                .longOpt(OPTION_CONNECT_TIMEOUT)
+                .hasArg()
+                .argName("ms")
+                .desc("Connection timeout in milliseconds (default: 10000)")
+                .build();
+        
+        Option requestTimeoutOption = Option.builder()
+                .longOpt(OPTION_REQUEST_TIMEOUT)
+                .hasArg()
+                .argName("ms")
+                .desc("Request timeout in milliseconds (default: 1800000)")
+                .build();
+        
+        Option lockOption = Option.builder()
+                .longOpt(OPTION_LOCK)
+                .hasArg()
+                .argName("process|artifact|repository")
+                .desc("Local repository locking: file lock per artifact (default), one file lock for the whole repository, or in-process only")
+                .build();
+        
+        Option lockTimeoutOption = Option.builder()
+                .longOpt(OPTION_LOCK_TIMEOUT)
+                .hasArg()
+                .argName("seconds")
+                .desc("Seconds to wait for a local repository lock held by another process (default: 30)")
+                .build();
+        
+        Option updatePolicyOption = Option.builder()
+                .longOpt(OPTION_UPDATE_POLICY)
+                .hasArg()
+                .argName("never|daily|always|interval:min")
+                .desc("How often SNAPSHOT and version range metadata in the local repository is checked remotely (default: per repository, daily)")
+                .build();
+        
+        Option checksumPolicyOption = Option.builder()
+                .longOpt(OPTION_CHECKSUM_POLICY)
+                .hasArg()
+                .argName("fail|warn|ignore")
+                .desc("What a checksum mismatch on download does (default: per repository, warn)")
+                .build();
+        
+        Option metricsOption = Option.builder()
+                .longOpt(OPTION_METRICS)
+                .desc("Record download, local repository and POM read metrics; added to the JSON output and printed at the end")
+                .build();
+        
+        Option profileOption = Option.builder()
+                .longOpt(OPTION_PROFILE)
+                .desc("Print wall time, CPU time and allocated bytes for each analysis phase")
+                .build();
+        
+        Option profileOutputOption = Option.builder()
+                .longOpt(OPTION_PROFILE_OUTPUT)
+                .hasArg()
+                .argName("file")
+                .desc("Also write the phase profile as JSON to this file (implies --profile)")
+                .build();
+        
+        Option jfrOption = Option.builder()
+                .longOpt(OPTION_JFR)
+                .hasArg()
+                .argName("file")
+                .desc("Record a JFR file with the analyzer's phase and per-artifact hash events")
+                .build();
+        
+        Option snapshotOption = Option.builder()
+                .longOpt(OPTION_SNAPSHOT)
+                .hasArg()
+                .argName("file")
+                .desc("Incremental mode: reuse the dependency graph and hashes recorded in this file for unchanged direct dependencies, then update it")
+                .build();
+        
+        Option lockfileOption = Option.builder()
+                .longOpt(OPTION_LOCKFILE)
+                .desc("Write dependency-lock.json next to pom.xml; while it matches the POM, skip resolution and re-hash only changed JARs")
+                .build();
+        
+        Option fingerprintsOption = Option.builder()
+                .longOpt(OPTION_FINGERPRINTS)
+                .desc("Add a Merkle fingerprint of its subtree to every dependency and of the whole tree to the result")
+                .build();
+        
+        Option compactOption = Option.builder()
+                .longOpt(OPTION_COMPACT)
+                .desc("Hold the dependency tree in a compact form while analyzing very large projects; the output is the same")
+                .build();
+        
+        Option descriptorCacheOption = Option.builder()
+                .longOpt(OPTION_DESCRIPTOR_CACHE)
+                .hasArg()
+                .argName("file")
+                .desc("Cache parsed POMs in this file across runs and reuse them while the POM files are unchanged")
+                .build();
+        
+        Option repositoryIndexOption = Option.builder()
+                .longOpt(OPTION_REPOSITORY_INDEX)
+                .hasArg()
+                .argName("file")
+                .desc("Take release JAR sizes and SHA1s from this index of the local repository, built with index-repo")
+                .build();
+        
+        Option scopeOption = Option.builder()
+                .longOpt(OPTION_SCOPE)
+                .hasArg()
+                .argName("scopes")
+                .desc("Comma-separated scopes to keep, e.g. compile,runtime; other subtrees are never collected (default: all)")
+                .build();
+        
+        Option maxDepthOption = Option.builder()
+                .longOpt(OPTION_MAX_DEPTH)
+                .hasArg()
+                .argName("depth")
+                .desc("Keep dependencies down to this depth, 1 being the direct ones (default: unlimited)")
+                .build();
+        
+        Option excludeOption = Option.builder()
+                .longOpt(OPTION_EXCLUDE)
+                .hasArg()
+                .argName("patterns")
+                .desc("Comma-separated groupId:artifactId patterns, with * wildcards, to drop with their subtrees; may be repeated")
+                .build();
+        
+        Option graphOption = Option.builder()
+                .longOpt(OPTION_GRAPH)
+                .hasArg()
+                .argName("resolved|verbose|raw")
+                .desc("Graph mode: conflict-resolved (default), verbose with omitted conflict losers marked, or raw without conflict resolution")
+                .build();
+        
         Option helpOption = Option.builder()
                 .longOpt(OPTION_HELP)
                 .desc("Display usage information and describe available commands/flags")
@@ -43,6 +254,32 @@ public class CommandLineHandler {
         
         options.addOption(directoryOption);
         options.addOption(outputOption);
+        options.addOption(formatOption);
+        options.addOption(fsyncOption);
+        options.addOption(offlineOption);
+        options.addOption(settingsOption);
+        options.addOption(threadsOption);
+        options.addOption(maxConnectionsOption);
+        options.addOption(connectTimeoutOption);
+        options.addOption(requestTimeoutOption);
+        options.addOption(lockOption);
+        options.addOption(lockTimeoutOption);
+        options.addOption(updatePolicyOption);
+        options.addOption(checksumPolicyOption);
+        options.addOption(metricsOption);
+        options.addOption(profileOption);
+        options.addOption(profileOutputOption);
+        options.addOption(jfrOption);
+        options.addOption(snapshotOption);
+        options.addOption(lockfileOption);
+        options.addOption(fingerprintsOption);
+        options.addOption(compactOption);
+        options.addOption(descriptorCacheOption);
+        options.addOption(repositoryIndexOption);
+        options.addOption(scopeOption);
+        options.addOption(maxDepthOption);
+        options.addOption(excludeOption);
+        options.addOption(graphOption);
         options.addOption(helpOption);
         
         return options;
@@ -53,7 +290,7 @@ public class CommandLineHandler {
         CommandLine cmd = parser.parse(options, args);
         
         if (cmd.hasOption(OPTION_HELP)) {
-            return new CommandLineArguments(true, null, null);
+            return CommandLineArguments.builder().helpRequested(true).build();
         }
         
         String directory = cmd.getOptionValue(OPTION_DIRECTORY);
@@ -76,7 +313,152 @@ public class CommandLineHandler {
             throw new ParseException("Path is not a directory: " + directory);
         }
         
-        return new CommandLineArguments(false, directory, output);
+        OutputFormat format = parseOutputFormat(cmd.getOptionValue(OPTION_FORMAT));
+        
+        String settingsFile = cmd.getOptionValue(OPTION_SETTINGS);
+        if (settingsFile != null && !new java.io.File(settingsFile).isFile()) {
+            throw new ParseException("Settings file does not exist: " + settingsFile);
+        }
+        
+        GraphMode graphMode = parseGraphMode(cmd.getOptionValue(OPTION_GRAPH));
+        if (graphMode != GraphMode.RESOLVED && cmd.hasOption(OPTION_LOCKFILE)) {
+            throw new ParseException("--" + OPTION_LOCKFILE + " records the resolved graph and cannot be combined with --"
+                    + OPTION_GRAPH + " " + graphMode.getValue());
+        }
+        
+        return CommandLineArguments.builder()
+                .directory(directory)
+                .outputPath(output)
+                .outputFormat(format)
+                .fsync(cmd.hasOption(OPTION_FSYNC))
+                .offline(cmd.hasOption(OPTION_OFFLINE))
+                .settingsFile(settingsFile)
+                .transferThreads(parsePositiveInt(cmd, OPTION_THREADS))
+                .maxConnectionsPerRoute(parsePositiveInt(cmd, OPTION_MAX_CONNECTIONS))
+                .connectTimeoutMillis(parsePositiveInt(cmd, OPTION_CONNECT_TIMEOUT))
+                .requestTimeoutMillis(parsePositiveInt(cmd, OPTION_REQUEST_TIMEOUT))
+                .lockGranularity(parseLockGranularity(cmd.getOptionValue(OPTION_LOCK)))
+                .lockTimeoutSeconds(parsePositiveInt(cmd, OPTION_LOCK_TIMEOUT))
+                .updatePolicy(parseUpdatePolicy(cmd.getOptionValue(OPTION_UPDATE_POLICY)))
+                .checksumPolicy(parseChecksumPolicy(cmd.getOptionValue(OPTION_CHECKSUM_POLICY)))
+                .metrics(cmd.hasOption(OPTION_METRICS))
+                .profile(cmd.hasOption(OPTION_PROFILE) || cmd.hasOption(OPTION_PROFILE_OUTPUT))
+                .profileOutputPath(cmd.getOptionValue(OPTION_PROFILE_OUTPUT))
+                .jfrOutputPath(cmd.getOptionValue(OPTION_JFR))
+                .snapshotPath(cmd.getOptionValue(OPTION_SNAPSHOT))
+                .lockfile(cmd.hasOption(OPTION_LOCKFILE))
+                .fingerprints(cmd.hasOption(OPTION_FINGERPRINTS))
+                .compact(cmd.hasOption(OPTION_COMPACT))
+                .descriptorCachePath(cmd.getOptionValue(OPTION_DESCRIPTOR_CACHE))
+                .repositoryIndexPath(cmd.getOptionValue(OPTION_REPOSITORY_INDEX))
+                .scopes(parseScopes(cmd.getOptionValue(OPTION_SCOPE)))
+                .maxDepth(parsePositiveInt(cmd, OPTION_MAX_DEPTH))
+                .excludes(parseExcludes(cmd.getOptionValues(OPTION_EXCLUDE)))
+                .graphMode(graphMode)
+                .build();
+    }
+    
+    private Integer parsePositiveInt(CommandLine cmd, String option) throws ParseException {
+        String value = cmd.getOptionValue(option);
+        if (value == null) {
+            return null;
+        }
+        try {
+            int parsed = Integer.parseInt(value.trim());
+            if (parsed > 0) {
+                return parsed;
+            }
+        } catch (NumberFormatException e) {
+            // reported below
+        }
+        throw new ParseException("Invalid value for --" + option + ": " + value + " (expected a positive integer)");
+    }
+    
+    private Set<String> parseScopes(String value) throws ParseException {
+        if (value == null) {
+            return null;
+        }
+        Set<String> scopes = new LinkedHashSet<>();
+        for (String scope : value.split(",")) {
+            String trimmed = scope.trim();
+            if (!SCOPES.contains(trimmed)) {
+                throw new ParseException("Unsupported scope: " + trimmed + " (expected one of " + String.join(", ", SCOPES) + ")");
+            }
+            scopes.add(trimmed);
+        }
+        return scopes;
+    }
+    
+    private List<String> parseExcludes(String[] values) throws ParseException {
+        List<String> excludes = new ArrayList<>();
+        if (values == null) {
+            return excludes;
+        }
+        for (String value : values) {
+            for (String pattern : value.split(",")) {
+                String trimmed = pattern.trim();
+                if (trimmed.isEmpty() || trimmed.split(":", -1).length > 2) {
+                    throw new ParseException("Invalid exclusion pattern: " + pattern + " (expected groupId[:artifactId])");
+                }
+                excludes.add(trimmed);
+            }
+        }
+        return excludes;
+    }
+    
+    private String parseUpdatePolicy(String value) throws ParseException {
+        if (value == null) {
+            return null;
+        }
+        String policy = value.trim().toLowerCase(Locale.ROOT);
+        if (UPDATE_POLICIES.contains(policy)) {
+            return policy;
+        }
+        if (policy.startsWith(UPDATE_POLICY_INTERVAL_PREFIX)) {
+            try {
+                if (Integer.parseInt(policy.substring(UPDATE_POLICY_INTERVAL_PREFIX.length())) > 0) {
+                    return policy;
+                }
+            } catch (NumberFormatException e) {
+                // reported below
+            }
+        }
+        throw new ParseException("Unsupported update policy: " + value + " (expected never, daily, always or interval:<minutes>)");
+    }
+    
+    private String parseChecksumPolicy(String value) throws ParseException {
+        if (value == null) {
+            return null;
+        }
+        String policy = value.trim().toLowerCase(Locale.ROOT);
+        if (!CHECKSUM_POLICIES.contains(policy)) {
+            throw new ParseException("Unsupported checksum policy: " + value + " (expected one of " + String.join(", ", CHECKSUM_POLICIES) + ")");
+        }
+        return policy;
+    }
+    
+    private LockGranularity parseLockGranularity(String value) throws ParseException {
+        if (value == null) {
+            return LockGranularity.ARTIFACT;
+        }
+        return LockGranularity.fromValue(value)
+                .orElseThrow(() -> new ParseException("Unsupported lock granularity: " + value));
+    }
+    
+    private GraphMode parseGraphMode(String value) throws ParseException {
+        if (value == null) {
+            return GraphMode.RESOLVED;
+        }
+        return GraphMode.fromValue(value)
+                .orElseThrow(() -> new ParseException("Unsupported graph mode: " + value));
+    }
+    
+    private OutputFormat parseOutputFormat(String value) throws ParseException {
+        if (value == null) {
+            return OutputFormat.JSON;
+        }
+        return OutputFormat.fromValue(value)
+                .orElseThrow(() -> new ParseException("Unsupported output format: " + value));
     }
     
     public void printHelp() {
@@ -87,6 +469,25 @@ public class CommandLineHandler {
                 "\nExamples:\n" +
                 "  maven-dependency-analyzer -d /path/to/maven/project -o dependencies.json\n" +
                 "  maven-dependency-analyzer --directory /path/to/project --output output.json\n" +
+                "  maven-dependency-analyzer -d /path/to/project -o dependencies.ndjson --format ndjson\n" +
+                "  maven-dependency-analyzer -d /path/to/project -o - --format ndjson | bulk-loader\n" +
+                "  maven-dependency-analyzer -d /path/to/project -o dependencies.json --offline\n" +
+                "  maven-dependency-analyzer -d /path/to/project -o dependencies.json -s settings.xml --threads 16\n" +
+                "  maven-dependency-analyzer -d /path/to/project -o dependencies.json --lock repository --lock-timeout 300\n" +
+                "  maven-dependency-analyzer -d /path/to/project -o dependencies.json --update-policy never --metrics\n" +
+                "  maven-dependency-analyzer -d /path/to/project -o dependencies.json --metrics\n" +
+                "  maven-dependency-analyzer -d /path/to/project -o dependencies.json --profile-output profile.json\n" +
+                "  maven-dependency-analyzer -d /path/to/project -o dependencies.json --jfr analysis.jfr\n" +
+                "  maven-dependency-analyzer -d /path/to/project -o dependencies.json --snapshot .analyzer-snapshot.json\n" +
+                "  maven-dependency-analyzer -d /path/to/project -o dependencies.json --lockfile\n" +
+                "  maven-dependency-analyzer -d /path/to/project -o dependencies.json --fingerprints\n" +
+                "  maven-dependency-analyzer -d /path/to/project -o dependencies.json --descriptor-cache ~/.m2/analyzer-descriptors.json\n" +
+                "  maven-dependency-analyzer -d /path/to/project -o dependencies.json --repository-index ~/.m2/repository/.analyzer-index\n" +
+                "  maven-dependency-analyzer -d /path/to/project -o dependencies.json --scope compile,runtime --exclude org.slf4j\n" +
+                "  maven-dependency-analyzer -d /path/to/project -o dependencies.json --graph verbose\n" +
+                "  maven-dependency-analyzer diff yesterday.json today.json\n" +
+                "  maven-dependency-analyzer prefetch /path/to/project/dependency-lock.json\n" +
+                "  maven-dependency-analyzer index-repo --threads 64\n" +
                 "  maven-dependency-analyzer --help\n\n" +
                 "This tool identifies Maven projects, analyzes their dependencies (including transitive dependencies),\n" +
                 "and produces a structured JSON output reflecting the dependency hierarchy with SHA1 hashes\n" +
@@ -95,10 +496,40 @@ public class CommandLineHandler {
     }
     
     @Getter
-    @RequiredArgsConstructor
+    @Builder
     public static class CommandLineArguments {
         private final boolean helpRequested;
         private final String directory;
         private final String outputPath;
+        @Builder.Default
+        private final OutputFormat outputFormat = OutputFormat.JSON;
+        private final boolean fsync;
+        private final boolean offline;
+        private final String settingsFile;
+        private final Integer transferThreads;
+        private final Integer maxConnectionsPerRoute;
+        private final Integer connectTimeoutMillis;
+        private final Integer requestTimeoutMillis;
+        @Builder.Default
+        private final LockGranularity lockGranularity = LockGranularity.ARTIFACT;
+        private final Integer lockTimeoutSeconds;
+        private final String updatePolicy;
+        private final String checksumPolicy;
+        private final boolean metrics;
+        private final boolean profile;
+        private final String profileOutputPath;
+        private final String jfrOutputPath;
+        private final String snapshotPath;
+        private final boolean lockfile;
+        private final boolean fingerprints;
+        private final boolean compact;
+        private final String descriptorCachePath;
+        private final String repositoryIndexPath;
+        private final Set<String> scopes;
+        private final Integer maxDepth;
+        @Builder.Default
+        private final List<String> excludes = List.of();
+        @Builder.Default
+        private final GraphMode graphMode = GraphMode.RESOLVED;
     }
 }
\ No newline at end of file
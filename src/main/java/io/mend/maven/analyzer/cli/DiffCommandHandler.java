@@ -0,0 +1,94 @@
+package io.mend.maven.analyzer.cli;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+import org.apache.commons.cli.*;
+
+import java.util.List;
+
+/**
+ * Parses the arguments of the {@code diff} command: two analysis output files and an optional report path.
+ */
+public class DiffCommandHandler {
+    
+    public static final String COMMAND = "diff";
+    
+    private static final String OPTION_OUTPUT = "o";
+    private static final String OPTION_FSYNC = "fsync";
+    private static final String OPTION_HELP = "help";
+    private static final int EXPECTED_FILES = 2;
+    
+    private final Options options;
+    
+    public DiffCommandHandler() {
+        this.options = createOptions();
+    }
+    
+    private Options createOptions() {
+        Options options = new Options();
+        
+        options.addOption(Option.builder(OPTION_OUTPUT)
+                .longOpt("output")
+                .hasArg()
+                .argName("file")
+                .desc("Also write the differences as JSON to this path, or - for standard output")
+                .build());
+        options.addOption(Option.builder()
+                .longOpt(OPTION_FSYNC)
+                .desc("Force the JSON report to disk before replacing the output file")
+                .build());
+        options.addOption(Option.builder()
+                .longOpt(OPTION_HELP)
+                .desc("Display this help message")
+                .build());
+        
+        return options;
+    }
+    
+    public DiffArguments parseArguments(@NonNull String[] args) throws ParseException {
+        CommandLine cmd = new DefaultParser().parse(options, args);
+        
+        if (cmd.hasOption(OPTION_HELP)) {
+            return DiffArguments.builder().helpRequested(true).build();
+        }
+        
+        List<String> files = cmd.getArgList();
+        if (files.size() != EXPECTED_FILES) {
+            throw new ParseException("Expected two analysis output files to compare, got " + files.size());
+        }
+        for (String file : files) {
+            if (!new java.io.File(file).isFile()) {
+                throw new ParseException("File does not exist: " + file);
+            }
+        }
+        
+        return DiffArguments.builder()
+                .oldFile(files.get(0))
+                .newFile(files.get(1))
+                .outputPath(cmd.getOptionValue(OPTION_OUTPUT))
+                .fsync(cmd.hasOption(OPTION_FSYNC))
+                .build();
+    }
+    
+    public void printHelp() {
+        HelpFormatter formatter = new HelpFormatter();
+        formatter.printHelp("maven-dependency-analyzer diff <old> <new>",
+                "Compare two analysis outputs (JSON or NDJSON) and list added, removed, version-changed and re-hashed dependencies",
+                options,
+                "\nExamples:\n" +
+                "  maven-dependency-analyzer diff yesterday.json today.json\n" +
+                "  maven-dependency-analyzer diff yesterday.ndjson today.ndjson -o changes.json\n",
+                true);
+    }
+    
+    @Getter
+    @Builder
+    public static class DiffArguments {
+        private final boolean helpRequested;
+        private final String oldFile;
+        private final String newFile;
+        private final String outputPath;
+        private final boolean fsync;
+    }
+}
\ No newline at end of file
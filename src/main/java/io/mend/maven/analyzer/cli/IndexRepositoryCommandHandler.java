@@ -0,0 +1,122 @@
+package io.mend.maven.analyzer.cli;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+import org.apache.commons.cli.*;
+
+/**
+ * Parses the arguments of the {@code index-repo} command: the local repository, the index file and the scan threads.
+ */
+public class IndexRepositoryCommandHandler {
+    
+    public static final String COMMAND = "index-repo";
+    
+    private static final String OPTION_SETTINGS = "s";
+    private static final String OPTION_LOCAL_REPOSITORY = "local-repository";
+    private static final String OPTION_INDEX = "index";
+    private static final String OPTION_THREADS = "threads";
+    private static final String OPTION_HELP = "help";
+    
+    private final Options options;
+    
+    public IndexRepositoryCommandHandler() {
+        this.options = createOptions();
+    }
+    
+    private Options createOptions() {
+        Options options = new Options();
+        
+        options.addOption(Option.builder(OPTION_SETTINGS)
+                .longOpt("settings")
+                .hasArg()
+                .argName("file")
+                .desc("Maven settings.xml naming the local repository (default: ~/.m2/settings.xml)")
+                .build());
+        options.addOption(Option.builder()
+                .longOpt(OPTION_LOCAL_REPOSITORY)
+                .hasArg()
+                .argName("dir")
+                .desc("Local repository to index (default: from settings, or ~/.m2/repository)")
+                .build());
+        options.addOption(Option.builder()
+                .longOpt(OPTION_INDEX)
+                .hasArg()
+                .argName("file")
+                .desc("Index file to create or update (default: .analyzer-index in the local repository)")
+                .build());
+        options.addOption(Option.builder()
+                .longOpt(OPTION_THREADS)
+                .hasArg()
+                .argName("count")
+                .desc("Directories listed and files hashed in parallel (default: 16)")
+                .build());
+        options.addOption(Option.builder()
+                .longOpt(OPTION_HELP)
+                .desc("Display this help message")
+                .build());
+        
+        return options;
+    }
+    
+    public IndexRepositoryArguments parseArguments(@NonNull String[] args) throws ParseException {
+        CommandLine cmd = new DefaultParser().parse(options, args);
+        
+        if (cmd.hasOption(OPTION_HELP)) {
+            return IndexRepositoryArguments.builder().helpRequested(true).build();
+        }
+        
+        if (!cmd.getArgList().isEmpty()) {
+            throw new ParseException("Unexpected arguments: " + String.join(" ", cmd.getArgList()));
+        }
+        
+        String settingsFile = cmd.getOptionValue(OPTION_SETTINGS);
+        if (settingsFile != null && !new java.io.File(settingsFile).isFile()) {
+            throw new ParseException("Settings file does not exist: " + settingsFile);
+        }
+        
+        return IndexRepositoryArguments.builder()
+                .settingsFile(settingsFile)
+                .localRepository(cmd.getOptionValue(OPTION_LOCAL_REPOSITORY))
+                .indexFile(cmd.getOptionValue(OPTION_INDEX))
+                .threads(parsePositiveInt(cmd, OPTION_THREADS))
+                .build();
+    }
+    
+    private Integer parsePositiveInt(CommandLine cmd, String option) throws ParseException {
+        String value = cmd.getOptionValue(option);
+        if (value == null) {
+            return null;
+        }
+        try {
+            int parsed = Integer.parseInt(value.trim());
+            if (parsed > 0) {
+                return parsed;
+            }
+        } catch (NumberFormatException e) {
+            // reported below
+        }
+        throw new ParseException("Invalid value for --" + option + ": " + value + " (expected a positive integer)");
+    }
+    
+    public void printHelp() {
+        HelpFormatter formatter = new HelpFormatter();
+        formatter.printHelp("maven-dependency-analyzer index-repo",
+                "Index the size, modification time and SHA1 of every file in the local repository; run again to update the index",
+                options,
+                "\nExamples:\n" +
+                "  maven-dependency-analyzer index-repo\n" +
+                "  maven-dependency-analyzer index-repo --local-repository /cache/m2 --threads 64\n",
+                true);
+    }
+    
+    @Getter
+    @Builder
+    public static class IndexRepositoryArguments {
+        private final boolean helpRequested;
+        private final String settingsFile;
+        private final String localRepository;
+        private final String indexFile;
+        private final Integer threads;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,159 @@
+package io.mend.maven.analyzer.cli;
+
+import io.mend.maven.analyzer.config.LockGranularity;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+import org.apache.commons.cli.*;
+
+import java.util.List;
+
+/**
+ * Parses the arguments of the {@code prefetch} command: an analysis output or lockfile and the transfer settings.
+ */
+public class PrefetchCommandHandler {
+    
+    public static final String COMMAND = "prefetch";
+    
+    private static final String OPTION_SETTINGS = "s";
+    private static final String OPTION_LOCAL_REPOSITORY = "local-repository";
+    private static final String OPTION_THREADS = "threads";
+    private static final String OPTION_MAX_CONNECTIONS = "max-connections";
+    private static final String OPTION_LOCK = "lock";
+    private static final String OPTION_LOCK_TIMEOUT = "lock-timeout";
+    private static final String OPTION_HELP = "help";
+    
+    private final Options options;
+    
+    public PrefetchCommandHandler() {
+        this.options = createOptions();
+    }
+    
+    private Options createOptions() {
+        Options options = new Options();
+        
+        options.addOption(Option.builder(OPTION_SETTINGS)
+                .longOpt("settings")
+                .hasArg()
+                .argName("file")
+                .desc("Maven settings.xml with mirrors, servers, proxies and local repository (default: ~/.m2/settings.xml)")
+                .build());
+        options.addOption(Option.builder()
+                .longOpt(OPTION_LOCAL_REPOSITORY)
+                .hasArg()
+                .argName("dir")
+                .desc("Local repository to fill (default: from settings, or ~/.m2/repository)")
+                .build());
+        options.addOption(Option.builder()
+                .longOpt(OPTION_THREADS)
+                .hasArg()
+                .argName("count")
+                .desc("Parallel downloads per repository (default: 5)")
+                .build());
+        options.addOption(Option.builder()
+                .longOpt(OPTION_MAX_CONNECTIONS)
+                .hasArg()
+                .argName("count")
+                .desc("Maximum pooled HTTP connections per repository host (default: 50)")
+                .build());
+        options.addOption(Option.builder()
+                .longOpt(OPTION_LOCK)
+                .hasArg()
+                .argName("process|artifact|repository")
+                .desc("Local repository locking: file lock per artifact (default), one file lock for the whole repository, or in-process only")
+                .build());
+        options.addOption(Option.builder()
+                .longOpt(OPTION_LOCK_TIMEOUT)
+                .hasArg()
+                .argName("seconds")
+                .desc("Seconds to wait for a local repository lock held by another process (default: 30)")
+                .build());
+        options.addOption(Option.builder()
+                .longOpt(OPTION_HELP)
+                .desc("Display this help message")
+                .build());
+        
+        return options;
+    }
+    
+    public PrefetchArguments parseArguments(@NonNull String[] args) throws ParseException {
+        CommandLine cmd = new DefaultParser().parse(options, args);
+        
+        if (cmd.hasOption(OPTION_HELP)) {
+            return PrefetchArguments.builder().helpRequested(true).build();
+        }
+        
+        List<String> files = cmd.getArgList();
+        if (files.size() != 1) {
+            throw new ParseException("Expected one analysis output or lockfile to prefetch, got " + files.size());
+        }
+        String inputFile = files.get(0);
+        if (!new java.io.File(inputFile).isFile()) {
+            throw new ParseException("File does not exist: " + inputFile);
+        }
+        
+        String settingsFile = cmd.getOptionValue(OPTION_SETTINGS);
+        if (settingsFile != null && !new java.io.File(settingsFile).isFile()) {
+            throw new ParseException("Settings file does not exist: " + settingsFile);
+        }
+        
+        return PrefetchArguments.builder()
+                .inputFile(inputFile)
+                .settingsFile(settingsFile)
+                .localRepository(cmd.getOptionValue(OPTION_LOCAL_REPOSITORY))
+                .transferThreads(parsePositiveInt(cmd, OPTION_THREADS))
+                .maxConnectionsPerRoute(parsePositiveInt(cmd, OPTION_MAX_CONNECTIONS))
+                .lockGranularity(parseLockGranularity(cmd.getOptionValue(OPTION_LOCK)))
+                .lockTimeoutSeconds(parsePositiveInt(cmd, OPTION_LOCK_TIMEOUT))
+                .build();
+    }
+    
+    private Integer parsePositiveInt(CommandLine cmd, String option) throws ParseException {
+        String value = cmd.getOptionValue(option);
+        if (value == null) {
+            return null;
+        }
+        try {
+            int parsed = Integer.parseInt(value.trim());
+            if (parsed > 0) {
+                return parsed;
+            }
+        } catch (NumberFormatException e) {
+            // reported below
+        }
+        throw new ParseException("Invalid value for --" + option + ": " + value + " (expected a positive integer)");
+    }
+    
+    private LockGranularity parseLockGranularity(String value) throws ParseException {
+        if (value == null) {
+            return LockGranularity.ARTIFACT;
+        }
+        return LockGranularity.fromValue(value)
+                .orElseThrow(() -> new ParseException("Unsupported lock granularity: " + value));
+    }
+    
+    public void printHelp() {
+        HelpFormatter formatter = new HelpFormatter();
+        formatter.printHelp("maven-dependency-analyzer prefetch <file>",
+                "Download every artifact listed in an analysis output (JSON or NDJSON) or dependency-lock.json into the local repository",
+                options,
+                "\nExamples:\n" +
+                "  maven-dependency-analyzer prefetch /path/to/project/dependency-lock.json --threads 16\n" +
+                "  maven-dependency-analyzer prefetch dependencies.json -s settings.xml --local-repository /cache/m2\n",
+                true);
+    }
+    
+    @Getter
+    @Builder
+    public static class PrefetchArguments {
+        private final boolean helpRequested;
+        private final String inputFile;
+        private final String settingsFile;
+        private final String localRepository;
+        private final Integer transferThreads;
+        private final Integer maxConnectionsPerRoute;
+        @Builder.Default
+        private final LockGranularity lockGranularity = LockGranularity.ARTIFACT;
+        private final Integer lockTimeoutSeconds;
+    }
+}
\ No newline at end of file
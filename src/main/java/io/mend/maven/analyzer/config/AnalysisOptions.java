@@ -0,0 +1,53 @@
+package io.mend.maven.analyzer.config;
+
+import io.mend.maven.analyzer.service.analysis.DependencySelection;
+import io.mend.maven.analyzer.service.analysis.GraphMode;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.nio.file.Path;
+
+/**
+ * Options for a single analysis, as opposed to the repository setup in {@link ResolverOptions}.
+ */
+@Getter
+@Builder
+public class AnalysisOptions {
+    
+    /**
+     * Graph snapshot file for incremental analysis; when null, the full graph is collected every time.
+     */
+    private final Path snapshotFile;
+    
+    /**
+     * Write a lockfile next to {@code pom.xml} and build the result from it while it still matches the POM.
+     */
+    private final boolean lockfile;
+    
+    /**
+     * Scopes, depth and exclusions the graph is pruned to while it is collected.
+     */
+    @Builder.Default
+    private final DependencySelection selection = DependencySelection.ALL;
+    
+    /**
+     * Which transformers run on the collected graph; lockfiles need the default {@link GraphMode#RESOLVED}.
+     */
+    @Builder.Default
+    private final GraphMode graphMode = GraphMode.RESOLVED;
+    
+    /**
+     * Give every dependency and the result a Merkle fingerprint of its subtree; left out when false.
+     */
+    private final boolean fingerprints;
+    
+    /**
+     * Hold the tree as {@code CompactDependency} nodes, each direct dependency's subtree compacted as soon
+     * as it is built, to keep very large trees small in memory; the JSON output is the same.
+     */
+    private final boolean compact;
+    
+    public static AnalysisOptions defaults() {
+        return AnalysisOptions.builder().build();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,37 @@
+package io.mend.maven.analyzer.config;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * How finely the resolver's named locks divide the local repository, and whether they also hold
+ * across processes. Each granularity selects a lock factory and a name mapper of the resolver's
+ * named-lock sync context.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum LockGranularity {
+    
+    /** In-memory lock per artifact: threads of one process are coordinated, other processes are not. */
+    PROCESS("process", "rwlock-local", "gav"),
+    
+    /** File lock per artifact under the local repository's {@code .locks} directory, held across processes (default). */
+    ARTIFACT("artifact", "file-lock", "file-gav"),
+    
+    /** One file lock for the whole local repository: processes resolve one at a time. */
+    REPOSITORY("repository", "file-lock", "file-static");
+    
+    private final String value;
+    private final String lockFactory;
+    private final String nameMapper;
+    
+    public static Optional<LockGranularity> fromValue(@NonNull String value) {
+        return Arrays.stream(values())
+                .filter(granularity -> granularity.value.equalsIgnoreCase(value.trim()))
+                .findFirst();
+    }
+}
\ No newline at end of file
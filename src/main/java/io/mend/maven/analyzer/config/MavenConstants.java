@@ -13,15 +13,28 @@ public class MavenConstants {
     public static final String DEFAULT_MAVEN_CENTRAL_ID = "central";
     public static final String DEFAULT_REPOSITORY_TYPE = "default";
     public static final String DEFAULT_M2_REPOSITORY_PATH = "/.m2/repository";
+    public static final String USER_SETTINGS_PATH = ".m2/settings.xml";
+    public static final String GLOBAL_SETTINGS_PATH = "conf/settings.xml";
     
     // File names and extensions
     public static final String JAR_EXTENSION = ".jar";
     public static final String POM_XML_FILENAME = "pom.xml";
     public static final String ARTIFACT_FILENAME_SEPARATOR = "-";
+    public static final String STANDARD_OUTPUT_PATH = "-";
     
     // System properties
     public static final String USER_HOME_PROPERTY = "user.home";
     public static final String MAVEN_LOCAL_REPO_PROPERTY = "maven.repo.local";
+    public static final String MAVEN_HOME_PROPERTY = "maven.home";
+    
+    // Resolver configuration properties
+    public static final String CONNECTOR_THREADS_PROPERTY = "aether.connector.basic.threads";
+    public static final String LOCK_FACTORY_PROPERTY = "aether.syncContext.named.factory";
+    public static final String LOCK_NAME_MAPPER_PROPERTY = "aether.syncContext.named.nameMapper";
+    public static final String LOCK_TIME_PROPERTY = "aether.syncContext.named.time";
+    public static final String LOCK_TIME_UNIT_PROPERTY = "aether.syncContext.named.time.unit";
+    // A system property: the resolver reads it once, when the file-lock factory class is loaded
+    public static final String DELETE_LOCK_FILES_PROPERTY = "aether.named.file-lock.deleteLockFiles";
     
     // Environment variables
     public static final String ENV_ORIGINAL_PROJECT_PATH = "ORIGINAL_PROJECT_PATH";
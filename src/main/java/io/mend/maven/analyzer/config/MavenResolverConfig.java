@@ -1,25 +1,59 @@
 package io.mend.maven.analyzer.config;
 
+import io.mend.maven.analyzer.service.descriptor.ArtifactDescriptorCache;
+import io.mend.maven.analyzer.service.descriptor.CachingArtifactDescriptorReader;
+import io.mend.maven.analyzer.service.index.IndexedFile;
+import io.mend.maven.analyzer.service.index.LocalRepositoryIndex;
+import io.mend.maven.analyzer.service.metrics.ResolverMetricsCollector;
+import io.mend.maven.analyzer.service.metrics.TimedArtifactDescriptorReader;
+import io.mend.maven.analyzer.util.DependencyUtils;
+import org.eclipse.aether.ConfigurationProperties;
 import org.eclipse.aether.DefaultRepositorySystemSession;
 import org.eclipse.aether.RepositorySystem;
 import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.eclipse.aether.DefaultRepositoryCache;
 import org.eclipse.aether.connector.basic.BasicRepositoryConnectorFactory;
+import org.eclipse.aether.impl.ArtifactDescriptorReader;
 import org.eclipse.aether.impl.DefaultServiceLocator;
+import org.eclipse.aether.internal.impl.synccontext.named.NamedLockFactoryAdapterFactory;
+import org.eclipse.aether.repository.Authentication;
+import org.eclipse.aether.repository.AuthenticationSelector;
 import org.eclipse.aether.repository.LocalRepository;
+import org.eclipse.aether.repository.MirrorSelector;
+import org.eclipse.aether.repository.Proxy;
+import org.eclipse.aether.repository.ProxySelector;
 import org.eclipse.aether.repository.RemoteRepository;
+import org.eclipse.aether.repository.RepositoryPolicy;
 import org.eclipse.aether.spi.connector.RepositoryConnectorFactory;
 import org.eclipse.aether.spi.connector.transport.TransporterFactory;
 import org.eclipse.aether.transport.file.FileTransporterFactory;
 import org.eclipse.aether.transport.http.HttpTransporterFactory;
+import org.eclipse.aether.util.repository.AuthenticationBuilder;
+import org.eclipse.aether.util.repository.DefaultAuthenticationSelector;
+import org.eclipse.aether.util.repository.DefaultMirrorSelector;
+import org.eclipse.aether.util.repository.DefaultProxySelector;
+import org.apache.maven.model.Model;
 import org.apache.maven.repository.internal.MavenRepositorySystemUtils;
+import org.apache.maven.settings.Mirror;
+import org.apache.maven.settings.Profile;
+import org.apache.maven.settings.Repository;
+import org.apache.maven.settings.Server;
+import org.apache.maven.settings.Settings;
 
 import lombok.Getter;
+import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.File;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 public class MavenResolverConfig {
@@ -27,6 +61,7 @@ public class MavenResolverConfig {
     private static final String DEFAULT_LOCAL_REPO_PATH = MavenConstants.DEFAULT_M2_REPOSITORY_PATH;
     private static final char GROUP_ID_SEPARATOR = '.';
     private static final char PATH_SEPARATOR = '/';
+    private static final char EXTENSION_SEPARATOR = '.';
     
     private static final String USER_HOME = System.getProperty(MavenConstants.USER_HOME_PROPERTY);
     private static final String DEFAULT_LOCAL_REPO = USER_HOME + DEFAULT_LOCAL_REPO_PATH;
@@ -37,18 +72,48 @@ public class MavenResolverConfig {
     private final RepositorySystemSession session;
     @Getter
     private final List<RemoteRepository> repositories;
+    @Getter
+    private final ResolverOptions options;
+    @Getter
+    private final boolean offline;
+    /** The persistent descriptor cache shared by every analysis, or null when descriptors are not cached. */
+    @Getter
+    private final ArtifactDescriptorCache descriptorCache;
+    /** The index of the local repository, or null when lookups go to the files. */
+    @Getter
+    private final LocalRepositoryIndex repositoryIndex;
+    
+    private final Settings settings;
     
     public MavenResolverConfig() {
+        this(ResolverOptions.defaults());
+    }
+    
+    public MavenResolverConfig(@NonNull ResolverOptions options) {
+        this.options = options;
+        this.settings = MavenSettingsLoader.load(options.getSettingsFile());
+        this.offline = options.isOffline() || settings.isOffline();
+        this.descriptorCache = options.getDescriptorCache() != null ? ArtifactDescriptorCache.load(Path.of(options.getDescriptorCache())) : null;
         this.repositorySystem = createRepositorySystem();
         this.session = createRepositorySystemSession(repositorySystem);
         this.repositories = createRemoteRepositories();
+        this.repositoryIndex = openRepositoryIndex();
     }
     
     private RepositorySystem createRepositorySystem() {
         DefaultServiceLocator locator = MavenRepositorySystemUtils.newServiceLocator();
         locator.addService(RepositoryConnectorFactory.class, BasicRepositoryConnectorFactory.class);
         locator.addService(TransporterFactory.class, FileTransporterFactory.class);
-        locator.addService(TransporterFactory.class, HttpTransporterFactory.class);
+        if (!offline) {
+            locator.addService(TransporterFactory.class, HttpTransporterFactory.class);
+        }
+        // The timed reader also consults the descriptor cache
+        if (options.isMetrics()) {
+            locator.setService(ArtifactDescriptorReader.class, TimedArtifactDescriptorReader.class);
+        } else if (descriptorCache != null) {
+            locator.setService(ArtifactDescriptorReader.class, CachingArtifactDescriptorReader.class);
+        }
+        locator.setService(NamedLockFactoryAdapterFactory.class, SharedLocalRepositoryLockFactory.class);
         
         locator.setErrorHandler(new DefaultServiceLocator.ErrorHandler() {
             @Override
@@ -63,13 +128,144 @@ public class MavenResolverConfig {
     private RepositorySystemSession createRepositorySystemSession(RepositorySystem system) {
         DefaultRepositorySystemSession session = MavenRepositorySystemUtils.newSession();
         
-        String localRepoPath = System.getProperty(MavenConstants.MAVEN_LOCAL_REPO_PROPERTY, DEFAULT_LOCAL_REPO);
-        LocalRepository localRepo = new LocalRepository(localRepoPath);
+        String localRepoPath = resolveLocalRepositoryPath();
+        // The default repository type selects the enhanced manager, which checks where an artifact was downloaded from
+        LocalRepository localRepo = new LocalRepository(new File(localRepoPath), MavenConstants.DEFAULT_REPOSITORY_TYPE);
         session.setLocalRepositoryManager(system.newLocalRepositoryManager(session, localRepo));
         
+        if (offline) {
+            session.setOffline(true);
+            log.debug("Offline mode enabled, resolving from {} only", localRepoPath);
+        }
+        
+        applyTransferOptions(session);
+        applyLockOptions(session);
+        applyPolicyOptions(session);
+        session.setMirrorSelector(createMirrorSelector());
+        session.setProxySelector(createProxySelector());
+        session.setAuthenticationSelector(createAuthenticationSelector());
+        // Shared by every forked request session, so descriptors read by one analysis are reused by the next
+        session.setCache(new DefaultRepositoryCache());
+        if (descriptorCache != null) {
+            descriptorCache.attach(session);
+        }
+        
         return session;
     }
     
+    private LocalRepositoryIndex openRepositoryIndex() {
+        if (options.getRepositoryIndex() == null) {
+            return null;
+        }
+        LocalRepositoryIndex index = LocalRepositoryIndex.open(Path.of(options.getRepositoryIndex()));
+        String localRepository = session.getLocalRepository().getBasedir().toPath().toAbsolutePath().normalize().toString();
+        if (index.size() == 0) {
+            log.warn("Repository index {} is empty or missing; run index-repo to build it", options.getRepositoryIndex());
+            return null;
+        }
+        if (!localRepository.equals(index.getRepository())) {
+            log.warn("Ignoring repository index {}, which was built for {} rather than {}",
+                options.getRepositoryIndex(), index.getRepository(), localRepository);
+            return null;
+        }
+        return index;
+    }
+    
+    private String resolveLocalRepositoryPath() {
+        if (options.getLocalRepository() != null) {
+            return options.getLocalRepository();
+        }
+        String settingsLocalRepo = settings.getLocalRepository();
+        String fallback = settingsLocalRepo != null && !settingsLocalRepo.isBlank() ? settingsLocalRepo : DEFAULT_LOCAL_REPO;
+        return System.getProperty(MavenConstants.MAVEN_LOCAL_REPO_PROPERTY, fallback);
+    }
+    
+    private void applyTransferOptions(DefaultRepositorySystemSession session) {
+        if (options.getTransferThreads() != null) {
+            session.setConfigProperty(MavenConstants.CONNECTOR_THREADS_PROPERTY, options.getTransferThreads());
+        }
+        if (options.getMaxConnectionsPerRoute() != null) {
+            session.setConfigProperty(ConfigurationProperties.HTTP_MAX_CONNECTIONS_PER_ROUTE, options.getMaxConnectionsPerRoute());
+        }
+        if (options.getConnectTimeout() != null) {
+            session.setConfigProperty(ConfigurationProperties.CONNECT_TIMEOUT, (int) options.getConnectTimeout().toMillis());
+        }
+        if (options.getRequestTimeout() != null) {
+            session.setConfigProperty(ConfigurationProperties.REQUEST_TIMEOUT, (int) options.getRequestTimeout().toMillis());
+        }
+    }
+    
+    /**
+     * Selects the named locks the resolver takes around local repository reads and writes. File locks
+     * are what keep processes that share one local repository, such as containers mounting the same
+     * {@code ~/.m2}, from downloading a file twice or reading it half-written.
+     */
+    private void applyLockOptions(DefaultRepositorySystemSession session) {
+        LockGranularity granularity = options.getLockGranularity();
+        session.setConfigProperty(MavenConstants.LOCK_FACTORY_PROPERTY, granularity.getLockFactory());
+        session.setConfigProperty(MavenConstants.LOCK_NAME_MAPPER_PROPERTY, granularity.getNameMapper());
+        if (options.getLockTimeout() != null) {
+            session.setConfigProperty(MavenConstants.LOCK_TIME_PROPERTY, options.getLockTimeout().toMillis());
+            session.setConfigProperty(MavenConstants.LOCK_TIME_UNIT_PROPERTY, TimeUnit.MILLISECONDS.name());
+        }
+    }
+    
+    /**
+     * Overrides the update and checksum policies of all repositories. Version and SNAPSHOT resolutions
+     * are cached in the shared session cache either way; the update policy decides whether a later run
+     * may trust the metadata left in the local repository or has to ask the remote again.
+     */
+    private void applyPolicyOptions(DefaultRepositorySystemSession session) {
+        if (options.getUpdatePolicy() != null) {
+            session.setUpdatePolicy(options.getUpdatePolicy());
+        }
+        if (options.getChecksumPolicy() != null) {
+            session.setChecksumPolicy(options.getChecksumPolicy());
+        }
+    }
+    
+    private MirrorSelector createMirrorSelector() {
+        DefaultMirrorSelector selector = new DefaultMirrorSelector();
+        for (Mirror mirror : settings.getMirrors()) {
+            selector.add(mirror.getId(), mirror.getUrl(), mirror.getLayout(), false, mirror.isBlocked(),
+                mirror.getMirrorOf(), mirror.getMirrorOfLayouts());
+        }
+        return selector;
+    }
+    
+    private ProxySelector createProxySelector() {
+        DefaultProxySelector selector = new DefaultProxySelector();
+        for (org.apache.maven.settings.Proxy proxy : settings.getProxies()) {
+            if (!proxy.isActive()) {
+                continue;
+            }
+            Authentication authentication = new AuthenticationBuilder()
+                .addUsername(proxy.getUsername())
+                .addPassword(proxy.getPassword())
+                .build();
+            selector.add(new Proxy(proxy.getProtocol(), proxy.getHost(), proxy.getPort(), authentication),
+                proxy.getNonProxyHosts());
+        }
+        return selector;
+    }
+    
+    private AuthenticationSelector createAuthenticationSelector() {
+        DefaultAuthenticationSelector selector = new DefaultAuthenticationSelector();
+        for (Server server : settings.getServers()) {
+            Authentication authentication = new AuthenticationBuilder()
+                .addUsername(server.getUsername())
+                .addPassword(server.getPassword())
+                .addPrivateKey(server.getPrivateKey(), server.getPassphrase())
+                .build();
+            selector.add(server.getId(), authentication);
+        }
+        return selector;
+    }
+    
+    /**
+     * Builds Maven Central plus repositories from active settings profiles, with mirrors,
+     * proxies and credentials from the settings applied.
+     */
     private List<RemoteRepository> createRemoteRepositories() {
         List<RemoteRepository> repositories = new ArrayList<>();
         
@@ -78,7 +274,86 @@ public class MavenResolverConfig {
             MavenConstants.DEFAULT_REPOSITORY_TYPE, 
             MavenConstants.DEFAULT_MAVEN_CENTRAL_URL).build());
         
-        return repositories;
+        for (Profile profile : settings.getProfiles()) {
+            boolean activeByDefault = profile.getActivation() != null && profile.getActivation().isActiveByDefault();
+            if (!activeByDefault && !settings.getActiveProfiles().contains(profile.getId())) {
+                continue;
+            }
+            for (Repository repository : profile.getRepositories()) {
+                repositories.add(toRemoteRepository(repository));
+            }
+        }
+        
+        return repositorySystem.newResolutionRepositories(session, repositories);
+    }
+    
+    /**
+     * Returns the repositories for resolving the given project: those declared in its POM first, as
+     * Maven orders them, followed by the configured ones whose id the POM does not redefine.
+     */
+    public List<RemoteRepository> getRepositories(@NonNull Model model) {
+        if (model.getRepositories().isEmpty()) {
+            return repositories;
+        }
+        
+        List<RemoteRepository> projectRepositories = new ArrayList<>();
+        for (org.apache.maven.model.Repository repository : model.getRepositories()) {
+            projectRepositories.add(toRemoteRepository(repository));
+        }
+        
+        List<RemoteRepository> combined = new ArrayList<>(repositorySystem.newResolutionRepositories(session, projectRepositories));
+        Set<String> ids = new HashSet<>();
+        combined.forEach(repository -> ids.add(repository.getId()));
+        projectRepositories.forEach(repository -> ids.add(repository.getId()));
+        for (RemoteRepository repository : repositories) {
+            if (ids.add(repository.getId())) {
+                combined.add(repository);
+            }
+        }
+        return combined;
+    }
+    
+    private static RemoteRepository toRemoteRepository(org.apache.maven.model.Repository repository) {
+        String layout = repository.getLayout() != null ? repository.getLayout() : MavenConstants.DEFAULT_REPOSITORY_TYPE;
+        return new RemoteRepository.Builder(repository.getId(), layout, repository.getUrl())
+            .setReleasePolicy(toRepositoryPolicy(repository.getReleases()))
+            .setSnapshotPolicy(toRepositoryPolicy(repository.getSnapshots()))
+            .build();
+    }
+    
+    private static RepositoryPolicy toRepositoryPolicy(org.apache.maven.model.RepositoryPolicy policy) {
+        if (policy == null) {
+            return new RepositoryPolicy();
+        }
+        return new RepositoryPolicy(policy.isEnabled(), policy.getUpdatePolicy(), policy.getChecksumPolicy());
+    }
+    
+    private static RemoteRepository toRemoteRepository(Repository repository) {
+        String layout = repository.getLayout() != null ? repository.getLayout() : MavenConstants.DEFAULT_REPOSITORY_TYPE;
+        return new RemoteRepository.Builder(repository.getId(), layout, repository.getUrl())
+            .setReleasePolicy(toRepositoryPolicy(repository.getReleases()))
+            .setSnapshotPolicy(toRepositoryPolicy(repository.getSnapshots()))
+            .build();
+    }
+    
+    private static RepositoryPolicy toRepositoryPolicy(org.apache.maven.settings.RepositoryPolicy policy) {
+        if (policy == null) {
+            return new RepositoryPolicy();
+        }
+        return new RepositoryPolicy(policy.isEnabled(), policy.getUpdatePolicy(), policy.getChecksumPolicy());
+    }
+    
+    /**
+     * Forks the shared session for a single analysis. The fork shares the local repository manager,
+     * cache and session data but has its own listeners and configuration, so concurrent analyses can
+     * each attach their own metrics collector; a null collector leaves metrics off.
+     */
+    public DefaultRepositorySystemSession newRequestSession(ResolverMetricsCollector metricsCollector) {
+        DefaultRepositorySystemSession requestSession = new DefaultRepositorySystemSession(session);
+        if (metricsCollector != null) {
+            metricsCollector.attach(requestSession);
+        }
+        return requestSession;
     }
     
     public String getLocalRepositoryPath() {
@@ -86,9 +361,45 @@ public class MavenResolverConfig {
     }
     
     public File getLocalRepositoryFile(String groupId, String artifactId, String version) {
-        String path = groupId.replace(GROUP_ID_SEPARATOR, PATH_SEPARATOR) + PATH_SEPARATOR + 
-                     artifactId + PATH_SEPARATOR + version + PATH_SEPARATOR + 
-                     artifactId + MavenConstants.ARTIFACT_FILENAME_SEPARATOR + version + MavenConstants.JAR_EXTENSION;
-        return Paths.get(getLocalRepositoryPath(), path).toFile();
+        return getLocalRepositoryFile(jar(groupId, artifactId, version));
+    }
+    
+    /**
+     * Returns where the artifact, with its classifier and extension, is kept in the local repository.
+     */
+    public File getLocalRepositoryFile(Artifact artifact) {
+        return Paths.get(getLocalRepositoryPath(), getArtifactPath(artifact)).toFile();
+    }
+    
+    /**
+     * Returns the artifact's JAR as recorded in the repository index, without touching the local
+     * repository, or null if there is no index or the JAR is not in it. SNAPSHOT JARs are replaced in
+     * place when a newer one is downloaded, so they are always looked up in the local repository.
+     */
+    public IndexedFile findIndexedFile(String groupId, String artifactId, String version) {
+        return findIndexedFile(jar(groupId, artifactId, version));
+    }
+    
+    /**
+     * Returns the artifact's file, with its classifier and extension, as recorded in the repository index.
+     */
+    public IndexedFile findIndexedFile(Artifact artifact) {
+        if (repositoryIndex == null || artifact.isSnapshot()) {
+            return null;
+        }
+        return repositoryIndex.find(getArtifactPath(artifact));
+    }
+    
+    private static Artifact jar(String groupId, String artifactId, String version) {
+        return new DefaultArtifact(groupId, artifactId, DependencyUtils.DEFAULT_EXTENSION, version);
+    }
+    
+    private static String getArtifactPath(Artifact artifact) {
+        String classifier = artifact.getClassifier().isEmpty()
+                ? "" : MavenConstants.ARTIFACT_FILENAME_SEPARATOR + artifact.getClassifier();
+        return artifact.getGroupId().replace(GROUP_ID_SEPARATOR, PATH_SEPARATOR) + PATH_SEPARATOR +
+               artifact.getArtifactId() + PATH_SEPARATOR + artifact.getBaseVersion() + PATH_SEPARATOR +
+               artifact.getArtifactId() + MavenConstants.ARTIFACT_FILENAME_SEPARATOR + artifact.getBaseVersion() +
+               classifier + EXTENSION_SEPARATOR + artifact.getExtension();
     }
 }
\ No newline at end of file
@@ -0,0 +1,50 @@
+package io.mend.maven.analyzer.config;
+
+import lombok.experimental.UtilityClass;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.maven.settings.Settings;
+import org.apache.maven.settings.building.DefaultSettingsBuilderFactory;
+import org.apache.maven.settings.building.DefaultSettingsBuildingRequest;
+import org.apache.maven.settings.building.SettingsBuildingException;
+import org.apache.maven.settings.building.SettingsBuildingResult;
+import org.apache.maven.settings.building.SettingsProblem;
+
+import java.io.File;
+import java.nio.file.Paths;
+
+/**
+ * Reads the effective Maven settings by merging the global and user {@code settings.xml} files.
+ */
+@Slf4j
+@UtilityClass
+public class MavenSettingsLoader {
+    
+    /**
+     * Loads settings from the given user settings file, or from {@code ~/.m2/settings.xml} when null.
+     * Missing files yield empty settings; malformed files are rejected.
+     */
+    public static Settings load(String userSettingsPath) {
+        File userSettings = userSettingsPath != null
+            ? new File(userSettingsPath)
+            : Paths.get(System.getProperty(MavenConstants.USER_HOME_PROPERTY), MavenConstants.USER_SETTINGS_PATH).toFile();
+        
+        DefaultSettingsBuildingRequest request = new DefaultSettingsBuildingRequest();
+        request.setUserSettingsFile(userSettings);
+        request.setSystemProperties(System.getProperties());
+        
+        String mavenHome = System.getProperty(MavenConstants.MAVEN_HOME_PROPERTY);
+        if (mavenHome != null) {
+            request.setGlobalSettingsFile(Paths.get(mavenHome, MavenConstants.GLOBAL_SETTINGS_PATH).toFile());
+        }
+        
+        try {
+            SettingsBuildingResult result = new DefaultSettingsBuilderFactory().newInstance().build(request);
+            for (SettingsProblem problem : result.getProblems()) {
+                log.warn("Maven settings problem: {}", problem);
+            }
+            return result.getEffectiveSettings();
+        } catch (SettingsBuildingException e) {
+            throw new IllegalArgumentException("Invalid Maven settings: " + e.getMessage(), e);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,89 @@
+package io.mend.maven.analyzer.config;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * Options controlling how {@link MavenResolverConfig} sets up the repository system and session.
+ */
+@Getter
+@Builder
+public class ResolverOptions {
+    
+    /**
+     * Resolve from the local repository only: no HTTP transporter is registered and the session is offline.
+     */
+    private final boolean offline;
+    
+    /**
+     * Local repository directory; when null, {@code maven.repo.local}, the settings {@code localRepository} or {@code ~/.m2/repository} is used.
+     */
+    private final String localRepository;
+    
+    /**
+     * User {@code settings.xml} supplying mirrors, servers, proxies and the local repository; defaults to {@code ~/.m2/settings.xml}.
+     */
+    private final String settingsFile;
+    
+    /**
+     * Number of parallel downloads per repository connector; null keeps the resolver default of 5.
+     */
+    private final Integer transferThreads;
+    
+    /**
+     * Maximum pooled HTTP connections per host; null keeps the resolver default of 50.
+     */
+    private final Integer maxConnectionsPerRoute;
+    
+    private final Duration connectTimeout;
+    
+    private final Duration requestTimeout;
+    
+    /**
+     * Update policy for every repository, overriding the per-repository ones: {@code never}, {@code daily},
+     * {@code always} or {@code interval:<minutes>}. It decides how often SNAPSHOT and version range metadata
+     * already in the local repository is checked remotely; null keeps the repositories' policies, daily by default.
+     */
+    private final String updatePolicy;
+    
+    /**
+     * Checksum policy for every repository: {@code fail}, {@code warn} or {@code ignore}; null keeps the
+     * repositories' policies, warn by default.
+     */
+    private final String checksumPolicy;
+    
+    /**
+     * Granularity of the locks guarding local repository writes; file-based per artifact by default, so
+     * processes sharing one local repository neither download the same file twice nor corrupt it.
+     */
+    @Builder.Default
+    private final LockGranularity lockGranularity = LockGranularity.ARTIFACT;
+    
+    /**
+     * How long to wait for a local repository lock before failing; null keeps the resolver default of 30 seconds.
+     */
+    private final Duration lockTimeout;
+    
+    /**
+     * File of the persistent artifact descriptor cache, which lets collection skip parsing POMs that have
+     * not changed since an earlier run; null leaves descriptors uncached.
+     */
+    private final String descriptorCache;
+    
+    /**
+     * Index written by the {@code index-repo} command; release JAR sizes and SHA1s found in it are taken
+     * from the index instead of the local repository. Null, or an index of another repository, leaves it unused.
+     */
+    private final String repositoryIndex;
+    
+    /**
+     * Record download, local repository and descriptor read metrics through resolver listeners.
+     */
+    private final boolean metrics;
+    
+    public static ResolverOptions defaults() {
+        return ResolverOptions.builder().build();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,24 @@
+package io.mend.maven.analyzer.config;
+
+import org.eclipse.aether.internal.impl.synccontext.named.NameMapper;
+import org.eclipse.aether.internal.impl.synccontext.named.NameMappers;
+import org.eclipse.aether.internal.impl.synccontext.named.NamedLockFactoryAdapterFactoryImpl;
+
+/**
+ * The resolver's named-lock adapter factory, adjusted for a local repository shared between processes.
+ *
+ * The {@code file-static} name mapper, which the service locator does not register, is added for
+ * {@link LockGranularity#REPOSITORY}.
+ */
+public class SharedLocalRepositoryLockFactory extends NamedLockFactoryAdapterFactoryImpl {
+    
+    private static final NameMapper FILE_STATIC_NAME_MAPPER = NameMappers.fileStaticNameMapper();
+    
+    @Override
+    protected NameMapper selectNameMapper(String name) {
+        if (NameMappers.FILE_STATIC_NAME.equals(name)) {
+            return FILE_STATIC_NAME_MAPPER;
+        }
+        return super.selectNameMapper(name);
+    }
+}
\ No newline at end of file
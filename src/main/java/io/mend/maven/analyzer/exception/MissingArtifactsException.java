@@ -0,0 +1,21 @@
+package io.mend.maven.analyzer.exception;
+
+import lombok.Getter;
+import lombok.NonNull;
+
+import java.util.List;
+
+/**
+ * Thrown when offline resolution finds artifacts that are not present in the local repository.
+ */
+@Getter
+public class MissingArtifactsException extends DependencyAnalysisException {
+    
+    private final List<String> missingArtifacts;
+    
+    public MissingArtifactsException(@NonNull List<String> missingArtifacts, Throwable cause) {
+        super("Offline mode: " + missingArtifacts.size() + " artifact(s) missing from the local repository: "
+                + String.join(", ", missingArtifacts), cause);
+        this.missingArtifacts = List.copyOf(missingArtifacts);
+    }
+}
\ No newline at end of file
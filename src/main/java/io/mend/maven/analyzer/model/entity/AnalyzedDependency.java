@@ -14,7 +14,7 @@ import java.util.List;
 @Getter
 @Setter
 @NoArgsConstructor
-@EqualsAndHashCode(exclude = {"sha1", "children"})
+@EqualsAndHashCode(exclude = {"sha1", "fingerprint", "children"})
 @JsonInclude(JsonInclude.Include.NON_NULL)
 public class AnalyzedDependency {
     
@@ -27,12 +27,36 @@ public class AnalyzedDependency {
     @JsonProperty("version")
     private String version;
     
+    /** Classifier of the artifact, such as {@code tests}; absent for the main artifact. */
+    @JsonProperty("classifier")
+    private String classifier;
+    
+    /** File extension of the artifact when it is not a JAR, such as {@code pom} or {@code zip}. */
+    @JsonProperty("extension")
+    private String extension;
+    
     @JsonProperty("sha1")
     private String sha1;
     
     @JsonProperty("scope")
     private String scope;
     
+    /** Scope the dependency was declared with, when conflict resolution widened it; verbose graphs only. */
+    @JsonProperty("originalScope")
+    private String originalScope;
+    
+    /** Why a conflict loser was left out of the graph, {@code duplicate} or {@code conflict}; verbose graphs only. */
+    @JsonProperty("omitted")
+    private String omitted;
+    
+    /** Version that won the conflict this dependency was omitted for. */
+    @JsonProperty("winnerVersion")
+    private String winnerVersion;
+    
+    /** Merkle fingerprint of this node and its subtree, see {@link io.mend.maven.analyzer.util.FingerprintUtils}. */
+    @JsonProperty("fingerprint")
+    private String fingerprint;
+    
     @JsonProperty("children")
     private List<AnalyzedDependency> children = new ArrayList<>();
     
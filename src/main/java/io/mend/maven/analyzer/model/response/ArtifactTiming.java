@@ -0,0 +1,32 @@
+package io.mend.maven.analyzer.model.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Duration of a single download or descriptor read.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ArtifactTiming {
+    
+    /** Artifact coordinates or repository resource path. */
+    @JsonProperty("name")
+    private String name;
+    
+    @JsonProperty("repositoryId")
+    private String repositoryId;
+    
+    @JsonProperty("bytes")
+    private Long bytes;
+    
+    @JsonProperty("millis")
+    private long millis;
+}
\ No newline at end of file
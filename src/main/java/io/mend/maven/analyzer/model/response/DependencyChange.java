@@ -0,0 +1,63 @@
+package io.mend.maven.analyzer.model.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * A single difference between two analysis results, keyed by groupId and artifactId, plus classifier and extension.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class DependencyChange {
+    
+    public enum Type {
+        ADDED,
+        REMOVED,
+        VERSION_CHANGED,
+        HASH_CHANGED
+    }
+    
+    @JsonProperty("type")
+    private Type type;
+    
+    @JsonProperty("groupId")
+    private String groupId;
+    
+    @JsonProperty("artifactId")
+    private String artifactId;
+    
+    /** Classifier and extension, present only for an artifact other than the main JAR. */
+    @JsonProperty("classifier")
+    private String classifier;
+    
+    @JsonProperty("extension")
+    private String extension;
+    
+    @JsonProperty("oldVersion")
+    private String oldVersion;
+    
+    @JsonProperty("newVersion")
+    private String newVersion;
+    
+    @JsonProperty("scope")
+    private String scope;
+    
+    @JsonProperty("oldSha1")
+    private String oldSha1;
+    
+    @JsonProperty("newSha1")
+    private String newSha1;
+    
+    /** Coordinates from the direct dependency down to this one, in the newer result unless it was removed. */
+    @JsonProperty("path")
+    private List<String> path;
+}
\ No newline at end of file
@@ -0,0 +1,52 @@
+package io.mend.maven.analyzer.model.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Differences between two analysis results, with counts per change type.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class DependencyDiff {
+    
+    /** True when both results have the same tree fingerprint, in which case no nodes were compared. */
+    @JsonProperty("identical")
+    private boolean identical;
+    
+    @JsonProperty("oldFingerprint")
+    private String oldFingerprint;
+    
+    @JsonProperty("newFingerprint")
+    private String newFingerprint;
+    
+    @JsonProperty("added")
+    private int added;
+    
+    @JsonProperty("removed")
+    private int removed;
+    
+    @JsonProperty("versionChanged")
+    private int versionChanged;
+    
+    @JsonProperty("hashChanged")
+    private int hashChanged;
+    
+    @JsonProperty("changes")
+    @Builder.Default
+    private List<DependencyChange> changes = new ArrayList<>();
+    
+    public boolean hasChanges() {
+        return !changes.isEmpty();
+    }
+}
\ No newline at end of file
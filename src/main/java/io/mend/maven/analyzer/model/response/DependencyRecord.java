@@ -0,0 +1,67 @@
+package io.mend.maven.analyzer.model.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Flat, self-describing representation of a single node in the dependency tree.
+ *
+ * Each record carries its own position in the hierarchy (parent ID, full path ID
+ * and depth) so consumers can load records line by line without rebuilding the tree.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({"id", "parentId", "pathId", "depth", "groupId", "artifactId", "version", "classifier", "extension",
+        "scope", "sha1", "originalScope", "omitted", "winnerVersion"})
+public class DependencyRecord {
+    
+    @JsonProperty("id")
+    private String id;
+    
+    @JsonProperty("parentId")
+    private String parentId;
+    
+    @JsonProperty("pathId")
+    private String pathId;
+    
+    @JsonProperty("depth")
+    private int depth;
+    
+    @JsonProperty("groupId")
+    private String groupId;
+    
+    @JsonProperty("artifactId")
+    private String artifactId;
+    
+    @JsonProperty("version")
+    private String version;
+    
+    @JsonProperty("classifier")
+    private String classifier;
+    
+    @JsonProperty("extension")
+    private String extension;
+    
+    @JsonProperty("scope")
+    private String scope;
+    
+    @JsonProperty("sha1")
+    private String sha1;
+    
+    @JsonProperty("originalScope")
+    private String originalScope;
+    
+    @JsonProperty("omitted")
+    private String omitted;
+    
+    @JsonProperty("winnerVersion")
+    private String winnerVersion;
+}
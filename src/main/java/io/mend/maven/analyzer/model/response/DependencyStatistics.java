@@ -0,0 +1,45 @@
+package io.mend.maven.analyzer.model.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * Aggregate shape of the dependency tree, collected during the single tree-building traversal.
+ *
+ * Depths follow {@link DependencyRecord}: direct dependencies are at depth 0.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class DependencyStatistics {
+    
+    @JsonProperty("totalNodes")
+    private int totalNodes;
+    
+    @JsonProperty("maxDepth")
+    private int maxDepth;
+    
+    @JsonProperty("averageDepth")
+    private double averageDepth;
+    
+    /** Number of nodes keyed by how many children they have. */
+    @JsonProperty("fanOutHistogram")
+    private Map<Integer, Integer> fanOutHistogram;
+    
+    @JsonProperty("scopeCounts")
+    private Map<String, Integer> scopeCounts;
+    
+    @JsonProperty("missingHashCount")
+    private int missingHashCount;
+    
+    @JsonProperty("bytesHashed")
+    private long bytesHashed;
+}
\ No newline at end of file
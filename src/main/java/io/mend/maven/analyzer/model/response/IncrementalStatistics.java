@@ -0,0 +1,36 @@
+package io.mend.maven.analyzer.model.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * How much of an incremental analysis was served from the previous run's graph snapshot.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class IncrementalStatistics {
+    
+    @JsonProperty("directDependencies")
+    private int directDependencies;
+    
+    /** Direct dependencies whose subtree was taken from the snapshot instead of being collected. */
+    @JsonProperty("reusedSubtrees")
+    private int reusedSubtrees;
+    
+    @JsonProperty("collectedSubtrees")
+    private int collectedSubtrees;
+    
+    /** JARs whose SHA1 was taken from the snapshot because size and modification time were unchanged. */
+    @JsonProperty("reusedHashes")
+    private int reusedHashes;
+    
+    @JsonProperty("computedHashes")
+    private int computedHashes;
+}
\ No newline at end of file
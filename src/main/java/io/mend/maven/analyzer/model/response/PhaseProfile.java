@@ -0,0 +1,33 @@
+package io.mend.maven.analyzer.model.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Per-phase cost of an analysis run; totals are the sums of the exclusive phase costs.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PhaseProfile {
+    
+    @JsonProperty("phases")
+    private List<PhaseTiming> phases;
+    
+    @JsonProperty("wallNanos")
+    private long wallNanos;
+    
+    @JsonProperty("cpuNanos")
+    private long cpuNanos;
+    
+    @JsonProperty("allocatedBytes")
+    private long allocatedBytes;
+}
\ No newline at end of file
@@ -0,0 +1,34 @@
+package io.mend.maven.analyzer.model.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Accumulated cost of one analysis phase, excluding time spent in phases nested inside it.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PhaseTiming {
+    
+    @JsonProperty("phase")
+    private String phase;
+    
+    @JsonProperty("invocations")
+    private int invocations;
+    
+    @JsonProperty("wallNanos")
+    private long wallNanos;
+    
+    @JsonProperty("cpuNanos")
+    private long cpuNanos;
+    
+    @JsonProperty("allocatedBytes")
+    private long allocatedBytes;
+}
\ No newline at end of file
@@ -0,0 +1,61 @@
+package io.mend.maven.analyzer.model.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Outcome of prefetching the artifacts listed in an analysis result or lockfile into the local repository.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PrefetchResult {
+    
+    /** Distinct groupId:artifactId:version entries read from the input. */
+    @JsonProperty("artifacts")
+    private int artifacts;
+    
+    /** POMs and JARs requested, two per artifact. */
+    @JsonProperty("files")
+    private int files;
+    
+    @JsonProperty("alreadyPresent")
+    private int alreadyPresent;
+    
+    @JsonProperty("downloaded")
+    private int downloaded;
+    
+    @JsonProperty("bytesDownloaded")
+    private long bytesDownloaded;
+    
+    @JsonProperty("elapsedMillis")
+    private long elapsedMillis;
+    
+    /** Files no repository had, such as the JAR of a POM-only dependency. */
+    @Builder.Default
+    @JsonProperty("notFound")
+    private List<String> notFound = new ArrayList<>();
+    
+    /** Files that failed to download, including those whose checksum did not match. */
+    @Builder.Default
+    @JsonProperty("failed")
+    private List<String> failed = new ArrayList<>();
+    
+    /** JARs whose SHA1 differs from the one recorded in the input. */
+    @Builder.Default
+    @JsonProperty("sha1Mismatches")
+    private List<String> sha1Mismatches = new ArrayList<>();
+    
+    public boolean hasFailures() {
+        return !failed.isEmpty() || !sha1Mismatches.isEmpty();
+    }
+}
\ No newline at end of file
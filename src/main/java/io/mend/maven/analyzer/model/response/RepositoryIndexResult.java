@@ -0,0 +1,55 @@
+package io.mend.maven.analyzer.model.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Outcome of indexing a local repository with the {@code index-repo} command.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class RepositoryIndexResult {
+    
+    @JsonProperty("repository")
+    private String repository;
+    
+    @JsonProperty("indexFile")
+    private String indexFile;
+    
+    /** Files in the written index. */
+    @JsonProperty("files")
+    private int files;
+    
+    /** Files that were new or changed since the previous index and were hashed. */
+    @JsonProperty("hashed")
+    private int hashed;
+    
+    @JsonProperty("bytesHashed")
+    private long bytesHashed;
+    
+    /** Files whose SHA1 was taken from the previous index, as their size and modification time were unchanged. */
+    @JsonProperty("reused")
+    private int reused;
+    
+    /** Files in the previous index that no longer exist. */
+    @JsonProperty("removed")
+    private int removed;
+    
+    @JsonProperty("elapsedMillis")
+    private long elapsedMillis;
+    
+    /** Files that could not be read and were left out of the index. */
+    @Builder.Default
+    @JsonProperty("failed")
+    private List<String> failed = new ArrayList<>();
+}
\ No newline at end of file
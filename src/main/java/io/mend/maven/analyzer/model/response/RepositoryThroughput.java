@@ -0,0 +1,38 @@
+package io.mend.maven.analyzer.model.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Download volume and throughput for one remote repository.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class RepositoryThroughput {
+    
+    @JsonProperty("repositoryId")
+    private String repositoryId;
+    
+    @JsonProperty("url")
+    private String url;
+    
+    @JsonProperty("transfers")
+    private int transfers;
+    
+    @JsonProperty("bytes")
+    private long bytes;
+    
+    /** Sum of individual transfer durations; parallel transfers overlap. */
+    @JsonProperty("transferMillis")
+    private long transferMillis;
+    
+    @JsonProperty("bytesPerSecond")
+    private long bytesPerSecond;
+}
\ No newline at end of file
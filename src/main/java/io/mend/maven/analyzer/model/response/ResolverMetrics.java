@@ -0,0 +1,70 @@
+package io.mend.maven.analyzer.model.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Resolver activity recorded through transfer and repository listeners: downloads, local
+ * repository lookups, metadata lookups and artifact descriptor (POM) reads.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ResolverMetrics {
+    
+    @JsonProperty("bytesDownloaded")
+    private long bytesDownloaded;
+    
+    @JsonProperty("transfersSucceeded")
+    private int transfersSucceeded;
+    
+    @JsonProperty("transfersFailed")
+    private int transfersFailed;
+    
+    /** Artifacts (including POMs) served from the local repository without a download. */
+    @JsonProperty("localRepositoryHits")
+    private int localRepositoryHits;
+    
+    /** Artifacts that had to be downloaded or could not be found. */
+    @JsonProperty("localRepositoryMisses")
+    private int localRepositoryMisses;
+    
+    /** Metadata lookups for SNAPSHOT and version range resolution, answered locally or remotely. */
+    @JsonProperty("metadataLookups")
+    private int metadataLookups;
+    
+    /** Metadata lookups that went to a remote repository, because the update policy said the local copy was stale or missing. */
+    @JsonProperty("metadataRequests")
+    private int metadataRequests;
+    
+    /** Artifact descriptor reads, including those answered by the descriptor cache. */
+    @JsonProperty("descriptorReads")
+    private int descriptorReads;
+    
+    /** Descriptor reads answered by the persistent descriptor cache without parsing a POM. */
+    @JsonProperty("descriptorCacheHits")
+    private int descriptorCacheHits;
+    
+    @JsonProperty("descriptorReadMillisTotal")
+    private long descriptorReadMillisTotal;
+    
+    @JsonProperty("descriptorReadMillisMax")
+    private long descriptorReadMillisMax;
+    
+    @JsonProperty("repositories")
+    private List<RepositoryThroughput> repositories;
+    
+    @JsonProperty("slowestTransfers")
+    private List<ArtifactTiming> slowestTransfers;
+    
+    @JsonProperty("slowestDescriptorReads")
+    private List<ArtifactTiming> slowestDescriptorReads;
+}
\ No newline at end of file
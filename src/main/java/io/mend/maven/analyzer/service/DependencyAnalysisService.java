@@ -1,25 +1,54 @@
 package io.mend.maven.analyzer.service;
 
+import io.mend.maven.analyzer.config.AnalysisOptions;
 import io.mend.maven.analyzer.config.MavenResolverConfig;
 import io.mend.maven.analyzer.exception.DependencyAnalysisException;
 import io.mend.maven.analyzer.exception.MavenProjectException;
-import io.mend.maven.analyzer.model.entity.AnalyzedDependency;
 import io.mend.maven.analyzer.model.response.AnalysisResult;
+import io.mend.maven.analyzer.model.response.DependencyRecord;
+import io.mend.maven.analyzer.service.analysis.DependencyNodeListener;
 import io.mend.maven.analyzer.service.analysis.DependencyResolverService;
+import io.mend.maven.analyzer.service.analysis.DependencyTree;
 import io.mend.maven.analyzer.service.analysis.DependencyTreeBuilderService;
+import io.mend.maven.analyzer.service.analysis.GraphMode;
+import io.mend.maven.analyzer.service.descriptor.ArtifactDescriptorCache;
 import io.mend.maven.analyzer.service.detection.MavenProjectDetectionService;
+import io.mend.maven.analyzer.service.hash.ArtifactHashCache;
 import io.mend.maven.analyzer.service.hash.Sha1HashService;
+import io.mend.maven.analyzer.service.incremental.IncrementalAnalysis;
+import io.mend.maven.analyzer.service.jfr.PomParseEvent;
+import io.mend.maven.analyzer.service.lock.Lockfile;
+import io.mend.maven.analyzer.service.lock.LockfileService;
+import io.mend.maven.analyzer.service.metrics.ResolverMetricsCollector;
+import io.mend.maven.analyzer.service.profile.AnalysisPhase;
+import io.mend.maven.analyzer.service.profile.PhaseProfiler;
+import io.mend.maven.analyzer.service.stream.DependencyRecordPublisher;
 import io.mend.maven.analyzer.util.SecurityValidator;
 import org.apache.maven.model.Model;
+import org.eclipse.aether.DefaultRepositorySystemSession;
+import org.eclipse.aether.collection.CollectRequest;
 import org.eclipse.aether.graph.DependencyNode;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 
+import java.io.IOException;
+import java.io.PrintStream;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Service that orchestrates the complete Maven dependency analysis process.
+ *
+ * A single instance is safe to share between threads: each analysis runs in its own fork of the
+ * resolver session, so listeners and metrics stay per request while the local repository and the
+ * descriptor cache are shared. Progress lines from concurrent analyses interleave on the progress
+ * stream, so library callers usually pass a discarding stream.
  */
 @Slf4j
 public class DependencyAnalysisService {
@@ -27,31 +56,168 @@ public class DependencyAnalysisService {
     private final MavenProjectDetectionService detectionService;
     private final DependencyResolverService resolverService;
     private final DependencyTreeBuilderService treeBuilderService;
+    private final LockfileService lockfileService;
+    private final MavenResolverConfig config;
+    private final Executor asyncExecutor;
     
     public DependencyAnalysisService(@NonNull MavenResolverConfig config) {
+        this(config, System.out);
+    }
+    
+    /**
+     * Creates the service with per-dependency progress reported to the given stream.
+     */
+    public DependencyAnalysisService(@NonNull MavenResolverConfig config, @NonNull PrintStream progressStream) {
+        this(config, progressStream, task -> Thread.ofVirtual().name("dependency-analysis").start(task));
+    }
+    
+    /**
+     * Creates the service with asynchronous analyses run on the given executor instead of a virtual thread each.
+     */
+    public DependencyAnalysisService(@NonNull MavenResolverConfig config, @NonNull PrintStream progressStream,
+                                     @NonNull Executor asyncExecutor) {
+        this.config = config;
+        this.asyncExecutor = asyncExecutor;
         this.detectionService = new MavenProjectDetectionService();
         this.resolverService = new DependencyResolverService(config);
-        this.treeBuilderService = new DependencyTreeBuilderService(new Sha1HashService(config));
+        this.treeBuilderService = new DependencyTreeBuilderService(new Sha1HashService(config), progressStream);
+        this.lockfileService = new LockfileService();
     }
     
     /**
      * Analyzes a Maven project and returns the dependency tree with SHA1 hashes.
      */
     public AnalysisResult analyze(@NonNull String projectPath) throws DependencyAnalysisException {
+        return analyze(projectPath, DependencyNodeListener.NONE);
+    }
+    
+    /**
+     * Analyzes a Maven project, streaming each dependency to the listener as it is processed.
+     */
+    public AnalysisResult analyze(@NonNull String projectPath, @NonNull DependencyNodeListener listener) throws DependencyAnalysisException {
+        return analyze(projectPath, listener, PhaseProfiler.DISABLED);
+    }
+    
+    /**
+     * Returns a publisher that analyzes the project once subscribed and emits each dependency with its
+     * parent ID and SHA1 as soon as it is hashed, with backpressure on the traversal.
+     */
+    public Flow.Publisher<DependencyRecord> publishDependencies(@NonNull String projectPath) {
+        return new DependencyRecordPublisher(this, projectPath);
+    }
+    
+    /**
+     * Analyzes a Maven project asynchronously.
+     */
+    public CompletableFuture<AnalysisResult> analyzeAsync(@NonNull String projectPath) {
+        return analyzeAsync(projectPath, DependencyNodeListener.NONE, null);
+    }
+    
+    /**
+     * Analyzes a Maven project asynchronously, failing the future with a {@link java.util.concurrent.TimeoutException}
+     * if it has not finished within the timeout; a null timeout means no deadline. Cancelling the future
+     * or missing the deadline interrupts the analysis, which stops before the next phase or dependency.
+     */
+    public CompletableFuture<AnalysisResult> analyzeAsync(@NonNull String projectPath, @NonNull DependencyNodeListener listener,
+                                                          Duration timeout) {
+        return analyzeAsync(projectPath, listener, PhaseProfiler.DISABLED, AnalysisOptions.defaults(), timeout);
+    }
+    
+    /**
+     * Analyzes a Maven project asynchronously with the given options and profiler, like
+     * {@link #analyze(String, DependencyNodeListener, PhaseProfiler, AnalysisOptions)}, with the timeout
+     * and cancellation of {@link #analyzeAsync(String, DependencyNodeListener, Duration)}.
+     */
+    public CompletableFuture<AnalysisResult> analyzeAsync(@NonNull String projectPath, @NonNull DependencyNodeListener listener,
+                                                          @NonNull PhaseProfiler profiler, @NonNull AnalysisOptions options,
+                                                          Duration timeout) {
+        CompletableFuture<AnalysisResult> future = new CompletableFuture<>();
+        AnalysisTask task = new AnalysisTask(future, () -> analyze(projectPath, listener, profiler, options));
+        future.whenComplete((result, failure) -> {
+            if (failure != null) {
+                task.interrupt();
+            }
+        });
+        if (timeout != null) {
+            future.orTimeout(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        }
+        asyncExecutor.execute(task);
+        return future;
+    }
+    
+    /**
+     * Analyzes a Maven project, recording the cost of each phase in the given profiler.
+     */
+    public AnalysisResult analyze(@NonNull String projectPath, @NonNull DependencyNodeListener listener,
+                                  @NonNull PhaseProfiler profiler) throws DependencyAnalysisException {
+        return analyze(projectPath, listener, profiler, AnalysisOptions.defaults());
+    }
+    
+    /**
+     * Analyzes a Maven project with the given options. With a snapshot file, direct dependencies that
+     * have not changed since the previous run reuse their collected subtrees and JAR hashes. With a
+     * lockfile that still matches the POM, the tree comes from the lockfile, JARs missing from the local
+     * repository are downloaded, and only JARs that changed on disk are hashed. Either way the result is
+     * the same as a full analysis.
+     */
+    public AnalysisResult analyze(@NonNull String projectPath, @NonNull DependencyNodeListener listener,
+                                  @NonNull PhaseProfiler profiler, @NonNull AnalysisOptions options) throws DependencyAnalysisException {
         try {
             // Basic path validation
-            Path normalizedPath = SecurityValidator.validateAndNormalizePath(projectPath);
-            String safePath = normalizedPath.toString();
+            String safePath;
+            try (PhaseProfiler.Phase ignored = profiler.start(AnalysisPhase.VALIDATION)) {
+                safePath = SecurityValidator.validateAndNormalizePath(projectPath).toString();
+            }
             
             // Parse POM
-            Model projectModel = detectionService.readPomModel(safePath);
+            Model projectModel = null;
+            PomParseEvent parseEvent = new PomParseEvent();
+            parseEvent.begin();
+            try (PhaseProfiler.Phase ignored = profiler.start(AnalysisPhase.POM_PARSING)) {
+                projectModel = detectionService.readPomModel(safePath);
+            } finally {
+                parseEvent.complete(projectModel != null ? detectionService.getProjectId(projectModel) : safePath);
+            }
+            
+            // Resolve dependencies in a session of our own so concurrent analyses do not share listeners
+            ResolverMetricsCollector metricsCollector = config.getOptions().isMetrics() ? new ResolverMetricsCollector() : null;
+            DefaultRepositorySystemSession session = config.newRequestSession(metricsCollector);
+            options.getSelection().applyTo(session);
+            options.getGraphMode().applyTo(session);
+            if (options.isLockfile() && options.getGraphMode() != GraphMode.RESOLVED) {
+                throw new DependencyAnalysisException("Lockfiles record the resolved graph and cannot be used with the "
+                    + options.getGraphMode().getValue() + " graph mode");
+            }
+            CollectRequest collectRequest = resolverService.createCollectRequest(projectModel);
+            Path lockfilePath = Path.of(safePath, LockfileService.FILE_NAME);
+            String pomFingerprint = options.isLockfile() ? lockfileService.fingerprint(collectRequest, options.getSelection()) : null;
+            Lockfile lockfile = null;
+            if (pomFingerprint != null) {
+                try (PhaseProfiler.Phase ignored = profiler.start(AnalysisPhase.COLLECTION)) {
+                    lockfile = lockfileService.readMatching(lockfilePath, pomFingerprint);
+                }
+            }
             
-            // Resolve dependencies
-            DependencyNode rootNode = resolverService.resolveDependencies(projectModel);
+            IncrementalAnalysis incremental = null;
+            DependencyNode rootNode;
+            ArtifactHashCache hashCache;
+            checkNotInterrupted();
+            if (lockfile != null) {
+                // The POM still resolves to the locked tree, so the resolver only fetches JARs missing locally
+                rootNode = lockfileService.toDependencyGraph(lockfile);
+                resolverService.resolveMissingArtifacts(rootNode, collectRequest.getRepositories(), session, profiler);
+                hashCache = lockfileService.toHashCache(lockfile);
+            } else {
+                incremental = options.getSnapshotFile() != null ? IncrementalAnalysis.load(options.getSnapshotFile()) : null;
+                rootNode = resolverService.resolveDependencies(projectModel, session, profiler, incremental);
+                hashCache = incremental != null ? incremental.getHashCache()
+                    : options.isLockfile() ? new ArtifactHashCache(List.of()) : ArtifactHashCache.DISABLED;
+            }
+            checkNotInterrupted();
             
-            // Build dependency tree with SHA1 hashes  
-            List<AnalyzedDependency> dependencies =
-                treeBuilderService.buildDependencyTree(rootNode);
+            // Build dependency tree with SHA1 hashes and statistics in a single pass
+            DependencyTree dependencyTree = treeBuilderService.buildTree(rootNode, listener, profiler, hashCache,
+                options.isFingerprints(), options.isCompact());
             
             // Create result
             String projectGroupId = detectionService.getEffectiveGroupId(projectModel);
@@ -59,12 +225,43 @@ public class DependencyAnalysisService {
             String projectVersion = detectionService.getEffectiveVersion(projectModel);
             
             AnalysisResult result = new AnalysisResult(safePath, projectGroupId, projectArtifactId, projectVersion);
-            result.setDependencies(dependencies);
+            if (dependencyTree.isCompact()) {
+                result.setCompactDependencies(dependencyTree.getCompactDependencies(), dependencyTree.getStatistics());
+            } else {
+                result.setDependencies(dependencyTree.getDependencies(), dependencyTree.getStatistics());
+            }
+            result.setFingerprint(dependencyTree.getFingerprint());
+            if (options.getGraphMode() != GraphMode.RESOLVED) {
+                result.setGraphMode(options.getGraphMode().getValue());
+            }
+            if (metricsCollector != null) {
+                result.setMetrics(metricsCollector.toMetrics());
+            }
+            if (incremental != null) {
+                result.setIncremental(incremental.toStatistics());
+                saveSnapshot(incremental);
+            }
+            if (config.getDescriptorCache() != null) {
+                saveDescriptorCache(config.getDescriptorCache());
+            }
+            if (pomFingerprint != null) {
+                result.setResolvedFromLockfile(lockfile != null);
+                // A matching lockfile is only rewritten when a JAR had to be hashed again; a compact tree is
+                // expanded just for writing it
+                if (lockfile == null || hashCache.getMisses() > 0) {
+                    writeLockfile(lockfileService.create(pomFingerprint, collectRequest.getRepositories(),
+                        dependencyTree.toAnalyzedDependencies(), hashCache), lockfilePath);
+                }
+            }
             
             log.debug("Analysis completed. Found {} dependencies", result.getTotalDependencies());
             return result;
             
         } catch (DependencyAnalysisException e) {
+            // Resolution interrupted by a cancelled future fails with whatever the transport made of it
+            checkNotInterrupted();
+            throw e;
+        } catch (CancellationException e) {
             throw e;
         } catch (MavenProjectException e) {
             throw new DependencyAnalysisException("Maven project validation failed: " + e.getMessage(), e);
@@ -74,4 +271,85 @@ public class DependencyAnalysisService {
         }
     }
     
+    /**
+     * A snapshot that cannot be written only costs the next run its reuse, so it does not fail this one.
+     */
+    private static void saveSnapshot(IncrementalAnalysis incremental) {
+        try {
+            incremental.save();
+        } catch (IOException e) {
+            log.warn("Failed to write graph snapshot {}: {}", incremental.getSnapshotFile(), e.getMessage());
+        }
+    }
+    
+    /**
+     * Like the snapshot, the descriptor cache only speeds up later runs, so failing to write it does not fail this one.
+     */
+    private static void saveDescriptorCache(ArtifactDescriptorCache descriptorCache) {
+        try {
+            descriptorCache.save();
+        } catch (IOException e) {
+            log.warn("Failed to write descriptor cache {}: {}", descriptorCache.getCacheFile(), e.getMessage());
+        }
+    }
+    
+    private void writeLockfile(Lockfile lockfile, Path lockfilePath) throws DependencyAnalysisException {
+        try {
+            lockfileService.write(lockfile, lockfilePath);
+        } catch (IOException e) {
+            throw new DependencyAnalysisException("Failed to write lockfile " + lockfilePath + ": " + e.getMessage(), e);
+        }
+    }
+    
+    private static void checkNotInterrupted() {
+        if (Thread.currentThread().isInterrupted()) {
+            throw new CancellationException("Analysis interrupted");
+        }
+    }
+    
+    @FunctionalInterface
+    private interface Analysis {
+        AnalysisResult run() throws DependencyAnalysisException;
+    }
+    
+    /**
+     * Runs one analysis for {@link #analyzeAsync}, remembering the worker thread so that completing the
+     * future early can interrupt it without leaking the interrupt into the executor's next task.
+     */
+    private static final class AnalysisTask implements Runnable {
+        private final CompletableFuture<AnalysisResult> future;
+        private final Analysis analysis;
+        private Thread worker;
+        
+        private AnalysisTask(CompletableFuture<AnalysisResult> future, Analysis analysis) {
+            this.future = future;
+            this.analysis = analysis;
+        }
+        
+        @Override
+        public void run() {
+            synchronized (this) {
+                if (future.isDone()) {
+                    return;
+                }
+                worker = Thread.currentThread();
+            }
+            try {
+                future.complete(analysis.run());
+            } catch (DependencyAnalysisException | RuntimeException e) {
+                future.completeExceptionally(e);
+            } finally {
+                synchronized (this) {
+                    worker = null;
+                    Thread.interrupted();
+                }
+            }
+        }
+        
+        private synchronized void interrupt() {
+            if (worker != null) {
+                worker.interrupt();
+            }
+        }
+    }
 }
\ No newline at end of file
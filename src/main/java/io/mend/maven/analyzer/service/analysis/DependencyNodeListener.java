@@ -0,0 +1,17 @@
+package io.mend.maven.analyzer.service.analysis;
+
+import io.mend.maven.analyzer.model.response.DependencyRecord;
+
+/**
+ * Callback notified by {@link DependencyTreeBuilderService} as each dependency is processed.
+ *
+ * Records are delivered in traversal order (a parent always before its children),
+ * immediately after the node's SHA1 hash has been calculated.
+ */
+@FunctionalInterface
+public interface DependencyNodeListener {
+    
+    DependencyNodeListener NONE = dependencyRecord -> { };
+    
+    void onDependency(DependencyRecord dependencyRecord);
+}
@@ -2,89 +2,274 @@ package io.mend.maven.analyzer.service.analysis;
 
 import io.mend.maven.analyzer.config.MavenResolverConfig;
 import io.mend.maven.analyzer.exception.DependencyAnalysisException;
+import io.mend.maven.analyzer.exception.MissingArtifactsException;
+import io.mend.maven.analyzer.service.detection.ModelPropertyExtractor;
+import io.mend.maven.analyzer.service.incremental.IncrementalAnalysis;
+import io.mend.maven.analyzer.service.incremental.IncrementalCollector;
+import io.mend.maven.analyzer.service.jfr.DependencyCollectionEvent;
+import io.mend.maven.analyzer.service.jfr.DependencyResolutionEvent;
+import io.mend.maven.analyzer.service.profile.AnalysisPhase;
+import io.mend.maven.analyzer.service.profile.PhaseProfiler;
 import lombok.NonNull;
 import org.apache.maven.model.Dependency;
 import org.apache.maven.model.Model;
+import org.eclipse.aether.RepositorySystemSession;
 import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.artifact.ArtifactType;
+import org.eclipse.aether.artifact.ArtifactTypeRegistry;
 import org.eclipse.aether.artifact.DefaultArtifact;
+import org.eclipse.aether.artifact.DefaultArtifactType;
 import org.eclipse.aether.collection.CollectRequest;
 import org.eclipse.aether.collection.CollectResult;
 import org.eclipse.aether.collection.DependencyCollectionException;
+import org.eclipse.aether.graph.DependencyFilter;
 import org.eclipse.aether.graph.DependencyNode;
+import org.eclipse.aether.graph.Exclusion;
+import org.eclipse.aether.repository.LocalRepositoryManager;
+import org.eclipse.aether.repository.RemoteRepository;
+import org.eclipse.aether.resolution.ArtifactDescriptorException;
+import org.eclipse.aether.resolution.ArtifactRequest;
+import org.eclipse.aether.resolution.ArtifactResolutionException;
+import org.eclipse.aether.resolution.ArtifactResult;
 import org.eclipse.aether.resolution.DependencyRequest;
 import org.eclipse.aether.resolution.DependencyResolutionException;
 import org.eclipse.aether.resolution.DependencyResult;
+import org.eclipse.aether.transfer.ArtifactTransferException;
 import org.eclipse.aether.util.filter.DependencyFilterUtils;
+import org.eclipse.aether.util.graph.transformer.ConflictResolver;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
 
 public class DependencyResolverService {
     
     private static final String DEFAULT_VERSION = "LATEST";
     private static final String DEFAULT_SCOPE = "compile";
+    private static final String DEFAULT_TYPE = "jar";
+    private static final String WILDCARD = "*";
     private static final String SCOPE_COMPILE = "compile";
     private static final String SCOPE_RUNTIME = "runtime";
     private static final String SCOPE_PROVIDED = "provided";
     private static final String SCOPE_TEST = "test";
     private static final String SCOPE_SYSTEM = "system";
     
+    /** Skips the conflict losers kept in verbose graphs, whose artifacts are never hashed. */
+    private static final DependencyFilter CONFLICT_WINNERS =
+        (node, parents) -> node.getData().get(ConflictResolver.NODE_DATA_WINNER) == null;
+    
     private final MavenResolverConfig config;
+    private final ModelPropertyExtractor modelPropertyExtractor = new ModelPropertyExtractor();
     
     public DependencyResolverService(@NonNull MavenResolverConfig config) {
         this.config = config;
     }
     
     public DependencyNode resolveDependencies(@NonNull Model model) throws DependencyAnalysisException {
+        return resolveDependencies(model, PhaseProfiler.DISABLED);
+    }
+    
+    /**
+     * Collects and resolves the dependency graph, timing collection and resolution as separate phases.
+     */
+    public DependencyNode resolveDependencies(@NonNull Model model, @NonNull PhaseProfiler profiler) throws DependencyAnalysisException {
+        return resolveDependencies(model, config.getSession(), profiler);
+    }
+    
+    /**
+     * Collects and resolves the dependency graph in the given session, typically a per-request fork
+     * from {@link MavenResolverConfig#newRequestSession}.
+     */
+    public DependencyNode resolveDependencies(@NonNull Model model, @NonNull RepositorySystemSession session,
+                                              @NonNull PhaseProfiler profiler) throws DependencyAnalysisException {
+        return resolveDependencies(model, session, profiler, null);
+    }
+    
+    /**
+     * Collects and resolves the dependency graph, reusing the subtrees of unchanged direct dependencies
+     * from the incremental analysis' snapshot; a null incremental analysis collects the full graph.
+     */
+    public DependencyNode resolveDependencies(@NonNull Model model, @NonNull RepositorySystemSession session,
+                                              @NonNull PhaseProfiler profiler, IncrementalAnalysis incremental) throws DependencyAnalysisException {
+        String projectId = modelPropertyExtractor.getProjectId(model);
         try {
             CollectRequest collectRequest = createCollectRequest(model);
-            CollectResult collectResult = config.getRepositorySystem().collectDependencies(config.getSession(), collectRequest);
+            CollectResult collectResult;
+            DependencyCollectionEvent collectionEvent = new DependencyCollectionEvent();
+            collectionEvent.begin();
+            try (PhaseProfiler.Phase ignored = profiler.start(AnalysisPhase.COLLECTION)) {
+                collectResult = incremental != null
+                    ? new IncrementalCollector(config.getRepositorySystem()).collectDependencies(session, collectRequest, incremental)
+                    : config.getRepositorySystem().collectDependencies(session, collectRequest);
+            } finally {
+                collectionEvent.complete(projectId);
+            }
             
             DependencyRequest dependencyRequest = new DependencyRequest();
             dependencyRequest.setRoot(collectResult.getRoot());
-            dependencyRequest.setFilter(DependencyFilterUtils.classpathFilter(SCOPE_COMPILE, SCOPE_RUNTIME, SCOPE_PROVIDED, SCOPE_TEST, SCOPE_SYSTEM));
+            dependencyRequest.setFilter(DependencyFilterUtils.andFilter(
+                DependencyFilterUtils.classpathFilter(SCOPE_COMPILE, SCOPE_RUNTIME, SCOPE_PROVIDED, SCOPE_TEST, SCOPE_SYSTEM),
+                CONFLICT_WINNERS));
             
-            DependencyResult dependencyResult = config.getRepositorySystem().resolveDependencies(config.getSession(), dependencyRequest);
+            DependencyResult dependencyResult;
+            DependencyResolutionEvent resolutionEvent = new DependencyResolutionEvent();
+            resolutionEvent.begin();
+            try (PhaseProfiler.Phase ignored = profiler.start(AnalysisPhase.RESOLUTION)) {
+                dependencyResult = config.getRepositorySystem().resolveDependencies(session, dependencyRequest);
+            } finally {
+                resolutionEvent.complete(projectId);
+            }
             
             return dependencyResult.getRoot();
             
         } catch (DependencyCollectionException e) {
+            throwIfOfflineArtifactsMissing(session, e.getResult().getExceptions(), Collections.emptyList(), e);
             throw new DependencyAnalysisException("Failed to collect dependencies: " + e.getMessage(), e);
         } catch (DependencyResolutionException e) {
+            DependencyResult result = e.getResult();
+            throwIfOfflineArtifactsMissing(session, result.getCollectExceptions(), result.getArtifactResults(), e);
             throw new DependencyAnalysisException("Failed to resolve dependencies: " + e.getMessage(), e);
         } catch (RuntimeException e) {
             throw new DependencyAnalysisException("Unexpected error during dependency resolution: " + e.getMessage(), e);
         }
     }
     
-    private CollectRequest createCollectRequest(Model model) {
+    /**
+     * Downloads the artifacts of a graph built without the resolver, such as one rebuilt from a lockfile,
+     * whose files are missing from the local repository. They are resolved in one batch, so the connector
+     * fetches them in parallel, and each node gets its artifact's file, as after a full resolution.
+     */
+    public void resolveMissingArtifacts(@NonNull DependencyNode root, @NonNull List<RemoteRepository> repositories,
+                                        @NonNull RepositorySystemSession session, @NonNull PhaseProfiler profiler)
+            throws DependencyAnalysisException {
+        LocalRepositoryManager localRepositoryManager = session.getLocalRepositoryManager();
+        Path basedir = localRepositoryManager.getRepository().getBasedir().toPath();
+        Map<Artifact, List<DependencyNode>> missing = new LinkedHashMap<>();
+        collectMissing(root, basedir, localRepositoryManager, missing);
+        if (missing.isEmpty()) {
+            return;
+        }
+        
+        List<ArtifactRequest> requests = new ArrayList<>(missing.size());
+        for (Artifact artifact : missing.keySet()) {
+            requests.add(new ArtifactRequest(artifact, repositories, null));
+        }
+        List<ArtifactResult> results;
+        try (PhaseProfiler.Phase ignored = profiler.start(AnalysisPhase.RESOLUTION)) {
+            results = config.getRepositorySystem().resolveArtifacts(session, requests);
+        } catch (ArtifactResolutionException e) {
+            throwIfOfflineArtifactsMissing(session, Collections.emptyList(), e.getResults(), e);
+            throw new DependencyAnalysisException("Failed to resolve locked artifacts: " + e.getMessage(), e);
+        } catch (RuntimeException e) {
+            throw new DependencyAnalysisException("Unexpected error during artifact resolution: " + e.getMessage(), e);
+        }
+        
+        for (ArtifactResult result : results) {
+            for (DependencyNode node : missing.get(result.getRequest().getArtifact())) {
+                node.setArtifact(result.getArtifact());
+            }
+        }
+    }
+    
+    private static void collectMissing(DependencyNode node, Path basedir, LocalRepositoryManager localRepositoryManager,
+                                       Map<Artifact, List<DependencyNode>> missing) {
+        for (DependencyNode child : node.getChildren()) {
+            Artifact artifact = child.getArtifact();
+            if (artifact != null && artifact.getFile() == null
+                    && !Files.isRegularFile(basedir.resolve(localRepositoryManager.getPathForLocalArtifact(artifact)))) {
+                missing.computeIfAbsent(artifact, key -> new ArrayList<>()).add(child);
+            }
+            collectMissing(child, basedir, localRepositoryManager, missing);
+        }
+    }
+    
+    /**
+     * In offline mode, reports every artifact the local repository could not supply instead of the first failure.
+     */
+    private void throwIfOfflineArtifactsMissing(RepositorySystemSession session, List<Exception> collectExceptions,
+                                                List<ArtifactResult> artifactResults, Exception cause) throws MissingArtifactsException {
+        if (!session.isOffline()) {
+            return;
+        }
+        
+        Set<String> missing = new TreeSet<>();
+        for (Exception exception : collectExceptions) {
+            for (Throwable t = exception; t != null; t = t.getCause()) {
+                if (t instanceof ArtifactTransferException transferException) {
+                    missing.add(formatArtifact(transferException.getArtifact()));
+                } else if (t instanceof ArtifactDescriptorException descriptorException) {
+                    missing.add(formatArtifact(descriptorException.getResult().getRequest().getArtifact()));
+                    break;
+                }
+            }
+        }
+        for (ArtifactResult artifactResult : artifactResults) {
+            if (!artifactResult.isResolved()) {
+                missing.add(formatArtifact(artifactResult.getRequest().getArtifact()));
+            }
+        }
+        
+        if (!missing.isEmpty()) {
+            throw new MissingArtifactsException(new ArrayList<>(missing), cause);
+        }
+    }
+    
+    private static String formatArtifact(Artifact artifact) {
+        return artifact.getGroupId() + ":" + artifact.getArtifactId() + ":" + artifact.getVersion();
+    }
+    
+    /**
+     * Builds the request the project's graph is collected from: its direct dependencies and repositories.
+     */
+    public CollectRequest createCollectRequest(@NonNull Model model) {
         CollectRequest collectRequest = new CollectRequest();
         
         List<org.eclipse.aether.graph.Dependency> dependencies = new ArrayList<>();
+        ArtifactTypeRegistry typeRegistry = config.getSession().getArtifactTypeRegistry();
         
         if (model.getDependencies() != null) {
             for (Dependency dependency : model.getDependencies()) {
-                org.eclipse.aether.graph.Dependency aetherDependency = getAetherDependency(dependency);
+                org.eclipse.aether.graph.Dependency aetherDependency = getAetherDependency(dependency, typeRegistry);
                 dependencies.add(aetherDependency);
             }
         }
         
         collectRequest.setDependencies(dependencies);
-        collectRequest.setRepositories(config.getRepositories());
+        collectRequest.setRepositories(config.getRepositories(model));
         
         return collectRequest;
     }
 
-    private static org.eclipse.aether.graph.Dependency getAetherDependency(Dependency dependency) {
-        String coordinates = String.format("%s:%s:%s",
-            dependency.getGroupId(),
-            dependency.getArtifactId(),
-            dependency.getVersion() != null ? dependency.getVersion() : DEFAULT_VERSION);
+    /**
+     * Converts a POM dependency the way Maven does: the type picks the extension, default classifier and
+     * artifact properties, and the optional flag and exclusions carry over.
+     */
+    private static org.eclipse.aether.graph.Dependency getAetherDependency(Dependency dependency, ArtifactTypeRegistry typeRegistry) {
+        String type = dependency.getType() != null ? dependency.getType() : DEFAULT_TYPE;
+        ArtifactType artifactType = typeRegistry != null ? typeRegistry.get(type) : null;
+        if (artifactType == null) {
+            artifactType = new DefaultArtifactType(type);
+        }
+        String classifier = dependency.getClassifier() != null && !dependency.getClassifier().isEmpty()
+            ? dependency.getClassifier() : artifactType.getClassifier();
+        String version = dependency.getVersion() != null ? dependency.getVersion() : DEFAULT_VERSION;
 
-        Artifact artifact = new DefaultArtifact(coordinates);
+        Artifact artifact = new DefaultArtifact(dependency.getGroupId(), dependency.getArtifactId(), classifier,
+            artifactType.getExtension(), version, artifactType);
         String scope = dependency.getScope() != null ? dependency.getScope() : DEFAULT_SCOPE;
 
-        return new org.eclipse.aether.graph.Dependency(artifact, scope);
+        List<Exclusion> exclusions = new ArrayList<>();
+        for (org.apache.maven.model.Exclusion exclusion : dependency.getExclusions()) {
+            exclusions.add(new Exclusion(exclusion.getGroupId(), exclusion.getArtifactId(), WILDCARD, WILDCARD));
+        }
+
+        return new org.eclipse.aether.graph.Dependency(artifact, scope, dependency.isOptional(), exclusions);
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,79 @@
+package io.mend.maven.analyzer.service.analysis;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+import org.eclipse.aether.DefaultRepositorySystemSession;
+import org.eclipse.aether.util.graph.selector.AndDependencySelector;
+import org.eclipse.aether.util.graph.traverser.AndDependencyTraverser;
+
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Restricts the collected graph to some scopes, a maximum depth and the dependencies not matching any
+ * exclusion pattern. It is applied to the resolver session as a dependency selector and traverser, so
+ * pruned subtrees are never collected, downloaded or hashed.
+ */
+@Getter
+@Builder
+public class DependencySelection {
+    
+    public static final DependencySelection ALL = DependencySelection.builder().build();
+    
+    /**
+     * Session property holding {@link #key()}, so caches of collected graphs can tell selections apart.
+     */
+    public static final String SESSION_KEY_PROPERTY = "analyzer.dependencySelection";
+    
+    /**
+     * Scopes to keep, matched against each dependency's scope as Maven derives it along the path; null keeps all.
+     */
+    private final Set<String> scopes;
+    
+    /**
+     * Depth of the deepest dependencies to keep, 1 being the direct ones; null means unlimited.
+     */
+    private final Integer maxDepth;
+    
+    /**
+     * {@code groupId:artifactId} patterns, with {@code *} wildcards, of dependencies to drop with their subtrees.
+     */
+    @Builder.Default
+    private final List<String> excludes = List.of();
+    
+    public boolean isRestricted() {
+        return scopes != null || maxDepth != null || !excludes.isEmpty();
+    }
+    
+    /**
+     * Adds the selector and traverser to the session, keeping its existing ones.
+     */
+    public void applyTo(@NonNull DefaultRepositorySystemSession session) {
+        if (!isRestricted()) {
+            return;
+        }
+        if (scopes != null || !excludes.isEmpty()) {
+            session.setDependencySelector(new AndDependencySelector(session.getDependencySelector(),
+                    new SelectionDependencySelector(scopes, excludes)));
+        }
+        if (maxDepth != null) {
+            session.setDependencyTraverser(new AndDependencyTraverser(session.getDependencyTraverser(),
+                    new DepthDependencyTraverser(maxDepth)));
+        }
+        session.setConfigProperty(SESSION_KEY_PROPERTY, key());
+    }
+    
+    /**
+     * A canonical description of the selection, empty when nothing is restricted.
+     */
+    public String key() {
+        if (!isRestricted()) {
+            return "";
+        }
+        return "scopes=" + (scopes != null ? new TreeSet<>(scopes) : "*")
+                + " maxDepth=" + (maxDepth != null ? maxDepth : "*")
+                + " excludes=" + new TreeSet<>(excludes);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,62 @@
+package io.mend.maven.analyzer.service.analysis;
+
+import io.mend.maven.analyzer.model.response.DependencyStatistics;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Accumulates {@link DependencyStatistics} node by node while the tree is being built,
+ * so no additional pass over the finished tree is needed.
+ */
+public class DependencyStatisticsAccumulator {
+    
+    private static final String UNKNOWN_SCOPE = "unknown";
+    
+    private final Map<Integer, Integer> fanOutHistogram = new TreeMap<>();
+    private final Map<String, Integer> scopeCounts = new TreeMap<>();
+    private int totalNodes;
+    private int maxDepth;
+    private long depthSum;
+    private int missingHashCount;
+    private long bytesHashed;
+    
+    /**
+     * Records a processed node together with the size of the artifact that was hashed for it.
+     */
+    public void recordNode(int depth, String scope, String sha1, long hashedBytes) {
+        totalNodes++;
+        depthSum += depth;
+        maxDepth = Math.max(maxDepth, depth);
+        scopeCounts.merge(scope != null ? scope : UNKNOWN_SCOPE, 1, Integer::sum);
+        
+        if (sha1 == null || sha1.isEmpty()) {
+            missingHashCount++;
+        } else {
+            bytesHashed += hashedBytes;
+        }
+    }
+    
+    /**
+     * Records the number of children a processed node ended up with.
+     */
+    public void recordFanOut(int childCount) {
+        fanOutHistogram.merge(childCount, 1, Integer::sum);
+    }
+    
+    public int getTotalNodes() {
+        return totalNodes;
+    }
+    
+    public DependencyStatistics toStatistics() {
+        return DependencyStatistics.builder()
+                .totalNodes(totalNodes)
+                .maxDepth(maxDepth)
+                .averageDepth(totalNodes == 0 ? 0.0 : (double) depthSum / totalNodes)
+                .fanOutHistogram(new TreeMap<>(fanOutHistogram))
+                .scopeCounts(new TreeMap<>(scopeCounts))
+                .missingHashCount(missingHashCount)
+                .bytesHashed(bytesHashed)
+                .build();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,55 @@
+package io.mend.maven.analyzer.service.analysis;
+
+import io.mend.maven.analyzer.model.entity.AnalyzedDependency;
+import io.mend.maven.analyzer.model.entity.CompactDependency;
+import io.mend.maven.analyzer.model.response.DependencyStatistics;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Result of a single tree-building traversal: the root-level dependencies, the
+ * statistics gathered along the way and the fingerprint of the whole tree.
+ *
+ * A compact tree holds its dependencies as {@link CompactDependency} nodes only, and a regular tree
+ * as {@link AnalyzedDependency} nodes only; the other list is null.
+ */
+@Getter
+public class DependencyTree {
+    
+    private final List<AnalyzedDependency> dependencies;
+    private final List<CompactDependency> compactDependencies;
+    private final DependencyStatistics statistics;
+    private final String fingerprint;
+    
+    public DependencyTree(List<AnalyzedDependency> dependencies, DependencyStatistics statistics, String fingerprint) {
+        this(dependencies, null, statistics, fingerprint);
+    }
+    
+    private DependencyTree(List<AnalyzedDependency> dependencies, List<CompactDependency> compactDependencies,
+                           DependencyStatistics statistics, String fingerprint) {
+        this.dependencies = dependencies;
+        this.compactDependencies = compactDependencies;
+        this.statistics = statistics;
+        this.fingerprint = fingerprint;
+    }
+    
+    public static DependencyTree compact(List<CompactDependency> compactDependencies, DependencyStatistics statistics,
+                                         String fingerprint) {
+        return new DependencyTree(null, compactDependencies, statistics, fingerprint);
+    }
+    
+    public boolean isCompact() {
+        return compactDependencies != null;
+    }
+    
+    /**
+     * Returns the dependencies as {@link AnalyzedDependency} nodes, expanding a compact tree into a new copy.
+     */
+    public List<AnalyzedDependency> toAnalyzedDependencies() {
+        if (!isCompact()) {
+            return dependencies;
+        }
+        return compactDependencies.stream().map(CompactDependency::toAnalyzedDependency).toList();
+    }
+}
\ No newline at end of file
@@ -1,96 +1,259 @@
 package io.mend.maven.analyzer.service.analysis;
 
-import io.mend.maven.analyzer.config.MavenConstants;
 import io.mend.maven.analyzer.model.entity.AnalyzedDependency;
+import io.mend.maven.analyzer.model.entity.CompactDependency;
+import io.mend.maven.analyzer.model.response.DependencyRecord;
+import io.mend.maven.analyzer.service.hash.ArtifactHashCache;
 import io.mend.maven.analyzer.service.hash.Sha1HashService;
+import io.mend.maven.analyzer.service.profile.AnalysisPhase;
+import io.mend.maven.analyzer.service.profile.PhaseProfiler;
+import io.mend.maven.analyzer.util.DependencyUtils;
+import io.mend.maven.analyzer.util.FingerprintUtils;
 import org.eclipse.aether.artifact.Artifact;
 import org.eclipse.aether.graph.DependencyNode;
+import org.eclipse.aether.util.graph.transformer.ConflictResolver;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 
+import java.io.PrintStream;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CancellationException;
 
 @Slf4j
 public class DependencyTreeBuilderService {
+    private static final String PATH_ID_SEPARATOR = "/";
+    private static final String KEY_SEPARATOR = ":";
+    private static final String OMITTED_DUPLICATE = "duplicate";
+    private static final String OMITTED_CONFLICT = "conflict";
+    
     private final Sha1HashService sha1HashService;
+    private final PrintStream progressStream;
     
     public DependencyTreeBuilderService(@NonNull Sha1HashService sha1HashService) {
+        this(sha1HashService, System.out);
+    }
+    
+    public DependencyTreeBuilderService(@NonNull Sha1HashService sha1HashService, @NonNull PrintStream progressStream) {
         this.sha1HashService = sha1HashService;
+        this.progressStream = progressStream;
     }
     
     public List<AnalyzedDependency> buildDependencyTree(DependencyNode rootNode) {
-        if (rootNode == null || rootNode.getChildren() == null) {
-            return new ArrayList<>();
-        }
-        
+        return buildDependencyTree(rootNode, DependencyNodeListener.NONE);
+    }
+    
+    /**
+     * Builds the dependency tree, notifying the listener of every node as soon as it has been hashed.
+     */
+    public List<AnalyzedDependency> buildDependencyTree(DependencyNode rootNode, @NonNull DependencyNodeListener listener) {
+        return buildTree(rootNode, listener).getDependencies();
+    }
+    
+    /**
+     * Builds the dependency tree and collects its statistics in the same traversal.
+     */
+    public DependencyTree buildTree(DependencyNode rootNode, @NonNull DependencyNodeListener listener) {
+        return buildTree(rootNode, listener, PhaseProfiler.DISABLED);
+    }
+    
+    /**
+     * Builds the dependency tree, charging hashing to its own phase and the rest to tree building.
+     */
+    public DependencyTree buildTree(DependencyNode rootNode, @NonNull DependencyNodeListener listener, @NonNull PhaseProfiler profiler) {
+        return buildTree(rootNode, listener, profiler, ArtifactHashCache.DISABLED);
+    }
+    
+    /**
+     * Builds the dependency tree, reusing hashes from the cache for JARs that have not changed.
+     */
+    public DependencyTree buildTree(DependencyNode rootNode, @NonNull DependencyNodeListener listener, @NonNull PhaseProfiler profiler,
+                                    @NonNull ArtifactHashCache hashCache) {
+        return buildTree(rootNode, listener, profiler, hashCache, false);
+    }
+    
+    /**
+     * Builds the dependency tree, also fingerprinting every subtree and the whole tree when asked to.
+     */
+    public DependencyTree buildTree(DependencyNode rootNode, @NonNull DependencyNodeListener listener, @NonNull PhaseProfiler profiler,
+                                    @NonNull ArtifactHashCache hashCache, boolean fingerprints) {
+        return buildTree(rootNode, listener, profiler, hashCache, fingerprints, false);
+    }
+    
+    /**
+     * Builds the dependency tree, compacting each direct dependency's subtree into {@link CompactDependency}
+     * nodes as soon as it is complete when asked to, so only one subtree at a time is held in full.
+     */
+    public DependencyTree buildTree(DependencyNode rootNode, @NonNull DependencyNodeListener listener, @NonNull PhaseProfiler profiler,
+                                    @NonNull ArtifactHashCache hashCache, boolean fingerprints, boolean compact) {
+        TraversalContext context = new TraversalContext(listener, profiler, hashCache, fingerprints);
         List<AnalyzedDependency> analyzedDependencies = new ArrayList<>();
-        Set<String> visitedDependencyKeys = new HashSet<>();
-        int[] progressCounter = new int[]{0};
-        
-        System.out.println("Processing dependencies:");
+        List<CompactDependency> compactDependencies = new ArrayList<>();
         
-        for (DependencyNode child : rootNode.getChildren()) {
-            AnalyzedDependency analyzed = convertToAnalyzedDependency(child, visitedDependencyKeys, progressCounter);
-            if (analyzed != null) {
-                analyzedDependencies.add(analyzed);
+        if (rootNode != null && rootNode.getChildren() != null) {
+            try (PhaseProfiler.Phase ignored = profiler.start(AnalysisPhase.TREE_BUILDING)) {
+                progressStream.println("Processing dependencies:");
+                
+                for (DependencyNode child : rootNode.getChildren()) {
+                    AnalyzedDependency analyzed = convertToAnalyzedDependency(child, null, null, 0, context);
+                    if (analyzed != null && compact) {
+                        compactDependencies.add(CompactDependency.from(analyzed));
+                    } else if (analyzed != null) {
+                        analyzedDependencies.add(analyzed);
+                    }
+                }
             }
         }
         
-        return analyzedDependencies;
+        if (compact) {
+            return DependencyTree.compact(compactDependencies, context.statistics.toStatistics(),
+                    fingerprints ? FingerprintUtils.compactRootFingerprint(compactDependencies) : null);
+        }
+        return new DependencyTree(analyzedDependencies, context.statistics.toStatistics(),
+                fingerprints ? FingerprintUtils.rootFingerprint(analyzedDependencies) : null);
     }
     
-    private AnalyzedDependency convertToAnalyzedDependency(DependencyNode dependencyNode, 
-                                                           Set<String> visitedDependencyKeys, 
-                                                           int[] progressCounter) {
+    private AnalyzedDependency convertToAnalyzedDependency(DependencyNode dependencyNode,
+                                                           String parentId,
+                                                           String parentPathId,
+                                                           int depth,
+                                                           TraversalContext context) {
         if (dependencyNode == null || dependencyNode.getDependency() == null) {
             return null;
         }
+        if (Thread.currentThread().isInterrupted()) {
+            throw new CancellationException("Dependency traversal interrupted");
+        }
         
-        Artifact artifact = dependencyNode.getDependency().getArtifact();
+        DependencyNode winner = (DependencyNode) dependencyNode.getData().get(ConflictResolver.NODE_DATA_WINNER);
+        if (winner != null) {
+            return convertOmittedDependency(dependencyNode, winner, parentId, parentPathId, depth, context);
+        }
+        
+        // Resolved nodes carry the artifact with its file, which the dependency's copy may lack
+        Artifact artifact = dependencyNode.getArtifact();
         String scope = dependencyNode.getDependency().getScope();
         
         String groupId = artifact.getGroupId();
         String artifactId = artifact.getArtifactId();
         String version = artifact.getVersion();
+        String coordinates = DependencyUtils.formatCoordinates(artifact);
         
-        String uniqueDependencyKey = formatDependencyKey(groupId, artifactId, version, scope);
+        String uniqueDependencyKey = formatDependencyKey(coordinates, scope);
         
-        if (visitedDependencyKeys.contains(uniqueDependencyKey)) {
+        if (context.visitedDependencyKeys.contains(uniqueDependencyKey)) {
             return null;
         }
         
-        visitedDependencyKeys.add(uniqueDependencyKey);
-        progressCounter[0]++;
+        context.visitedDependencyKeys.add(uniqueDependencyKey);
+        context.processedCount++;
         
-        printDependencyProgress(progressCounter[0], groupId, artifactId, version, scope);
+        printDependencyProgress(context.processedCount, coordinates, scope);
         
         AnalyzedDependency analyzedDependency = new AnalyzedDependency(groupId, artifactId, version, scope);
+        analyzedDependency.setClassifier(DependencyUtils.getClassifier(artifact));
+        analyzedDependency.setExtension(DependencyUtils.getExtension(artifact));
+        Object originalScope = dependencyNode.getData().get(ConflictResolver.NODE_DATA_ORIGINAL_SCOPE);
+        if (originalScope != null && !originalScope.equals(scope)) {
+            analyzedDependency.setOriginalScope(originalScope.toString());
+        }
         
-        String sha1Hash = sha1HashService.calculateSha1Hash(groupId, artifactId, version);
+        String sha1Hash;
+        long hashedBytes;
+        try (PhaseProfiler.Phase ignored = context.profiler.start(AnalysisPhase.HASHING)) {
+            sha1Hash = sha1HashService.calculateSha1Hash(artifact, context.hashCache);
+            hashedBytes = sha1Hash != null ? sha1HashService.getArtifactSize(artifact) : 0L;
+        }
         analyzedDependency.setSha1(sha1Hash);
         
         printSha1Status(sha1Hash);
         
-        List<AnalyzedDependency> transitiveDependencies = 
-            processTransitiveDependencies(dependencyNode, visitedDependencyKeys, progressCounter);
+        context.statistics.recordNode(depth, scope, sha1Hash, hashedBytes);
+        
+        String pathId = parentPathId == null ? uniqueDependencyKey : parentPathId + PATH_ID_SEPARATOR + uniqueDependencyKey;
+        context.listener.onDependency(DependencyRecord.builder()
+                .id(uniqueDependencyKey)
+                .parentId(parentId)
+                .pathId(pathId)
+                .depth(depth)
+                .groupId(groupId)
+                .artifactId(artifactId)
+                .version(version)
+                .classifier(analyzedDependency.getClassifier())
+                .extension(analyzedDependency.getExtension())
+                .scope(scope)
+                .sha1(sha1Hash)
+                .originalScope(analyzedDependency.getOriginalScope())
+                .build());
+        
+        List<AnalyzedDependency> transitiveDependencies =
+            processTransitiveDependencies(dependencyNode, uniqueDependencyKey, pathId, depth + 1, context);
         analyzedDependency.setChildren(transitiveDependencies);
+        if (context.fingerprints) {
+            // Children are complete at this point, so the fingerprint covers the whole subtree
+            analyzedDependency.setFingerprint(FingerprintUtils.fingerprint(analyzedDependency));
+        }
+        context.statistics.recordFanOut((int) transitiveDependencies.stream().filter(child -> child.getOmitted() == null).count());
         
         return analyzedDependency;
     }
     
-    private List<AnalyzedDependency> processTransitiveDependencies(DependencyNode parentNode, 
-                                                                   Set<String> visitedDependencyKeys, 
-                                                                   int[] progressCounter) {
+    /**
+     * Converts a conflict loser kept by a verbose graph. It is neither hashed nor counted, and its record
+     * has no ID since nothing can be its child.
+     */
+    private AnalyzedDependency convertOmittedDependency(DependencyNode dependencyNode, DependencyNode winner, String parentId,
+                                                       String parentPathId, int depth, TraversalContext context) {
+        Artifact artifact = dependencyNode.getDependency().getArtifact();
+        String scope = dependencyNode.getDependency().getScope();
+        String winnerVersion = winner.getArtifact().getVersion();
+        boolean duplicate = winnerVersion.equals(artifact.getVersion());
+        
+        AnalyzedDependency omitted = new AnalyzedDependency(artifact.getGroupId(), artifact.getArtifactId(), artifact.getVersion(), scope);
+        omitted.setClassifier(DependencyUtils.getClassifier(artifact));
+        omitted.setExtension(DependencyUtils.getExtension(artifact));
+        omitted.setOmitted(duplicate ? OMITTED_DUPLICATE : OMITTED_CONFLICT);
+        if (!duplicate) {
+            omitted.setWinnerVersion(winnerVersion);
+        }
+        if (context.fingerprints) {
+            omitted.setFingerprint(FingerprintUtils.fingerprint(omitted));
+        }
+        
+        String coordinates = DependencyUtils.formatCoordinates(artifact);
+        String key = formatDependencyKey(coordinates, scope);
+        progressStream.printf("  [  -] %s (%s) omitted for %s%n", coordinates, scope,
+            duplicate ? OMITTED_DUPLICATE : OMITTED_CONFLICT + " with " + winnerVersion);
+        context.listener.onDependency(DependencyRecord.builder()
+                .parentId(parentId)
+                .pathId(parentPathId == null ? key : parentPathId + PATH_ID_SEPARATOR + key)
+                .depth(depth)
+                .groupId(artifact.getGroupId())
+                .artifactId(artifact.getArtifactId())
+                .version(artifact.getVersion())
+                .classifier(omitted.getClassifier())
+                .extension(omitted.getExtension())
+                .scope(scope)
+                .omitted(omitted.getOmitted())
+                .winnerVersion(omitted.getWinnerVersion())
+                .build());
+        return omitted;
+    }
+    
+    private List<AnalyzedDependency> processTransitiveDependencies(DependencyNode parentNode,
+                                                                   String parentId,
+                                                                   String parentPathId,
+                                                                   int depth,
+                                                                   TraversalContext context) {
         if (parentNode.getChildren() == null || parentNode.getChildren().isEmpty()) {
             return new ArrayList<>();
         }
         
         List<AnalyzedDependency> transitiveDependencies = new ArrayList<>();
         for (DependencyNode child : parentNode.getChildren()) {
-            AnalyzedDependency analyzed = convertToAnalyzedDependency(child, visitedDependencyKeys, progressCounter);
+            AnalyzedDependency analyzed = convertToAnalyzedDependency(child, parentId, parentPathId, depth, context);
             if (analyzed != null) {
                 transitiveDependencies.add(analyzed);
             }
@@ -98,19 +261,43 @@ public class DependencyTreeBuilderService {
         return transitiveDependencies;
     }
     
-    private String formatDependencyKey(String groupId, String artifactId, String version, String scope) {
-        return String.format(MavenConstants.COORDINATE_FORMAT, groupId, artifactId, version, scope);
+    /**
+     * Keys a node by its coordinates, including classifier and extension when present, and its scope.
+     */
+    private String formatDependencyKey(String coordinates, String scope) {
+        return coordinates + KEY_SEPARATOR + scope;
     }
     
-    private void printDependencyProgress(int count, String groupId, String artifactId, String version, String scope) {
-        System.out.printf("  [%3d] %s:%s:%s (%s)", count, groupId, artifactId, version, scope);
+    private void printDependencyProgress(int count, String coordinates, String scope) {
+        progressStream.printf("  [%3d] %s (%s)", count, coordinates, scope);
     }
     
     private void printSha1Status(String sha1Hash) {
         if (sha1Hash != null && !sha1Hash.isEmpty()) {
-            System.out.println(" ✓");
+            progressStream.println(" ✓");
         } else {
-            System.out.println(" [no SHA1]");
+            progressStream.println(" [no SHA1]");
+        }
+    }
+    
+    /**
+     * Mutable state shared across a single traversal.
+     */
+    private static final class TraversalContext {
+        private final Set<String> visitedDependencyKeys = new HashSet<>();
+        private final DependencyStatisticsAccumulator statistics = new DependencyStatisticsAccumulator();
+        private final DependencyNodeListener listener;
+        private final PhaseProfiler profiler;
+        private final ArtifactHashCache hashCache;
+        private final boolean fingerprints;
+        private int processedCount;
+        
+        private TraversalContext(DependencyNodeListener listener, PhaseProfiler profiler, ArtifactHashCache hashCache,
+                                 boolean fingerprints) {
+            this.listener = listener;
+            this.profiler = profiler;
+            this.hashCache = hashCache;
+            this.fingerprints = fingerprints;
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,51 @@
+package io.mend.maven.analyzer.service.analysis;
+
+import org.eclipse.aether.collection.DependencyCollectionContext;
+import org.eclipse.aether.collection.DependencyTraverser;
+import org.eclipse.aether.graph.Dependency;
+
+/**
+ * Stops the collector from descending below a maximum depth, so the children of the deepest kept
+ * dependencies are never looked at.
+ */
+final class DepthDependencyTraverser implements DependencyTraverser {
+    
+    private final int maxDepth;
+    /** Depth of the dependencies this traverser decides on, 1 being the direct ones. */
+    private final int depth;
+    
+    DepthDependencyTraverser(int maxDepth) {
+        this(maxDepth, 1);
+    }
+    
+    private DepthDependencyTraverser(int maxDepth, int depth) {
+        this.maxDepth = maxDepth;
+        this.depth = depth;
+    }
+    
+    @Override
+    public boolean traverseDependency(Dependency dependency) {
+        return depth < maxDepth;
+    }
+    
+    @Override
+    public DependencyTraverser deriveChildTraverser(DependencyCollectionContext context) {
+        if (context.getDependency() == null) {
+            return this;
+        }
+        return new DepthDependencyTraverser(maxDepth, depth + 1);
+    }
+    
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        return obj instanceof DepthDependencyTraverser other && maxDepth == other.maxDepth && depth == other.depth;
+    }
+    
+    @Override
+    public int hashCode() {
+        return 31 * maxDepth + depth;
+    }
+}
\ No newline at end of file
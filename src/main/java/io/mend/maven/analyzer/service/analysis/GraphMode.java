@@ -0,0 +1,49 @@
+package io.mend.maven.analyzer.service.analysis;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.eclipse.aether.DefaultRepositorySystemSession;
+import org.eclipse.aether.util.graph.transformer.ConflictResolver;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * Which graph transformers run on the collected graph, trading the cost of conflict resolution
+ * against how much of the collected graph is kept.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum GraphMode {
+    
+    /** Maven's transformer chain: one winning version per artifact, with scopes derived along the path (default). */
+    RESOLVED("resolved"),
+    
+    /** As resolved, but each conflict loser is kept as a childless node marked with the reason it was omitted. */
+    VERBOSE("verbose"),
+    
+    /** No transformers: every collected version is kept with its declared scope, and no conflict is resolved. */
+    RAW("raw");
+    
+    private final String value;
+    
+    public static Optional<GraphMode> fromValue(@NonNull String value) {
+        return Arrays.stream(values())
+                .filter(mode -> mode.value.equalsIgnoreCase(value.trim()))
+                .findFirst();
+    }
+    
+    /**
+     * Configures the session's transformers for this mode.
+     */
+    public void applyTo(@NonNull DefaultRepositorySystemSession session) {
+        switch (this) {
+            case VERBOSE -> session.setConfigProperty(ConflictResolver.CONFIG_PROP_VERBOSE, ConflictResolver.Verbosity.STANDARD);
+            case RAW -> session.setDependencyGraphTransformer(null);
+            default -> {
+                // the session already has Maven's chain
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,127 @@
+package io.mend.maven.analyzer.service.analysis;
+
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.collection.DependencyCollectionContext;
+import org.eclipse.aether.collection.DependencySelector;
+import org.eclipse.aether.graph.Dependency;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Drops dependencies whose derived scope is not selected or whose coordinates match an exclusion pattern.
+ *
+ * Scopes are derived along the path the way Maven does when it flattens the graph, so a compile
+ * dependency of a test dependency counts as test. Selectors are compared by the collector to share
+ * work between nodes, hence the value semantics.
+ */
+final class SelectionDependencySelector implements DependencySelector {
+    
+    private static final String SCOPE_COMPILE = "compile";
+    private static final String SCOPE_RUNTIME = "runtime";
+    private static final String SCOPE_PROVIDED = "provided";
+    private static final String SCOPE_TEST = "test";
+    private static final String SCOPE_SYSTEM = "system";
+    private static final String WILDCARD = "*";
+    
+    private final Set<String> scopes;
+    private final List<String> excludes;
+    private final List<Pattern> excludePatterns;
+    /** Derived scope of the node whose children are being selected; null at the direct dependencies. */
+    private final String parentScope;
+    
+    SelectionDependencySelector(Set<String> scopes, List<String> excludes) {
+        this(scopes, excludes, compile(excludes), null);
+    }
+    
+    private SelectionDependencySelector(Set<String> scopes, List<String> excludes, List<Pattern> excludePatterns, String parentScope) {
+        this.scopes = scopes;
+        this.excludes = excludes;
+        this.excludePatterns = excludePatterns;
+        this.parentScope = parentScope;
+    }
+    
+    @Override
+    public boolean selectDependency(Dependency dependency) {
+        if (scopes != null && !scopes.contains(deriveScope(parentScope, dependency.getScope()))) {
+            return false;
+        }
+        Artifact artifact = dependency.getArtifact();
+        String key = artifact.getGroupId() + ":" + artifact.getArtifactId();
+        for (Pattern pattern : excludePatterns) {
+            if (pattern.matcher(key).matches()) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    @Override
+    public DependencySelector deriveChildSelector(DependencyCollectionContext context) {
+        Dependency dependency = context.getDependency();
+        if (dependency == null) {
+            return this;
+        }
+        String scope = deriveScope(parentScope, dependency.getScope());
+        return scope.equals(parentScope) ? this : new SelectionDependencySelector(scopes, excludes, excludePatterns, scope);
+    }
+    
+    /**
+     * Maven's rule for the scope a dependency ends up with when reached through a parent of the given scope.
+     */
+    static String deriveScope(String parentScope, String scope) {
+        String childScope = scope == null || scope.isEmpty() ? SCOPE_COMPILE : scope;
+        if (parentScope == null || SCOPE_SYSTEM.equals(childScope) || SCOPE_TEST.equals(childScope)) {
+            return childScope;
+        }
+        if (SCOPE_COMPILE.equals(parentScope)) {
+            return childScope;
+        }
+        if (SCOPE_TEST.equals(parentScope) || SCOPE_RUNTIME.equals(parentScope)) {
+            return parentScope;
+        }
+        if (SCOPE_SYSTEM.equals(parentScope) || SCOPE_PROVIDED.equals(parentScope)) {
+            return SCOPE_PROVIDED;
+        }
+        return SCOPE_RUNTIME;
+    }
+    
+    /**
+     * Turns {@code groupId:artifactId} globs into patterns; a bare groupId matches all of its artifacts.
+     */
+    private static List<Pattern> compile(List<String> excludes) {
+        List<Pattern> patterns = new ArrayList<>(excludes.size());
+        for (String exclude : excludes) {
+            String glob = exclude.contains(":") ? exclude : exclude + ":" + WILDCARD;
+            StringBuilder regex = new StringBuilder();
+            for (String literal : glob.split("\\*", -1)) {
+                if (!regex.isEmpty()) {
+                    regex.append(".*");
+                }
+                regex.append(Pattern.quote(literal));
+            }
+            patterns.add(Pattern.compile(regex.toString()));
+        }
+        return patterns;
+    }
+    
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof SelectionDependencySelector other)) {
+            return false;
+        }
+        return Objects.equals(scopes, other.scopes) && excludes.equals(other.excludes)
+                && Objects.equals(parentScope, other.parentScope);
+    }
+    
+    @Override
+    public int hashCode() {
+        return Objects.hash(scopes, excludes, parentScope);
+    }
+}
\ No newline at end of file
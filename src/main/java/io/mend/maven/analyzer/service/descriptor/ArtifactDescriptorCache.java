@@ -0,0 +1,263 @@
+package io.mend.maven.analyzer.service.descriptor;
+
+import io.mend.maven.analyzer.service.output.AtomicOutputWriter;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.maven.model.building.ModelCache;
+import org.eclipse.aether.AbstractRepositoryListener;
+import org.eclipse.aether.DefaultRepositorySystemSession;
+import org.eclipse.aether.RepositoryEvent;
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.eclipse.aether.graph.Dependency;
+import org.eclipse.aether.resolution.ArtifactDescriptorException;
+import org.eclipse.aether.resolution.ArtifactDescriptorRequest;
+import org.eclipse.aether.resolution.ArtifactDescriptorResult;
+import org.eclipse.aether.util.listener.ChainedRepositoryListener;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Artifact descriptors carried over from earlier runs, so that collection reads a cache entry instead
+ * of parsing a POM and its parents and building the effective model again.
+ *
+ * An entry records the size and modification time of every POM file its descriptor was built from, and
+ * is reused while all of them are unchanged. SNAPSHOT descriptors and descriptors read with errors are
+ * never cached. A missing, unreadable or differently formatted cache file is treated as empty. Unlike
+ * the per-analysis caches, one instance serves every analysis of a {@link io.mend.maven.analyzer.config.MavenResolverConfig}
+ * and is safe for concurrent use.
+ */
+@Slf4j
+public class ArtifactDescriptorCache {
+    
+    // Kept in the configuration rather than the session data, like the metrics collector
+    private static final String SESSION_PROPERTY = ArtifactDescriptorCache.class.getName();
+    private static final String POM_EXTENSION = "pom";
+    
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    
+    @Getter
+    private final Path cacheFile;
+    private DescriptorCacheFile previous;
+    private final Map<String, CachedDescriptor> entries = new ConcurrentHashMap<>();
+    // Artifacts importing the same BOM share one list of managed dependencies
+    private final Map<List<Dependency>, List<Dependency>> dependencyLists = new ConcurrentHashMap<>();
+    // POM files used by the descriptor read in progress on each thread, by path
+    private final ThreadLocal<Map<String, DescriptorCacheFile.PomFile>> recording = new ThreadLocal<>();
+    private volatile String contextKey;
+    // Counts changes to the entries; the cache needs saving while it differs from the count last written
+    private final AtomicLong changes = new AtomicLong();
+    private volatile long savedChanges;
+    
+    private ArtifactDescriptorCache(Path cacheFile, DescriptorCacheFile previous) {
+        this.cacheFile = cacheFile;
+        this.previous = previous;
+    }
+    
+    /**
+     * Opens the cache file, which need not exist yet. Entries become usable once the cache is attached to a session.
+     */
+    public static ArtifactDescriptorCache load(@NonNull Path cacheFile) {
+        return new ArtifactDescriptorCache(cacheFile, readCacheFile(cacheFile));
+    }
+    
+    private static DescriptorCacheFile readCacheFile(Path cacheFile) {
+        if (!Files.isRegularFile(cacheFile)) {
+            return new DescriptorCacheFile();
+        }
+        try (InputStream in = Files.newInputStream(cacheFile)) {
+            DescriptorCacheFile file = OBJECT_MAPPER.readValue(in, DescriptorCacheFile.class);
+            if (file.getFormatVersion() == DescriptorCacheFile.FORMAT_VERSION) {
+                return file;
+            }
+            log.warn("Ignoring descriptor cache {} with format version {}", cacheFile, file.getFormatVersion());
+        } catch (IOException e) {
+            log.warn("Ignoring unreadable descriptor cache {}: {}", cacheFile, e.getMessage());
+        }
+        return new DescriptorCacheFile();
+    }
+    
+    /**
+     * Makes the cache reachable through {@link #find(RepositorySystemSession)} and records the POMs the
+     * session resolves. Entries built with other session properties are dropped.
+     */
+    public synchronized void attach(@NonNull DefaultRepositorySystemSession session) {
+        contextKey = contextKey(session);
+        if (contextKey.equals(previous.getContextKey())) {
+            for (CachedDescriptor descriptor : DescriptorCacheCodec.decode(previous)) {
+                intern(descriptor.getDependencies());
+                intern(descriptor.getManagedDependencies());
+                entries.put(descriptor.getKey(), descriptor);
+            }
+        } else if (!previous.getEntries().isEmpty()) {
+            changes.incrementAndGet();
+        }
+        previous = new DescriptorCacheFile();
+        session.setRepositoryListener(ChainedRepositoryListener.newInstance(session.getRepositoryListener(), new PomRecorder()));
+        session.setConfigProperty(SESSION_PROPERTY, this);
+    }
+    
+    /**
+     * Returns the cache attached to the session, or null if descriptors are not cached.
+     */
+    public static ArtifactDescriptorCache find(@NonNull RepositorySystemSession session) {
+        Object cache = session.getConfigProperties().get(SESSION_PROPERTY);
+        return cache instanceof ArtifactDescriptorCache descriptorCache ? descriptorCache : null;
+    }
+    
+    /**
+     * The system and user properties of the session, which profile activation and interpolation see.
+     */
+    static String contextKey(RepositorySystemSession session) {
+        StringBuilder key = new StringBuilder("format=").append(DescriptorCacheFile.FORMAT_VERSION);
+        new TreeMap<>(session.getSystemProperties()).forEach((name, value) -> key.append("\nsystem=").append(name).append('=').append(value));
+        new TreeMap<>(session.getUserProperties()).forEach((name, value) -> key.append("\nuser=").append(name).append('=').append(value));
+        return DigestUtils.sha1Hex(key.toString());
+    }
+    
+    /**
+     * Returns the cached descriptor if none of the POM files it was built from has changed, or null.
+     */
+    public ArtifactDescriptorResult lookup(@NonNull ArtifactDescriptorRequest request) {
+        if (request.getArtifact().isSnapshot()) {
+            return null;
+        }
+        CachedDescriptor descriptor = entries.get(CachedDescriptor.key(request.getArtifact()));
+        if (descriptor == null || !descriptor.isUnchanged()) {
+            return null;
+        }
+        return descriptor.toResult(request);
+    }
+    
+    /**
+     * Reads a descriptor through the given reader, recording the POM files it resolves, and caches the
+     * result unless it is a SNAPSHOT, failed or came from no POM at all.
+     */
+    public ArtifactDescriptorResult read(@NonNull ArtifactDescriptorRequest request, @NonNull DescriptorReader reader)
+            throws ArtifactDescriptorException {
+        Map<String, DescriptorCacheFile.PomFile> outer = recording.get();
+        Map<String, DescriptorCacheFile.PomFile> files = new LinkedHashMap<>();
+        recording.set(files);
+        ArtifactDescriptorResult result;
+        try {
+            result = reader.read();
+        } finally {
+            recording.set(outer);
+        }
+        Artifact artifact = request.getArtifact();
+        if (!artifact.isSnapshot() && !files.isEmpty() && result.getExceptions().isEmpty()) {
+            String key = CachedDescriptor.key(artifact);
+            Artifact described = result.getArtifact();
+            entries.put(key, new CachedDescriptor(key, List.copyOf(files.values()),
+                    new DefaultArtifact(described.getGroupId(), described.getArtifactId(), described.getClassifier(),
+                            described.getExtension(), described.getVersion(), described.getProperties(), (File) null),
+                    List.copyOf(result.getRelocations()), List.copyOf(result.getAliases()),
+                    intern(result.getDependencies()), intern(result.getManagedDependencies()),
+                    List.copyOf(result.getRepositories()), toStrings(result.getProperties())));
+            changes.incrementAndGet();
+        }
+        return result;
+    }
+    
+    private List<Dependency> intern(List<Dependency> dependencies) {
+        List<Dependency> copy = List.copyOf(dependencies);
+        List<Dependency> interned = dependencyLists.putIfAbsent(copy, copy);
+        return interned != null ? interned : copy;
+    }
+    
+    private static Map<String, String> toStrings(Map<String, Object> properties) {
+        Map<String, String> strings = new LinkedHashMap<>();
+        properties.forEach((name, value) -> strings.put(name, String.valueOf(value)));
+        return strings;
+    }
+    
+    public int size() {
+        return entries.size();
+    }
+    
+    /**
+     * Writes the cache atomically if anything was added since it was last saved. A failed write leaves
+     * the cache unsaved, so the next call writes it again.
+     */
+    public synchronized void save() throws IOException {
+        long current = changes.get();
+        if (current == savedChanges) {
+            return;
+        }
+        DescriptorCacheFile file = DescriptorCacheCodec.encode(contextKey, new TreeMap<>(entries).values());
+        try (AtomicOutputWriter writer = AtomicOutputWriter.open(cacheFile.toString(), false)) {
+            OBJECT_MAPPER.writeValue(writer.getOutputStream(), file);
+            writer.commit();
+        }
+        // Entries added while writing were not necessarily written and keep the cache unsaved
+        savedChanges = current;
+    }
+    
+    /**
+     * The uncached descriptor read.
+     */
+    @FunctionalInterface
+    public interface DescriptorReader {
+        ArtifactDescriptorResult read() throws ArtifactDescriptorException;
+    }
+    
+    /**
+     * Wraps the model cache of a descriptor read so that parents and imports it serves, which are not
+     * resolved again and so fire no events, are recorded from their local repository files.
+     */
+    public ModelCache recordingModelCache(@NonNull ModelCache modelCache, @NonNull RepositorySystemSession session) {
+        return new ModelCache() {
+            @Override
+            public void put(String groupId, String artifactId, String version, String tag, Object data) {
+                modelCache.put(groupId, artifactId, version, tag, data);
+            }
+            
+            @Override
+            public Object get(String groupId, String artifactId, String version, String tag) {
+                Object data = modelCache.get(groupId, artifactId, version, tag);
+                if (data != null && recording.get() != null) {
+                    Artifact pom = new DefaultArtifact(groupId, artifactId, POM_EXTENSION, version);
+                    record(new File(session.getLocalRepository().getBasedir(),
+                            session.getLocalRepositoryManager().getPathForLocalArtifact(pom)));
+                }
+                return data;
+            }
+        };
+    }
+    
+    private void record(File file) {
+        Map<String, DescriptorCacheFile.PomFile> files = recording.get();
+        long lastModified = file.lastModified();
+        if (files != null && lastModified != 0) {
+            files.putIfAbsent(file.getAbsolutePath(), new DescriptorCacheFile.PomFile(file.getAbsolutePath(), file.length(), lastModified));
+        }
+    }
+    
+    private class PomRecorder extends AbstractRepositoryListener {
+        
+        @Override
+        public void artifactResolved(RepositoryEvent event) {
+            if (event.getFile() != null && event.getException() == null && POM_EXTENSION.equals(event.getArtifact().getExtension())) {
+                record(event.getFile());
+            }
+        }
+    }
+}
\ No newline at end of file
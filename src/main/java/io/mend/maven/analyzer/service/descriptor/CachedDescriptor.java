@@ -0,0 +1,74 @@
+package io.mend.maven.analyzer.service.descriptor;
+
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.graph.Dependency;
+import org.eclipse.aether.repository.RemoteRepository;
+import org.eclipse.aether.resolution.ArtifactDescriptorRequest;
+import org.eclipse.aether.resolution.ArtifactDescriptorResult;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A cached artifact descriptor in resolver form. Resolver artifacts and dependencies are immutable, so
+ * its lists are handed out on every hit and dependency lists are shared between descriptors.
+ */
+@Getter
+@AllArgsConstructor
+final class CachedDescriptor {
+    
+    /** Requested artifact as groupId:artifactId:extension:classifier:version. */
+    private final String key;
+    private final List<DescriptorCacheFile.PomFile> files;
+    /** Artifact the descriptor describes, with the properties the POM added to it. */
+    private final Artifact artifact;
+    private final List<Artifact> relocations;
+    private final List<Artifact> aliases;
+    private final List<Dependency> dependencies;
+    private final List<Dependency> managedDependencies;
+    private final List<RemoteRepository> repositories;
+    private final Map<String, String> properties;
+    
+    static String key(Artifact artifact) {
+        return String.join(":", artifact.getGroupId(), artifact.getArtifactId(),
+                artifact.getExtension(), artifact.getClassifier(), artifact.getVersion());
+    }
+    
+    /**
+     * Whether every POM file the descriptor was built from still has the recorded size and modification time.
+     */
+    boolean isUnchanged() {
+        if (files.isEmpty()) {
+            return false;
+        }
+        for (DescriptorCacheFile.PomFile pom : files) {
+            File file = new File(pom.getPath());
+            // lastModified is 0 for a missing file, which no recorded POM has
+            if (file.lastModified() != pom.getLastModified() || file.length() != pom.getSize()) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Rebuilds the result for the request. Without a relocation the result keeps the requested artifact,
+     * as the reader does, with the properties the POM added to it.
+     */
+    ArtifactDescriptorResult toResult(ArtifactDescriptorRequest request) {
+        ArtifactDescriptorResult result = new ArtifactDescriptorResult(request);
+        result.setArtifact(relocations.isEmpty() ? request.getArtifact().setProperties(artifact.getProperties()) : artifact);
+        result.setRelocations(new ArrayList<>(relocations));
+        result.setAliases(new ArrayList<>(aliases));
+        result.setDependencies(new ArrayList<>(dependencies));
+        result.setManagedDependencies(new ArrayList<>(managedDependencies));
+        result.setRepositories(new ArrayList<>(repositories));
+        result.setProperties(new HashMap<>(properties));
+        return result;
+    }
+}
\ No newline at end of file
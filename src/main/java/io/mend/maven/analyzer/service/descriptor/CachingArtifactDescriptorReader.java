@@ -0,0 +1,49 @@
+package io.mend.maven.analyzer.service.descriptor;
+
+import io.mend.maven.analyzer.service.metrics.ResolverMetricsCollector;
+import org.apache.maven.model.building.ModelCache;
+import org.apache.maven.repository.internal.DefaultArtifactDescriptorReader;
+import org.apache.maven.repository.internal.ModelCacheFactory;
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.resolution.ArtifactDescriptorException;
+import org.eclipse.aether.resolution.ArtifactDescriptorRequest;
+import org.eclipse.aether.resolution.ArtifactDescriptorResult;
+import org.eclipse.aether.spi.locator.ServiceLocator;
+
+/**
+ * Artifact descriptor reader that answers from the {@link ArtifactDescriptorCache} attached to the
+ * session when it can, and caches what it has to read.
+ */
+public class CachingArtifactDescriptorReader extends DefaultArtifactDescriptorReader {
+    
+    @Override
+    public void initService(ServiceLocator locator) {
+        super.initService(locator);
+        ModelCacheFactory modelCacheFactory = locator.getService(ModelCacheFactory.class);
+        setModelCacheFactory(session -> {
+            ModelCache modelCache = modelCacheFactory.createCache(session);
+            ArtifactDescriptorCache cache = ArtifactDescriptorCache.find(session);
+            return modelCache != null && cache != null ? cache.recordingModelCache(modelCache, session) : modelCache;
+        });
+    }
+    
+    @Override
+    public ArtifactDescriptorResult readArtifactDescriptor(RepositorySystemSession session, ArtifactDescriptorRequest request)
+            throws ArtifactDescriptorException {
+        ArtifactDescriptorCache cache = ArtifactDescriptorCache.find(session);
+        if (cache == null) {
+            return super.readArtifactDescriptor(session, request);
+        }
+        
+        ArtifactDescriptorResult cached = cache.lookup(request);
+        if (cached != null) {
+            cached.setRepository(session.getLocalRepository());
+            ResolverMetricsCollector metrics = ResolverMetricsCollector.find(session);
+            if (metrics != null) {
+                metrics.recordDescriptorCacheHit();
+            }
+            return cached;
+        }
+        return cache.read(request, () -> super.readArtifactDescriptor(session, request));
+    }
+}
\ No newline at end of file
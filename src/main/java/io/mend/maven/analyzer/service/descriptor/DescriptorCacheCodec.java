@@ -0,0 +1,201 @@
+package io.mend.maven.analyzer.service.descriptor;
+
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.eclipse.aether.graph.Dependency;
+import org.eclipse.aether.graph.Exclusion;
+import org.eclipse.aether.repository.RemoteRepository;
+import org.eclipse.aether.repository.RepositoryPolicy;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Converts between {@link CachedDescriptor}s and the {@link DescriptorCacheFile} layout, storing each
+ * distinct dependency list and property set once.
+ */
+final class DescriptorCacheCodec {
+    
+    private static final String SEPARATOR = ":";
+    
+    private final Map<Map<String, String>, Integer> propertySetIndices = new HashMap<>();
+    // Dependency lists are interned by the cache, so equal lists are usually the same instance
+    private final Map<List<Dependency>, Integer> dependencyListIndices = new IdentityHashMap<>();
+    private final DescriptorCacheFile file = new DescriptorCacheFile();
+    
+    private DescriptorCacheCodec() {
+    }
+    
+    static DescriptorCacheFile encode(String contextKey, Collection<CachedDescriptor> descriptors) {
+        DescriptorCacheCodec codec = new DescriptorCacheCodec();
+        codec.file.setContextKey(contextKey);
+        for (CachedDescriptor descriptor : descriptors) {
+            codec.file.getEntries().add(codec.encodeEntry(descriptor));
+        }
+        return codec.file;
+    }
+    
+    /**
+     * Rebuilds every entry, decoding each stored dependency list once so that entries share it.
+     */
+    static List<CachedDescriptor> decode(DescriptorCacheFile file) {
+        List<List<Dependency>> dependencyLists = new ArrayList<>();
+        for (List<DescriptorCacheFile.Dependency> encoded : file.getDependencyLists()) {
+            List<Dependency> dependencies = new ArrayList<>(encoded.size());
+            encoded.forEach(dependency -> dependencies.add(decodeDependency(dependency, file.getPropertySets())));
+            dependencyLists.add(List.copyOf(dependencies));
+        }
+        
+        List<CachedDescriptor> descriptors = new ArrayList<>();
+        for (DescriptorCacheFile.Entry entry : file.getEntries()) {
+            List<RemoteRepository> repositories = new ArrayList<>();
+            if (entry.getRepositories() != null) {
+                entry.getRepositories().forEach(repository -> repositories.add(decodeRepository(repository)));
+            }
+            descriptors.add(new CachedDescriptor(
+                    entry.getKey(),
+                    List.copyOf(entry.getFiles()),
+                    decodeArtifact(entry.getArtifact(), file.getPropertySets().get(entry.getArtifactProperties())),
+                    decodeArtifacts(entry.getRelocations()),
+                    decodeArtifacts(entry.getAliases()),
+                    dependencyLists.get(entry.getDependencies()),
+                    dependencyLists.get(entry.getManagedDependencies()),
+                    repositories,
+                    entry.getProperties() != null ? entry.getProperties() : Map.of()));
+        }
+        return descriptors;
+    }
+    
+    private DescriptorCacheFile.Entry encodeEntry(CachedDescriptor descriptor) {
+        DescriptorCacheFile.Entry entry = new DescriptorCacheFile.Entry();
+        entry.setKey(descriptor.getKey());
+        entry.setFiles(descriptor.getFiles());
+        entry.setArtifact(coordinates(descriptor.getArtifact()));
+        entry.setArtifactProperties(propertySetIndex(descriptor.getArtifact().getProperties()));
+        entry.setRelocations(encodeArtifacts(descriptor.getRelocations()));
+        entry.setAliases(encodeArtifacts(descriptor.getAliases()));
+        entry.setDependencies(dependencyListIndex(descriptor.getDependencies()));
+        entry.setManagedDependencies(dependencyListIndex(descriptor.getManagedDependencies()));
+        if (!descriptor.getRepositories().isEmpty()) {
+            List<DescriptorCacheFile.Repository> repositories = new ArrayList<>();
+            descriptor.getRepositories().forEach(repository -> repositories.add(encodeRepository(repository)));
+            entry.setRepositories(repositories);
+        }
+        entry.setProperties(descriptor.getProperties().isEmpty() ? null : descriptor.getProperties());
+        return entry;
+    }
+    
+    private int propertySetIndex(Map<String, String> properties) {
+        return propertySetIndices.computeIfAbsent(properties, key -> {
+            file.getPropertySets().add(new LinkedHashMap<>(key));
+            return file.getPropertySets().size() - 1;
+        });
+    }
+    
+    private int dependencyListIndex(List<Dependency> dependencies) {
+        Integer index = dependencyListIndices.get(dependencies);
+        if (index != null) {
+            return index;
+        }
+        List<DescriptorCacheFile.Dependency> encoded = new ArrayList<>(dependencies.size());
+        for (Dependency dependency : dependencies) {
+            encoded.add(encodeDependency(dependency));
+        }
+        file.getDependencyLists().add(encoded);
+        dependencyListIndices.put(dependencies, file.getDependencyLists().size() - 1);
+        return file.getDependencyLists().size() - 1;
+    }
+    
+    private DescriptorCacheFile.Dependency encodeDependency(Dependency dependency) {
+        DescriptorCacheFile.Dependency encoded = new DescriptorCacheFile.Dependency();
+        encoded.setArtifact(coordinates(dependency.getArtifact()));
+        encoded.setProperties(propertySetIndex(dependency.getArtifact().getProperties()));
+        encoded.setScope(dependency.getScope());
+        encoded.setOptional(dependency.getOptional());
+        if (!dependency.getExclusions().isEmpty()) {
+            List<String> exclusions = new ArrayList<>();
+            for (Exclusion exclusion : dependency.getExclusions()) {
+                exclusions.add(String.join(SEPARATOR, exclusion.getGroupId(), exclusion.getArtifactId(),
+                        exclusion.getClassifier(), exclusion.getExtension()));
+            }
+            encoded.setExclusions(exclusions);
+        }
+        return encoded;
+    }
+    
+    private static Dependency decodeDependency(DescriptorCacheFile.Dependency encoded, List<Map<String, String>> propertySets) {
+        List<Exclusion> exclusions = new ArrayList<>();
+        if (encoded.getExclusions() != null) {
+            for (String exclusion : encoded.getExclusions()) {
+                String[] parts = exclusion.split(SEPARATOR, -1);
+                exclusions.add(new Exclusion(parts[0], parts[1], parts[2], parts[3]));
+            }
+        }
+        Artifact artifact = decodeArtifact(encoded.getArtifact(), propertySets.get(encoded.getProperties()));
+        return new Dependency(artifact, encoded.getScope(), encoded.getOptional(), exclusions);
+    }
+    
+    private static List<String> encodeArtifacts(List<Artifact> artifacts) {
+        if (artifacts.isEmpty()) {
+            return null;
+        }
+        List<String> encoded = new ArrayList<>(artifacts.size());
+        artifacts.forEach(artifact -> encoded.add(coordinates(artifact)));
+        return encoded;
+    }
+    
+    private static List<Artifact> decodeArtifacts(List<String> encoded) {
+        List<Artifact> artifacts = new ArrayList<>();
+        if (encoded != null) {
+            encoded.forEach(coordinates -> artifacts.add(decodeArtifact(coordinates, Map.of())));
+        }
+        return List.copyOf(artifacts);
+    }
+    
+    private static String coordinates(Artifact artifact) {
+        return CachedDescriptor.key(artifact);
+    }
+    
+    private static Artifact decodeArtifact(String coordinates, Map<String, String> properties) {
+        String[] parts = coordinates.split(SEPARATOR, -1);
+        return new DefaultArtifact(parts[0], parts[1], parts[3], parts[2], parts[4], properties, (File) null);
+    }
+    
+    private static DescriptorCacheFile.Repository encodeRepository(RemoteRepository repository) {
+        DescriptorCacheFile.Repository encoded = new DescriptorCacheFile.Repository();
+        encoded.setId(repository.getId());
+        encoded.setUrl(repository.getUrl());
+        encoded.setContentType(repository.getContentType());
+        encoded.setReleases(encodePolicy(repository.getPolicy(false)));
+        encoded.setSnapshots(encodePolicy(repository.getPolicy(true)));
+        return encoded;
+    }
+    
+    private static RemoteRepository decodeRepository(DescriptorCacheFile.Repository encoded) {
+        return new RemoteRepository.Builder(encoded.getId(), encoded.getContentType(), encoded.getUrl())
+                .setReleasePolicy(decodePolicy(encoded.getReleases()))
+                .setSnapshotPolicy(decodePolicy(encoded.getSnapshots()))
+                .build();
+    }
+    
+    private static DescriptorCacheFile.Policy encodePolicy(RepositoryPolicy policy) {
+        DescriptorCacheFile.Policy encoded = new DescriptorCacheFile.Policy();
+        encoded.setEnabled(policy.isEnabled());
+        encoded.setUpdatePolicy(policy.getUpdatePolicy());
+        encoded.setChecksumPolicy(policy.getChecksumPolicy());
+        return encoded;
+    }
+    
+    private static RepositoryPolicy decodePolicy(DescriptorCacheFile.Policy encoded) {
+        if (encoded == null) {
+            return new RepositoryPolicy();
+        }
+        return new RepositoryPolicy(encoded.isEnabled(), encoded.getUpdatePolicy(), encoded.getChecksumPolicy());
+    }
+}
\ No newline at end of file
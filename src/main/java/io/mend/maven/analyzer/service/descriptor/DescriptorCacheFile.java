@@ -0,0 +1,160 @@
+package io.mend.maven.analyzer.service.descriptor;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * On-disk layout of the {@link ArtifactDescriptorCache}: one entry per artifact descriptor, holding
+ * what the resolver needs from the effective POM and the POM files it was built from.
+ *
+ * Dependency lists and artifact property sets are stored once in tables and referenced by index, since
+ * every artifact importing the same BOM has the same, often long, list of managed dependencies.
+ */
+@Data
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class DescriptorCacheFile {
+    
+    /** Bumped whenever the layout changes; cache files of another version are ignored. */
+    public static final int FORMAT_VERSION = 1;
+    
+    @JsonProperty("formatVersion")
+    private int formatVersion = FORMAT_VERSION;
+    
+    /** Hash of the session properties the descriptors were built with, which profile activation and interpolation see. */
+    @JsonProperty("contextKey")
+    private String contextKey;
+    
+    @JsonProperty("propertySets")
+    private List<Map<String, String>> propertySets = new ArrayList<>();
+    
+    @JsonProperty("dependencyLists")
+    private List<List<Dependency>> dependencyLists = new ArrayList<>();
+    
+    @JsonProperty("entries")
+    private List<Entry> entries = new ArrayList<>();
+    
+    @Data
+    @NoArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class Entry {
+        
+        /** Requested artifact as groupId:artifactId:extension:classifier:version. */
+        @JsonProperty("key")
+        private String key;
+        
+        /** The POM and its parents, in the order they were resolved; the entry is valid while none has changed. */
+        @JsonProperty("files")
+        private List<PomFile> files = new ArrayList<>();
+        
+        /** Artifact the descriptor describes, which differs from the key after a relocation. */
+        @JsonProperty("artifact")
+        private String artifact;
+        
+        /** Index into the property sets. */
+        @JsonProperty("artifactProperties")
+        private int artifactProperties;
+        
+        /** Relocations and aliases as groupId:artifactId:extension:classifier:version. */
+        @JsonProperty("relocations")
+        private List<String> relocations;
+        
+        @JsonProperty("aliases")
+        private List<String> aliases;
+        
+        /** Index into the dependency lists. */
+        @JsonProperty("dependencies")
+        private int dependencies;
+        
+        /** Index into the dependency lists. */
+        @JsonProperty("managedDependencies")
+        private int managedDependencies;
+        
+        @JsonProperty("repositories")
+        private List<Repository> repositories;
+        
+        @JsonProperty("properties")
+        private Map<String, String> properties;
+    }
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class PomFile {
+        
+        @JsonProperty("path")
+        private String path;
+        
+        @JsonProperty("size")
+        private long size;
+        
+        @JsonProperty("lastModified")
+        private long lastModified;
+    }
+    
+    @Data
+    @NoArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class Dependency {
+        
+        /** Artifact as groupId:artifactId:extension:classifier:version. */
+        @JsonProperty("artifact")
+        private String artifact;
+        
+        /** Index into the property sets. */
+        @JsonProperty("properties")
+        private int properties;
+        
+        @JsonProperty("scope")
+        private String scope;
+        
+        @JsonProperty("optional")
+        private Boolean optional;
+        
+        /** Exclusions as groupId:artifactId:classifier:extension. */
+        @JsonProperty("exclusions")
+        private List<String> exclusions;
+    }
+    
+    @Data
+    @NoArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class Repository {
+        
+        @JsonProperty("id")
+        private String id;
+        
+        @JsonProperty("url")
+        private String url;
+        
+        @JsonProperty("contentType")
+        private String contentType;
+        
+        @JsonProperty("releases")
+        private Policy releases;
+        
+        @JsonProperty("snapshots")
+        private Policy snapshots;
+    }
+    
+    @Data
+    @NoArgsConstructor
+    public static class Policy {
+        
+        @JsonProperty("enabled")
+        private boolean enabled;
+        
+        @JsonProperty("updatePolicy")
+        private String updatePolicy;
+        
+        @JsonProperty("checksumPolicy")
+        private String checksumPolicy;
+    }
+}
\ No newline at end of file
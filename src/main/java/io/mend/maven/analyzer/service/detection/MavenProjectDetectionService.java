@@ -48,4 +48,11 @@ public class MavenProjectDetectionService {
     public String getEffectiveVersion(@NonNull Model model) {
         return extractor.getEffectiveVersion(model);
     }
+    
+    /**
+     * Gets the effective groupId:artifactId:version coordinates of the project.
+     */
+    public String getProjectId(@NonNull Model model) {
+        return extractor.getProjectId(model);
+    }
 }
\ No newline at end of file
@@ -29,6 +29,13 @@ public class ModelPropertyExtractor {
         return getEffectiveProperty(model, Model::getVersion, Parent::getVersion);
     }
     
+    /**
+     * Gets the effective groupId:artifactId:version coordinates of the project.
+     */
+    public String getProjectId(@NonNull Model model) {
+        return getEffectiveGroupId(model) + ":" + model.getArtifactId() + ":" + getEffectiveVersion(model);
+    }
+    
     private String getEffectiveProperty(@NonNull Model model, 
                                         @NonNull Function<Model, String> modelGetter,
                                         @NonNull Function<Parent, String> parentGetter) {
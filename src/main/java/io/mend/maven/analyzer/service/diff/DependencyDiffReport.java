@@ -0,0 +1,49 @@
+package io.mend.maven.analyzer.service.diff;
+
+import io.mend.maven.analyzer.model.response.DependencyChange;
+import io.mend.maven.analyzer.model.response.DependencyDiff;
+import io.mend.maven.analyzer.util.DependencyUtils;
+import lombok.NonNull;
+import lombok.experimental.UtilityClass;
+
+import java.io.PrintStream;
+import java.util.List;
+
+/**
+ * Prints a {@link DependencyDiff} as one line per change followed by the totals.
+ */
+@UtilityClass
+public class DependencyDiffReport {
+    
+    private static final String PATH_SEPARATOR = " > ";
+    
+    public static void print(@NonNull PrintStream out, @NonNull DependencyDiff diff) {
+        for (DependencyChange change : diff.getChanges()) {
+            out.println("  " + describe(change));
+            List<String> path = change.getPath();
+            if (path != null && path.size() > 1) {
+                out.println("      via " + String.join(PATH_SEPARATOR, path.subList(0, path.size() - 1)));
+            }
+        }
+        
+        out.println();
+        if (diff.isIdentical()) {
+            out.println("✓ No dependency changes");
+            return;
+        }
+        out.printf("✓ %d added, %d removed, %d version changed, %d hash changed%n",
+                diff.getAdded(), diff.getRemoved(), diff.getVersionChanged(), diff.getHashChanged());
+    }
+    
+    private static String describe(DependencyChange change) {
+        String artifact = DependencyUtils.formatArtifactKey(change.getGroupId(), change.getArtifactId(),
+                change.getClassifier(), change.getExtension());
+        return switch (change.getType()) {
+            case ADDED -> "+ " + artifact + ":" + change.getNewVersion() + " (" + change.getScope() + ")";
+            case REMOVED -> "- " + artifact + ":" + change.getOldVersion() + " (" + change.getScope() + ")";
+            case VERSION_CHANGED -> "~ " + artifact + " " + change.getOldVersion() + " -> " + change.getNewVersion();
+            case HASH_CHANGED -> "! " + artifact + ":" + change.getNewVersion() + " sha1 "
+                    + change.getOldSha1() + " -> " + change.getNewSha1();
+        };
+    }
+}
\ No newline at end of file
@@ -0,0 +1,88 @@
+package io.mend.maven.analyzer.service.diff;
+
+import io.mend.maven.analyzer.model.response.AnalysisResult;
+import io.mend.maven.analyzer.model.response.DependencyChange;
+import io.mend.maven.analyzer.model.response.DependencyDiff;
+import lombok.NonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Compares two analysis results: dependencies added, removed, changed in version, or whose JAR hash
+ * changed at the same version, each with its path from a direct dependency.
+ *
+ * Both sides are hash-indexed by artifact, so a comparison is linear in the number of
+ * dependencies; when both results carry the same tree fingerprint no nodes are compared at all.
+ */
+public class DependencyDiffService {
+    
+    private final DependencyIndexReader indexReader = new DependencyIndexReader();
+    
+    /**
+     * Compares two output files, each either a JSON report or an NDJSON record stream.
+     */
+    public DependencyDiff diff(@NonNull Path oldFile, @NonNull Path newFile) throws IOException {
+        return diff(indexReader.read(oldFile), indexReader.read(newFile));
+    }
+    
+    public DependencyDiff diff(@NonNull AnalysisResult oldResult, @NonNull AnalysisResult newResult) {
+        return diff(DependencyIndex.of(oldResult), DependencyIndex.of(newResult));
+    }
+    
+    public DependencyDiff diff(@NonNull DependencyIndex oldIndex, @NonNull DependencyIndex newIndex) {
+        DependencyDiff diff = DependencyDiff.builder()
+                .oldFingerprint(oldIndex.getFingerprint())
+                .newFingerprint(newIndex.getFingerprint())
+                .build();
+        if (oldIndex.getFingerprint() != null && oldIndex.getFingerprint().equals(newIndex.getFingerprint())) {
+            diff.setIdentical(true);
+            return diff;
+        }
+        
+        List<DependencyChange> changes = new ArrayList<>();
+        for (DependencyIndex.Node newNode : newIndex.getNodes()) {
+            DependencyIndex.Node oldNode = oldIndex.get(newNode);
+            if (oldNode == null) {
+                changes.add(change(DependencyChange.Type.ADDED, null, newNode));
+                diff.setAdded(diff.getAdded() + 1);
+            } else if (!Objects.equals(oldNode.getVersion(), newNode.getVersion())) {
+                changes.add(change(DependencyChange.Type.VERSION_CHANGED, oldNode, newNode));
+                diff.setVersionChanged(diff.getVersionChanged() + 1);
+            } else if (!Objects.equals(oldNode.getSha1(), newNode.getSha1())) {
+                changes.add(change(DependencyChange.Type.HASH_CHANGED, oldNode, newNode));
+                diff.setHashChanged(diff.getHashChanged() + 1);
+            }
+        }
+        for (DependencyIndex.Node oldNode : oldIndex.getNodes()) {
+            if (newIndex.get(oldNode) == null) {
+                changes.add(change(DependencyChange.Type.REMOVED, oldNode, null));
+                diff.setRemoved(diff.getRemoved() + 1);
+            }
+        }
+        
+        diff.setChanges(changes);
+        diff.setIdentical(changes.isEmpty());
+        return diff;
+    }
+    
+    private static DependencyChange change(DependencyChange.Type type, DependencyIndex.Node oldNode, DependencyIndex.Node newNode) {
+        DependencyIndex.Node current = newNode != null ? newNode : oldNode;
+        return DependencyChange.builder()
+                .type(type)
+                .groupId(current.getGroupId())
+                .artifactId(current.getArtifactId())
+                .classifier(current.getClassifier())
+                .extension(current.getExtension())
+                .oldVersion(oldNode != null ? oldNode.getVersion() : null)
+                .newVersion(newNode != null ? newNode.getVersion() : null)
+                .scope(current.getScope())
+                .oldSha1(oldNode != null ? oldNode.getSha1() : null)
+                .newSha1(newNode != null ? newNode.getSha1() : null)
+                .path(current.getPath())
+                .build();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,163 @@
+package io.mend.maven.analyzer.service.diff;
+
+import io.mend.maven.analyzer.model.entity.AnalyzedDependency;
+import io.mend.maven.analyzer.model.entity.CompactDependency;
+import io.mend.maven.analyzer.model.response.AnalysisResult;
+import io.mend.maven.analyzer.util.DependencyUtils;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Flat, hash-indexed table of the dependencies in one analysis result, keyed by groupId and artifactId,
+ * plus the extension and classifier of an artifact other than the main JAR.
+ *
+ * Nodes keep only their coordinates, hash and a reference to their parent, so a path is rebuilt on
+ * demand instead of being stored per node. When the same artifact occurs more than once,
+ * the first occurrence read is indexed.
+ */
+public class DependencyIndex {
+    
+    private final Map<String, Node> nodesByKey = new HashMap<>();
+    private final List<Node> nodes = new ArrayList<>();
+    
+    @Getter
+    @Setter(AccessLevel.PACKAGE)
+    private String fingerprint;
+    
+    /**
+     * Indexes an in-memory dependency tree together with its root fingerprint, which may be null.
+     */
+    public static DependencyIndex of(List<AnalyzedDependency> dependencies, String fingerprint) {
+        DependencyIndex index = new DependencyIndex();
+        index.fingerprint = fingerprint;
+        index.addAll(dependencies, null);
+        return index;
+    }
+    
+    /**
+     * Indexes the tree of an in-memory result, in whichever form it is held.
+     */
+    public static DependencyIndex of(@NonNull AnalysisResult result) {
+        if (result.getCompactDependencies() == null) {
+            return of(result.getDependencies(), result.getFingerprint());
+        }
+        DependencyIndex index = new DependencyIndex();
+        index.fingerprint = result.getFingerprint();
+        index.addAllCompact(result.getCompactDependencies(), null);
+        return index;
+    }
+    
+    private void addAllCompact(List<CompactDependency> dependencies, Node parent) {
+        for (CompactDependency dependency : dependencies) {
+            Node node = new Node(parent);
+            node.setCoordinates(dependency.getGroupId(), dependency.getArtifactId(), dependency.getClassifier(),
+                    dependency.getExtension(), dependency.getVersion(), dependency.getScope(), dependency.getSha1());
+            add(node);
+            addAllCompact(dependency.getChildren(), node);
+        }
+    }
+    
+    private void addAll(List<AnalyzedDependency> dependencies, Node parent) {
+        if (dependencies == null) {
+            return;
+        }
+        for (AnalyzedDependency dependency : dependencies) {
+            Node node = new Node(parent);
+            node.setCoordinates(dependency.getGroupId(), dependency.getArtifactId(), dependency.getClassifier(),
+                    dependency.getExtension(), dependency.getVersion(), dependency.getScope(), dependency.getSha1());
+            add(node);
+            addAll(dependency.getChildren(), node);
+        }
+    }
+    
+    void add(@NonNull Node node) {
+        if (node.groupId == null || node.artifactId == null) {
+            return;
+        }
+        if (nodesByKey.putIfAbsent(node.getArtifactKey(), node) == null) {
+            nodes.add(node);
+        }
+    }
+    
+    public Node get(@NonNull String groupId, @NonNull String artifactId) {
+        return nodesByKey.get(DependencyUtils.formatArtifactKey(groupId, artifactId, null, null));
+    }
+    
+    /**
+     * Returns the node of this index for the same artifact as a node of another index, whatever its version.
+     */
+    public Node get(@NonNull Node node) {
+        return nodesByKey.get(node.getArtifactKey());
+    }
+    
+    /**
+     * Returns the indexed nodes in the order they were read.
+     */
+    public Collection<Node> getNodes() {
+        return Collections.unmodifiableList(nodes);
+    }
+    
+    public int size() {
+        return nodes.size();
+    }
+    
+    @Getter
+    public static final class Node {
+        private final Node parent;
+        private String groupId;
+        private String artifactId;
+        private String classifier;
+        private String extension;
+        private String version;
+        private String scope;
+        private String sha1;
+        
+        Node(Node parent) {
+            this.parent = parent;
+        }
+        
+        void setCoordinates(String groupId, String artifactId, String classifier, String extension, String version,
+                            String scope, String sha1) {
+            this.groupId = intern(groupId);
+            this.artifactId = intern(artifactId);
+            this.classifier = intern(classifier);
+            this.extension = intern(extension);
+            this.version = intern(version);
+            this.scope = intern(scope);
+            this.sha1 = sha1;
+        }
+        
+        /**
+         * Returns the coordinates of every node from the direct dependency down to this one.
+         */
+        public List<String> getPath() {
+            List<String> path = new ArrayList<>();
+            for (Node current = this; current != null; current = current.parent) {
+                path.add(current.getCoordinates());
+            }
+            Collections.reverse(path);
+            return path;
+        }
+        
+        public String getCoordinates() {
+            return DependencyUtils.formatCoordinates(groupId, artifactId, classifier, extension, version);
+        }
+        
+        private String getArtifactKey() {
+            return DependencyUtils.formatArtifactKey(groupId, artifactId, classifier, extension);
+        }
+        
+        private static String intern(String value) {
+            return value != null ? value.intern() : null;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,164 @@
+package io.mend.maven.analyzer.service.diff;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import lombok.NonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Streams an analysis output file into a {@link DependencyIndex} without materializing the tree.
+ *
+ * Accepts the JSON report, whether written from {@code AnalyzedDependency} or {@code CompactDependency}
+ * nodes, and NDJSON record streams; each top-level object is inspected, so no format flag is needed.
+ */
+public class DependencyIndexReader {
+    
+    private static final String FIELD_DEPENDENCIES = "dependencies";
+    private static final String FIELD_CHILDREN = "children";
+    private static final String FIELD_FINGERPRINT = "fingerprint";
+    private static final String FIELD_ID = "id";
+    private static final String FIELD_PARENT_ID = "parentId";
+    private static final String FIELD_GROUP_ID = "groupId";
+    private static final String FIELD_ARTIFACT_ID = "artifactId";
+    private static final String FIELD_CLASSIFIER = "classifier";
+    private static final String FIELD_EXTENSION = "extension";
+    private static final String FIELD_VERSION = "version";
+    private static final String FIELD_SCOPE = "scope";
+    private static final String FIELD_SHA1 = "sha1";
+    private static final String FIELD_OMITTED = "omitted";
+    
+    private final JsonFactory jsonFactory = new JsonFactory();
+    
+    public DependencyIndex read(@NonNull Path file) throws IOException {
+        try (InputStream inputStream = Files.newInputStream(file)) {
+            return read(inputStream, file.toString());
+        }
+    }
+    
+    public DependencyIndex read(@NonNull InputStream inputStream, @NonNull String sourceName) throws IOException {
+        DependencyIndex index = new DependencyIndex();
+        Map<String, DependencyIndex.Node> recordsById = new HashMap<>();
+        
+        try (JsonParser parser = jsonFactory.createParser(inputStream)) {
+            JsonToken token;
+            while ((token = parser.nextToken()) != null) {
+                if (token != JsonToken.START_OBJECT) {
+                    throw new IOException("Expected a JSON object in " + sourceName + " at " + parser.currentLocation());
+                }
+                readTopLevelObject(parser, index, recordsById);
+            }
+        }
+        return index;
+    }
+    
+    /**
+     * Reads either a whole report or a single NDJSON record; records name their parent by ID, and
+     * parents are always written before their children.
+     */
+    private void readTopLevelObject(JsonParser parser, DependencyIndex index,
+                                    Map<String, DependencyIndex.Node> recordsById) throws IOException {
+        NodeFields fields = new NodeFields();
+        String id = null;
+        String parentId = null;
+        
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case FIELD_DEPENDENCIES -> readDependencies(parser, index, null);
+                case FIELD_FINGERPRINT -> index.setFingerprint(parser.getValueAsString());
+                case FIELD_ID -> id = parser.getValueAsString();
+                case FIELD_PARENT_ID -> parentId = parser.getValueAsString();
+                default -> fields.read(field, parser);
+            }
+        }
+        
+        if (id != null && fields.omitted == null) {
+            DependencyIndex.Node node = new DependencyIndex.Node(parentId != null ? recordsById.get(parentId) : null);
+            fields.applyTo(node);
+            recordsById.put(id, node);
+            index.add(node);
+        }
+    }
+    
+    private void readDependencies(JsonParser parser, DependencyIndex index, DependencyIndex.Node parent) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return;
+        }
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            readDependency(parser, index, parent);
+        }
+    }
+    
+    private void readDependency(JsonParser parser, DependencyIndex index, DependencyIndex.Node parent) throws IOException {
+        DependencyIndex.Node node = new DependencyIndex.Node(parent);
+        NodeFields fields = new NodeFields();
+        boolean indexed = false;
+        
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            if (FIELD_CHILDREN.equals(field)) {
+                // Index the parent first so that repeated artifacts resolve to the same occurrence as in NDJSON
+                if (fields.hasCoordinates() && fields.omitted == null) {
+                    fields.applyTo(node);
+                    index.add(node);
+                    indexed = true;
+                }
+                readDependencies(parser, index, node);
+            } else {
+                fields.read(field, parser);
+            }
+        }
+        
+        fields.applyTo(node);
+        // Conflict losers of verbose graphs are not part of the resolved graph
+        if (!indexed && fields.omitted == null) {
+            index.add(node);
+        }
+    }
+    
+    /**
+     * Scalar fields of one node, collected in whatever order they appear.
+     */
+    private static final class NodeFields {
+        private String groupId;
+        private String artifactId;
+        private String classifier;
+        private String extension;
+        private String version;
+        private String scope;
+        private String sha1;
+        private String omitted;
+        
+        private void read(String field, JsonParser parser) throws IOException {
+            switch (field) {
+                case FIELD_GROUP_ID -> groupId = parser.getValueAsString();
+                case FIELD_ARTIFACT_ID -> artifactId = parser.getValueAsString();
+                case FIELD_CLASSIFIER -> classifier = parser.getValueAsString();
+                case FIELD_EXTENSION -> extension = parser.getValueAsString();
+                case FIELD_VERSION -> version = parser.getValueAsString();
+                case FIELD_SCOPE -> scope = parser.getValueAsString();
+                case FIELD_SHA1 -> sha1 = parser.getValueAsString();
+                case FIELD_OMITTED -> omitted = parser.getValueAsString();
+                default -> parser.skipChildren();
+            }
+        }
+        
+        private boolean hasCoordinates() {
+            return groupId != null && artifactId != null;
+        }
+        
+        private void applyTo(DependencyIndex.Node node) {
+            node.setCoordinates(groupId, artifactId, classifier, extension, version, scope, sha1);
+        }
+    }
+}
\ No newline at end of file
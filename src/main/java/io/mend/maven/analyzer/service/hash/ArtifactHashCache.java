@@ -0,0 +1,104 @@
+package io.mend.maven.analyzer.service.hash;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * SHA1 hashes of local repository JARs carried over from an earlier run.
+ *
+ * A recorded hash is reused while the JAR still has the recorded size and modification time; anything
+ * else is hashed again. Only the entries looked up during this run are returned by {@link #toEntries},
+ * so artifacts that dropped out of the graph are not carried forward. An instance is meant for one
+ * analysis on one thread.
+ */
+public class ArtifactHashCache {
+    
+    /** Cache that never hits and records nothing, used for full analyses. */
+    public static final ArtifactHashCache DISABLED = new ArtifactHashCache(false, List.of());
+    
+    @Getter
+    private final boolean enabled;
+    private final Map<String, Entry> previous = new HashMap<>();
+    private final Map<String, Entry> current = new LinkedHashMap<>();
+    @Getter
+    private int hits;
+    @Getter
+    private int misses;
+    
+    public ArtifactHashCache(List<Entry> entries) {
+        this(true, entries);
+    }
+    
+    private ArtifactHashCache(boolean enabled, List<Entry> entries) {
+        this.enabled = enabled;
+        if (entries != null) {
+            for (Entry entry : entries) {
+                previous.put(entry.getArtifact(), entry);
+            }
+        }
+    }
+    
+    /**
+     * Returns the recorded hash if the file is unchanged, or null if it has to be hashed.
+     */
+    public String lookup(String artifact, long size, long lastModified) {
+        if (!enabled) {
+            return null;
+        }
+        Entry entry = previous.get(artifact);
+        if (entry != null && entry.getSize() == size && entry.getLastModified() == lastModified) {
+            hits++;
+            current.put(artifact, entry);
+            return entry.getSha1();
+        }
+        misses++;
+        return null;
+    }
+    
+    public void store(String artifact, long size, long lastModified, String sha1) {
+        if (enabled) {
+            current.put(artifact, new Entry(artifact, size, lastModified, sha1));
+        }
+    }
+    
+    /**
+     * Returns the entry looked up or stored for the artifact during this run, or null.
+     */
+    public Entry getEntry(String artifact) {
+        return current.get(artifact);
+    }
+    
+    public List<Entry> toEntries() {
+        return new ArrayList<>(current.values());
+    }
+    
+    /**
+     * Hash of one JAR, keyed by its groupId:artifactId:version.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Entry {
+        
+        @JsonProperty("artifact")
+        private String artifact;
+        
+        @JsonProperty("size")
+        private long size;
+        
+        @JsonProperty("lastModified")
+        private long lastModified;
+        
+        @JsonProperty("sha1")
+        private String sha1;
+    }
+}
\ No newline at end of file
@@ -1,7 +1,12 @@
 package io.mend.maven.analyzer.service.hash;
 
 import io.mend.maven.analyzer.config.MavenResolverConfig;
+import io.mend.maven.analyzer.service.index.IndexedFile;
+import io.mend.maven.analyzer.service.jfr.ArtifactHashEvent;
+import io.mend.maven.analyzer.util.DependencyUtils;
 import org.apache.commons.codec.digest.DigestUtils;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.artifact.DefaultArtifact;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 
@@ -18,9 +23,67 @@ public class Sha1HashService {
         this.config = config;
     }
     
+    /**
+     * Returns the SHA1 of the artifact's JAR, taken from the repository index when the JAR is in it and
+     * hashed from the local repository otherwise.
+     */
     public String calculateSha1Hash(@NonNull String groupId, @NonNull String artifactId, @NonNull String version) {
-        File jarFile = getJarFile(groupId, artifactId, version);
-        return calculateSha1Hash(jarFile);
+        return calculateSha1Hash(jar(groupId, artifactId, version));
+    }
+    
+    /**
+     * Returns the SHA1 of the artifact's file, with its classifier and extension: the file the resolver
+     * resolved it to, or else its file in the local repository. A local repository file in the
+     * repository index is not read.
+     */
+    public String calculateSha1Hash(@NonNull Artifact artifact) {
+        IndexedFile indexed = findIndexedFile(artifact);
+        if (indexed != null) {
+            return indexed.getSha1();
+        }
+        File file = getArtifactFile(artifact);
+        
+        ArtifactHashEvent event = new ArtifactHashEvent();
+        long startNanos = System.nanoTime();
+        event.begin();
+        String sha1Hash = calculateSha1Hash(file);
+        if (event.isEnabled()) {
+            long fileSize = sha1Hash != null ? file.length() : 0L;
+            event.complete(artifact.getGroupId(), artifact.getArtifactId(), artifact.getVersion(), fileSize,
+                    sha1Hash != null, System.nanoTime() - startNanos);
+        }
+        return sha1Hash;
+    }
+    
+    public String calculateSha1Hash(@NonNull String groupId, @NonNull String artifactId, @NonNull String version,
+                                    @NonNull ArtifactHashCache hashCache) {
+        return calculateSha1Hash(jar(groupId, artifactId, version), hashCache);
+    }
+    
+    /**
+     * Returns the artifact's SHA1 from the cache while its file keeps the recorded size and modification
+     * time, and hashes it (updating the cache) otherwise. An indexed file is compared with the cache by its
+     * indexed size and modification time. Entries are keyed by the coordinates including classifier and
+     * extension, so the main JAR and, say, its test JAR are cached apart.
+     */
+    public String calculateSha1Hash(@NonNull Artifact artifact, @NonNull ArtifactHashCache hashCache) {
+        IndexedFile indexed = findIndexedFile(artifact);
+        File file = indexed == null ? getArtifactFile(artifact) : null;
+        if (!hashCache.isEnabled() || (indexed == null && !isValidJarFile(file))) {
+            return calculateSha1Hash(artifact);
+        }
+        
+        String key = DependencyUtils.formatCoordinates(artifact);
+        long size = indexed != null ? indexed.getSize() : file.length();
+        long lastModified = indexed != null ? indexed.getLastModified() : file.lastModified();
+        String sha1Hash = hashCache.lookup(key, size, lastModified);
+        if (sha1Hash == null) {
+            sha1Hash = indexed != null ? indexed.getSha1() : calculateSha1Hash(artifact);
+            if (sha1Hash != null) {
+                hashCache.store(key, size, lastModified, sha1Hash);
+            }
+        }
+        return sha1Hash;
     }
     
     public String calculateSha1Hash(File file) {
@@ -36,11 +99,51 @@ public class Sha1HashService {
         }
     }
     
+    /**
+     * Returns the size in bytes of the artifact's JAR in the local repository, or 0 if it is missing.
+     */
+    public long getArtifactSize(@NonNull String groupId, @NonNull String artifactId, @NonNull String version) {
+        return getArtifactSize(jar(groupId, artifactId, version));
+    }
+    
+    /**
+     * Returns the size in bytes of the artifact's file, found as for {@link #calculateSha1Hash(Artifact)},
+     * or 0 if it is missing.
+     */
+    public long getArtifactSize(@NonNull Artifact artifact) {
+        IndexedFile indexed = findIndexedFile(artifact);
+        if (indexed != null) {
+            return indexed.getSize();
+        }
+        File file = getArtifactFile(artifact);
+        return isValidJarFile(file) ? file.length() : 0L;
+    }
+    
     private boolean isValidJarFile(File file) {
         return file != null && file.exists() && file.isFile();
     }
     
-    private File getJarFile(String groupId, String artifactId, String version) {
-        return config.getLocalRepositoryFile(groupId, artifactId, version);
+    /**
+     * Looks the artifact up in the repository index unless the resolver found it outside the local
+     * repository, as it does for a system-scoped JAR.
+     */
+    private IndexedFile findIndexedFile(Artifact artifact) {
+        if (artifact.getFile() != null && !isSameFile(artifact.getFile(), config.getLocalRepositoryFile(artifact))) {
+            return null;
+        }
+        return config.findIndexedFile(artifact);
+    }
+    
+    private File getArtifactFile(Artifact artifact) {
+        return artifact.getFile() != null ? artifact.getFile() : config.getLocalRepositoryFile(artifact);
+    }
+    
+    private static boolean isSameFile(File file, File other) {
+        return other != null
+                && file.toPath().toAbsolutePath().normalize().equals(other.toPath().toAbsolutePath().normalize());
+    }
+    
+    private static Artifact jar(String groupId, String artifactId, String version) {
+        return new DefaultArtifact(groupId, artifactId, DependencyUtils.DEFAULT_EXTENSION, version);
     }
 }
\ No newline at end of file
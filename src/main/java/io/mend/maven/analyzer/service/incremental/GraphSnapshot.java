@@ -0,0 +1,164 @@
+package io.mend.maven.analyzer.service.incremental;
+
+import io.mend.maven.analyzer.service.hash.ArtifactHashCache;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * What an incremental analysis keeps between runs: the collected subtree of every direct dependency
+ * before conflict resolution, and the SHA1 of every JAR that was hashed.
+ *
+ * Subtrees are stored as flat node and child-list tables so that nodes and child lists the collector
+ * shared, including the back references of dependency cycles, come back shared after decoding.
+ */
+@Data
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class GraphSnapshot {
+    
+    /** Bumped whenever the layout changes; snapshots of another version are ignored. */
+    public static final int FORMAT_VERSION = 1;
+    
+    @JsonProperty("formatVersion")
+    private int formatVersion = FORMAT_VERSION;
+    
+    /** Hash of the repositories and dependency management the subtrees were collected with. */
+    @JsonProperty("contextKey")
+    private String contextKey;
+    
+    @JsonProperty("subtrees")
+    private List<Subtree> subtrees = new ArrayList<>();
+    
+    @JsonProperty("hashes")
+    private List<ArtifactHashCache.Entry> hashes = new ArrayList<>();
+    
+    /**
+     * Unresolved graph below one direct dependency; node 0 is the direct dependency itself.
+     */
+    @Data
+    @NoArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class Subtree {
+        
+        @JsonProperty("dependency")
+        private String dependency;
+        
+        @JsonProperty("repositories")
+        private List<Repository> repositories = new ArrayList<>();
+        
+        @JsonProperty("nodes")
+        private List<Node> nodes = new ArrayList<>();
+        
+        /** Child lists as node indices, referenced from {@link Node#getChildren()}. */
+        @JsonProperty("childLists")
+        private List<List<Integer>> childLists = new ArrayList<>();
+    }
+    
+    @Data
+    @NoArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class Node {
+        
+        @JsonProperty("groupId")
+        private String groupId;
+        
+        @JsonProperty("artifactId")
+        private String artifactId;
+        
+        @JsonProperty("extension")
+        private String extension;
+        
+        @JsonProperty("classifier")
+        private String classifier;
+        
+        @JsonProperty("version")
+        private String version;
+        
+        @JsonProperty("properties")
+        private Map<String, String> properties;
+        
+        @JsonProperty("scope")
+        private String scope;
+        
+        @JsonProperty("optional")
+        private Boolean optional;
+        
+        /** Exclusions as groupId:artifactId:classifier:extension. */
+        @JsonProperty("exclusions")
+        private List<String> exclusions;
+        
+        @JsonProperty("versionConstraint")
+        private String versionConstraint;
+        
+        @JsonProperty("resolvedVersion")
+        private String resolvedVersion;
+        
+        @JsonProperty("managedBits")
+        private int managedBits;
+        
+        /** Relocations and aliases as groupId:artifactId:extension:classifier:version. */
+        @JsonProperty("relocations")
+        private List<String> relocations;
+        
+        @JsonProperty("aliases")
+        private List<String> aliases;
+        
+        @JsonProperty("requestContext")
+        private String requestContext;
+        
+        /** Indices into the subtree's repositories. */
+        @JsonProperty("repositories")
+        private List<Integer> repositories;
+        
+        /** Index into the subtree's child lists. */
+        @JsonProperty("children")
+        private int children;
+    }
+    
+    @Data
+    @NoArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class Repository {
+        
+        @JsonProperty("id")
+        private String id;
+        
+        @JsonProperty("url")
+        private String url;
+        
+        @JsonProperty("contentType")
+        private String contentType;
+        
+        @JsonProperty("releases")
+        private Policy releases;
+        
+        @JsonProperty("snapshots")
+        private Policy snapshots;
+        
+        @JsonProperty("repositoryManager")
+        private boolean repositoryManager;
+        
+        @JsonProperty("blocked")
+        private boolean blocked;
+    }
+    
+    @Data
+    @NoArgsConstructor
+    public static class Policy {
+        
+        @JsonProperty("enabled")
+        private boolean enabled;
+        
+        @JsonProperty("updatePolicy")
+        private String updatePolicy;
+        
+        @JsonProperty("checksumPolicy")
+        private String checksumPolicy;
+    }
+}
\ No newline at end of file
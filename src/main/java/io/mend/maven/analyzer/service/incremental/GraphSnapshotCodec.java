@@ -0,0 +1,284 @@
+package io.mend.maven.analyzer.service.incremental;
+
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.eclipse.aether.graph.DefaultDependencyNode;
+import org.eclipse.aether.graph.Dependency;
+import org.eclipse.aether.graph.DependencyNode;
+import org.eclipse.aether.graph.Exclusion;
+import org.eclipse.aether.repository.RemoteRepository;
+import org.eclipse.aether.repository.RepositoryPolicy;
+import org.eclipse.aether.util.version.GenericVersionScheme;
+import org.eclipse.aether.version.InvalidVersionSpecificationException;
+import org.eclipse.aether.version.VersionConstraint;
+import org.eclipse.aether.version.VersionScheme;
+
+import java.io.File;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Converts between collected dependency subtrees and their {@link GraphSnapshot.Subtree} form,
+ * keeping node and child-list identity so that conflict resolution sees the same graph shape.
+ */
+final class GraphSnapshotCodec {
+    
+    private static final String SEPARATOR = ":";
+    private static final String LATEST = "LATEST";
+    private static final String RELEASE = "RELEASE";
+    
+    private final VersionScheme versionScheme = new GenericVersionScheme();
+    
+    /**
+     * Encodes the subtree below a direct dependency node, or returns null if it cannot be reused
+     * because it contains a version range, a snapshot or a LATEST/RELEASE version, whose outcome can
+     * change without the POM changing.
+     */
+    GraphSnapshot.Subtree encode(String dependencyKey, DependencyNode directNode) {
+        Encoder encoder = new Encoder();
+        encoder.nodeIndex(directNode);
+        while (!encoder.pending.isEmpty()) {
+            DependencyNode node = encoder.pending.poll();
+            if (isVolatile(node)) {
+                return null;
+            }
+            encoder.subtree.getNodes().set(encoder.nodeIndices.get(node), encoder.encodeNode(node));
+        }
+        encoder.subtree.setDependency(dependencyKey);
+        return encoder.subtree;
+    }
+    
+    /**
+     * Rebuilds the subtree, mapping each stored repository through the given function.
+     *
+     * @throws IllegalArgumentException if the subtree is malformed
+     */
+    DependencyNode decode(GraphSnapshot.Subtree subtree, Function<GraphSnapshot.Repository, RemoteRepository> repositoryMapper) {
+        List<RemoteRepository> repositories = new ArrayList<>();
+        for (GraphSnapshot.Repository repository : subtree.getRepositories()) {
+            repositories.add(repositoryMapper.apply(repository));
+        }
+        
+        List<GraphSnapshot.Node> encodedNodes = subtree.getNodes();
+        if (encodedNodes.isEmpty()) {
+            throw new IllegalArgumentException("Empty subtree for " + subtree.getDependency());
+        }
+        List<DefaultDependencyNode> nodes = new ArrayList<>(encodedNodes.size());
+        for (GraphSnapshot.Node encoded : encodedNodes) {
+            nodes.add(decodeNode(encoded, repositories));
+        }
+        
+        List<List<DependencyNode>> childLists = new ArrayList<>(subtree.getChildLists().size());
+        for (List<Integer> indices : subtree.getChildLists()) {
+            List<DependencyNode> children = new ArrayList<>(indices.size());
+            for (int index : indices) {
+                children.add(nodes.get(index));
+            }
+            childLists.add(children);
+        }
+        for (int i = 0; i < nodes.size(); i++) {
+            nodes.get(i).setChildren(childLists.get(encodedNodes.get(i).getChildren()));
+        }
+        return nodes.get(0);
+    }
+    
+    private static boolean isVolatile(DependencyNode node) {
+        VersionConstraint constraint = node.getVersionConstraint();
+        if (constraint != null && constraint.getRange() != null) {
+            return true;
+        }
+        Artifact artifact = node.getArtifact();
+        if (artifact == null) {
+            return false;
+        }
+        String baseVersion = artifact.getBaseVersion();
+        return artifact.isSnapshot() || LATEST.equals(baseVersion) || RELEASE.equals(baseVersion);
+    }
+    
+    private DefaultDependencyNode decodeNode(GraphSnapshot.Node encoded, List<RemoteRepository> repositories) {
+        Artifact artifact = new DefaultArtifact(encoded.getGroupId(), encoded.getArtifactId(), encoded.getClassifier(),
+                encoded.getExtension(), encoded.getVersion(), encoded.getProperties(), (File) null);
+        List<Exclusion> exclusions = new ArrayList<>();
+        if (encoded.getExclusions() != null) {
+            for (String exclusion : encoded.getExclusions()) {
+                String[] parts = exclusion.split(SEPARATOR, -1);
+                exclusions.add(new Exclusion(parts[0], parts[1], parts[2], parts[3]));
+            }
+        }
+        
+        DefaultDependencyNode node = new DefaultDependencyNode(new Dependency(artifact, encoded.getScope(), encoded.getOptional(), exclusions));
+        try {
+            if (encoded.getVersionConstraint() != null) {
+                node.setVersionConstraint(versionScheme.parseVersionConstraint(encoded.getVersionConstraint()));
+            }
+            if (encoded.getResolvedVersion() != null) {
+                node.setVersion(versionScheme.parseVersion(encoded.getResolvedVersion()));
+            }
+        } catch (InvalidVersionSpecificationException e) {
+            throw new IllegalArgumentException("Invalid version in snapshot: " + e.getMessage(), e);
+        }
+        node.setManagedBits(encoded.getManagedBits());
+        node.setRelocations(decodeArtifacts(encoded.getRelocations()));
+        node.setAliases(decodeArtifacts(encoded.getAliases()));
+        node.setRequestContext(encoded.getRequestContext());
+        
+        List<RemoteRepository> nodeRepositories = new ArrayList<>();
+        if (encoded.getRepositories() != null) {
+            for (int index : encoded.getRepositories()) {
+                nodeRepositories.add(repositories.get(index));
+            }
+        }
+        node.setRepositories(nodeRepositories);
+        return node;
+    }
+    
+    private static List<String> encodeArtifacts(Collection<? extends Artifact> artifacts) {
+        if (artifacts == null || artifacts.isEmpty()) {
+            return null;
+        }
+        List<String> encoded = new ArrayList<>(artifacts.size());
+        for (Artifact artifact : artifacts) {
+            encoded.add(String.join(SEPARATOR, artifact.getGroupId(), artifact.getArtifactId(),
+                    artifact.getExtension(), artifact.getClassifier(), artifact.getVersion()));
+        }
+        return encoded;
+    }
+    
+    private static List<Artifact> decodeArtifacts(List<String> encoded) {
+        List<Artifact> artifacts = new ArrayList<>();
+        if (encoded != null) {
+            for (String coordinates : encoded) {
+                String[] parts = coordinates.split(SEPARATOR, -1);
+                artifacts.add(new DefaultArtifact(parts[0], parts[1], parts[3], parts[2], parts[4]));
+            }
+        }
+        return artifacts;
+    }
+    
+    static GraphSnapshot.Repository encodeRepository(RemoteRepository repository) {
+        GraphSnapshot.Repository encoded = new GraphSnapshot.Repository();
+        encoded.setId(repository.getId());
+        encoded.setUrl(repository.getUrl());
+        encoded.setContentType(repository.getContentType());
+        encoded.setReleases(encodePolicy(repository.getPolicy(false)));
+        encoded.setSnapshots(encodePolicy(repository.getPolicy(true)));
+        encoded.setRepositoryManager(repository.isRepositoryManager());
+        encoded.setBlocked(repository.isBlocked());
+        return encoded;
+    }
+    
+    /**
+     * Rebuilds a repository without authentication or proxy, which the caller adds from the session.
+     */
+    static RemoteRepository.Builder decodeRepository(GraphSnapshot.Repository encoded) {
+        return new RemoteRepository.Builder(encoded.getId(), encoded.getContentType(), encoded.getUrl())
+                .setReleasePolicy(decodePolicy(encoded.getReleases()))
+                .setSnapshotPolicy(decodePolicy(encoded.getSnapshots()))
+                .setRepositoryManager(encoded.isRepositoryManager())
+                .setBlocked(encoded.isBlocked());
+    }
+    
+    private static GraphSnapshot.Policy encodePolicy(RepositoryPolicy policy) {
+        GraphSnapshot.Policy encoded = new GraphSnapshot.Policy();
+        encoded.setEnabled(policy.isEnabled());
+        encoded.setUpdatePolicy(policy.getUpdatePolicy());
+        encoded.setChecksumPolicy(policy.getChecksumPolicy());
+        return encoded;
+    }
+    
+    private static RepositoryPolicy decodePolicy(GraphSnapshot.Policy encoded) {
+        if (encoded == null) {
+            return new RepositoryPolicy();
+        }
+        return new RepositoryPolicy(encoded.isEnabled(), encoded.getUpdatePolicy(), encoded.getChecksumPolicy());
+    }
+    
+    /**
+     * Numbers nodes, child lists and repositories by identity in breadth-first order.
+     */
+    private static final class Encoder {
+        private final GraphSnapshot.Subtree subtree = new GraphSnapshot.Subtree();
+        private final Map<DependencyNode, Integer> nodeIndices = new IdentityHashMap<>();
+        private final Map<List<DependencyNode>, Integer> childListIndices = new IdentityHashMap<>();
+        private final Map<RemoteRepository, Integer> repositoryIndices = new HashMap<>();
+        private final Deque<DependencyNode> pending = new ArrayDeque<>();
+        
+        private int nodeIndex(DependencyNode node) {
+            Integer index = nodeIndices.get(node);
+            if (index == null) {
+                index = subtree.getNodes().size();
+                nodeIndices.put(node, index);
+                subtree.getNodes().add(null);
+                pending.add(node);
+            }
+            return index;
+        }
+        
+        private int childListIndex(List<DependencyNode> children) {
+            Integer index = childListIndices.get(children);
+            if (index == null) {
+                index = subtree.getChildLists().size();
+                childListIndices.put(children, index);
+                List<Integer> indices = new ArrayList<>(children.size());
+                subtree.getChildLists().add(indices);
+                for (DependencyNode child : children) {
+                    indices.add(nodeIndex(child));
+                }
+            }
+            return index;
+        }
+        
+        private int repositoryIndex(RemoteRepository repository) {
+            return repositoryIndices.computeIfAbsent(repository, key -> {
+                subtree.getRepositories().add(encodeRepository(key));
+                return subtree.getRepositories().size() - 1;
+            });
+        }
+        
+        private GraphSnapshot.Node encodeNode(DependencyNode node) {
+            Dependency dependency = node.getDependency();
+            Artifact artifact = dependency.getArtifact();
+            GraphSnapshot.Node encoded = new GraphSnapshot.Node();
+            encoded.setGroupId(artifact.getGroupId());
+            encoded.setArtifactId(artifact.getArtifactId());
+            encoded.setExtension(artifact.getExtension());
+            encoded.setClassifier(artifact.getClassifier());
+            encoded.setVersion(artifact.getVersion());
+            encoded.setProperties(artifact.getProperties().isEmpty() ? null : artifact.getProperties());
+            encoded.setScope(dependency.getScope());
+            encoded.setOptional(dependency.getOptional());
+            if (!dependency.getExclusions().isEmpty()) {
+                List<String> exclusions = new ArrayList<>();
+                for (Exclusion exclusion : dependency.getExclusions()) {
+                    exclusions.add(String.join(SEPARATOR, exclusion.getGroupId(), exclusion.getArtifactId(),
+                            exclusion.getClassifier(), exclusion.getExtension()));
+                }
+                encoded.setExclusions(exclusions);
+            }
+            if (node.getVersionConstraint() != null) {
+                encoded.setVersionConstraint(node.getVersionConstraint().toString());
+            }
+            if (node.getVersion() != null) {
+                encoded.setResolvedVersion(node.getVersion().toString());
+            }
+            encoded.setManagedBits(node.getManagedBits());
+            encoded.setRelocations(encodeArtifacts(node.getRelocations()));
+            encoded.setAliases(encodeArtifacts(node.getAliases()));
+            encoded.setRequestContext(node.getRequestContext());
+            List<Integer> repositories = new ArrayList<>();
+            for (RemoteRepository repository : node.getRepositories()) {
+                repositories.add(repositoryIndex(repository));
+            }
+            encoded.setRepositories(repositories);
+            encoded.setChildren(childListIndex(node.getChildren()));
+            return encoded;
+        }
+    }
+}
\ No newline at end of file
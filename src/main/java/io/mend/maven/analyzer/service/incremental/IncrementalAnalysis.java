@@ -0,0 +1,125 @@
+package io.mend.maven.analyzer.service.incremental;
+
+import io.mend.maven.analyzer.model.response.IncrementalStatistics;
+import io.mend.maven.analyzer.service.hash.ArtifactHashCache;
+import io.mend.maven.analyzer.service.output.AtomicOutputWriter;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * State of one incremental analysis: the snapshot written by the previous run, and the snapshot for
+ * the next run as this one fills it in.
+ *
+ * A missing, unreadable or differently formatted snapshot file is treated as empty, which makes the
+ * first incremental run a full one. An instance is meant for one analysis on one thread.
+ */
+@Slf4j
+public class IncrementalAnalysis {
+    
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    
+    @Getter
+    private final Path snapshotFile;
+    private final GraphSnapshot previous;
+    @Getter
+    private final ArtifactHashCache hashCache;
+    private final GraphSnapshot next = new GraphSnapshot();
+    private int directDependencies;
+    private int reusedSubtrees;
+    private int collectedSubtrees;
+    
+    private IncrementalAnalysis(Path snapshotFile, GraphSnapshot previous) {
+        this.snapshotFile = snapshotFile;
+        this.previous = previous;
+        this.hashCache = new ArtifactHashCache(previous.getHashes());
+    }
+    
+    /**
+     * Starts an incremental analysis from the snapshot file, which need not exist yet.
+     */
+    public static IncrementalAnalysis load(@NonNull Path snapshotFile) {
+        return new IncrementalAnalysis(snapshotFile, readSnapshot(snapshotFile));
+    }
+    
+    private static GraphSnapshot readSnapshot(Path snapshotFile) {
+        if (!Files.isRegularFile(snapshotFile)) {
+            return new GraphSnapshot();
+        }
+        try (InputStream in = Files.newInputStream(snapshotFile)) {
+            GraphSnapshot snapshot = OBJECT_MAPPER.readValue(in, GraphSnapshot.class);
+            if (snapshot.getFormatVersion() == GraphSnapshot.FORMAT_VERSION) {
+                return snapshot;
+            }
+            log.warn("Ignoring graph snapshot {} with format version {}", snapshotFile, snapshot.getFormatVersion());
+        } catch (IOException e) {
+            log.warn("Ignoring unreadable graph snapshot {}: {}", snapshotFile, e.getMessage());
+        }
+        return new GraphSnapshot();
+    }
+    
+    /**
+     * Returns the previous run's subtrees by direct dependency key, or none if they were collected
+     * against other repositories or dependency management, and starts the next snapshot with this context.
+     */
+    Map<String, GraphSnapshot.Subtree> previousSubtrees(String contextKey) {
+        next.setContextKey(contextKey);
+        Map<String, GraphSnapshot.Subtree> subtrees = new HashMap<>();
+        if (contextKey.equals(previous.getContextKey()) && previous.getSubtrees() != null) {
+            for (GraphSnapshot.Subtree subtree : previous.getSubtrees()) {
+                subtrees.put(subtree.getDependency(), subtree);
+            }
+        }
+        return subtrees;
+    }
+    
+    /**
+     * Records the outcome for one direct dependency; a null subtree is not carried into the next snapshot.
+     */
+    void recordSubtree(GraphSnapshot.Subtree subtree, boolean reused) {
+        directDependencies++;
+        if (reused) {
+            reusedSubtrees++;
+        } else {
+            collectedSubtrees++;
+        }
+        if (subtree != null) {
+            next.getSubtrees().add(subtree);
+        }
+    }
+    
+    /**
+     * Writes the snapshot for the next run atomically, with the hashes looked up in this one.
+     */
+    public void save() throws IOException {
+        List<ArtifactHashCache.Entry> hashes = hashCache.toEntries();
+        next.setHashes(hashes);
+        try (AtomicOutputWriter writer = AtomicOutputWriter.open(snapshotFile.toString(), false)) {
+            OBJECT_MAPPER.writeValue(writer.getOutputStream(), next);
+            writer.commit();
+        }
+    }
+    
+    public IncrementalStatistics toStatistics() {
+        return IncrementalStatistics.builder()
+                .directDependencies(directDependencies)
+                .reusedSubtrees(reusedSubtrees)
+                .collectedSubtrees(collectedSubtrees)
+                .reusedHashes(hashCache.getHits())
+                .computedHashes(hashCache.getMisses())
+                .build();
+    }
+}
\ No newline at end of file
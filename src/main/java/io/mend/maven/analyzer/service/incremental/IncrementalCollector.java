@@ -0,0 +1,217 @@
+package io.mend.maven.analyzer.service.incremental;
+
+import io.mend.maven.analyzer.service.analysis.DependencySelection;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.eclipse.aether.DefaultRepositorySystemSession;
+import org.eclipse.aether.RepositoryException;
+import org.eclipse.aether.RepositorySystem;
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.collection.CollectRequest;
+import org.eclipse.aether.collection.CollectResult;
+import org.eclipse.aether.collection.DependencyCollectionException;
+import org.eclipse.aether.collection.DependencyGraphTransformationContext;
+import org.eclipse.aether.collection.DependencyGraphTransformer;
+import org.eclipse.aether.graph.DefaultDependencyNode;
+import org.eclipse.aether.graph.Dependency;
+import org.eclipse.aether.graph.DependencyNode;
+import org.eclipse.aether.graph.Exclusion;
+import org.eclipse.aether.repository.RemoteRepository;
+import org.eclipse.aether.util.ConfigUtils;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.function.Function;
+
+/**
+ * Collects a dependency graph, reusing the previous run's subtrees for direct dependencies that have
+ * not changed.
+ *
+ * The resolver's collector builds the whole graph and then runs the session's graph transformer
+ * (conflict resolution and scope derivation) over it. This does the same in two steps: the changed
+ * direct dependencies are collected in one request with the transformer switched off, their subtrees
+ * are merged in POM order with the decoded unchanged ones, and the transformer runs once over the
+ * merged graph. The depth-first collector builds a direct dependency's subtree from its own path only,
+ * so the merged graph resolves to the same tree as a full collection.
+ */
+@Slf4j
+public class IncrementalCollector {
+    
+    private final RepositorySystem repositorySystem;
+    private final GraphSnapshotCodec codec = new GraphSnapshotCodec();
+    
+    public IncrementalCollector(@NonNull RepositorySystem repositorySystem) {
+        this.repositorySystem = repositorySystem;
+    }
+    
+    /**
+     * Collects the request's graph like {@link RepositorySystem#collectDependencies}, recording every
+     * direct dependency's untransformed subtree in the incremental analysis for the next run.
+     */
+    public CollectResult collectDependencies(@NonNull RepositorySystemSession session, @NonNull CollectRequest request,
+                                             @NonNull IncrementalAnalysis incremental) throws DependencyCollectionException {
+        Map<String, GraphSnapshot.Subtree> previousSubtrees = incremental.previousSubtrees(contextKey(session, request));
+        Function<GraphSnapshot.Repository, RemoteRepository> repositoryMapper = repositoryMapper(session, request.getRepositories());
+        
+        List<Dependency> dependencies = request.getDependencies();
+        List<DependencyNode> directNodes = new ArrayList<>(Collections.nCopies(dependencies.size(), null));
+        List<Dependency> changed = new ArrayList<>();
+        List<Integer> changedIndices = new ArrayList<>();
+        for (int i = 0; i < dependencies.size(); i++) {
+            GraphSnapshot.Subtree previous = previousSubtrees.get(dependencyKey(dependencies.get(i)));
+            DependencyNode directNode = previous != null ? decode(previous, repositoryMapper) : null;
+            if (directNode != null) {
+                directNodes.set(i, directNode);
+                incremental.recordSubtree(previous, true);
+            } else {
+                changed.add(dependencies.get(i));
+                changedIndices.add(i);
+            }
+        }
+        
+        if (!changed.isEmpty()) {
+            List<DependencyNode> collected = collectUntransformed(session, request, changed);
+            for (int i = 0; i < collected.size(); i++) {
+                DependencyNode directNode = collected.get(i);
+                directNodes.set(changedIndices.get(i), directNode);
+                // Encode before the transformer below rewrites the graph in place
+                incremental.recordSubtree(codec.encode(dependencyKey(changed.get(i)), directNode), false);
+            }
+        }
+        
+        DefaultDependencyNode root = new DefaultDependencyNode(request.getRootArtifact());
+        root.setRepositories(request.getRepositories());
+        root.setRequestContext(request.getRequestContext());
+        root.setChildren(directNodes);
+        
+        CollectResult result = new CollectResult(request);
+        result.setRoot(transform(session, root, result));
+        if (!result.getExceptions().isEmpty()) {
+            throw new DependencyCollectionException(result);
+        }
+        return result;
+    }
+    
+    private DependencyNode decode(GraphSnapshot.Subtree subtree, Function<GraphSnapshot.Repository, RemoteRepository> repositoryMapper) {
+        try {
+            return codec.decode(subtree, repositoryMapper);
+        } catch (RuntimeException e) {
+            log.debug("Collecting {} again, its snapshot could not be decoded: {}", subtree.getDependency(), e.getMessage());
+            return null;
+        }
+    }
+    
+    private List<DependencyNode> collectUntransformed(RepositorySystemSession session, CollectRequest request,
+                                                      List<Dependency> dependencies) throws DependencyCollectionException {
+        DefaultRepositorySystemSession untransformed = new DefaultRepositorySystemSession(session);
+        untransformed.setDependencyGraphTransformer(null);
+        
+        CollectRequest partialRequest = new CollectRequest(dependencies, request.getManagedDependencies(), request.getRepositories());
+        partialRequest.setRootArtifact(request.getRootArtifact());
+        partialRequest.setRequestContext(request.getRequestContext());
+        partialRequest.setTrace(request.getTrace());
+        
+        List<DependencyNode> children = repositorySystem.collectDependencies(untransformed, partialRequest).getRoot().getChildren();
+        if (children.size() != dependencies.size()) {
+            throw new IllegalStateException("Collected " + children.size() + " direct dependencies, expected " + dependencies.size());
+        }
+        return children;
+    }
+    
+    private static DependencyNode transform(RepositorySystemSession session, DependencyNode root, CollectResult result) {
+        DependencyGraphTransformer transformer = session.getDependencyGraphTransformer();
+        if (transformer == null) {
+            return root;
+        }
+        try {
+            return transformer.transformGraph(root, new TransformationContext(session));
+        } catch (RepositoryException e) {
+            result.addException(e);
+            return root;
+        }
+    }
+    
+    /**
+     * Maps stored repositories back to the request's own instances where they match, and otherwise
+     * rebuilds them with the session's authentication and proxy.
+     */
+    private static Function<GraphSnapshot.Repository, RemoteRepository> repositoryMapper(RepositorySystemSession session,
+                                                                                        List<RemoteRepository> requestRepositories) {
+        return encoded -> {
+            for (RemoteRepository repository : requestRepositories) {
+                if (GraphSnapshotCodec.encodeRepository(repository).equals(encoded)) {
+                    return repository;
+                }
+            }
+            RemoteRepository.Builder builder = GraphSnapshotCodec.decodeRepository(encoded);
+            RemoteRepository repository = builder.build();
+            return builder
+                    .setAuthentication(session.getAuthenticationSelector().getAuthentication(repository))
+                    .setProxy(session.getProxySelector().getProxy(repository))
+                    .build();
+        };
+    }
+    
+    /**
+     * Everything a subtree depends on besides its direct dependency: a change here discards the whole snapshot.
+     */
+    static String contextKey(RepositorySystemSession session, CollectRequest request) {
+        StringBuilder key = new StringBuilder("format=").append(GraphSnapshot.FORMAT_VERSION);
+        String selection = ConfigUtils.getString(session, "", DependencySelection.SESSION_KEY_PROPERTY);
+        if (!selection.isEmpty()) {
+            key.append("\nselection=").append(selection);
+        }
+        for (RemoteRepository repository : request.getRepositories()) {
+            key.append("\nrepository=").append(repository.getId()).append(' ').append(repository.getUrl());
+        }
+        for (Dependency managed : request.getManagedDependencies()) {
+            key.append("\nmanaged=").append(dependencyKey(managed));
+        }
+        return DigestUtils.sha1Hex(key.toString());
+    }
+    
+    static String dependencyKey(Dependency dependency) {
+        StringBuilder key = new StringBuilder(dependency.getArtifact().toString())
+                .append(' ').append(dependency.getScope());
+        if (dependency.isOptional()) {
+            key.append(" optional");
+        }
+        TreeSet<String> exclusions = new TreeSet<>();
+        for (Exclusion exclusion : dependency.getExclusions()) {
+            exclusions.add(exclusion.toString());
+        }
+        if (!exclusions.isEmpty()) {
+            key.append(" excluding ").append(exclusions);
+        }
+        return key.toString();
+    }
+    
+    private static final class TransformationContext implements DependencyGraphTransformationContext {
+        private final RepositorySystemSession session;
+        private final Map<Object, Object> values = new HashMap<>();
+        
+        private TransformationContext(RepositorySystemSession session) {
+            this.session = session;
+        }
+        
+        @Override
+        public RepositorySystemSession getSession() {
+            return session;
+        }
+        
+        @Override
+        public Object get(Object key) {
+            return values.get(key);
+        }
+        
+        @Override
+        public Object put(Object key, Object value) {
+            return value != null ? values.put(key, value) : values.remove(key);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,19 @@
+package io.mend.maven.analyzer.service.index;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * A local repository file as recorded in the {@link LocalRepositoryIndex}.
+ */
+@Getter
+@AllArgsConstructor
+public class IndexedFile {
+    
+    /** Path relative to the repository root, with {@code /} separators. */
+    private final String path;
+    private final long size;
+    private final long lastModified;
+    /** SHA1 as 40 lowercase hex characters. */
+    private final String sha1;
+}
\ No newline at end of file
@@ -0,0 +1,212 @@
+package io.mend.maven.analyzer.service.index;
+
+import io.mend.maven.analyzer.service.output.AtomicOutputWriter;
+import org.apache.commons.codec.DecoderException;
+import org.apache.commons.codec.binary.Hex;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * A snapshot of the files in a local repository with their size, modification time and SHA1, written
+ * by the {@code index-repo} command and memory-mapped when opened.
+ *
+ * Records have a fixed size and are sorted by the UTF-8 bytes of their path, so a lookup is a binary
+ * search over the mapped file: opening the index reads nothing but the header, and the page cache
+ * shares the file between processes. A missing, unreadable or differently formatted index is treated
+ * as empty. Lookups only read the buffer at absolute positions, so an index is safe for concurrent use.
+ */
+@Slf4j
+public class LocalRepositoryIndex {
+    
+    /** File name of the index in the repository root when no other file is given. */
+    public static final String DEFAULT_FILE_NAME = ".analyzer-index";
+    /** Bumped whenever the layout changes; index files of another version are ignored. */
+    public static final int FORMAT_VERSION = 1;
+    
+    private static final int MAGIC = 0x4D524958;
+    private static final int SHA1_LENGTH = 20;
+    // Path offset and length, size, modification time and SHA1
+    private static final int RECORD_SIZE = Integer.BYTES * 2 + Long.BYTES * 2 + SHA1_LENGTH;
+    // Magic, format version, record count, path bytes and repository path length
+    private static final int HEADER_SIZE = Integer.BYTES * 5;
+    
+    private static final Comparator<byte[]> PATH_ORDER = Arrays::compareUnsigned;
+    
+    /** Absolute, normalized path of the indexed repository, or null for an empty index. */
+    @Getter
+    private final String repository;
+    private final ByteBuffer buffer;
+    private final int count;
+    private final int recordsOffset;
+    private final int pathsOffset;
+    
+    private LocalRepositoryIndex(String repository, ByteBuffer buffer, int count, int recordsOffset) {
+        this.repository = repository;
+        this.buffer = buffer;
+        this.count = count;
+        this.recordsOffset = recordsOffset;
+        this.pathsOffset = recordsOffset + count * RECORD_SIZE;
+    }
+    
+    public static LocalRepositoryIndex empty() {
+        return new LocalRepositoryIndex(null, ByteBuffer.allocate(0), 0, 0);
+    }
+    
+    public static Path defaultFile(@NonNull Path repository) {
+        return repository.resolve(DEFAULT_FILE_NAME);
+    }
+    
+    /**
+     * Maps the index file, which need not exist.
+     */
+    public static LocalRepositoryIndex open(@NonNull Path indexFile) {
+        if (!Files.isRegularFile(indexFile)) {
+            return empty();
+        }
+        try (FileChannel channel = FileChannel.open(indexFile, StandardOpenOption.READ)) {
+            long length = channel.size();
+            if (length < HEADER_SIZE || length > Integer.MAX_VALUE) {
+                log.warn("Ignoring repository index {} of {} bytes", indexFile, length);
+                return empty();
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, length);
+            if (buffer.getInt(0) != MAGIC) {
+                log.warn("Ignoring {}, which is not a repository index", indexFile);
+                return empty();
+            }
+            if (buffer.getInt(4) != FORMAT_VERSION) {
+                log.warn("Ignoring repository index {} with format version {}", indexFile, buffer.getInt(4));
+                return empty();
+            }
+            int count = buffer.getInt(8);
+            int pathBytes = buffer.getInt(12);
+            int repositoryLength = buffer.getInt(16);
+            int recordsOffset = HEADER_SIZE + repositoryLength;
+            if (count < 0 || pathBytes < 0 || repositoryLength < 0
+                    || (long) recordsOffset + (long) count * RECORD_SIZE + pathBytes != length) {
+                log.warn("Ignoring truncated repository index {}", indexFile);
+                return empty();
+            }
+            byte[] repository = new byte[repositoryLength];
+            buffer.get(HEADER_SIZE, repository);
+            return new LocalRepositoryIndex(new String(repository, StandardCharsets.UTF_8), buffer, count, recordsOffset);
+        } catch (IOException e) {
+            log.warn("Ignoring unreadable repository index {}: {}", indexFile, e.getMessage());
+            return empty();
+        }
+    }
+    
+    /**
+     * Returns the file at the given path relative to the repository root, or null if it was not indexed.
+     */
+    public IndexedFile find(@NonNull String path) {
+        byte[] key = path.getBytes(StandardCharsets.UTF_8);
+        int low = 0;
+        int high = count - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int comparison = compareToPath(middle, key);
+            if (comparison < 0) {
+                low = middle + 1;
+            } else if (comparison > 0) {
+                high = middle - 1;
+            } else {
+                return read(middle, path);
+            }
+        }
+        return null;
+    }
+    
+    public int size() {
+        return count;
+    }
+    
+    private int compareToPath(int index, byte[] key) {
+        int record = recordsOffset + index * RECORD_SIZE;
+        int offset = pathsOffset + buffer.getInt(record);
+        int length = buffer.getInt(record + Integer.BYTES);
+        int common = Math.min(length, key.length);
+        for (int i = 0; i < common; i++) {
+            int comparison = Byte.compareUnsigned(buffer.get(offset + i), key[i]);
+            if (comparison != 0) {
+                return comparison;
+            }
+        }
+        return Integer.compare(length, key.length);
+    }
+    
+    private IndexedFile read(int index, String path) {
+        int record = recordsOffset + index * RECORD_SIZE + Integer.BYTES * 2;
+        byte[] sha1 = new byte[SHA1_LENGTH];
+        buffer.get(record + Long.BYTES * 2, sha1);
+        return new IndexedFile(path, buffer.getLong(record), buffer.getLong(record + Long.BYTES), Hex.encodeHexString(sha1));
+    }
+    
+    /**
+     * Writes the files of a repository as an index, atomically replacing the index file.
+     */
+    public static void write(@NonNull Path indexFile, @NonNull String repository, @NonNull List<IndexedFile> files) throws IOException {
+        List<byte[]> paths = new ArrayList<>(files.size());
+        List<IndexedFile> sorted = new ArrayList<>(files);
+        sorted.sort(Comparator.comparing(file -> file.getPath().getBytes(StandardCharsets.UTF_8), PATH_ORDER));
+        int pathBytes = 0;
+        for (IndexedFile file : sorted) {
+            byte[] path = file.getPath().getBytes(StandardCharsets.UTF_8);
+            paths.add(path);
+            pathBytes += path.length;
+        }
+        byte[] repositoryBytes = repository.getBytes(StandardCharsets.UTF_8);
+        
+        try (AtomicOutputWriter writer = AtomicOutputWriter.open(indexFile.toString(), false)) {
+            DataOutputStream out = new DataOutputStream(writer.getOutputStream());
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.writeInt(sorted.size());
+            out.writeInt(pathBytes);
+            out.writeInt(repositoryBytes.length);
+            out.write(repositoryBytes);
+            int offset = 0;
+            for (int i = 0; i < sorted.size(); i++) {
+                IndexedFile file = sorted.get(i);
+                out.writeInt(offset);
+                out.writeInt(paths.get(i).length);
+                out.writeLong(file.getSize());
+                out.writeLong(file.getLastModified());
+                out.write(decodeSha1(file.getSha1()));
+                offset += paths.get(i).length;
+            }
+            for (byte[] path : paths) {
+                out.write(path);
+            }
+            out.flush();
+            writer.commit();
+        }
+    }
+    
+    private static byte[] decodeSha1(String sha1) {
+        try {
+            byte[] bytes = Hex.decodeHex(sha1);
+            if (bytes.length == SHA1_LENGTH) {
+                return bytes;
+            }
+        } catch (DecoderException e) {
+            // reported below
+        }
+        throw new IllegalArgumentException("Invalid SHA1 hex digest: " + sha1);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,203 @@
+package io.mend.maven.analyzer.service.index;
+
+import io.mend.maven.analyzer.model.response.RepositoryIndexResult;
+import org.apache.commons.codec.digest.DigestUtils;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Builds the {@link LocalRepositoryIndex} of a local repository. Directories are listed and files
+ * hashed in parallel, one task per directory, since on a network filesystem every listing and read is
+ * a round-trip. A file whose size and modification time match the previous index keeps its recorded
+ * SHA1 and is not read again, so re-indexing costs little more than listing the repository.
+ *
+ * Checksums, signatures, resolver bookkeeping such as {@code _remote.repositories} and metadata, and
+ * hidden files, which include the index itself, are not indexed.
+ */
+@Slf4j
+public class LocalRepositoryIndexer {
+    
+    public static final int DEFAULT_THREADS = 16;
+    
+    private static final char PATH_SEPARATOR = '/';
+    private static final Set<String> SKIPPED_PREFIXES = Set.of(".", "_", "maven-metadata", "resolver-status");
+    private static final Set<String> SKIPPED_SUFFIXES = Set.of(".sha1", ".md5", ".sha256", ".sha512", ".asc",
+            ".lastUpdated", ".part", ".lock", ".tmp");
+    
+    private final int threads;
+    
+    public LocalRepositoryIndexer() {
+        this(DEFAULT_THREADS);
+    }
+    
+    public LocalRepositoryIndexer(int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("Thread count must be positive: " + threads);
+        }
+        this.threads = threads;
+    }
+    
+    /**
+     * Indexes the repository into the index file, reusing the hashes of unchanged files recorded there.
+     */
+    public RepositoryIndexResult index(Path repository, Path indexFile) throws IOException {
+        long startNanos = System.nanoTime();
+        Path root = repository.toAbsolutePath().normalize();
+        if (!Files.isDirectory(root)) {
+            throw new IOException("Local repository does not exist: " + root);
+        }
+        
+        LocalRepositoryIndex previous = LocalRepositoryIndex.open(indexFile);
+        if (previous.size() > 0 && !root.toString().equals(previous.getRepository())) {
+            log.warn("Not reusing repository index {}, which was built for {}", indexFile, previous.getRepository());
+            previous = LocalRepositoryIndex.empty();
+        }
+        
+        Scan scan = new Scan(root, indexFile.toAbsolutePath().normalize(), previous);
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        List<IndexedFile> files;
+        try {
+            files = pool.invoke(scan.new DirectoryTask(root));
+        } finally {
+            pool.shutdown();
+        }
+        LocalRepositoryIndex.write(indexFile, root.toString(), files);
+        
+        return RepositoryIndexResult.builder()
+                .repository(root.toString())
+                .indexFile(indexFile.toString())
+                .files(files.size())
+                .hashed(scan.hashed.get())
+                .bytesHashed(scan.bytesHashed.get())
+                .reused(scan.reused.get())
+                .removed(previous.size() - scan.matched.get())
+                .elapsedMillis((System.nanoTime() - startNanos) / 1_000_000)
+                .failed(new ArrayList<>(scan.failed))
+                .build();
+    }
+    
+    private static boolean isIndexed(String name) {
+        for (String prefix : SKIPPED_PREFIXES) {
+            if (name.startsWith(prefix)) {
+                return false;
+            }
+        }
+        for (String suffix : SKIPPED_SUFFIXES) {
+            if (name.endsWith(suffix)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private static final class Scan {
+        
+        private final Path root;
+        private final Path indexFile;
+        private final LocalRepositoryIndex previous;
+        private final AtomicInteger hashed = new AtomicInteger();
+        private final AtomicLong bytesHashed = new AtomicLong();
+        private final AtomicInteger reused = new AtomicInteger();
+        // Previously indexed files that still exist, reused or not
+        private final AtomicInteger matched = new AtomicInteger();
+        private final Queue<String> failed = new ConcurrentLinkedQueue<>();
+        
+        private Scan(Path root, Path indexFile, LocalRepositoryIndex previous) {
+            this.root = root;
+            this.indexFile = indexFile;
+            this.previous = previous;
+        }
+        
+        private String relativePath(Path file) {
+            return root.relativize(file).toString().replace(File.separatorChar, PATH_SEPARATOR);
+        }
+        
+        private IndexedFile indexFile(Path file, BasicFileAttributes attributes) {
+            String path = relativePath(file);
+            long size = attributes.size();
+            long lastModified = attributes.lastModifiedTime().toMillis();
+            IndexedFile recorded = previous.find(path);
+            if (recorded != null) {
+                matched.incrementAndGet();
+                if (recorded.getSize() == size && recorded.getLastModified() == lastModified) {
+                    reused.incrementAndGet();
+                    return recorded;
+                }
+            }
+            try (InputStream in = Files.newInputStream(file)) {
+                String sha1 = DigestUtils.sha1Hex(in);
+                hashed.incrementAndGet();
+                bytesHashed.addAndGet(size);
+                return new IndexedFile(path, size, lastModified, sha1);
+            } catch (IOException e) {
+                log.warn("Failed to index {}: {}", file, e.getMessage());
+                failed.add(path);
+                return null;
+            }
+        }
+        
+        private final class DirectoryTask extends RecursiveTask<List<IndexedFile>> {
+            
+            private final Path directory;
+            
+            private DirectoryTask(Path directory) {
+                this.directory = directory;
+            }
+            
+            @Override
+            protected List<IndexedFile> compute() {
+                List<DirectoryTask> subdirectories = new ArrayList<>();
+                List<Path> files = new ArrayList<>();
+                List<BasicFileAttributes> fileAttributes = new ArrayList<>();
+                try (DirectoryStream<Path> entries = Files.newDirectoryStream(directory)) {
+                    for (Path entry : entries) {
+                        if (!isIndexed(entry.getFileName().toString())) {
+                            continue;
+                        }
+                        // Links are not followed, so a linked directory cannot make the scan loop
+                        BasicFileAttributes attributes = Files.readAttributes(entry, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+                        if (attributes.isDirectory()) {
+                            subdirectories.add(new DirectoryTask(entry));
+                        } else if (attributes.isRegularFile() && !entry.equals(indexFile)) {
+                            files.add(entry);
+                            fileAttributes.add(attributes);
+                        }
+                    }
+                } catch (IOException e) {
+                    log.warn("Failed to list {}: {}", directory, e.getMessage());
+                    failed.add(relativePath(directory) + PATH_SEPARATOR);
+                }
+                
+                subdirectories.forEach(RecursiveTask::fork);
+                List<IndexedFile> indexed = new ArrayList<>();
+                for (int i = 0; i < files.size(); i++) {
+                    IndexedFile file = indexFile(files.get(i), fileAttributes.get(i));
+                    if (file != null) {
+                        indexed.add(file);
+                    }
+                }
+                for (DirectoryTask subdirectory : subdirectories) {
+                    indexed.addAll(subdirectory.join());
+                }
+                return indexed;
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,28 @@
+package io.mend.maven.analyzer.service.index;
+
+import io.mend.maven.analyzer.model.response.RepositoryIndexResult;
+import io.mend.maven.analyzer.util.FormatUtils;
+import lombok.NonNull;
+import lombok.experimental.UtilityClass;
+
+import java.io.PrintStream;
+
+/**
+ * Prints a {@link RepositoryIndexResult} as the unreadable files followed by the totals.
+ */
+@UtilityClass
+public class RepositoryIndexReport {
+    
+    public static void print(@NonNull PrintStream out, @NonNull RepositoryIndexResult result) {
+        for (String file : result.getFailed()) {
+            out.println("  ✗ " + file + " could not be read");
+        }
+        
+        out.println();
+        out.printf("%s %d files indexed: %d hashed (%s), %d unchanged, %d removed, %d unreadable in %d ms%n",
+                result.getFailed().isEmpty() ? "✓" : "!", result.getFiles(), result.getHashed(),
+                FormatUtils.formatBytes(result.getBytesHashed()), result.getReused(), result.getRemoved(),
+                result.getFailed().size(), result.getElapsedMillis());
+        out.println("  Index file: " + result.getIndexFile());
+    }
+}
\ No newline at end of file
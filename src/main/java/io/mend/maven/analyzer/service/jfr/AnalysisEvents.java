@@ -0,0 +1,23 @@
+package io.mend.maven.analyzer.service.jfr;
+
+import jdk.jfr.Event;
+import lombok.experimental.UtilityClass;
+
+import java.util.List;
+
+/**
+ * Names and the full set of the analyzer's custom JFR events.
+ */
+@UtilityClass
+public class AnalysisEvents {
+    
+    public static final String NAME_PREFIX = "io.mend.analyzer.";
+    public static final String CATEGORY = "Maven Dependency Analyzer";
+    
+    public static final List<Class<? extends Event>> EVENT_TYPES = List.of(
+            PomParseEvent.class,
+            DependencyCollectionEvent.class,
+            DependencyResolutionEvent.class,
+            ArtifactHashEvent.class,
+            OutputWriteEvent.class);
+}
\ No newline at end of file
@@ -0,0 +1,63 @@
+package io.mend.maven.analyzer.service.jfr;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Event;
+import jdk.jfr.Recording;
+import lombok.NonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.text.ParseException;
+
+/**
+ * In-process JFR recording of one analysis run, written to a file when closed.
+ *
+ * Uses the JDK's "default" settings, so file IO, GC and thread events are captured alongside the
+ * analyzer's own events, which this recording enables.
+ */
+public class AnalysisRecording implements AutoCloseable {
+    
+    private static final String SETTINGS = "default";
+    private static final String RECORDING_NAME = "maven-dependency-analyzer";
+    
+    private final Recording recording;
+    private final Path destination;
+    
+    private AnalysisRecording(Recording recording, Path destination) {
+        this.recording = recording;
+        this.destination = destination;
+    }
+    
+    /**
+     * Starts recording; the file is written when the returned recording is closed.
+     */
+    public static AnalysisRecording start(@NonNull Path destination) throws IOException {
+        Recording recording;
+        try {
+            recording = new Recording(Configuration.getConfiguration(SETTINGS));
+        } catch (ParseException e) {
+            throw new IOException("Invalid JFR settings '" + SETTINGS + "': " + e.getMessage(), e);
+        }
+        recording.setName(RECORDING_NAME);
+        recording.setToDisk(true);
+        recording.setDestination(destination);
+        for (Class<? extends Event> eventType : AnalysisEvents.EVENT_TYPES) {
+            recording.enable(eventType);
+        }
+        recording.start();
+        return new AnalysisRecording(recording, destination);
+    }
+    
+    public Path getDestination() {
+        return destination;
+    }
+    
+    @Override
+    public void close() throws IOException {
+        try {
+            recording.stop();
+        } finally {
+            recording.close();
+        }
+    }
+}
\ No newline at end of file
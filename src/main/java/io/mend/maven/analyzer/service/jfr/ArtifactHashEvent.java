@@ -0,0 +1,66 @@
+package io.mend.maven.analyzer.service.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Frequency;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SHA1 calculation of one artifact's JAR in the local repository.
+ *
+ * Emitted on the hashing thread, so it lines up with {@code jdk.FileRead} events and GC pauses
+ * of the same thread in JDK Mission Control.
+ */
+@Name(AnalysisEvents.NAME_PREFIX + "ArtifactHash")
+@Label("Artifact Hash")
+@Description("SHA1 calculation of an artifact's JAR file")
+@Category({AnalysisEvents.CATEGORY, "Artifacts"})
+@Enabled(false)
+@StackTrace(false)
+public class ArtifactHashEvent extends Event {
+    
+    @Label("Group ID")
+    private String groupId;
+    
+    @Label("Artifact ID")
+    private String artifactId;
+    
+    @Label("Version")
+    private String version;
+    
+    @Label("File Size")
+    @DataAmount
+    private long fileSize;
+    
+    @Label("Throughput")
+    @DataAmount
+    @Frequency
+    private long bytesPerSecond;
+    
+    @Label("Hashed")
+    @Description("Whether the JAR was present and hashed")
+    private boolean hashed;
+    
+    /**
+     * Ends the event and commits it if it passes the recording's settings; the arguments are only used then.
+     */
+    public void complete(String groupId, String artifactId, String version, long fileSize, boolean hashed, long elapsedNanos) {
+        end();
+        if (shouldCommit()) {
+            this.groupId = groupId;
+            this.artifactId = artifactId;
+            this.version = version;
+            this.fileSize = fileSize;
+            this.hashed = hashed;
+            this.bytesPerSecond = elapsedNanos > 0 ? (long) (fileSize * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos) : 0L;
+            commit();
+        }
+    }
+}
\ No newline at end of file
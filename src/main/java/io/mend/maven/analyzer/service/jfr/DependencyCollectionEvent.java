@@ -0,0 +1,11 @@
+package io.mend.maven.analyzer.service.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name(AnalysisEvents.NAME_PREFIX + "DependencyCollection")
+@Label("Dependency Collection")
+@Description("Building the dependency graph from artifact descriptors")
+public class DependencyCollectionEvent extends ProjectPhaseEvent {
+}
\ No newline at end of file
@@ -0,0 +1,11 @@
+package io.mend.maven.analyzer.service.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name(AnalysisEvents.NAME_PREFIX + "DependencyResolution")
+@Label("Dependency Resolution")
+@Description("Resolving the artifact files of the collected graph, downloading them if needed")
+public class DependencyResolutionEvent extends ProjectPhaseEvent {
+}
\ No newline at end of file
@@ -0,0 +1,27 @@
+package io.mend.maven.analyzer.service.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name(AnalysisEvents.NAME_PREFIX + "OutputWrite")
+@Label("Output Write")
+@Description("Writing or committing the analysis results")
+public class OutputWriteEvent extends ProjectPhaseEvent {
+    
+    @Label("Format")
+    private String format;
+    
+    @Label("Path")
+    private String path;
+    
+    public void complete(String project, String format, String path) {
+        end();
+        if (shouldCommit()) {
+            this.format = format;
+            this.path = path;
+            this.project = project;
+            commit();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,11 @@
+package io.mend.maven.analyzer.service.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name(AnalysisEvents.NAME_PREFIX + "PomParse")
+@Label("POM Parse")
+@Description("Validation and parsing of the project's pom.xml")
+public class PomParseEvent extends ProjectPhaseEvent {
+}
\ No newline at end of file
@@ -0,0 +1,35 @@
+package io.mend.maven.analyzer.service.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+/**
+ * Base type for the JFR events that span one phase of analyzing a project.
+ *
+ * Events are disabled by default and only recorded when enabled in a recording, either through
+ * {@link AnalysisRecording} or a JFR settings file. Callers follow the {@code begin()} /
+ * {@link #complete(String)} pattern, so a disabled event costs a few field writes and no allocation
+ * once the JIT has inlined it.
+ */
+@Enabled(false)
+@StackTrace(false)
+@Category({AnalysisEvents.CATEGORY, "Phases"})
+public abstract class ProjectPhaseEvent extends Event {
+    
+    @Label("Project")
+    protected String project;
+    
+    /**
+     * Ends the event and commits it with the given project coordinates if it passes the recording's settings.
+     */
+    public void complete(String project) {
+        end();
+        if (shouldCommit()) {
+            this.project = project;
+            commit();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,89 @@
+package io.mend.maven.analyzer.service.lock;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The fully resolved dependency tree of a project, written next to its {@code pom.xml}.
+ *
+ * Dependencies are listed depth-first, each after its parent, so the tree can be rebuilt in one pass
+ * and the file diffs line by line between versions.
+ */
+@Data
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class Lockfile {
+    
+    /** Bumped whenever the layout changes; lockfiles of another version are resolved again. */
+    public static final int FORMAT_VERSION = 1;
+    
+    @JsonProperty("formatVersion")
+    private int formatVersion = FORMAT_VERSION;
+    
+    /** Hash of the POM's dependencies and repositories the tree was resolved from. */
+    @JsonProperty("pomFingerprint")
+    private String pomFingerprint;
+    
+    @JsonProperty("repositories")
+    private List<Repository> repositories = new ArrayList<>();
+    
+    @JsonProperty("dependencies")
+    private List<Entry> dependencies = new ArrayList<>();
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Repository {
+        
+        @JsonProperty("id")
+        private String id;
+        
+        @JsonProperty("url")
+        private String url;
+    }
+    
+    @Data
+    @NoArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class Entry {
+        
+        @JsonProperty("groupId")
+        private String groupId;
+        
+        @JsonProperty("artifactId")
+        private String artifactId;
+        
+        @JsonProperty("version")
+        private String version;
+        
+        /** Classifier and extension, present only for an artifact other than the main JAR. */
+        @JsonProperty("classifier")
+        private String classifier;
+        
+        @JsonProperty("extension")
+        private String extension;
+        
+        @JsonProperty("scope")
+        private String scope;
+        
+        /** Index of the parent entry, or -1 for a direct dependency. */
+        @JsonProperty("parent")
+        private int parent;
+        
+        @JsonProperty("sha1")
+        private String sha1;
+        
+        /** Size and modification time of the JAR when it was hashed, to tell whether it changed since. */
+        @JsonProperty("size")
+        private long size;
+        
+        @JsonProperty("lastModified")
+        private long lastModified;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,195 @@
+package io.mend.maven.analyzer.service.lock;
+
+import io.mend.maven.analyzer.model.entity.AnalyzedDependency;
+import io.mend.maven.analyzer.service.analysis.DependencySelection;
+import io.mend.maven.analyzer.service.hash.ArtifactHashCache;
+import io.mend.maven.analyzer.service.output.AtomicOutputWriter;
+import io.mend.maven.analyzer.util.DependencyUtils;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.eclipse.aether.collection.CollectRequest;
+import org.eclipse.aether.graph.DefaultDependencyNode;
+import org.eclipse.aether.graph.Dependency;
+import org.eclipse.aether.graph.DependencyNode;
+import org.eclipse.aether.graph.Exclusion;
+import org.eclipse.aether.repository.RemoteRepository;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * Writes lockfiles and turns a matching lockfile back into a dependency graph without the resolver.
+ *
+ * A lockfile matches while its POM fingerprint equals the fingerprint of the collect request the
+ * project would be resolved with, that is its direct dependencies and repositories after
+ * interpolation, inheritance and mirroring.
+ */
+@Slf4j
+public class LockfileService {
+    
+    public static final String FILE_NAME = "dependency-lock.json";
+    
+    private static final int NO_PARENT = -1;
+    
+    private final ObjectMapper objectMapper;
+    
+    public LockfileService() {
+        this.objectMapper = new ObjectMapper();
+        this.objectMapper.enable(SerializationFeature.INDENT_OUTPUT);
+        this.objectMapper.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        this.objectMapper.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        this.objectMapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
+    }
+    
+    /**
+     * Fingerprints what resolution starts from: the direct dependencies in order and the repositories.
+     */
+    public String fingerprint(@NonNull CollectRequest request) {
+        return fingerprint(request, DependencySelection.ALL);
+    }
+    
+    /**
+     * Fingerprints the request together with the selection the graph is pruned to.
+     */
+    public String fingerprint(@NonNull CollectRequest request, @NonNull DependencySelection selection) {
+        StringBuilder input = new StringBuilder("format=").append(Lockfile.FORMAT_VERSION);
+        for (Dependency dependency : request.getDependencies()) {
+            input.append("\ndependency=").append(dependency.getArtifact()).append(' ').append(dependency.getScope());
+            if (dependency.isOptional()) {
+                input.append(" optional");
+            }
+            TreeSet<String> exclusions = new TreeSet<>();
+            for (Exclusion exclusion : dependency.getExclusions()) {
+                exclusions.add(exclusion.toString());
+            }
+            if (!exclusions.isEmpty()) {
+                input.append(" excluding ").append(exclusions);
+            }
+        }
+        for (Dependency managed : request.getManagedDependencies()) {
+            input.append("\nmanaged=").append(managed.getArtifact()).append(' ').append(managed.getScope());
+        }
+        for (RemoteRepository repository : request.getRepositories()) {
+            input.append("\nrepository=").append(repository.getId()).append(' ').append(repository.getUrl());
+        }
+        if (selection.isRestricted()) {
+            input.append("\nselection=").append(selection.key());
+        }
+        return DigestUtils.sha1Hex(input.toString());
+    }
+    
+    /**
+     * Reads the lockfile if it exists and was written for the given POM fingerprint, or returns null.
+     */
+    public Lockfile readMatching(@NonNull Path lockfilePath, @NonNull String pomFingerprint) {
+        if (!Files.isRegularFile(lockfilePath)) {
+            return null;
+        }
+        try (InputStream in = Files.newInputStream(lockfilePath)) {
+            Lockfile lockfile = objectMapper.readValue(in, Lockfile.class);
+            if (lockfile.getFormatVersion() == Lockfile.FORMAT_VERSION && pomFingerprint.equals(lockfile.getPomFingerprint())) {
+                return lockfile;
+            }
+            log.debug("Lockfile {} is out of date, resolving again", lockfilePath);
+        } catch (IOException e) {
+            log.warn("Ignoring unreadable lockfile {}: {}", lockfilePath, e.getMessage());
+        }
+        return null;
+    }
+    
+    /**
+     * Rebuilds the locked tree as resolver nodes under an artifact-less root, in the shape the tree builder expects.
+     */
+    public DependencyNode toDependencyGraph(@NonNull Lockfile lockfile) {
+        DefaultDependencyNode root = new DefaultDependencyNode((Dependency) null);
+        List<DependencyNode> nodes = new ArrayList<>(lockfile.getDependencies().size());
+        for (Lockfile.Entry entry : lockfile.getDependencies()) {
+            String extension = entry.getExtension() != null ? entry.getExtension() : DependencyUtils.DEFAULT_EXTENSION;
+            DefaultArtifact artifact = new DefaultArtifact(entry.getGroupId(), entry.getArtifactId(), entry.getClassifier(),
+                    extension, entry.getVersion());
+            DefaultDependencyNode node = new DefaultDependencyNode(new Dependency(artifact, entry.getScope()));
+            DependencyNode parent = entry.getParent() == NO_PARENT ? root : nodes.get(entry.getParent());
+            parent.getChildren().add(node);
+            nodes.add(node);
+        }
+        return root;
+    }
+    
+    /**
+     * Returns the locked hashes as a cache, so only JARs whose size or modification time changed are hashed again.
+     */
+    public ArtifactHashCache toHashCache(@NonNull Lockfile lockfile) {
+        List<ArtifactHashCache.Entry> entries = new ArrayList<>();
+        for (Lockfile.Entry entry : lockfile.getDependencies()) {
+            if (entry.getSha1() != null) {
+                String key = DependencyUtils.formatCoordinates(entry.getGroupId(), entry.getArtifactId(), entry.getClassifier(),
+                        entry.getExtension(), entry.getVersion());
+                entries.add(new ArtifactHashCache.Entry(key, entry.getSize(), entry.getLastModified(), entry.getSha1()));
+            }
+        }
+        return new ArtifactHashCache(entries);
+    }
+    
+    /**
+     * Creates the lockfile for an analyzed tree, taking file sizes and modification times from the
+     * hash cache the tree was hashed with.
+     */
+    public Lockfile create(@NonNull String pomFingerprint, @NonNull List<RemoteRepository> repositories,
+                           @NonNull List<AnalyzedDependency> dependencies, @NonNull ArtifactHashCache hashCache) {
+        Lockfile lockfile = new Lockfile();
+        lockfile.setPomFingerprint(pomFingerprint);
+        for (RemoteRepository repository : repositories) {
+            lockfile.getRepositories().add(new Lockfile.Repository(repository.getId(), repository.getUrl()));
+        }
+        addEntries(lockfile.getDependencies(), dependencies, NO_PARENT, hashCache);
+        return lockfile;
+    }
+    
+    private static void addEntries(List<Lockfile.Entry> entries, List<AnalyzedDependency> dependencies, int parent,
+                                   ArtifactHashCache hashCache) {
+        for (AnalyzedDependency dependency : dependencies) {
+            Lockfile.Entry entry = new Lockfile.Entry();
+            entry.setGroupId(dependency.getGroupId());
+            entry.setArtifactId(dependency.getArtifactId());
+            entry.setVersion(dependency.getVersion());
+            entry.setClassifier(dependency.getClassifier());
+            entry.setExtension(dependency.getExtension());
+            entry.setScope(dependency.getScope());
+            entry.setParent(parent);
+            entry.setSha1(dependency.getSha1());
+            ArtifactHashCache.Entry hash = hashCache.getEntry(DependencyUtils.formatCoordinates(dependency.getGroupId(),
+                    dependency.getArtifactId(), dependency.getClassifier(), dependency.getExtension(), dependency.getVersion()));
+            if (hash != null && hash.getSha1().equals(dependency.getSha1())) {
+                entry.setSize(hash.getSize());
+                entry.setLastModified(hash.getLastModified());
+            }
+            int index = entries.size();
+            entries.add(entry);
+            if (dependency.getChildren() != null) {
+                addEntries(entries, dependency.getChildren(), index, hashCache);
+            }
+        }
+    }
+    
+    /**
+     * Writes the lockfile atomically as indented JSON.
+     */
+    public void write(@NonNull Lockfile lockfile, @NonNull Path lockfilePath) throws IOException {
+        try (AtomicOutputWriter writer = AtomicOutputWriter.open(lockfilePath.toString(), false)) {
+            objectMapper.writeValue(writer.getOutputStream(), lockfile);
+            writer.commit();
+        }
+    }
+}
@@ -0,0 +1,238 @@
+package io.mend.maven.analyzer.service.metrics;
+
+import io.mend.maven.analyzer.model.response.ArtifactTiming;
+import io.mend.maven.analyzer.model.response.RepositoryThroughput;
+import io.mend.maven.analyzer.model.response.ResolverMetrics;
+import lombok.Getter;
+import lombok.NonNull;
+import org.eclipse.aether.AbstractRepositoryListener;
+import org.eclipse.aether.DefaultRepositorySystemSession;
+import org.eclipse.aether.RepositoryEvent;
+import org.eclipse.aether.RepositoryListener;
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.transfer.AbstractTransferListener;
+import org.eclipse.aether.transfer.TransferEvent;
+import org.eclipse.aether.transfer.TransferListener;
+import org.eclipse.aether.transfer.TransferResource;
+import org.eclipse.aether.util.listener.ChainedRepositoryListener;
+import org.eclipse.aether.util.listener.ChainedTransferListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread-safe collector of {@link ResolverMetrics}, fed by resolver transfer and repository events
+ * and by {@link TimedArtifactDescriptorReader}. Values accumulate for the lifetime of the session.
+ */
+public class ResolverMetricsCollector {
+    
+    // Kept in the configuration rather than the session data, which forked sessions share
+    private static final String SESSION_PROPERTY = ResolverMetricsCollector.class.getName();
+    
+    private static final int SLOWEST_LIMIT = 10;
+    private static final long MILLIS_PER_SECOND = 1000L;
+    
+    private final LongAdder bytesDownloaded = new LongAdder();
+    private final AtomicInteger transfersSucceeded = new AtomicInteger();
+    private final AtomicInteger transfersFailed = new AtomicInteger();
+    private final AtomicInteger artifactsResolved = new AtomicInteger();
+    private final AtomicInteger artifactsDownloaded = new AtomicInteger();
+    private final AtomicInteger artifactsNotResolved = new AtomicInteger();
+    private final AtomicInteger metadataLookups = new AtomicInteger();
+    private final AtomicInteger metadataRequests = new AtomicInteger();
+    private final AtomicInteger descriptorReads = new AtomicInteger();
+    private final AtomicInteger descriptorCacheHits = new AtomicInteger();
+    private final LongAdder descriptorReadMillisTotal = new LongAdder();
+    private final AtomicLong descriptorReadMillisMax = new AtomicLong();
+    private final Map<String, RepositoryCounters> repositories = new ConcurrentHashMap<>();
+    private final SlowestTimings slowestTransfers = new SlowestTimings();
+    private final SlowestTimings slowestDescriptorReads = new SlowestTimings();
+    
+    @Getter
+    private final TransferListener transferListener = new MetricsTransferListener();
+    @Getter
+    private final RepositoryListener repositoryListener = new MetricsRepositoryListener();
+    
+    /**
+     * Registers the listeners on the session, chained after any existing ones, and makes the
+     * collector reachable through {@link #find(RepositorySystemSession)}.
+     */
+    public void attach(@NonNull DefaultRepositorySystemSession session) {
+        session.setTransferListener(ChainedTransferListener.newInstance(session.getTransferListener(), transferListener));
+        session.setRepositoryListener(ChainedRepositoryListener.newInstance(session.getRepositoryListener(), repositoryListener));
+        session.setConfigProperty(SESSION_PROPERTY, this);
+    }
+    
+    /**
+     * Returns the collector attached to the session, or null if metrics are disabled.
+     */
+    public static ResolverMetricsCollector find(@NonNull RepositorySystemSession session) {
+        Object collector = session.getConfigProperties().get(SESSION_PROPERTY);
+        return collector instanceof ResolverMetricsCollector metrics ? metrics : null;
+    }
+    
+    public void recordDescriptorRead(@NonNull Artifact artifact, long elapsedNanos) {
+        long millis = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        descriptorReads.incrementAndGet();
+        descriptorReadMillisTotal.add(millis);
+        descriptorReadMillisMax.accumulateAndGet(millis, Math::max);
+        slowestDescriptorReads.offer(ArtifactTiming.builder()
+                .name(artifact.getGroupId() + ":" + artifact.getArtifactId() + ":" + artifact.getVersion())
+                .millis(millis)
+                .build());
+    }
+    
+    public void recordDescriptorCacheHit() {
+        descriptorCacheHits.incrementAndGet();
+    }
+    
+    public ResolverMetrics toMetrics() {
+        List<RepositoryThroughput> throughput = new ArrayList<>();
+        repositories.forEach((id, counters) -> throughput.add(counters.toThroughput(id)));
+        throughput.sort(Comparator.comparing(RepositoryThroughput::getRepositoryId));
+        
+        return ResolverMetrics.builder()
+                .bytesDownloaded(bytesDownloaded.sum())
+                .transfersSucceeded(transfersSucceeded.get())
+                .transfersFailed(transfersFailed.get())
+                .localRepositoryHits(Math.max(0, artifactsResolved.get() - artifactsDownloaded.get()))
+                .localRepositoryMisses(artifactsDownloaded.get() + artifactsNotResolved.get())
+                .metadataLookups(metadataLookups.get())
+                .metadataRequests(metadataRequests.get())
+                .descriptorReads(descriptorReads.get())
+                .descriptorCacheHits(descriptorCacheHits.get())
+                .descriptorReadMillisTotal(descriptorReadMillisTotal.sum())
+                .descriptorReadMillisMax(descriptorReadMillisMax.get())
+                .repositories(throughput)
+                .slowestTransfers(slowestTransfers.toList())
+                .slowestDescriptorReads(slowestDescriptorReads.toList())
+                .build();
+    }
+    
+    private class MetricsTransferListener extends AbstractTransferListener {
+        
+        @Override
+        public void transferSucceeded(TransferEvent event) {
+            TransferResource resource = event.getResource();
+            long bytes = event.getTransferredBytes();
+            long millis = Math.max(0, System.currentTimeMillis() - resource.getTransferStartTime());
+            
+            bytesDownloaded.add(bytes);
+            transfersSucceeded.incrementAndGet();
+            repositories.computeIfAbsent(resource.getRepositoryId(), id -> new RepositoryCounters(resource.getRepositoryUrl()))
+                    .record(bytes, millis);
+            slowestTransfers.offer(ArtifactTiming.builder()
+                    .name(resource.getResourceName())
+                    .repositoryId(resource.getRepositoryId())
+                    .bytes(bytes)
+                    .millis(millis)
+                    .build());
+        }
+        
+        @Override
+        public void transferFailed(TransferEvent event) {
+            transfersFailed.incrementAndGet();
+        }
+        
+        @Override
+        public void transferCorrupted(TransferEvent event) {
+            transfersFailed.incrementAndGet();
+        }
+    }
+    
+    private class MetricsRepositoryListener extends AbstractRepositoryListener {
+        
+        @Override
+        public void artifactDownloaded(RepositoryEvent event) {
+            if (event.getException() == null) {
+                artifactsDownloaded.incrementAndGet();
+            }
+        }
+        
+        /**
+         * Fires for every lookup; those not preceded by a successful download were local hits.
+         */
+        @Override
+        public void artifactResolved(RepositoryEvent event) {
+            if (event.getException() == null && event.getFile() != null) {
+                artifactsResolved.incrementAndGet();
+            } else {
+                artifactsNotResolved.incrementAndGet();
+            }
+        }
+        
+        @Override
+        public void metadataResolved(RepositoryEvent event) {
+            metadataLookups.incrementAndGet();
+        }
+        
+        /**
+         * Fires only when the update policy sends a lookup to the remote repository.
+         */
+        @Override
+        public void metadataDownloading(RepositoryEvent event) {
+            metadataRequests.incrementAndGet();
+        }
+    }
+    
+    private static class RepositoryCounters {
+        
+        private final String url;
+        private final AtomicInteger transfers = new AtomicInteger();
+        private final LongAdder bytes = new LongAdder();
+        private final LongAdder millis = new LongAdder();
+        
+        RepositoryCounters(String url) {
+            this.url = url;
+        }
+        
+        void record(long transferredBytes, long transferMillis) {
+            transfers.incrementAndGet();
+            bytes.add(transferredBytes);
+            millis.add(transferMillis);
+        }
+        
+        RepositoryThroughput toThroughput(String repositoryId) {
+            long totalBytes = bytes.sum();
+            long totalMillis = millis.sum();
+            return RepositoryThroughput.builder()
+                    .repositoryId(repositoryId)
+                    .url(url)
+                    .transfers(transfers.get())
+                    .bytes(totalBytes)
+                    .transferMillis(totalMillis)
+                    .bytesPerSecond(totalMillis == 0 ? totalBytes : totalBytes * MILLIS_PER_SECOND / totalMillis)
+                    .build();
+        }
+    }
+    
+    /**
+     * Keeps the slowest timings seen so far in a bounded min-heap.
+     */
+    private static class SlowestTimings {
+        
+        private final PriorityQueue<ArtifactTiming> heap = new PriorityQueue<>(Comparator.comparingLong(ArtifactTiming::getMillis));
+        
+        synchronized void offer(ArtifactTiming timing) {
+            heap.offer(timing);
+            if (heap.size() > SLOWEST_LIMIT) {
+                heap.poll();
+            }
+        }
+        
+        synchronized List<ArtifactTiming> toList() {
+            List<ArtifactTiming> timings = new ArrayList<>(heap);
+            timings.sort(Comparator.comparingLong(ArtifactTiming::getMillis).reversed());
+            return timings;
+        }
+    }
+}
\ No newline at end of file
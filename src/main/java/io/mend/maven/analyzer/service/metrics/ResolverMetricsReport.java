@@ -0,0 +1,53 @@
+package io.mend.maven.analyzer.service.metrics;
+
+import io.mend.maven.analyzer.model.response.ArtifactTiming;
+import io.mend.maven.analyzer.model.response.RepositoryThroughput;
+import io.mend.maven.analyzer.model.response.ResolverMetrics;
+import io.mend.maven.analyzer.util.FormatUtils;
+import lombok.NonNull;
+import lombok.experimental.UtilityClass;
+
+import java.io.PrintStream;
+import java.util.List;
+
+/**
+ * Prints {@link ResolverMetrics} as a short human-readable summary at the end of a run.
+ */
+@UtilityClass
+public class ResolverMetricsReport {
+    
+    private static final int SLOWEST_SHOWN = 5;
+    
+    public static void print(@NonNull PrintStream out, @NonNull ResolverMetrics metrics) {
+        out.println();
+        out.println("Resolver metrics:");
+        out.printf("  Downloaded: %s in %d transfer(s), %d failed%n",
+                FormatUtils.formatBytes(metrics.getBytesDownloaded()), metrics.getTransfersSucceeded(), metrics.getTransfersFailed());
+        out.printf("  Local repository: %d hit(s), %d miss(es)%n",
+                metrics.getLocalRepositoryHits(), metrics.getLocalRepositoryMisses());
+        
+        out.printf("  Metadata: %d lookup(s), %d remote request(s)%n",
+                metrics.getMetadataLookups(), metrics.getMetadataRequests());
+        
+        int reads = metrics.getDescriptorReads();
+        out.printf("  Descriptor reads: %d (%d from cache), avg %d ms, max %d ms%n", reads, metrics.getDescriptorCacheHits(),
+                reads == 0 ? 0 : metrics.getDescriptorReadMillisTotal() / reads, metrics.getDescriptorReadMillisMax());
+        
+        for (RepositoryThroughput repository : metrics.getRepositories()) {
+            out.printf("  Repository %s: %s in %d transfer(s), %s/s%n", repository.getRepositoryId(),
+                    FormatUtils.formatBytes(repository.getBytes()), repository.getTransfers(), FormatUtils.formatBytes(repository.getBytesPerSecond()));
+        }
+        
+        printSlowest(out, "Slowest transfers", metrics.getSlowestTransfers());
+        printSlowest(out, "Slowest descriptor reads", metrics.getSlowestDescriptorReads());
+    }
+    
+    private static void printSlowest(PrintStream out, String title, List<ArtifactTiming> timings) {
+        if (timings == null || timings.isEmpty()) {
+            return;
+        }
+        out.println("  " + title + ":");
+        timings.stream().limit(SLOWEST_SHOWN)
+                .forEach(timing -> out.printf("    %6d ms  %s%n", timing.getMillis(), timing.getName()));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,31 @@
+package io.mend.maven.analyzer.service.metrics;
+
+import io.mend.maven.analyzer.service.descriptor.CachingArtifactDescriptorReader;
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.resolution.ArtifactDescriptorException;
+import org.eclipse.aether.resolution.ArtifactDescriptorRequest;
+import org.eclipse.aether.resolution.ArtifactDescriptorResult;
+
+/**
+ * Artifact descriptor reader that reports how long each POM read and model build took to the
+ * {@link ResolverMetricsCollector} attached to the session. Reads answered by the descriptor cache are
+ * timed as well.
+ */
+public class TimedArtifactDescriptorReader extends CachingArtifactDescriptorReader {
+    
+    @Override
+    public ArtifactDescriptorResult readArtifactDescriptor(RepositorySystemSession session, ArtifactDescriptorRequest request)
+            throws ArtifactDescriptorException {
+        ResolverMetricsCollector metrics = ResolverMetricsCollector.find(session);
+        if (metrics == null) {
+            return super.readArtifactDescriptor(session, request);
+        }
+        
+        long start = System.nanoTime();
+        try {
+            return super.readArtifactDescriptor(session, request);
+        } finally {
+            metrics.recordDescriptorRead(request.getArtifact(), System.nanoTime() - start);
+        }
+    }
+}
\ No newline at end of file
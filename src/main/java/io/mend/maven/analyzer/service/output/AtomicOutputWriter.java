@@ -0,0 +1,182 @@
+package io.mend.maven.analyzer.service.output;
+
+import io.mend.maven.analyzer.config.MavenConstants;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Writes output either to standard output or atomically to a file.
+ *
+ * File output is streamed into a temporary file in the target directory through a large
+ * buffered {@link FileChannel}. Only {@link #commit()} moves it into place, so readers never
+ * observe a partially written file; closing without committing discards the temporary file.
+ * The temporary file is created with the default permissions, which follow the umask, or takes
+ * those of the file it replaces.
+ */
+@Slf4j
+public class AtomicOutputWriter implements Closeable {
+    
+    private static final int WRITE_BUFFER_SIZE = 1024 * 1024;
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final int TEMP_FILE_ATTEMPTS = 10;
+    
+    private final Path targetPath;
+    private final Path tempPath;
+    private final FileChannel channel;
+    private final OutputStream outputStream;
+    private final boolean fsync;
+    private boolean committed;
+    
+    private AtomicOutputWriter(Path targetPath, Path tempPath, FileChannel channel, OutputStream outputStream, boolean fsync) {
+        this.targetPath = targetPath;
+        this.tempPath = tempPath;
+        this.channel = channel;
+        this.outputStream = outputStream;
+        this.fsync = fsync;
+    }
+    
+    /**
+     * Opens a writer for the given path; {@code "-"} selects standard output.
+     */
+    public static AtomicOutputWriter open(@NonNull String outputPath, boolean fsync) throws IOException {
+        if (outputPath.trim().isEmpty()) {
+            throw new IllegalArgumentException("Output path cannot be empty");
+        }
+        
+        if (isStandardOutput(outputPath)) {
+            return toStream(System.out);
+        }
+        
+        Path path = Paths.get(outputPath).toAbsolutePath();
+        
+        Path parentDir = path.getParent();
+        if (parentDir != null && !Files.exists(parentDir)) {
+            Files.createDirectories(parentDir);
+        }
+        
+        Path tempPath = null;
+        FileChannel channel = null;
+        for (int attempt = 1; channel == null; attempt++) {
+            String random = Long.toUnsignedString(ThreadLocalRandom.current().nextLong());
+            tempPath = path.resolveSibling("." + path.getFileName() + random + TEMP_FILE_SUFFIX);
+            try {
+                // Unlike Files.createTempFile, which makes the file owner-only
+                channel = FileChannel.open(tempPath, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+            } catch (FileAlreadyExistsException e) {
+                if (attempt == TEMP_FILE_ATTEMPTS) {
+                    throw e;
+                }
+            }
+        }
+        try {
+            copyPermissions(path, tempPath);
+        } catch (IOException e) {
+            channel.close();
+            Files.deleteIfExists(tempPath);
+            throw e;
+        }
+        OutputStream stream = new BufferedOutputStream(Channels.newOutputStream(channel), WRITE_BUFFER_SIZE);
+        
+        return new AtomicOutputWriter(path, tempPath, channel, stream, fsync);
+    }
+    
+    private static void copyPermissions(Path source, Path target) throws IOException {
+        PosixFileAttributeView sourceView = Files.getFileAttributeView(source, PosixFileAttributeView.class);
+        if (sourceView != null && Files.exists(source)) {
+            Files.getFileAttributeView(target, PosixFileAttributeView.class).setPermissions(sourceView.readAttributes().permissions());
+        }
+    }
+    
+    /**
+     * Wraps an already open stream; closing the writer flushes but never closes the stream.
+     */
+    public static AtomicOutputWriter toStream(@NonNull PrintStream stream) {
+        OutputStream nonClosing = new FilterOutputStream(new BufferedOutputStream(stream, WRITE_BUFFER_SIZE)) {
+            @Override
+            public void write(byte[] bytes, int offset, int length) throws IOException {
+                out.write(bytes, offset, length);
+            }
+            
+            @Override
+            public void close() throws IOException {
+                flush();
+            }
+        };
+        return new AtomicOutputWriter(null, null, null, nonClosing, false);
+    }
+    
+    public static boolean isStandardOutput(String outputPath) {
+        return MavenConstants.STANDARD_OUTPUT_PATH.equals(outputPath.trim());
+    }
+    
+    public OutputStream getOutputStream() {
+        return outputStream;
+    }
+    
+    /**
+     * Flushes all buffered data and, for file output, atomically moves the temporary file into place.
+     */
+    public void commit() throws IOException {
+        if (committed) {
+            return;
+        }
+        
+        outputStream.flush();
+        if (tempPath != null) {
+            if (fsync) {
+                channel.force(true);
+            }
+            outputStream.close();
+            moveIntoPlace();
+        }
+        committed = true;
+    }
+    
+    private void moveIntoPlace() throws IOException {
+        try {
+            Files.move(tempPath, targetPath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            log.debug("Atomic move not supported for {}, falling back to replace", targetPath);
+            Files.move(tempPath, targetPath, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+    
+    /**
+     * Discards uncommitted file output; committed output and standard output are left untouched.
+     */
+    @Override
+    public void close() throws IOException {
+        if (committed) {
+            return;
+        }
+        
+        if (tempPath == null) {
+            outputStream.close();
+            return;
+        }
+        
+        try {
+            outputStream.close();
+        } finally {
+            Files.deleteIfExists(tempPath);
+        }
+    }
+}
\ No newline at end of file
@@ -1,15 +1,12 @@
 package io.mend.maven.analyzer.service.output;
 
 import io.mend.maven.analyzer.model.response.AnalysisResult;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import lombok.NonNull;
 
-import java.io.File;
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
 
 public class JsonOutputService {
     
@@ -19,22 +16,29 @@ public class JsonOutputService {
         this.objectMapper = new ObjectMapper();
         this.objectMapper.enable(SerializationFeature.INDENT_OUTPUT);
         this.objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        this.objectMapper.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
     }
     
     public void writeToFile(@NonNull AnalysisResult result, @NonNull String outputPath) throws IOException {
-        if (outputPath.trim().isEmpty()) {
-            throw new IllegalArgumentException("Output path cannot be empty");
-        }
-        
-        Path path = Paths.get(outputPath);
-        
-        Path parentDir = path.getParent();
-        if (parentDir != null && !Files.exists(parentDir)) {
-            Files.createDirectories(parentDir);
-        }
-        
-        File outputFile = path.toFile();
-        objectMapper.writeValue(outputFile, result);
+        writeToFile(result, outputPath, false);
+    }
+    
+    /**
+     * Writes the result atomically to the output path ({@code "-"} for standard output),
+     * optionally forcing the data to disk before it is moved into place.
+     */
+    public void writeToFile(@NonNull AnalysisResult result, @NonNull String outputPath, boolean fsync) throws IOException {
+        writeValue(result, outputPath, fsync);
     }
     
+    /**
+     * Writes any report object as indented JSON, atomically like {@link #writeToFile(AnalysisResult, String, boolean)}.
+     */
+    public void writeValue(@NonNull Object value, @NonNull String outputPath, boolean fsync) throws IOException {
+        try (AtomicOutputWriter writer = AtomicOutputWriter.open(outputPath, fsync)) {
+            objectMapper.writeValue(writer.getOutputStream(), value);
+            writer.commit();
+        }
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,93 @@
+package io.mend.maven.analyzer.service.output;
+
+import io.mend.maven.analyzer.model.response.DependencyRecord;
+import io.mend.maven.analyzer.service.analysis.DependencyNodeListener;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.NonNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes dependencies as newline-delimited JSON (one {@link DependencyRecord} per line).
+ *
+ * Registered as a {@link DependencyNodeListener}, records are streamed to the output as the
+ * tree is traversed, so the file can be consumed by bulk loaders without holding the tree in memory.
+ */
+public class NdjsonOutputService implements DependencyNodeListener, Closeable {
+    
+    private static final char RECORD_SEPARATOR = '\n';
+    
+    private final JsonGenerator generator;
+    private final AtomicOutputWriter outputWriter;
+    private long recordCount;
+    
+    public NdjsonOutputService(@NonNull Writer writer) throws IOException {
+        this(writer, null);
+    }
+    
+    private NdjsonOutputService(Writer writer, AtomicOutputWriter outputWriter) throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper();
+        this.generator = objectMapper.createGenerator(writer);
+        this.generator.setRootValueSeparator(null);
+        this.outputWriter = outputWriter;
+    }
+    
+    /**
+     * Opens an NDJSON writer for the given output path ({@code "-"} for standard output).
+     * File output only becomes visible once {@link #commit()} is called.
+     */
+    public static NdjsonOutputService forFile(@NonNull String outputPath) throws IOException {
+        return forFile(outputPath, false);
+    }
+    
+    public static NdjsonOutputService forFile(@NonNull String outputPath, boolean fsync) throws IOException {
+        AtomicOutputWriter outputWriter = AtomicOutputWriter.open(outputPath, fsync);
+        Writer writer = new OutputStreamWriter(outputWriter.getOutputStream(), StandardCharsets.UTF_8);
+        return new NdjsonOutputService(writer, outputWriter);
+    }
+    
+    @Override
+    public void onDependency(@NonNull DependencyRecord dependencyRecord) {
+        try {
+            generator.writeObject(dependencyRecord);
+            generator.writeRaw(RECORD_SEPARATOR);
+            recordCount++;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write NDJSON record: " + e.getMessage(), e);
+        }
+    }
+    
+    public long getRecordCount() {
+        return recordCount;
+    }
+    
+    /**
+     * Flushes all records and moves the output file into place.
+     */
+    public void commit() throws IOException {
+        generator.flush();
+        if (outputWriter != null) {
+            outputWriter.commit();
+        }
+    }
+    
+    @Override
+    public void close() throws IOException {
+        if (outputWriter == null) {
+            generator.close();
+            return;
+        }
+        
+        try {
+            generator.flush();
+        } finally {
+            outputWriter.close();
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package io.mend.maven.analyzer.service.output;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * Supported formats for the analysis output file.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum OutputFormat {
+    
+    /** Single hierarchical JSON document (default). */
+    JSON("json"),
+    
+    /** Newline-delimited JSON, one flat record per dependency, written during traversal. */
+    NDJSON("ndjson");
+    
+    private final String value;
+    
+    public static Optional<OutputFormat> fromValue(@NonNull String value) {
+        return Arrays.stream(values())
+                .filter(format -> format.value.equalsIgnoreCase(value.trim()))
+                .findFirst();
+    }
+}
@@ -0,0 +1,205 @@
+package io.mend.maven.analyzer.service.prefetch;
+
+import io.mend.maven.analyzer.config.MavenResolverConfig;
+import io.mend.maven.analyzer.model.response.PrefetchResult;
+import io.mend.maven.analyzer.service.diff.DependencyIndex;
+import io.mend.maven.analyzer.service.diff.DependencyIndexReader;
+import io.mend.maven.analyzer.service.hash.Sha1HashService;
+import io.mend.maven.analyzer.service.metrics.ResolverMetricsCollector;
+import io.mend.maven.analyzer.util.DependencyUtils;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.apache.maven.model.Model;
+import org.apache.maven.model.Repository;
+import org.eclipse.aether.DefaultRepositorySystemSession;
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.eclipse.aether.repository.LocalRepositoryManager;
+import org.eclipse.aether.repository.RemoteRepository;
+import org.eclipse.aether.repository.RepositoryPolicy;
+import org.eclipse.aether.resolution.ArtifactRequest;
+import org.eclipse.aether.resolution.ArtifactResolutionException;
+import org.eclipse.aether.resolution.ArtifactResult;
+import org.eclipse.aether.transfer.ArtifactNotFoundException;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Downloads every artifact listed in an analysis result or lockfile into the local repository ahead
+ * of time, so that a later analysis or build finds them there.
+ *
+ * All POMs and JARs go to the resolver in one batch, which downloads them with the connector's
+ * parallel transfer threads over the shared HTTP connection pool and fails any file whose remote
+ * checksum does not match. Each downloaded artifact file, with its classifier and extension, is then
+ * compared with the SHA1 recorded in the input.
+ * Repositories come from the lockfile, if the input is one, followed by the configured ones.
+ */
+@Slf4j
+public class ArtifactPrefetchService {
+    
+    private static final String FIELD_REPOSITORIES = "repositories";
+    private static final String FIELD_ID = "id";
+    private static final String FIELD_URL = "url";
+    private static final String POM_EXTENSION = "pom";
+    
+    private final MavenResolverConfig config;
+    private final Sha1HashService sha1HashService;
+    private final JsonFactory jsonFactory = new JsonFactory();
+    
+    public ArtifactPrefetchService(@NonNull MavenResolverConfig config) {
+        this.config = config;
+        this.sha1HashService = new Sha1HashService(config);
+    }
+    
+    public PrefetchResult prefetch(@NonNull Path inputFile) throws IOException {
+        long startNanos = System.nanoTime();
+        DependencyIndex index = new DependencyIndexReader().read(inputFile);
+        Map<String, DependencyIndex.Node> artifacts = new LinkedHashMap<>();
+        for (DependencyIndex.Node node : index.getNodes()) {
+            if (node.getVersion() != null) {
+                artifacts.putIfAbsent(node.getCoordinates(), node);
+            }
+        }
+        
+        Model repositoryModel = new Model();
+        repositoryModel.setRepositories(readRepositories(inputFile));
+        List<RemoteRepository> repositories = config.getRepositories(repositoryModel);
+        
+        // Artifacts differing only in classifier share a POM, and a POM-packaged one is its own POM
+        Set<Artifact> files = new LinkedHashSet<>();
+        for (DependencyIndex.Node node : artifacts.values()) {
+            files.add(new DefaultArtifact(node.getGroupId(), node.getArtifactId(), POM_EXTENSION, node.getVersion()));
+            String extension = node.getExtension() != null ? node.getExtension() : DependencyUtils.DEFAULT_EXTENSION;
+            files.add(new DefaultArtifact(node.getGroupId(), node.getArtifactId(), node.getClassifier(), extension,
+                    node.getVersion()));
+        }
+        List<ArtifactRequest> requests = new ArrayList<>(files.size());
+        for (Artifact file : files) {
+            requests.add(new ArtifactRequest(file, repositories, null));
+        }
+        
+        ResolverMetricsCollector metricsCollector = new ResolverMetricsCollector();
+        DefaultRepositorySystemSession session = config.newRequestSession(metricsCollector);
+        session.setChecksumPolicy(RepositoryPolicy.CHECKSUM_POLICY_FAIL);
+        Set<Artifact> alreadyPresent = findPresent(session, requests);
+        List<ArtifactResult> results;
+        try {
+            results = config.getRepositorySystem().resolveArtifacts(session, requests);
+        } catch (ArtifactResolutionException e) {
+            results = e.getResults();
+        }
+        
+        PrefetchResult result = PrefetchResult.builder()
+                .artifacts(artifacts.size())
+                .files(requests.size())
+                .build();
+        for (ArtifactResult artifactResult : results) {
+            recordResult(result, artifactResult, artifacts, alreadyPresent);
+        }
+        result.setBytesDownloaded(metricsCollector.toMetrics().getBytesDownloaded());
+        result.setElapsedMillis((System.nanoTime() - startNanos) / 1_000_000);
+        return result;
+    }
+    
+    /**
+     * Checks the local repository before resolving, since the resolver reports the originating remote
+     * repository for cached files as well as for downloaded ones.
+     */
+    private static Set<Artifact> findPresent(RepositorySystemSession session, List<ArtifactRequest> requests) {
+        LocalRepositoryManager localRepositoryManager = session.getLocalRepositoryManager();
+        Set<Artifact> present = new HashSet<>();
+        for (ArtifactRequest request : requests) {
+            Path file = localRepositoryManager.getRepository().getBasedir().toPath()
+                    .resolve(localRepositoryManager.getPathForLocalArtifact(request.getArtifact()));
+            if (Files.isRegularFile(file)) {
+                present.add(request.getArtifact());
+            }
+        }
+        return present;
+    }
+    
+    private void recordResult(PrefetchResult result, ArtifactResult artifactResult, Map<String, DependencyIndex.Node> artifacts,
+                              Set<Artifact> alreadyPresent) {
+        Artifact requested = artifactResult.getRequest().getArtifact();
+        String file = requested.getGroupId() + ":" + requested.getArtifactId() + ":" + requested.getExtension()
+                + (requested.getClassifier().isEmpty() ? "" : ":" + requested.getClassifier())
+                + ":" + requested.getVersion();
+        if (!artifactResult.isResolved()) {
+            boolean notFound = !artifactResult.getExceptions().isEmpty()
+                    && artifactResult.getExceptions().stream().allMatch(ArtifactNotFoundException.class::isInstance);
+            (notFound ? result.getNotFound() : result.getFailed()).add(file);
+            return;
+        }
+        
+        if (alreadyPresent.contains(requested)) {
+            result.setAlreadyPresent(result.getAlreadyPresent() + 1);
+        } else {
+            result.setDownloaded(result.getDownloaded() + 1);
+        }
+        
+        // Only the file a node stands for has a recorded SHA1; the POM of a JAR has none
+        DependencyIndex.Node node = artifacts.get(DependencyUtils.formatCoordinates(requested));
+        if (node != null) {
+            String recordedSha1 = node.getSha1();
+            String actualSha1 = sha1HashService.calculateSha1Hash(artifactResult.getArtifact().getFile());
+            if (recordedSha1 != null && !recordedSha1.equalsIgnoreCase(actualSha1)) {
+                log.warn("SHA1 of {} is {}, expected {}", file, actualSha1, recordedSha1);
+                result.getSha1Mismatches().add(file);
+            }
+        }
+    }
+
+    
+    /**
+     * Reads the top-level {@code repositories} of a lockfile; analysis results have none.
+     */
+    private List<Repository> readRepositories(Path inputFile) throws IOException {
+        List<Repository> repositories = new ArrayList<>();
+        try (InputStream inputStream = Files.newInputStream(inputFile);
+             JsonParser parser = jsonFactory.createParser(inputStream)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return repositories;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if (FIELD_REPOSITORIES.equals(field) && value == JsonToken.START_ARRAY) {
+                    while (parser.nextToken() == JsonToken.START_OBJECT) {
+                        repositories.add(readRepository(parser));
+                    }
+                    return repositories;
+                }
+                parser.skipChildren();
+            }
+        }
+        return repositories;
+    }
+    
+    private static Repository readRepository(JsonParser parser) throws IOException {
+        Repository repository = new Repository();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case FIELD_ID -> repository.setId(parser.getValueAsString());
+                case FIELD_URL -> repository.setUrl(parser.getValueAsString());
+                default -> parser.skipChildren();
+            }
+        }
+        return repository;
+    }
+}
\ No newline at end of file
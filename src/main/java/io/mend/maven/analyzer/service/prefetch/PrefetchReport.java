@@ -0,0 +1,34 @@
+package io.mend.maven.analyzer.service.prefetch;
+
+import io.mend.maven.analyzer.model.response.PrefetchResult;
+import io.mend.maven.analyzer.util.FormatUtils;
+import lombok.NonNull;
+import lombok.experimental.UtilityClass;
+
+import java.io.PrintStream;
+
+/**
+ * Prints a {@link PrefetchResult} as the problem files followed by the totals.
+ */
+@UtilityClass
+public class PrefetchReport {
+    
+    public static void print(@NonNull PrintStream out, @NonNull PrefetchResult result) {
+        for (String file : result.getFailed()) {
+            out.println("  ✗ " + file + " failed to download");
+        }
+        for (String file : result.getSha1Mismatches()) {
+            out.println("  ! " + file + " does not match the recorded sha1");
+        }
+        for (String file : result.getNotFound()) {
+            out.println("  ? " + file + " not found in any repository");
+        }
+        
+        out.println();
+        out.printf("%s %d artifacts: %d files downloaded (%s), %d already present, %d not found, %d failed in %d ms%n",
+                result.hasFailures() ? "✗" : "✓", result.getArtifacts(), result.getDownloaded(),
+                FormatUtils.formatBytes(result.getBytesDownloaded()), result.getAlreadyPresent(),
+                result.getNotFound().size(), result.getFailed().size() + result.getSha1Mismatches().size(),
+                result.getElapsedMillis());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,21 @@
+package io.mend.maven.analyzer.service.profile;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Stages of an analysis run, in execution order, as reported by {@link PhaseProfiler}.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum AnalysisPhase {
+    VALIDATION("validation"),
+    POM_PARSING("pom-parsing"),
+    COLLECTION("collection"),
+    RESOLUTION("resolution"),
+    TREE_BUILDING("tree-building"),
+    HASHING("hashing"),
+    OUTPUT("output");
+    
+    private final String value;
+}
\ No newline at end of file
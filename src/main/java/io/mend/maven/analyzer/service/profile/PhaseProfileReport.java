@@ -0,0 +1,35 @@
+package io.mend.maven.analyzer.service.profile;
+
+import io.mend.maven.analyzer.model.response.PhaseProfile;
+import io.mend.maven.analyzer.model.response.PhaseTiming;
+import io.mend.maven.analyzer.util.FormatUtils;
+import lombok.NonNull;
+import lombok.experimental.UtilityClass;
+
+import java.io.PrintStream;
+
+/**
+ * Prints a {@link PhaseProfile} as a table.
+ */
+@UtilityClass
+public class PhaseProfileReport {
+    
+    private static final String ROW_FORMAT = "  %-14s %7s %11s %11s %12s%n";
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    
+    public static void print(@NonNull PrintStream out, @NonNull PhaseProfile profile) {
+        out.println();
+        out.println("Phase profile:");
+        out.printf(ROW_FORMAT, "Phase", "Calls", "Wall ms", "CPU ms", "Allocated");
+        for (PhaseTiming timing : profile.getPhases()) {
+            out.printf(ROW_FORMAT, timing.getPhase(), timing.getInvocations(), millis(timing.getWallNanos()),
+                    millis(timing.getCpuNanos()), FormatUtils.formatBytes(timing.getAllocatedBytes()));
+        }
+        out.printf(ROW_FORMAT, "total", "", millis(profile.getWallNanos()),
+                millis(profile.getCpuNanos()), FormatUtils.formatBytes(profile.getAllocatedBytes()));
+    }
+    
+    private static String millis(long nanos) {
+        return String.format("%.1f", nanos / NANOS_PER_MILLI);
+    }
+}
\ No newline at end of file
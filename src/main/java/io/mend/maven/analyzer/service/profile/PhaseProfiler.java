@@ -0,0 +1,169 @@
+package io.mend.maven.analyzer.service.profile;
+
+import io.mend.maven.analyzer.model.response.PhaseProfile;
+import io.mend.maven.analyzer.model.response.PhaseTiming;
+import lombok.NonNull;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Records wall time, CPU time and allocated bytes per {@link AnalysisPhase}.
+ *
+ * CPU time and allocations come from the per-thread counters of {@link com.sun.management.ThreadMXBean},
+ * so work the resolver hands off to its download threads only shows up as wall time. Phases may nest;
+ * each phase is charged its own (exclusive) cost, so the phases add up to the total. A profiler instance
+ * is meant for one analysis on one thread.
+ */
+public class PhaseProfiler {
+    
+    /** Profiler that records nothing, used when profiling is off. */
+    public static final PhaseProfiler DISABLED = new PhaseProfiler(false);
+    
+    private static final Phase NO_OP_PHASE = new Phase(null, null) {
+        @Override
+        public void close() {
+            // nothing recorded
+        }
+    };
+    
+    private final boolean enabled;
+    private final com.sun.management.ThreadMXBean threadBean;
+    private final Map<AnalysisPhase, Totals> totals = new EnumMap<>(AnalysisPhase.class);
+    private final Deque<Phase> activePhases = new ArrayDeque<>();
+    
+    public PhaseProfiler() {
+        this(true);
+    }
+    
+    private PhaseProfiler(boolean enabled) {
+        this.enabled = enabled;
+        this.threadBean = enabled ? initThreadBean() : null;
+    }
+    
+    private static com.sun.management.ThreadMXBean initThreadBean() {
+        if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean)) {
+            return null;
+        }
+        if (bean.isThreadAllocatedMemorySupported() && !bean.isThreadAllocatedMemoryEnabled()) {
+            bean.setThreadAllocatedMemoryEnabled(true);
+        }
+        if (bean.isCurrentThreadCpuTimeSupported() && !bean.isThreadCpuTimeEnabled()) {
+            bean.setThreadCpuTimeEnabled(true);
+        }
+        return bean;
+    }
+    
+    public boolean isEnabled() {
+        return enabled;
+    }
+    
+    /**
+     * Starts timing a phase; close the returned handle, typically with try-with-resources, to stop it.
+     */
+    public Phase start(@NonNull AnalysisPhase phase) {
+        if (!enabled) {
+            return NO_OP_PHASE;
+        }
+        Phase handle = new Phase(this, phase);
+        activePhases.push(handle);
+        return handle;
+    }
+    
+    public PhaseProfile toProfile() {
+        List<PhaseTiming> phases = new ArrayList<>();
+        long wallNanos = 0;
+        long cpuNanos = 0;
+        long allocatedBytes = 0;
+        for (Map.Entry<AnalysisPhase, Totals> entry : totals.entrySet()) {
+            Totals phaseTotals = entry.getValue();
+            phases.add(PhaseTiming.builder()
+                    .phase(entry.getKey().getValue())
+                    .invocations(phaseTotals.invocations)
+                    .wallNanos(phaseTotals.wallNanos)
+                    .cpuNanos(phaseTotals.cpuNanos)
+                    .allocatedBytes(phaseTotals.allocatedBytes)
+                    .build());
+            wallNanos += phaseTotals.wallNanos;
+            cpuNanos += phaseTotals.cpuNanos;
+            allocatedBytes += phaseTotals.allocatedBytes;
+        }
+        return PhaseProfile.builder()
+                .phases(phases)
+                .wallNanos(wallNanos)
+                .cpuNanos(cpuNanos)
+                .allocatedBytes(allocatedBytes)
+                .build();
+    }
+    
+    private long cpuTime() {
+        return threadBean != null && threadBean.isThreadCpuTimeEnabled() ? threadBean.getCurrentThreadCpuTime() : 0L;
+    }
+    
+    private long allocatedBytes() {
+        return threadBean != null && threadBean.isThreadAllocatedMemoryEnabled() ? threadBean.getCurrentThreadAllocatedBytes() : 0L;
+    }
+    
+    private void finish(Phase phase, long wallNanos, long cpuNanos, long allocated) {
+        activePhases.remove(phase);
+        
+        Totals phaseTotals = totals.computeIfAbsent(phase.phase, key -> new Totals());
+        phaseTotals.invocations++;
+        phaseTotals.wallNanos += wallNanos - phase.childWallNanos;
+        phaseTotals.cpuNanos += cpuNanos - phase.childCpuNanos;
+        phaseTotals.allocatedBytes += allocated - phase.childAllocatedBytes;
+        
+        Phase parent = activePhases.peek();
+        if (parent != null) {
+            parent.childWallNanos += wallNanos;
+            parent.childCpuNanos += cpuNanos;
+            parent.childAllocatedBytes += allocated;
+        }
+    }
+    
+    /**
+     * Handle for a running phase.
+     */
+    public static class Phase implements AutoCloseable {
+        
+        private final PhaseProfiler profiler;
+        private final AnalysisPhase phase;
+        private final long startWall;
+        private final long startCpu;
+        private final long startAllocated;
+        private long childWallNanos;
+        private long childCpuNanos;
+        private long childAllocatedBytes;
+        private boolean closed;
+        
+        private Phase(PhaseProfiler profiler, AnalysisPhase phase) {
+            this.profiler = profiler;
+            this.phase = phase;
+            this.startWall = System.nanoTime();
+            this.startCpu = profiler != null ? profiler.cpuTime() : 0L;
+            this.startAllocated = profiler != null ? profiler.allocatedBytes() : 0L;
+        }
+        
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            profiler.finish(this, System.nanoTime() - startWall, profiler.cpuTime() - startCpu,
+                    profiler.allocatedBytes() - startAllocated);
+        }
+    }
+    
+    private static final class Totals {
+        private int invocations;
+        private long wallNanos;
+        private long cpuNanos;
+        private long allocatedBytes;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,98 @@
+package io.mend.maven.analyzer.service.stream;
+
+import io.mend.maven.analyzer.exception.DependencyAnalysisException;
+import io.mend.maven.analyzer.model.response.DependencyRecord;
+import io.mend.maven.analyzer.service.DependencyAnalysisService;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Cold {@link Flow.Publisher} that runs one analysis when subscribed and emits every dependency as soon
+ * as it has been hashed, parents before their children, then completes.
+ *
+ * Backpressure reaches the traversal: once the subscriber's buffer is full, hashing blocks until the
+ * subscriber requests more. Cancelling the subscription stops the analysis at the next node. Analysis
+ * failures arrive through {@code onError} as {@link DependencyAnalysisException}. Each publisher
+ * accepts a single subscriber; later ones are rejected with {@link IllegalStateException}.
+ */
+@Slf4j
+public class DependencyRecordPublisher implements Flow.Publisher<DependencyRecord> {
+    
+    public static final int DEFAULT_BUFFER_CAPACITY = Flow.defaultBufferSize();
+    
+    private final DependencyAnalysisService analysisService;
+    private final String projectPath;
+    private final Executor executor;
+    private final int bufferCapacity;
+    private final AtomicBoolean subscribed = new AtomicBoolean();
+    
+    /**
+     * Creates a publisher that analyzes and delivers on virtual threads.
+     */
+    public DependencyRecordPublisher(@NonNull DependencyAnalysisService analysisService, @NonNull String projectPath) {
+        this(analysisService, projectPath, task -> Thread.ofVirtual().name("dependency-record-publisher").start(task),
+            DEFAULT_BUFFER_CAPACITY);
+    }
+    
+    /**
+     * Creates a publisher that runs the analysis and delivers records on the given executor, buffering
+     * at most {@code bufferCapacity} records the subscriber has not requested yet.
+     */
+    public DependencyRecordPublisher(@NonNull DependencyAnalysisService analysisService, @NonNull String projectPath,
+                                     @NonNull Executor executor, int bufferCapacity) {
+        if (bufferCapacity < 1) {
+            throw new IllegalArgumentException("Buffer capacity must be positive: " + bufferCapacity);
+        }
+        this.analysisService = analysisService;
+        this.projectPath = projectPath;
+        this.executor = executor;
+        this.bufferCapacity = bufferCapacity;
+    }
+    
+    @Override
+    public void subscribe(@NonNull Flow.Subscriber<? super DependencyRecord> subscriber) {
+        if (!subscribed.compareAndSet(false, true)) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {
+                    // rejected below
+                }
+                
+                @Override
+                public void cancel() {
+                    // nothing to cancel
+                }
+            });
+            subscriber.onError(new IllegalStateException("DependencyRecordPublisher allows only one subscriber"));
+            return;
+        }
+        
+        SubmissionPublisher<DependencyRecord> publisher = new SubmissionPublisher<>(executor, bufferCapacity);
+        publisher.subscribe(subscriber);
+        executor.execute(() -> run(publisher));
+    }
+    
+    private void run(SubmissionPublisher<DependencyRecord> publisher) {
+        try {
+            analysisService.analyze(projectPath, dependencyRecord -> {
+                if (!publisher.hasSubscribers()) {
+                    throw new CancellationException("Subscription cancelled");
+                }
+                // Blocks while the subscriber's buffer is full
+                publisher.submit(dependencyRecord);
+            });
+            publisher.close();
+        } catch (CancellationException e) {
+            log.debug("Analysis of {} stopped after the subscription was cancelled", projectPath);
+            publisher.close();
+        } catch (DependencyAnalysisException | RuntimeException e) {
+            publisher.closeExceptionally(e);
+        }
+    }
+}
\ No newline at end of file
@@ -1,6 +1,7 @@
 package io.mend.maven.analyzer.util;
 
 import io.mend.maven.analyzer.model.entity.AnalyzedDependency;
+import org.eclipse.aether.artifact.Artifact;
 import lombok.experimental.UtilityClass;
 
 import java.util.List;
@@ -11,6 +12,10 @@ import java.util.List;
 @UtilityClass
 public class DependencyUtils {
     
+    public static final String DEFAULT_EXTENSION = "jar";
+    
+    private static final String SEPARATOR = ":";
+    
     /**
      * Counts the total number of dependencies recursively.
      */
@@ -27,4 +32,46 @@ public class DependencyUtils {
         }
         return count;
     }
+    
+    /**
+     * Formats coordinates as {@code groupId:artifactId:version} for a JAR without classifier and as
+     * {@code groupId:artifactId:extension[:classifier]:version}, the resolver's notation, otherwise.
+     * A null or empty classifier and a null extension are absent.
+     */
+    public static String formatCoordinates(String groupId, String artifactId, String classifier, String extension,
+                                           String version) {
+        return formatArtifactKey(groupId, artifactId, classifier, extension) + SEPARATOR + version;
+    }
+    
+    /**
+     * Formats the version-less part of {@link #formatCoordinates(String, String, String, String, String)},
+     * which tells apart the artifacts of one module across versions.
+     */
+    public static String formatArtifactKey(String groupId, String artifactId, String classifier, String extension) {
+        boolean classified = classifier != null && !classifier.isEmpty();
+        if (!classified && (extension == null || DEFAULT_EXTENSION.equals(extension))) {
+            return groupId + SEPARATOR + artifactId;
+        }
+        return groupId + SEPARATOR + artifactId + SEPARATOR + (extension != null ? extension : DEFAULT_EXTENSION)
+                + (classified ? SEPARATOR + classifier : "");
+    }
+    
+    public static String formatCoordinates(Artifact artifact) {
+        return formatCoordinates(artifact.getGroupId(), artifact.getArtifactId(), artifact.getClassifier(),
+                artifact.getExtension(), artifact.getVersion());
+    }
+    
+    /**
+     * Returns the artifact's classifier, or null if it has none.
+     */
+    public static String getClassifier(Artifact artifact) {
+        return artifact.getClassifier().isEmpty() ? null : artifact.getClassifier();
+    }
+    
+    /**
+     * Returns the artifact's extension, or null for the default {@code jar}.
+     */
+    public static String getExtension(Artifact artifact) {
+        return DEFAULT_EXTENSION.equals(artifact.getExtension()) ? null : artifact.getExtension();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,127 @@
+package io.mend.maven.analyzer.util;
+
+import io.mend.maven.analyzer.model.entity.AnalyzedDependency;
+import io.mend.maven.analyzer.model.entity.CompactDependency;
+import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.codec.digest.DigestUtils;
+import lombok.NonNull;
+import lombok.experimental.UtilityClass;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.List;
+
+/**
+ * Merkle fingerprints of dependency subtrees.
+ *
+ * A node's fingerprint is the SHA1 of its coordinates, scope, JAR SHA1 and the fingerprints of its
+ * children in order, so two subtrees with equal fingerprints are identical and any change below a
+ * node changes the fingerprint of that node and all of its ancestors, but of nothing else. The classifier
+ * and extension of an artifact other than the main JAR, and the conflict annotations of verbose graphs,
+ * are appended only when present, so other fingerprints are unaffected.
+ */
+@UtilityClass
+public class FingerprintUtils {
+    
+    private static final byte FIELD_PRESENT = 1;
+    private static final byte FIELD_ABSENT = 0;
+    private static final byte NODE_MARKER = 'N';
+    private static final byte ROOT_MARKER = 'R';
+    private static final byte CONFLICT_MARKER = 'C';
+    private static final byte ARTIFACT_MARKER = 'A';
+    
+    /**
+     * Computes a node's fingerprint from its own fields and its children's existing fingerprints.
+     */
+    public static String fingerprint(@NonNull AnalyzedDependency dependency) {
+        MessageDigest digest = DigestUtils.getSha1Digest();
+        digest.update(NODE_MARKER);
+        updateField(digest, dependency.getGroupId());
+        updateField(digest, dependency.getArtifactId());
+        updateField(digest, dependency.getVersion());
+        updateField(digest, dependency.getScope());
+        updateField(digest, dependency.getSha1());
+        updateChildren(digest, dependency.getChildren());
+        if (dependency.getClassifier() != null || dependency.getExtension() != null) {
+            digest.update(ARTIFACT_MARKER);
+            updateField(digest, dependency.getClassifier());
+            updateField(digest, dependency.getExtension());
+        }
+        if (dependency.getOmitted() != null || dependency.getOriginalScope() != null) {
+            digest.update(CONFLICT_MARKER);
+            updateField(digest, dependency.getOmitted());
+            updateField(digest, dependency.getWinnerVersion());
+            updateField(digest, dependency.getOriginalScope());
+        }
+        return Hex.encodeHexString(digest.digest());
+    }
+    
+    /**
+     * Combines the fingerprints of the root-level dependencies into a fingerprint of the whole tree.
+     */
+    public static String rootFingerprint(List<AnalyzedDependency> dependencies) {
+        MessageDigest digest = DigestUtils.getSha1Digest();
+        digest.update(ROOT_MARKER);
+        updateChildren(digest, dependencies);
+        return Hex.encodeHexString(digest.digest());
+    }
+    
+    /**
+     * Combines the fingerprints carried by compact root-level dependencies as {@link #rootFingerprint} does,
+     * so a compact tree has the same root fingerprint as its {@link AnalyzedDependency} form.
+     */
+    public static String compactRootFingerprint(@NonNull List<CompactDependency> dependencies) {
+        MessageDigest digest = DigestUtils.getSha1Digest();
+        digest.update(ROOT_MARKER);
+        updateInt(digest, dependencies.size());
+        for (CompactDependency dependency : dependencies) {
+            updateField(digest, dependency.getFingerprint());
+        }
+        return Hex.encodeHexString(digest.digest());
+    }
+    
+    /**
+     * Fills in the fingerprint of every node bottom-up, for trees built without them such as older
+     * JSON reports, and returns the root fingerprint.
+     */
+    public static String computeFingerprints(List<AnalyzedDependency> dependencies) {
+        if (dependencies != null) {
+            for (AnalyzedDependency dependency : dependencies) {
+                computeFingerprints(dependency.getChildren());
+                dependency.setFingerprint(fingerprint(dependency));
+            }
+        }
+        return rootFingerprint(dependencies);
+    }
+    
+    private static void updateChildren(MessageDigest digest, List<AnalyzedDependency> children) {
+        int count = children != null ? children.size() : 0;
+        updateInt(digest, count);
+        for (int i = 0; i < count; i++) {
+            AnalyzedDependency child = children.get(i);
+            String childFingerprint = child.getFingerprint() != null ? child.getFingerprint() : fingerprint(child);
+            updateField(digest, childFingerprint);
+        }
+    }
+    
+    /**
+     * Length-prefixes each value so that no two different field sequences produce the same input.
+     */
+    private static void updateField(MessageDigest digest, String value) {
+        if (value == null) {
+            digest.update(FIELD_ABSENT);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        digest.update(FIELD_PRESENT);
+        updateInt(digest, bytes.length);
+        digest.update(bytes);
+    }
+    
+    private static void updateInt(MessageDigest digest, int value) {
+        digest.update((byte) (value >>> 24));
+        digest.update((byte) (value >>> 16));
+        digest.update((byte) (value >>> 8));
+        digest.update((byte) value);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,25 @@
+package io.mend.maven.analyzer.util;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * Formatting helpers for console reports.
+ */
+@UtilityClass
+public class FormatUtils {
+    
+    private static final long KIB = 1024L;
+    
+    /**
+     * Formats a byte count using B, KiB or MiB.
+     */
+    public static String formatBytes(long bytes) {
+        if (bytes < KIB) {
+            return bytes + " B";
+        }
+        if (bytes < KIB * KIB) {
+            return String.format("%.1f KiB", bytes / (double) KIB);
+        }
+        return String.format("%.1f MiB", bytes / (double) (KIB * KIB));
+    }
+}
\ No newline at end of file
@@ -1,9 +1,15 @@
 package io.mend.maven.analyzer.cli;
 
+import io.mend.maven.analyzer.config.LockGranularity;
+import io.mend.maven.analyzer.service.analysis.GraphMode;
+import io.mend.maven.analyzer.service.output.OutputFormat;
 import org.apache.commons.cli.ParseException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+import java.util.Set;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class CommandLineHandlerTest {
@@ -39,6 +45,266 @@ class CommandLineHandlerTest {
         assertEquals("output.json", result.getOutputPath());
     }
     
+    @Test
+    void testParseArguments_NoFormat_DefaultsToJson() throws ParseException {
+        String tempDir = System.getProperty("java.io.tmpdir");
+        String[] args = {"-d", tempDir, "-o", "output.json"};
+        
+        CommandLineHandler.CommandLineArguments result = handler.parseArguments(args);
+        
+        assertEquals(OutputFormat.JSON, result.getOutputFormat());
+    }
+    
+    @Test
+    void testParseArguments_NdjsonFormat_ReturnsNdjson() throws ParseException {
+        String tempDir = System.getProperty("java.io.tmpdir");
+        String[] args = {"-d", tempDir, "-o", "output.ndjson", "--format", "NDJSON"};
+        
+        CommandLineHandler.CommandLineArguments result = handler.parseArguments(args);
+        
+        assertEquals(OutputFormat.NDJSON, result.getOutputFormat());
+    }
+    
+    @Test
+    void testParseArguments_UnknownFormat_ThrowsParseException() {
+        String tempDir = System.getProperty("java.io.tmpdir");
+        String[] args = {"-d", tempDir, "-o", "output.xml", "-f", "xml"};
+        
+        ParseException exception = assertThrows(ParseException.class, 
+            () -> handler.parseArguments(args));
+        
+        assertTrue(exception.getMessage().contains("Unsupported output format: xml"));
+    }
+    
+    @Test
+    void testParseArguments_DashOutputAndFsync_ReturnsStandardOutput() throws ParseException {
+        String tempDir = System.getProperty("java.io.tmpdir");
+        String[] args = {"-d", tempDir, "-o", "-", "--fsync"};
+        
+        CommandLineHandler.CommandLineArguments result = handler.parseArguments(args);
+        
+        assertEquals("-", result.getOutputPath());
+        assertTrue(result.isFsync());
+    }
+    
+    @Test
+    void testParseArguments_OfflineFlag_SetsOffline() throws ParseException {
+        String tempDir = System.getProperty("java.io.tmpdir");
+        String[] args = {"-d", tempDir, "-o", "output.json", "--offline"};
+        
+        CommandLineHandler.CommandLineArguments result = handler.parseArguments(args);
+        
+        assertTrue(result.isOffline());
+        assertFalse(handler.parseArguments(new String[]{"-d", tempDir, "-o", "output.json"}).isOffline());
+    }
+    
+    @Test
+    void testParseArguments_TransferOptions_ParsesValues() throws ParseException {
+        String tempDir = System.getProperty("java.io.tmpdir");
+        String[] args = {"-d", tempDir, "-o", "output.json", "--threads", "16", "--max-connections", "32",
+            "--connect-timeout", "2000", "--request-timeout", "60000"};
+        
+        CommandLineHandler.CommandLineArguments result = handler.parseArguments(args);
+        
+        assertEquals(16, result.getTransferThreads());
+        assertEquals(32, result.getMaxConnectionsPerRoute());
+        assertEquals(2000, result.getConnectTimeoutMillis());
+        assertEquals(60000, result.getRequestTimeoutMillis());
+        assertNull(result.getSettingsFile());
+        assertFalse(result.isMetrics());
+    }
+    
+    @Test
+    void testParseArguments_MetricsFlag_SetsMetrics() throws ParseException {
+        String tempDir = System.getProperty("java.io.tmpdir");
+        String[] args = {"-d", tempDir, "-o", "output.json", "--metrics"};
+        
+        CommandLineHandler.CommandLineArguments result = handler.parseArguments(args);
+        
+        assertTrue(result.isMetrics());
+    }
+    
+    @Test
+    void testParseArguments_ProfileOutput_ImpliesProfile() throws ParseException {
+        String tempDir = System.getProperty("java.io.tmpdir");
+        String[] args = {"-d", tempDir, "-o", "output.json", "--profile-output", "profile.json"};
+        
+        CommandLineHandler.CommandLineArguments result = handler.parseArguments(args);
+        
+        assertTrue(result.isProfile());
+        assertEquals("profile.json", result.getProfileOutputPath());
+    }
+    
+    @Test
+    void testParseArguments_JfrOption_SetsRecordingPath() throws ParseException {
+        String tempDir = System.getProperty("java.io.tmpdir");
+        String[] args = {"-d", tempDir, "-o", "output.json", "--jfr", "analysis.jfr"};
+        
+        CommandLineHandler.CommandLineArguments result = handler.parseArguments(args);
+        
+        assertEquals("analysis.jfr", result.getJfrOutputPath());
+        assertFalse(result.isProfile());
+    }
+    
+    @Test
+    void testParseArguments_SnapshotOption_SetsSnapshotPath() throws ParseException {
+        String tempDir = System.getProperty("java.io.tmpdir");
+        String[] args = {"-d", tempDir, "-o", "output.json", "--snapshot", "graph-snapshot.json"};
+        
+        CommandLineHandler.CommandLineArguments result = handler.parseArguments(args);
+        
+        assertEquals("graph-snapshot.json", result.getSnapshotPath());
+        assertFalse(result.isLockfile());
+    }
+    
+    @Test
+    void testParseArguments_LockfileFlag_SetsLockfile() throws ParseException {
+        String tempDir = System.getProperty("java.io.tmpdir");
+        String[] args = {"-d", tempDir, "-o", "output.json", "--lockfile"};
+        
+        CommandLineHandler.CommandLineArguments result = handler.parseArguments(args);
+        
+        assertTrue(result.isLockfile());
+        assertFalse(result.isFingerprints());
+    }
+    
+    @Test
+    void testParseArguments_FingerprintsFlag_SetsFingerprints() throws ParseException {
+        String tempDir = System.getProperty("java.io.tmpdir");
+        String[] args = {"-d", tempDir, "-o", "output.json", "--fingerprints"};
+        
+        CommandLineHandler.CommandLineArguments result = handler.parseArguments(args);
+        
+        assertTrue(result.isFingerprints());
+        assertFalse(result.isCompact());
+    }
+    
+    @Test
+    void testParseArguments_CompactFlag_SetsCompact() throws ParseException {
+        String tempDir = System.getProperty("java.io.tmpdir");
+        String[] args = {"-d", tempDir, "-o", "output.json", "--compact"};
+        
+        CommandLineHandler.CommandLineArguments result = handler.parseArguments(args);
+        
+        assertTrue(result.isCompact());
+    }
+    
+    @Test
+    void testParseArguments_DescriptorCacheOption_SetsDescriptorCachePath() throws ParseException {
+        String tempDir = System.getProperty("java.io.tmpdir");
+        String[] args = {"-d", tempDir, "-o", "output.json", "--descriptor-cache", "descriptors.json"};
+        
+        CommandLineHandler.CommandLineArguments result = handler.parseArguments(args);
+        
+        assertEquals("descriptors.json", result.getDescriptorCachePath());
+        assertNull(handler.parseArguments(new String[]{"-d", tempDir, "-o", "output.json"}).getDescriptorCachePath());
+    }
+    
+    @Test
+    void testParseArguments_RepositoryIndexOption_SetsRepositoryIndexPath() throws ParseException {
+        String tempDir = System.getProperty("java.io.tmpdir");
+        String[] args = {"-d", tempDir, "-o", "output.json", "--repository-index", "repository.idx"};
+        
+        CommandLineHandler.CommandLineArguments result = handler.parseArguments(args);
+        
+        assertEquals("repository.idx", result.getRepositoryIndexPath());
+    }
+    
+    @Test
+    void testParseArguments_SelectionOptions_SetsScopesDepthAndExcludes() throws ParseException {
+        String tempDir = System.getProperty("java.io.tmpdir");
+        String[] args = {"-d", tempDir, "-o", "output.json", "--scope", "compile, runtime", "--max-depth", "3",
+            "--exclude", "org.slf4j,*:commons-logging", "--exclude", "com.example:legacy-*"};
+        
+        CommandLineHandler.CommandLineArguments result = handler.parseArguments(args);
+        
+        assertEquals(Set.of("compile", "runtime"), result.getScopes());
+        assertEquals(3, result.getMaxDepth());
+        assertEquals(List.of("org.slf4j", "*:commons-logging", "com.example:legacy-*"), result.getExcludes());
+    }
+    
+    @Test
+    void testParseArguments_GraphMode_SetsGraphMode() throws ParseException {
+        String tempDir = System.getProperty("java.io.tmpdir");
+        
+        assertEquals(GraphMode.RESOLVED, handler.parseArguments(new String[]{"-d", tempDir, "-o", "output.json"}).getGraphMode());
+        assertEquals(GraphMode.VERBOSE,
+            handler.parseArguments(new String[]{"-d", tempDir, "-o", "output.json", "--graph", "verbose"}).getGraphMode());
+    }
+    
+    @Test
+    void testParseArguments_LockOptions_SetsGranularityAndTimeout() throws ParseException {
+        String tempDir = System.getProperty("java.io.tmpdir");
+        
+        CommandLineHandler.CommandLineArguments defaults = handler.parseArguments(new String[]{"-d", tempDir, "-o", "output.json"});
+        CommandLineHandler.CommandLineArguments arguments = handler.parseArguments(
+            new String[]{"-d", tempDir, "-o", "output.json", "--lock", "repository", "--lock-timeout", "300"});
+        
+        assertEquals(LockGranularity.ARTIFACT, defaults.getLockGranularity());
+        assertNull(defaults.getLockTimeoutSeconds());
+        assertEquals(LockGranularity.REPOSITORY, arguments.getLockGranularity());
+        assertEquals(300, arguments.getLockTimeoutSeconds());
+    }
+    
+    @Test
+    void testParseArguments_UnknownLockGranularity_ThrowsParseException() {
+        String tempDir = System.getProperty("java.io.tmpdir");
+        String[] args = {"-d", tempDir, "-o", "output.json", "--lock", "host"};
+        
+        assertThrows(ParseException.class, () -> handler.parseArguments(args));
+    }
+    
+    @Test
+    void testParseArguments_Policies_SetsUpdateAndChecksumPolicy() throws ParseException {
+        String tempDir = System.getProperty("java.io.tmpdir");
+        
+        CommandLineHandler.CommandLineArguments arguments = handler.parseArguments(
+            new String[]{"-d", tempDir, "-o", "output.json", "--update-policy", "interval:60", "--checksum-policy", "FAIL"});
+        
+        assertEquals("interval:60", arguments.getUpdatePolicy());
+        assertEquals("fail", arguments.getChecksumPolicy());
+        assertThrows(ParseException.class, () -> handler.parseArguments(
+            new String[]{"-d", tempDir, "-o", "output.json", "--update-policy", "interval:0"}));
+    }
+    
+    @Test
+    void testParseArguments_RawGraphWithLockfile_ThrowsParseException() {
+        String tempDir = System.getProperty("java.io.tmpdir");
+        String[] args = {"-d", tempDir, "-o", "output.json", "--graph", "raw", "--lockfile"};
+        
+        assertThrows(ParseException.class, () -> handler.parseArguments(args));
+    }
+    
+    @Test
+    void testParseArguments_UnknownScope_ThrowsParseException() {
+        String tempDir = System.getProperty("java.io.tmpdir");
+        String[] args = {"-d", tempDir, "-o", "output.json", "--scope", "compile,import"};
+        
+        ParseException exception = assertThrows(ParseException.class, () -> handler.parseArguments(args));
+        
+        assertTrue(exception.getMessage().contains("import"));
+    }
+    
+    @Test
+    void testParseArguments_InvalidThreads_ThrowsParseException() {
+        String tempDir = System.getProperty("java.io.tmpdir");
+        String[] args = {"-d", tempDir, "-o", "output.json", "--threads", "zero"};
+        
+        ParseException exception = assertThrows(ParseException.class, () -> handler.parseArguments(args));
+        
+        assertTrue(exception.getMessage().contains("--threads"));
+    }
+    
+    @Test
+    void testParseArguments_MissingSettingsFile_ThrowsParseException() {
+        String tempDir = System.getProperty("java.io.tmpdir");
+        String[] args = {"-d", tempDir, "-o", "output.json", "-s", "/nonexistent/settings.xml"};
+        
+        ParseException exception = assertThrows(ParseException.class, () -> handler.parseArguments(args));
+        
+        assertTrue(exception.getMessage().contains("Settings file does not exist"));
+    }
+    
     @Test
     void testParseArguments_HelpFlag_ReturnsHelpRequested() throws ParseException {
         String[] args = {"--help"};
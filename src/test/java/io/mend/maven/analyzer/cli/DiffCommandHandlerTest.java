@@ -0,0 +1,53 @@
+package io.mend.maven.analyzer.cli;
+
+import org.apache.commons.cli.ParseException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DiffCommandHandlerTest {
+    
+    private final DiffCommandHandler handler = new DiffCommandHandler();
+    
+    @TempDir
+    Path tempDir;
+    
+    @Test
+    void testParseArguments_TwoFilesAndOutput_ReturnsArguments() throws Exception {
+        Path oldFile = createFile("old.json");
+        Path newFile = createFile("new.ndjson");
+        
+        DiffCommandHandler.DiffArguments result = handler.parseArguments(
+            new String[]{oldFile.toString(), newFile.toString(), "-o", "changes.json"});
+        
+        assertEquals(oldFile.toString(), result.getOldFile());
+        assertEquals(newFile.toString(), result.getNewFile());
+        assertEquals("changes.json", result.getOutputPath());
+    }
+    
+    @Test
+    void testParseArguments_OneFile_ThrowsException() throws Exception {
+        Path oldFile = createFile("old.json");
+        
+        assertThrows(ParseException.class, () -> handler.parseArguments(new String[]{oldFile.toString()}));
+    }
+    
+    @Test
+    void testParseArguments_MissingFile_ThrowsException() throws Exception {
+        Path oldFile = createFile("old.json");
+        
+        ParseException exception = assertThrows(ParseException.class,
+            () -> handler.parseArguments(new String[]{oldFile.toString(), tempDir.resolve("missing.json").toString()}));
+        
+        assertTrue(exception.getMessage().contains("missing.json"));
+    }
+    
+    private Path createFile(String name) throws IOException {
+        return Files.writeString(tempDir.resolve(name), "{}");
+    }
+}
\ No newline at end of file
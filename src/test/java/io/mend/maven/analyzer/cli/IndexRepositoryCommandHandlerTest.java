@@ -0,0 +1,31 @@
+package io.mend.maven.analyzer.cli;
+
+import org.apache.commons.cli.ParseException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IndexRepositoryCommandHandlerTest {
+    
+    private final IndexRepositoryCommandHandler handler = new IndexRepositoryCommandHandler();
+    
+    @Test
+    void testParseArguments_RepositoryIndexAndThreads_ReturnsArguments() throws Exception {
+        IndexRepositoryCommandHandler.IndexRepositoryArguments result = handler.parseArguments(new String[]{
+            "--local-repository", "/cache/m2", "--index", "/cache/m2.idx", "--threads", "64"});
+        
+        assertEquals("/cache/m2", result.getLocalRepository());
+        assertEquals("/cache/m2.idx", result.getIndexFile());
+        assertEquals(64, result.getThreads());
+        assertNull(handler.parseArguments(new String[]{}).getIndexFile());
+    }
+    
+    @Test
+    void testParseArguments_InvalidThreadsOrExtraArgument_ThrowsException() {
+        ParseException exception = assertThrows(ParseException.class,
+            () -> handler.parseArguments(new String[]{"--threads", "none"}));
+        
+        assertTrue(exception.getMessage().contains("--threads"));
+        assertThrows(ParseException.class, () -> handler.parseArguments(new String[]{"/cache/m2"}));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,47 @@
+package io.mend.maven.analyzer.cli;
+
+import org.apache.commons.cli.ParseException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrefetchCommandHandlerTest {
+    
+    private final PrefetchCommandHandler handler = new PrefetchCommandHandler();
+    
+    @TempDir
+    Path tempDir;
+    
+    @Test
+    void testParseArguments_FileAndTransferOptions_ReturnsArguments() throws Exception {
+        Path lockfile = Files.writeString(tempDir.resolve("dependency-lock.json"), "{}");
+        
+        PrefetchCommandHandler.PrefetchArguments result = handler.parseArguments(new String[]{
+            lockfile.toString(), "--threads", "16", "--max-connections", "32", "--local-repository", "/cache/m2"});
+        
+        assertEquals(lockfile.toString(), result.getInputFile());
+        assertEquals(16, result.getTransferThreads());
+        assertEquals(32, result.getMaxConnectionsPerRoute());
+        assertEquals("/cache/m2", result.getLocalRepository());
+        assertNull(result.getSettingsFile());
+    }
+    
+    @Test
+    void testParseArguments_NoFile_ThrowsException() {
+        assertThrows(ParseException.class, () -> handler.parseArguments(new String[]{}));
+    }
+    
+    @Test
+    void testParseArguments_InvalidThreads_ThrowsException() throws Exception {
+        Path lockfile = Files.writeString(tempDir.resolve("dependency-lock.json"), "{}");
+        
+        ParseException exception = assertThrows(ParseException.class,
+            () -> handler.parseArguments(new String[]{lockfile.toString(), "--threads", "0"}));
+        
+        assertTrue(exception.getMessage().contains("--threads"));
+    }
+}
\ No newline at end of file
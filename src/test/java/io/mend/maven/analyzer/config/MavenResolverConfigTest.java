@@ -0,0 +1,200 @@
+package io.mend.maven.analyzer.config;
+
+import io.mend.maven.analyzer.support.RepositoryFixtures;
+import org.apache.maven.model.Model;
+import org.apache.maven.model.Repository;
+import org.eclipse.aether.ConfigurationProperties;
+import org.eclipse.aether.repository.RemoteRepository;
+import org.eclipse.aether.repository.RepositoryPolicy;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MavenResolverConfigTest {
+    
+    private static final String MIRROR_ID = "internal-mirror";
+    private static final String MIRROR_URL = "http://repo.example.com/maven2/";
+    
+    @TempDir
+    Path tempDir;
+    
+    @Test
+    void testConstructor_NoSettingsFile_UsesMavenCentral() {
+        MavenResolverConfig config = new MavenResolverConfig(optionsFor(tempDir.resolve("missing.xml")));
+        
+        assertEquals(1, config.getRepositories().size());
+        assertEquals(MavenConstants.DEFAULT_MAVEN_CENTRAL_URL, config.getRepositories().get(0).getUrl());
+        assertFalse(config.isOffline());
+    }
+    
+    @Test
+    void testConstructor_MirrorSettings_RoutesCentralThroughMirror() throws IOException {
+        Path localRepository = tempDir.resolve("local");
+        Path settings = RepositoryFixtures.writeMirrorSettings(tempDir.resolve("settings.xml"), localRepository, MIRROR_ID, MIRROR_URL);
+        
+        MavenResolverConfig config = new MavenResolverConfig(optionsFor(settings));
+        
+        RemoteRepository repository = config.getRepositories().get(0);
+        assertEquals(MIRROR_ID, repository.getId());
+        assertEquals(MIRROR_URL, repository.getUrl());
+        assertEquals(MavenConstants.DEFAULT_MAVEN_CENTRAL_ID, repository.getMirroredRepositories().get(0).getId());
+        assertEquals(localRepository.toAbsolutePath().toString(), config.getLocalRepositoryPath());
+    }
+    
+    @Test
+    void testConstructor_ExplicitLocalRepository_OverridesSettings() throws IOException {
+        Path settings = RepositoryFixtures.writeMirrorSettings(tempDir.resolve("settings.xml"), tempDir.resolve("from-settings"), MIRROR_ID, MIRROR_URL);
+        Path explicit = tempDir.resolve("explicit");
+        
+        MavenResolverConfig config = new MavenResolverConfig(ResolverOptions.builder()
+            .settingsFile(settings.toString())
+            .localRepository(explicit.toString())
+            .build());
+        
+        assertEquals(explicit.toAbsolutePath().toString(), config.getLocalRepositoryPath());
+    }
+    
+    @Test
+    void testConstructor_ServerCredentials_AttachedToMatchingRepository() throws IOException {
+        Path settings = tempDir.resolve("settings.xml");
+        Files.writeString(settings, """
+                <settings>
+                    <servers>
+                        <server>
+                            <id>central</id>
+                            <username>deployer</username>
+                            <password>secret</password>
+                        </server>
+                    </servers>
+                    <proxies>
+                        <proxy>
+                            <active>true</active>
+                            <protocol>https</protocol>
+                            <host>proxy.example.com</host>
+                            <port>3128</port>
+                        </proxy>
+                    </proxies>
+                </settings>
+                """);
+        
+        MavenResolverConfig config = new MavenResolverConfig(optionsFor(settings));
+        
+        RemoteRepository central = config.getRepositories().get(0);
+        assertNotNull(central.getAuthentication());
+        assertNotNull(central.getProxy());
+        assertEquals("proxy.example.com", central.getProxy().getHost());
+    }
+    
+    @Test
+    void testConstructor_OfflineSettings_EnablesOfflineSession() throws IOException {
+        Path settings = tempDir.resolve("settings.xml");
+        Files.writeString(settings, "<settings><offline>true</offline></settings>");
+        
+        MavenResolverConfig config = new MavenResolverConfig(optionsFor(settings));
+        
+        assertTrue(config.isOffline());
+        assertTrue(config.getSession().isOffline());
+    }
+    
+    @Test
+    void testConstructor_ActiveProfileRepositories_AreAdded() throws IOException {
+        Path settings = tempDir.resolve("settings.xml");
+        Files.writeString(settings, """
+                <settings>
+                    <profiles>
+                        <profile>
+                            <id>internal</id>
+                            <repositories>
+                                <repository>
+                                    <id>internal-releases</id>
+                                    <url>http://repo.example.com/releases/</url>
+                                </repository>
+                            </repositories>
+                        </profile>
+                    </profiles>
+                    <activeProfiles>
+                        <activeProfile>internal</activeProfile>
+                    </activeProfiles>
+                </settings>
+                """);
+        
+        MavenResolverConfig config = new MavenResolverConfig(optionsFor(settings));
+        
+        assertEquals(2, config.getRepositories().size());
+        assertEquals("internal-releases", config.getRepositories().get(1).getId());
+    }
+    
+    @Test
+    void testGetRepositories_ProjectRepositories_PrecedeConfiguredOnes() {
+        MavenResolverConfig config = new MavenResolverConfig(optionsFor(tempDir.resolve("missing.xml")));
+        Model model = new Model();
+        model.addRepository(repository("project-releases", "file:///srv/maven/releases"));
+        model.addRepository(repository(MavenConstants.DEFAULT_MAVEN_CENTRAL_ID, "file:///srv/maven/central"));
+        
+        List<RemoteRepository> repositories = config.getRepositories(model);
+        
+        assertEquals(2, repositories.size());
+        assertEquals("project-releases", repositories.get(0).getId());
+        assertEquals("file:///srv/maven/central", repositories.get(1).getUrl());
+        assertSame(config.getRepositories(), config.getRepositories(new Model()));
+    }
+    
+    @Test
+    void testConstructor_TransferOptions_AppliedToSession() {
+        MavenResolverConfig config = new MavenResolverConfig(ResolverOptions.builder()
+            .settingsFile(tempDir.resolve("missing.xml").toString())
+            .transferThreads(12)
+            .maxConnectionsPerRoute(24)
+            .connectTimeout(Duration.ofSeconds(3))
+            .requestTimeout(Duration.ofSeconds(30))
+            .build());
+        
+        Map<String, Object> properties = config.getSession().getConfigProperties();
+        assertEquals(12, properties.get(MavenConstants.CONNECTOR_THREADS_PROPERTY));
+        assertEquals(24, properties.get(ConfigurationProperties.HTTP_MAX_CONNECTIONS_PER_ROUTE));
+        assertEquals(3000, properties.get(ConfigurationProperties.CONNECT_TIMEOUT));
+        assertEquals(30000, properties.get(ConfigurationProperties.REQUEST_TIMEOUT));
+    }
+    
+    @Test
+    void testConstructor_Policies_OverrideRepositoryPolicies() {
+        MavenResolverConfig config = new MavenResolverConfig(ResolverOptions.builder()
+            .settingsFile(tempDir.resolve("missing.xml").toString())
+            .updatePolicy(RepositoryPolicy.UPDATE_POLICY_NEVER)
+            .checksumPolicy(RepositoryPolicy.CHECKSUM_POLICY_FAIL)
+            .build());
+        
+        assertEquals(RepositoryPolicy.UPDATE_POLICY_NEVER, config.getSession().getUpdatePolicy());
+        assertEquals(RepositoryPolicy.CHECKSUM_POLICY_FAIL, config.getSession().getChecksumPolicy());
+    }
+    
+    @Test
+    void testConstructor_MalformedSettings_ThrowsException() throws IOException {
+        Path settings = tempDir.resolve("settings.xml");
+        Files.writeString(settings, "<settings><mirrors>");
+        
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+            () -> new MavenResolverConfig(optionsFor(settings)));
+        
+        assertTrue(exception.getMessage().startsWith("Invalid Maven settings"));
+    }
+    
+    private Repository repository(String id, String url) {
+        Repository repository = new Repository();
+        repository.setId(id);
+        repository.setUrl(url);
+        return repository;
+    }
+    
+    private ResolverOptions optionsFor(Path settings) {
+        return ResolverOptions.builder().settingsFile(settings.toString()).build();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,104 @@
+package io.mend.maven.analyzer.integration;
+
+import io.mend.maven.analyzer.config.AnalysisOptions;
+import io.mend.maven.analyzer.config.MavenResolverConfig;
+import io.mend.maven.analyzer.config.ResolverOptions;
+import io.mend.maven.analyzer.model.response.PrefetchResult;
+import io.mend.maven.analyzer.service.DependencyAnalysisService;
+import io.mend.maven.analyzer.service.analysis.DependencyNodeListener;
+import io.mend.maven.analyzer.service.lock.LockfileService;
+import io.mend.maven.analyzer.service.prefetch.ArtifactPrefetchService;
+import io.mend.maven.analyzer.service.profile.PhaseProfiler;
+import io.mend.maven.analyzer.support.SyntheticRepositoryGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Prefetches the artifacts of a generated project's lockfile into an empty local repository and checks
+ * that a second run finds them all present and that a wrong recorded SHA1 is reported.
+ */
+class ArtifactPrefetchTest {
+    
+    @TempDir
+    Path tempDir;
+    
+    private SyntheticRepositoryGenerator.GeneratedProject project;
+    private Path lockfilePath;
+    private ArtifactPrefetchService prefetchService;
+    
+    @BeforeEach
+    void setUp() throws Exception {
+        SyntheticRepositoryGenerator.Spec spec = SyntheticRepositoryGenerator.Spec.builder()
+            .artifactCount(60)
+            .depth(3)
+            .fanOut(3)
+            .directDependencies(4)
+            .build();
+        project = SyntheticRepositoryGenerator.generate(tempDir, spec);
+        lockfilePath = project.getProjectDirectory().resolve(LockfileService.FILE_NAME);
+        
+        DependencyAnalysisService analysisService = new DependencyAnalysisService(
+            new MavenResolverConfig(resolverOptions(project.getLocalRepositoryDirectory())),
+            new PrintStream(OutputStream.nullOutputStream()));
+        analysisService.analyze(project.getProjectDirectory().toString(), DependencyNodeListener.NONE,
+            PhaseProfiler.DISABLED, AnalysisOptions.builder().lockfile(true).build());
+        
+        prefetchService = new ArtifactPrefetchService(
+            new MavenResolverConfig(resolverOptions(tempDir.resolve("prefetch-repository"))));
+    }
+    
+    @Test
+    void testPrefetch_EmptyLocalRepository_DownloadsEveryArtifact() throws Exception {
+        PrefetchResult result = prefetchService.prefetch(lockfilePath);
+        
+        assertFalse(result.hasFailures());
+        assertEquals(project.getReachableArtifactCount(), result.getArtifacts());
+        assertEquals(result.getArtifacts() * 2, result.getFiles());
+        assertTrue(result.getNotFound().isEmpty());
+        assertEquals(result.getFiles(), result.getDownloaded());
+        assertEquals(0, result.getAlreadyPresent());
+        assertTrue(result.getBytesDownloaded() > 0);
+        assertTrue(Files.isRegularFile(tempDir.resolve("prefetch-repository")
+            .resolve("io/synthetic/level0/lib-0-0/1.0.0/lib-0-0-1.0.0.jar")));
+    }
+    
+    @Test
+    void testPrefetch_SecondRun_FindsEverythingPresent() throws Exception {
+        prefetchService.prefetch(lockfilePath);
+        
+        PrefetchResult result = prefetchService.prefetch(lockfilePath);
+        
+        assertFalse(result.hasFailures());
+        assertEquals(0, result.getDownloaded());
+        assertEquals(result.getFiles(), result.getAlreadyPresent());
+        assertEquals(0, result.getBytesDownloaded());
+    }
+    
+    @Test
+    void testPrefetch_RecordedSha1Differs_ReportsMismatch() throws Exception {
+        String lockfile = Files.readString(lockfilePath);
+        String sha1 = lockfile.replaceAll("(?s).*?\"sha1\" : \"([0-9a-f]{40})\".*", "$1");
+        Files.writeString(lockfilePath, lockfile.replace(sha1, "0".repeat(40)));
+        
+        PrefetchResult result = prefetchService.prefetch(lockfilePath);
+        
+        assertTrue(result.hasFailures());
+        assertEquals(1, result.getSha1Mismatches().size());
+        assertTrue(result.getFailed().isEmpty());
+    }
+    
+    private ResolverOptions resolverOptions(Path localRepository) {
+        return ResolverOptions.builder()
+            .localRepository(localRepository.toString())
+            .settingsFile(tempDir.resolve("no-settings.xml").toString())
+            .build();
+    }
+}
\ No newline at end of file
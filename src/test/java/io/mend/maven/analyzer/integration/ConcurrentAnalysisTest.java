@@ -0,0 +1,182 @@
+package io.mend.maven.analyzer.integration;
+
+import io.mend.maven.analyzer.config.AnalysisOptions;
+import io.mend.maven.analyzer.config.MavenResolverConfig;
+import io.mend.maven.analyzer.config.ResolverOptions;
+import io.mend.maven.analyzer.model.entity.AnalyzedDependency;
+import io.mend.maven.analyzer.model.response.AnalysisResult;
+import io.mend.maven.analyzer.model.response.ResolverMetrics;
+import io.mend.maven.analyzer.service.DependencyAnalysisService;
+import io.mend.maven.analyzer.service.analysis.DependencyNodeListener;
+import io.mend.maven.analyzer.service.analysis.DependencySelection;
+import io.mend.maven.analyzer.service.lock.LockfileService;
+import io.mend.maven.analyzer.service.profile.PhaseProfiler;
+import io.mend.maven.analyzer.support.SyntheticRepositoryGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Shares one {@link DependencyAnalysisService} between concurrent asynchronous analyses of a generated
+ * repository, and checks that cancellation and deadlines stop the worker.
+ */
+class ConcurrentAnalysisTest {
+    
+    private static final int CONCURRENT_ANALYSES = 16;
+    private static final Duration WORKER_STOP_TIMEOUT = Duration.ofSeconds(10);
+    
+    @TempDir
+    Path tempDir;
+    
+    private final Queue<Thread> workers = new ConcurrentLinkedQueue<>();
+    private SyntheticRepositoryGenerator.GeneratedProject project;
+    private DependencyAnalysisService analysisService;
+    
+    @BeforeEach
+    void setUp() throws Exception {
+        SyntheticRepositoryGenerator.Spec spec = SyntheticRepositoryGenerator.Spec.builder()
+            .artifactCount(120)
+            .depth(3)
+            .fanOut(4)
+            .directDependencies(6)
+            .conflictRate(0.1)
+            .build();
+        project = SyntheticRepositoryGenerator.generate(tempDir, spec);
+        
+        ResolverOptions options = ResolverOptions.builder()
+            .localRepository(project.getLocalRepositoryDirectory().toString())
+            .settingsFile(tempDir.resolve("no-settings.xml").toString())
+            .metrics(true)
+            .build();
+        Executor executor = task -> workers.add(Thread.ofVirtual().start(task));
+        analysisService = new DependencyAnalysisService(new MavenResolverConfig(options),
+            new PrintStream(OutputStream.nullOutputStream()), executor);
+    }
+    
+    @Test
+    void testAnalyzeAsync_ConcurrentAnalyses_ProduceIdenticalResultsWithOwnMetrics() throws Exception {
+        List<CompletableFuture<AnalysisResult>> futures = new ArrayList<>();
+        for (int i = 0; i < CONCURRENT_ANALYSES; i++) {
+            futures.add(analysisService.analyzeAsync(projectPath()));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(2, TimeUnit.MINUTES);
+        
+        AnalysisResult reference = analysisService.analyze(projectPath());
+        List<String> expectedTree = flatten(reference.getDependencies(), new ArrayList<>());
+        long totalDownloaded = 0;
+        Set<ResolverMetrics> metrics = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (CompletableFuture<AnalysisResult> future : futures) {
+            AnalysisResult result = future.get();
+            assertEquals(expectedTree, flatten(result.getDependencies(), new ArrayList<>()));
+            assertNotNull(result.getMetrics());
+            metrics.add(result.getMetrics());
+            totalDownloaded += result.getMetrics().getBytesDownloaded();
+        }
+        
+        assertEquals(CONCURRENT_ANALYSES, metrics.size());
+        assertTrue(totalDownloaded > 0);
+        assertEquals(0, reference.getMetrics().getBytesDownloaded());
+    }
+    
+    @Test
+    void testAnalyzeAsync_WithOptionsAndProfiler_AppliesThem() throws Exception {
+        PhaseProfiler profiler = new PhaseProfiler();
+        AnalysisOptions options = AnalysisOptions.builder()
+            .lockfile(true)
+            .fingerprints(true)
+            .selection(DependencySelection.builder().maxDepth(1).build())
+            .build();
+        
+        AnalysisResult result = analysisService.analyzeAsync(projectPath(), DependencyNodeListener.NONE, profiler, options,
+            Duration.ofMinutes(2)).get();
+        
+        assertNotNull(result.getFingerprint());
+        assertFalse(result.getResolvedFromLockfile());
+        assertTrue(Files.exists(project.getProjectDirectory().resolve(LockfileService.FILE_NAME)));
+        assertEquals(0, result.getStatistics().getMaxDepth());
+        assertFalse(profiler.toProfile().getPhases().isEmpty());
+    }
+    
+    @Test
+    void testAnalyzeAsync_CancelledFromListener_StopsBeforeNextDependency() throws Exception {
+        AtomicReference<CompletableFuture<AnalysisResult>> futureReference = new AtomicReference<>();
+        AtomicInteger delivered = new AtomicInteger();
+        CompletableFuture<Void> started = new CompletableFuture<>();
+        DependencyNodeListener listener = dependencyRecord -> {
+            delivered.incrementAndGet();
+            started.join();
+            futureReference.get().cancel(true);
+        };
+        
+        CompletableFuture<AnalysisResult> future = analysisService.analyzeAsync(projectPath(), listener, null);
+        futureReference.set(future);
+        started.complete(null);
+        
+        assertThrows(CancellationException.class, future::join);
+        awaitWorkers();
+        assertEquals(1, delivered.get());
+    }
+    
+    @Test
+    void testAnalyzeAsync_DeadlineExceeded_FailsWithTimeoutAndStopsWorker() throws Exception {
+        AtomicInteger delivered = new AtomicInteger();
+        DependencyNodeListener slowListener = dependencyRecord -> {
+            delivered.incrementAndGet();
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        
+        CompletableFuture<AnalysisResult> future = analysisService.analyzeAsync(projectPath(), slowListener, Duration.ofMillis(300));
+        
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> future.get(1, TimeUnit.MINUTES));
+        assertInstanceOf(TimeoutException.class, exception.getCause());
+        awaitWorkers();
+        int deliveredAtStop = delivered.get();
+        assertTrue(deliveredAtStop < project.getReachableArtifactCount(),
+            "Traversal should stop early, delivered " + deliveredAtStop);
+    }
+    
+    private List<String> flatten(List<AnalyzedDependency> dependencies, List<String> lines) {
+        for (AnalyzedDependency dependency : dependencies) {
+            lines.add(dependency + " " + dependency.getSha1() + " " + dependency.getChildren().size());
+            flatten(dependency.getChildren(), lines);
+        }
+        return lines;
+    }
+    
+    private void awaitWorkers() throws InterruptedException {
+        for (Thread worker : workers) {
+            assertTrue(worker.join(WORKER_STOP_TIMEOUT), "Worker did not stop: " + worker);
+        }
+    }
+    
+    private String projectPath() {
+        return project.getProjectDirectory().toString();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,122 @@
+package io.mend.maven.analyzer.integration;
+
+import io.mend.maven.analyzer.config.AnalysisOptions;
+import io.mend.maven.analyzer.config.MavenResolverConfig;
+import io.mend.maven.analyzer.config.ResolverOptions;
+import io.mend.maven.analyzer.model.entity.AnalyzedDependency;
+import io.mend.maven.analyzer.model.response.AnalysisResult;
+import io.mend.maven.analyzer.service.DependencyAnalysisService;
+import io.mend.maven.analyzer.service.analysis.DependencyNodeListener;
+import io.mend.maven.analyzer.service.analysis.DependencySelection;
+import io.mend.maven.analyzer.service.profile.PhaseProfiler;
+import io.mend.maven.analyzer.support.SyntheticRepositoryGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Prunes the graph of a generated project by depth, exclusion pattern and scope, and checks that the
+ * pruned subtrees are neither in the result nor read from the repository.
+ */
+class DependencySelectionTest {
+    
+    private static final String TEST_SCOPED_ARTIFACT = "lib-0-0";
+    
+    @TempDir
+    Path tempDir;
+    
+    private SyntheticRepositoryGenerator.GeneratedProject project;
+    private ResolverOptions resolverOptions;
+    
+    @BeforeEach
+    void setUp() throws Exception {
+        SyntheticRepositoryGenerator.Spec spec = SyntheticRepositoryGenerator.Spec.builder()
+            .artifactCount(80)
+            .depth(4)
+            .fanOut(3)
+            .directDependencies(4)
+            .conflictRate(0.0)
+            .build();
+        project = SyntheticRepositoryGenerator.generate(tempDir, spec);
+        
+        Path pom = project.getProjectDirectory().resolve("pom.xml");
+        String artifactElement = "<artifactId>" + TEST_SCOPED_ARTIFACT + "</artifactId>";
+        Files.writeString(pom, Files.readString(pom).replace(artifactElement, artifactElement + "\n      <scope>test</scope>"));
+        
+        resolverOptions = ResolverOptions.builder()
+            .localRepository(project.getLocalRepositoryDirectory().toString())
+            .settingsFile(tempDir.resolve("no-settings.xml").toString())
+            .metrics(true)
+            .build();
+    }
+    
+    @Test
+    void testAnalyze_MaxDepthOne_CollectsDirectDependenciesOnly() throws Exception {
+        AnalysisResult full = analyze(DependencySelection.ALL);
+        AnalysisResult pruned = analyze(DependencySelection.builder().maxDepth(1).build());
+        
+        assertEquals(4, pruned.getTotalDependencies());
+        for (AnalyzedDependency dependency : pruned.getDependencies()) {
+            assertTrue(dependency.getChildren().isEmpty());
+            assertNotNull(dependency.getSha1());
+        }
+        assertTrue(pruned.getMetrics().getDescriptorReads() < full.getMetrics().getDescriptorReads());
+    }
+    
+    @Test
+    void testAnalyze_ExcludedGroup_DropsItsSubtrees() throws Exception {
+        AnalysisResult full = analyze(DependencySelection.ALL);
+        AnalysisResult pruned = analyze(DependencySelection.builder().excludes(List.of("io.synthetic.level2")).build());
+        
+        List<AnalyzedDependency> dependencies = flatten(pruned.getDependencies(), new ArrayList<>());
+        assertFalse(dependencies.isEmpty());
+        for (AnalyzedDependency dependency : dependencies) {
+            assertTrue(dependency.getGroupId().endsWith("level0") || dependency.getGroupId().endsWith("level1"),
+                dependency.toString());
+        }
+        assertTrue(pruned.getMetrics().getDescriptorReads() < full.getMetrics().getDescriptorReads());
+    }
+    
+    @Test
+    void testAnalyze_ScopeSelection_KeepsOnlyMatchingSubtrees() throws Exception {
+        AnalysisResult runtime = analyze(DependencySelection.builder().scopes(Set.of("compile", "runtime")).build());
+        AnalysisResult test = analyze(DependencySelection.builder().scopes(Set.of("test")).build());
+        
+        assertEquals(3, runtime.getDependencies().size());
+        for (AnalyzedDependency dependency : flatten(runtime.getDependencies(), new ArrayList<>())) {
+            assertEquals("compile", dependency.getScope(), dependency.toString());
+        }
+        assertEquals(1, test.getDependencies().size());
+        assertEquals(TEST_SCOPED_ARTIFACT, test.getDependencies().get(0).getArtifactId());
+        List<AnalyzedDependency> testDependencies = flatten(test.getDependencies(), new ArrayList<>());
+        assertTrue(testDependencies.size() > 1);
+        for (AnalyzedDependency dependency : testDependencies) {
+            assertEquals("test", dependency.getScope(), dependency.toString());
+        }
+    }
+    
+    private AnalysisResult analyze(DependencySelection selection) throws Exception {
+        DependencyAnalysisService analysisService = new DependencyAnalysisService(new MavenResolverConfig(resolverOptions),
+            new PrintStream(OutputStream.nullOutputStream()));
+        return analysisService.analyze(project.getProjectDirectory().toString(), DependencyNodeListener.NONE,
+            PhaseProfiler.DISABLED, AnalysisOptions.builder().selection(selection).build());
+    }
+    
+    private List<AnalyzedDependency> flatten(List<AnalyzedDependency> dependencies, List<AnalyzedDependency> all) {
+        for (AnalyzedDependency dependency : dependencies) {
+            all.add(dependency);
+            flatten(dependency.getChildren(), all);
+        }
+        return all;
+    }
+}
\ No newline at end of file
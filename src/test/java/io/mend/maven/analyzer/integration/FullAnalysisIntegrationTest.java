@@ -2,6 +2,11 @@ package io.mend.maven.analyzer.integration;
 
 import io.mend.maven.analyzer.TestConstants;
 import io.mend.maven.analyzer.MavenDependencyAnalyzerApplication;
+import io.mend.maven.analyzer.config.MavenResolverConfig;
+import io.mend.maven.analyzer.config.ResolverOptions;
+import io.mend.maven.analyzer.exception.MissingArtifactsException;
+import io.mend.maven.analyzer.service.DependencyAnalysisService;
+import jdk.jfr.consumer.RecordingFile;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -11,6 +16,10 @@ import java.io.IOException;
 import java.io.PrintStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -102,6 +111,162 @@ class FullAnalysisIntegrationTest {
         }
     }
     
+    @Test
+    void testFullAnalysis_MetricsFlag_AddsMetricsSectionAndReport() throws Exception {
+        Path projectDir = tempDir.resolve("metrics-project");
+        Files.createDirectories(projectDir);
+        Files.writeString(projectDir.resolve("pom.xml"), TestConstants.SAMPLE_POM_XML);
+        
+        Path outputFile = tempDir.resolve("output.json");
+        
+        String[] args = {"-d", projectDir.toString(), "-o", outputFile.toString(), "--metrics"};
+        
+        try {
+            application.run(args);
+            
+            String content = Files.readString(outputFile);
+            assertTrue(content.contains("\"metrics\""));
+            assertTrue(content.contains("\"descriptorReads\""));
+            assertTrue(outputStream.toString().contains("Resolver metrics:"));
+            
+        } finally {
+            tearDown();
+        }
+    }
+    
+    @Test
+    void testFullAnalysis_ProfileOutput_WritesPhaseTable() throws Exception {
+        Path projectDir = tempDir.resolve("profile-project");
+        Files.createDirectories(projectDir);
+        Files.writeString(projectDir.resolve("pom.xml"), TestConstants.SAMPLE_POM_XML);
+        
+        Path outputFile = tempDir.resolve("output.json");
+        Path profileFile = tempDir.resolve("profile.json");
+        
+        String[] args = {"-d", projectDir.toString(), "-o", outputFile.toString(), "--profile-output", profileFile.toString()};
+        
+        try {
+            application.run(args);
+            
+            String profile = Files.readString(profileFile);
+            for (String phase : List.of("validation", "pom-parsing", "collection", "resolution", "tree-building", "hashing", "output")) {
+                assertTrue(profile.contains("\"" + phase + "\""), "Missing phase " + phase);
+            }
+            assertTrue(outputStream.toString().contains("Phase profile:"));
+            assertFalse(Files.readString(outputFile).contains("wallNanos"));
+            
+        } finally {
+            tearDown();
+        }
+    }
+    
+    @Test
+    void testFullAnalysis_JfrOption_RecordsAnalyzerEvents() throws Exception {
+        Path projectDir = tempDir.resolve("jfr-project");
+        Files.createDirectories(projectDir);
+        Files.writeString(projectDir.resolve("pom.xml"), TestConstants.SAMPLE_POM_XML);
+        
+        Path outputFile = tempDir.resolve("output.json");
+        Path jfrFile = tempDir.resolve("analysis.jfr");
+        
+        String[] args = {"-d", projectDir.toString(), "-o", outputFile.toString(), "--jfr", jfrFile.toString()};
+        
+        try {
+            application.run(args);
+            
+            Set<String> eventNames = RecordingFile.readAllEvents(jfrFile).stream()
+                .map(event -> event.getEventType().getName())
+                .collect(Collectors.toSet());
+            for (String name : List.of("PomParse", "DependencyCollection", "DependencyResolution", "ArtifactHash", "OutputWrite")) {
+                assertTrue(eventNames.contains("io.mend.analyzer." + name), "Missing event " + name);
+            }
+            assertTrue(outputStream.toString().contains("JFR recording: " + jfrFile));
+            
+        } finally {
+            tearDown();
+        }
+    }
+    
+    @Test
+    void testFullAnalysis_NdjsonFormat_WritesOneRecordPerDependency() throws Exception {
+        Path projectDir = tempDir.resolve("ndjson-project");
+        Files.createDirectories(projectDir);
+        Files.writeString(projectDir.resolve("pom.xml"), TestConstants.SAMPLE_POM_XML);
+        
+        Path outputFile = tempDir.resolve("output.ndjson");
+        
+        String[] args = {"-d", projectDir.toString(), "-o", outputFile.toString(), "--format", "ndjson"};
+        
+        try {
+            application.run(args);
+            
+            assertTrue(Files.exists(outputFile));
+            
+            List<String> lines = Files.readAllLines(outputFile);
+            assertFalse(lines.isEmpty());
+            assertTrue(lines.get(0).contains("\"artifactId\":\"" + TestConstants.TEST_DEPENDENCY_ARTIFACT_ID + "\""));
+            assertTrue(lines.stream().allMatch(line -> line.startsWith("{") && line.endsWith("}")));
+            
+            String output = outputStream.toString();
+            assertTrue(output.contains("Total dependencies: " + lines.size()));
+            
+        } finally {
+            tearDown();
+        }
+    }
+    
+    @Test
+    void testDiffCommand_JsonAndNdjsonOfSameProject_ReportsNoChanges() throws Exception {
+        Path projectDir = tempDir.resolve("diff-project");
+        Files.createDirectories(projectDir);
+        Files.writeString(projectDir.resolve("pom.xml"), TestConstants.SAMPLE_POM_XML);
+        Path jsonFile = tempDir.resolve("before.json");
+        Path ndjsonFile = tempDir.resolve("after.ndjson");
+        Path diffFile = tempDir.resolve("diff.json");
+        
+        try {
+            application.run(new String[]{"-d", projectDir.toString(), "-o", jsonFile.toString()});
+            application.run(new String[]{"-d", projectDir.toString(), "-o", ndjsonFile.toString(), "--format", "ndjson"});
+            application.run(new String[]{"diff", jsonFile.toString(), ndjsonFile.toString(), "-o", diffFile.toString()});
+            
+            assertTrue(outputStream.toString().contains("✓ No dependency changes"));
+            String diffJson = Files.readString(diffFile);
+            assertTrue(diffJson.contains("\"identical\" : true"));
+            assertTrue(diffJson.contains("\"changes\" : [ ]"));
+            
+        } finally {
+            tearDown();
+        }
+    }
+    
+    @Test
+    void testFullAnalysis_StandardOutput_KeepsProgressOffStdout() throws Exception {
+        Path projectDir = tempDir.resolve("stdout-project");
+        Files.createDirectories(projectDir);
+        Files.writeString(projectDir.resolve("pom.xml"), TestConstants.EMPTY_POM_XML);
+        
+        ByteArrayOutputStream stdout = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(stdout));
+        
+        String[] args = {"-d", projectDir.toString(), "-o", "-"};
+        
+        try {
+            application.run(args);
+            
+            String json = stdout.toString();
+            assertTrue(json.startsWith("{"));
+            assertTrue(json.contains("\"totalDependencies\" : 0"));
+            assertFalse(json.contains("Analysis completed successfully"));
+            
+            String console = outputStream.toString();
+            assertTrue(console.contains("✓ Analysis completed successfully!"));
+            assertTrue(console.contains("Output file: <stdout>"));
+            
+        } finally {
+            tearDown();
+        }
+    }
+    
     @Test
     void testFullAnalysis_HelpFlag_DisplaysHelp() throws Exception {
         String[] args = {"--help"};
@@ -120,6 +285,31 @@ class FullAnalysisIntegrationTest {
         }
     }
     
+    @Test
+    void testFullAnalysis_OfflineWithEmptyLocalRepository_ListsMissingArtifacts() throws Exception {
+        Path projectDir = tempDir.resolve("offline-project");
+        Files.createDirectories(projectDir);
+        Files.writeString(projectDir.resolve("pom.xml"), TestConstants.SAMPLE_POM_XML);
+        
+        ResolverOptions options = ResolverOptions.builder()
+            .offline(true)
+            .localRepository(tempDir.resolve("empty-repository").toString())
+            .build();
+        DependencyAnalysisService service = new DependencyAnalysisService(new MavenResolverConfig(options));
+        
+        try {
+            MissingArtifactsException exception = assertTimeoutPreemptively(Duration.ofSeconds(10),
+                () -> assertThrows(MissingArtifactsException.class, () -> service.analyze(projectDir.toString())));
+            
+            assertEquals(List.of(TestConstants.TEST_DEPENDENCY_GROUP_ID + ":" + TestConstants.TEST_DEPENDENCY_ARTIFACT_ID
+                + ":" + TestConstants.TEST_DEPENDENCY_VERSION), exception.getMissingArtifacts());
+            assertTrue(exception.getMessage().startsWith("Offline mode: 1 artifact(s) missing"));
+            
+        } finally {
+            tearDown();
+        }
+    }
+    
     @Test
     void testFullAnalysis_InvalidProject_ShowsError() throws Exception {
         Path nonExistentPath = tempDir.resolve("non-existent");
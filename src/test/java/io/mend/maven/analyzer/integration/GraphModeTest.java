@@ -0,0 +1,133 @@
+package io.mend.maven.analyzer.integration;
+
+import io.mend.maven.analyzer.config.AnalysisOptions;
+import io.mend.maven.analyzer.config.MavenResolverConfig;
+import io.mend.maven.analyzer.config.ResolverOptions;
+import io.mend.maven.analyzer.model.entity.AnalyzedDependency;
+import io.mend.maven.analyzer.model.response.AnalysisResult;
+import io.mend.maven.analyzer.service.DependencyAnalysisService;
+import io.mend.maven.analyzer.service.analysis.DependencyNodeListener;
+import io.mend.maven.analyzer.service.analysis.GraphMode;
+import io.mend.maven.analyzer.service.diff.DependencyDiffService;
+import io.mend.maven.analyzer.service.output.JsonOutputService;
+import io.mend.maven.analyzer.service.profile.PhaseProfiler;
+import io.mend.maven.analyzer.support.SyntheticRepositoryGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Analyzes a generated project with version conflicts in each graph mode and checks what each keeps.
+ */
+class GraphModeTest {
+    
+    @TempDir
+    Path tempDir;
+    
+    private DependencyAnalysisService analysisService;
+    private String projectPath;
+    
+    @BeforeEach
+    void setUp() throws Exception {
+        SyntheticRepositoryGenerator.Spec spec = SyntheticRepositoryGenerator.Spec.builder()
+            .artifactCount(80)
+            .depth(4)
+            .fanOut(3)
+            .directDependencies(5)
+            .conflictRate(0.3)
+            .build();
+        SyntheticRepositoryGenerator.GeneratedProject project = SyntheticRepositoryGenerator.generate(tempDir, spec);
+        projectPath = project.getProjectDirectory().toString();
+        
+        ResolverOptions options = ResolverOptions.builder()
+            .localRepository(project.getLocalRepositoryDirectory().toString())
+            .settingsFile(tempDir.resolve("no-settings.xml").toString())
+            .build();
+        analysisService = new DependencyAnalysisService(new MavenResolverConfig(options),
+            new PrintStream(OutputStream.nullOutputStream()));
+    }
+    
+    @Test
+    void testAnalyze_VerboseGraph_AddsOmittedLosersToResolvedTree() throws Exception {
+        AnalysisResult resolved = analyze(GraphMode.RESOLVED);
+        AnalysisResult verbose = analyze(GraphMode.VERBOSE);
+        
+        List<AnalyzedDependency> omitted = new ArrayList<>();
+        assertEquals(flatten(resolved.getDependencies(), new ArrayList<>(), null),
+            flatten(verbose.getDependencies(), new ArrayList<>(), omitted));
+        assertEquals(resolved.getTotalDependencies(), verbose.getTotalDependencies());
+        assertEquals("verbose", verbose.getGraphMode());
+        assertNull(resolved.getGraphMode());
+        assertNotEquals(resolved.getFingerprint(), verbose.getFingerprint());
+        
+        assertTrue(omitted.stream().anyMatch(dependency -> "conflict".equals(dependency.getOmitted())));
+        for (AnalyzedDependency dependency : omitted) {
+            assertNull(dependency.getSha1());
+            assertTrue(dependency.getChildren().isEmpty());
+            if ("conflict".equals(dependency.getOmitted())) {
+                assertNotEquals(dependency.getVersion(), dependency.getWinnerVersion());
+            } else {
+                assertEquals("duplicate", dependency.getOmitted());
+                assertNull(dependency.getWinnerVersion());
+            }
+        }
+        
+        Path resolvedFile = tempDir.resolve("resolved.json");
+        Path verboseFile = tempDir.resolve("verbose.json");
+        new JsonOutputService().writeToFile(resolved, resolvedFile.toString());
+        new JsonOutputService().writeToFile(verbose, verboseFile.toString());
+        assertFalse(new DependencyDiffService().diff(resolvedFile, verboseFile).hasChanges());
+    }
+    
+    @Test
+    void testAnalyze_RawGraph_KeepsEveryCollectedVersion() throws Exception {
+        AnalysisResult resolved = analyze(GraphMode.RESOLVED);
+        AnalysisResult raw = analyze(GraphMode.RAW);
+        
+        Map<String, Set<String>> rawVersions = versionsByArtifact(raw.getDependencies(), new HashMap<>());
+        Map<String, Set<String>> resolvedVersions = versionsByArtifact(resolved.getDependencies(), new HashMap<>());
+        assertEquals(resolvedVersions.keySet(), rawVersions.keySet());
+        assertTrue(resolvedVersions.values().stream().allMatch(versions -> versions.size() == 1));
+        assertTrue(rawVersions.values().stream().anyMatch(versions -> versions.size() > 1));
+        assertTrue(raw.getTotalDependencies() > resolved.getTotalDependencies());
+        assertEquals("raw", raw.getGraphMode());
+    }
+    
+    private AnalysisResult analyze(GraphMode graphMode) throws Exception {
+        return analysisService.analyze(projectPath, DependencyNodeListener.NONE, PhaseProfiler.DISABLED,
+            AnalysisOptions.builder().graphMode(graphMode).fingerprints(true).build());
+    }
+    
+    private List<String> flatten(List<AnalyzedDependency> dependencies, List<String> lines, List<AnalyzedDependency> omitted) {
+        for (AnalyzedDependency dependency : dependencies) {
+            if (dependency.getOmitted() != null) {
+                omitted.add(dependency);
+                continue;
+            }
+            lines.add(dependency + " " + dependency.getSha1());
+            flatten(dependency.getChildren(), lines, omitted);
+        }
+        return lines;
+    }
+    
+    private Map<String, Set<String>> versionsByArtifact(List<AnalyzedDependency> dependencies, Map<String, Set<String>> versions) {
+        for (AnalyzedDependency dependency : dependencies) {
+            versions.computeIfAbsent(dependency.getGroupId() + ":" + dependency.getArtifactId(), key -> new HashSet<>())
+                .add(dependency.getVersion());
+            versionsByArtifact(dependency.getChildren(), versions);
+        }
+        return versions;
+    }
+}
\ No newline at end of file
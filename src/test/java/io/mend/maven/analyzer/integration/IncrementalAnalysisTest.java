@@ -0,0 +1,159 @@
+package io.mend.maven.analyzer.integration;
+
+import io.mend.maven.analyzer.config.AnalysisOptions;
+import io.mend.maven.analyzer.config.MavenResolverConfig;
+import io.mend.maven.analyzer.config.ResolverOptions;
+import io.mend.maven.analyzer.model.entity.AnalyzedDependency;
+import io.mend.maven.analyzer.model.response.AnalysisResult;
+import io.mend.maven.analyzer.model.response.IncrementalStatistics;
+import io.mend.maven.analyzer.service.DependencyAnalysisService;
+import io.mend.maven.analyzer.service.analysis.DependencyNodeListener;
+import io.mend.maven.analyzer.service.profile.PhaseProfiler;
+import io.mend.maven.analyzer.support.SyntheticRepositoryGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs incremental analyses of a generated repository with version conflicts and checks that they
+ * match full analyses while only collecting the direct dependencies that changed.
+ */
+class IncrementalAnalysisTest {
+    
+    private static final int DIRECT_DEPENDENCIES = 6;
+    
+    @TempDir
+    Path tempDir;
+    
+    private SyntheticRepositoryGenerator.GeneratedProject project;
+    private DependencyAnalysisService analysisService;
+    private Path snapshotFile;
+    
+    @BeforeEach
+    void setUp() throws Exception {
+        SyntheticRepositoryGenerator.Spec spec = SyntheticRepositoryGenerator.Spec.builder()
+            .artifactCount(120)
+            .depth(3)
+            .fanOut(4)
+            .directDependencies(DIRECT_DEPENDENCIES)
+            .conflictRate(0.2)
+            .build();
+        project = SyntheticRepositoryGenerator.generate(tempDir, spec);
+        snapshotFile = tempDir.resolve("graph-snapshot.json");
+        
+        ResolverOptions options = ResolverOptions.builder()
+            .localRepository(project.getLocalRepositoryDirectory().toString())
+            .settingsFile(tempDir.resolve("no-settings.xml").toString())
+            .build();
+        analysisService = new DependencyAnalysisService(new MavenResolverConfig(options),
+            new PrintStream(OutputStream.nullOutputStream()));
+    }
+    
+    @Test
+    void testAnalyze_UnchangedProject_ReusesEverythingAndMatchesFullRun() throws Exception {
+        AnalysisResult first = analyzeIncrementally();
+        AnalysisResult second = analyzeIncrementally();
+        AnalysisResult full = analyzeFully();
+        
+        assertTrue(Files.isRegularFile(snapshotFile));
+        assertMatches(full, first);
+        assertMatches(full, second);
+        
+        IncrementalStatistics firstStatistics = first.getIncremental();
+        assertEquals(DIRECT_DEPENDENCIES, firstStatistics.getDirectDependencies());
+        assertEquals(0, firstStatistics.getReusedSubtrees());
+        assertEquals(DIRECT_DEPENDENCIES, firstStatistics.getCollectedSubtrees());
+        assertEquals(0, firstStatistics.getReusedHashes());
+        
+        IncrementalStatistics secondStatistics = second.getIncremental();
+        assertEquals(DIRECT_DEPENDENCIES, secondStatistics.getReusedSubtrees());
+        assertEquals(0, secondStatistics.getCollectedSubtrees());
+        assertEquals(full.getTotalDependencies(), secondStatistics.getReusedHashes());
+        assertEquals(0, secondStatistics.getComputedHashes());
+        assertNull(full.getIncremental());
+    }
+    
+    @Test
+    void testAnalyze_DirectDependencyReplaced_CollectsOnlyThatSubtreeAndMatchesFullRun() throws Exception {
+        analyzeIncrementally();
+        replaceDirectDependency("lib-0-0", "lib-0-" + (DIRECT_DEPENDENCIES + 1));
+        
+        AnalysisResult incremental = analyzeIncrementally();
+        AnalysisResult full = analyzeFully();
+        
+        assertMatches(full, incremental);
+        assertEquals(DIRECT_DEPENDENCIES - 1, incremental.getIncremental().getReusedSubtrees());
+        assertEquals(1, incremental.getIncremental().getCollectedSubtrees());
+    }
+    
+    @Test
+    void testAnalyze_RepositoryChanged_DiscardsSubtreesButReusesHashes() throws Exception {
+        analyzeIncrementally();
+        Path pom = project.getProjectDirectory().resolve("pom.xml");
+        Files.writeString(pom, Files.readString(pom).replace("<id>" + SyntheticRepositoryGenerator.REPOSITORY_ID + "</id>",
+            "<id>renamed</id>"));
+        
+        AnalysisResult incremental = analyzeIncrementally();
+        AnalysisResult full = analyzeFully();
+        
+        assertMatches(full, incremental);
+        assertEquals(0, incremental.getIncremental().getReusedSubtrees());
+        assertEquals(full.getTotalDependencies(), incremental.getIncremental().getReusedHashes());
+    }
+    
+    @Test
+    void testAnalyze_CorruptSnapshot_FallsBackToFullCollection() throws Exception {
+        Files.writeString(snapshotFile, "{ not json");
+        
+        AnalysisResult incremental = analyzeIncrementally();
+        
+        assertMatches(analyzeFully(), incremental);
+        assertEquals(DIRECT_DEPENDENCIES, incremental.getIncremental().getCollectedSubtrees());
+    }
+    
+    private AnalysisResult analyzeIncrementally() throws Exception {
+        return analysisService.analyze(projectPath(), DependencyNodeListener.NONE, PhaseProfiler.DISABLED,
+            AnalysisOptions.builder().snapshotFile(snapshotFile).fingerprints(true).build());
+    }
+    
+    private AnalysisResult analyzeFully() throws Exception {
+        return analysisService.analyze(projectPath(), DependencyNodeListener.NONE, PhaseProfiler.DISABLED,
+            AnalysisOptions.builder().fingerprints(true).build());
+    }
+    
+    private void replaceDirectDependency(String oldArtifactId, String newArtifactId) throws Exception {
+        Path pom = project.getProjectDirectory().resolve("pom.xml");
+        String content = Files.readString(pom);
+        assertTrue(content.contains("<artifactId>" + oldArtifactId + "</artifactId>"));
+        Files.writeString(pom, content.replace("<artifactId>" + oldArtifactId + "</artifactId>",
+            "<artifactId>" + newArtifactId + "</artifactId>"));
+    }
+    
+    private void assertMatches(AnalysisResult expected, AnalysisResult actual) {
+        assertEquals(flatten(expected.getDependencies(), new ArrayList<>()), flatten(actual.getDependencies(), new ArrayList<>()));
+        assertNotNull(expected.getFingerprint());
+        assertEquals(expected.getFingerprint(), actual.getFingerprint());
+        assertEquals(expected.getStatistics(), actual.getStatistics());
+    }
+    
+    private List<String> flatten(List<AnalyzedDependency> dependencies, List<String> lines) {
+        for (AnalyzedDependency dependency : dependencies) {
+            lines.add(dependency + " " + dependency.getSha1() + " " + dependency.getChildren().size());
+            flatten(dependency.getChildren(), lines);
+        }
+        return lines;
+    }
+    
+    private String projectPath() {
+        return project.getProjectDirectory().toString();
+    }
+}
\ No newline at end of file
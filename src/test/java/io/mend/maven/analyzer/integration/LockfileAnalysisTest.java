@@ -0,0 +1,155 @@
+package io.mend.maven.analyzer.integration;
+
+import io.mend.maven.analyzer.config.AnalysisOptions;
+import io.mend.maven.analyzer.config.MavenResolverConfig;
+import io.mend.maven.analyzer.config.ResolverOptions;
+import io.mend.maven.analyzer.model.entity.AnalyzedDependency;
+import io.mend.maven.analyzer.model.response.AnalysisResult;
+import io.mend.maven.analyzer.service.DependencyAnalysisService;
+import io.mend.maven.analyzer.service.analysis.DependencyNodeListener;
+import io.mend.maven.analyzer.service.lock.LockfileService;
+import io.mend.maven.analyzer.service.profile.PhaseProfiler;
+import io.mend.maven.analyzer.support.SyntheticRepositoryGenerator;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Writes a lockfile for a generated project and checks that later runs are served from it without the
+ * resolver, re-hash JARs that changed, and resolve again once the POM changes.
+ */
+class LockfileAnalysisTest {
+    
+    private static final AnalysisOptions LOCKFILE = AnalysisOptions.builder().lockfile(true).fingerprints(true).build();
+    private static final AnalysisOptions FULL = AnalysisOptions.builder().fingerprints(true).build();
+    
+    @TempDir
+    Path tempDir;
+    
+    private SyntheticRepositoryGenerator.GeneratedProject project;
+    private DependencyAnalysisService analysisService;
+    private Path lockfilePath;
+    
+    @BeforeEach
+    void setUp() throws Exception {
+        SyntheticRepositoryGenerator.Spec spec = SyntheticRepositoryGenerator.Spec.builder()
+            .artifactCount(60)
+            .depth(3)
+            .fanOut(3)
+            .directDependencies(4)
+            .build();
+        project = SyntheticRepositoryGenerator.generate(tempDir, spec);
+        lockfilePath = project.getProjectDirectory().resolve(LockfileService.FILE_NAME);
+        
+        ResolverOptions options = ResolverOptions.builder()
+            .localRepository(project.getLocalRepositoryDirectory().toString())
+            .settingsFile(tempDir.resolve("no-settings.xml").toString())
+            .metrics(true)
+            .build();
+        analysisService = new DependencyAnalysisService(new MavenResolverConfig(options),
+            new PrintStream(OutputStream.nullOutputStream()));
+    }
+    
+    @Test
+    void testAnalyze_MatchingLockfile_SkipsResolverAndMatchesFullRun() throws Exception {
+        AnalysisResult first = analyzeWithLockfile();
+        String lockfileContent = Files.readString(lockfilePath);
+        AnalysisResult second = analyzeWithLockfile();
+        AnalysisResult full = analysisService.analyze(project.getProjectDirectory().toString(), DependencyNodeListener.NONE,
+            PhaseProfiler.DISABLED, FULL);
+        
+        assertFalse(first.getResolvedFromLockfile());
+        assertTrue(second.getResolvedFromLockfile());
+        assertEquals(0, second.getMetrics().getDescriptorReads());
+        assertEquals(lockfileContent, Files.readString(lockfilePath));
+        assertMatches(full, first);
+        assertMatches(full, second);
+        assertNull(full.getResolvedFromLockfile());
+    }
+    
+    @Test
+    void testAnalyze_LockedJarMissingLocally_DownloadsItAndMatchesFullRun() throws Exception {
+        analyzeWithLockfile();
+        Path jar = project.getLocalRepositoryDirectory()
+            .resolve("io/synthetic/level0/lib-0-0/1.0.0/lib-0-0-1.0.0.jar");
+        Files.delete(jar);
+        
+        AnalysisResult result = analyzeWithLockfile();
+        AnalysisResult full = analysisService.analyze(project.getProjectDirectory().toString(), DependencyNodeListener.NONE,
+            PhaseProfiler.DISABLED, FULL);
+        
+        assertTrue(result.getResolvedFromLockfile());
+        assertTrue(Files.isRegularFile(jar));
+        assertEquals(0, result.getMetrics().getDescriptorReads());
+        assertNotNull(findDependency(result.getDependencies(), "lib-0-0").getSha1());
+        assertMatches(full, result);
+    }
+    
+    @Test
+    void testAnalyze_JarChangedOnDisk_RehashesItAndUpdatesLockfile() throws Exception {
+        analyzeWithLockfile();
+        Path jar = project.getLocalRepositoryDirectory()
+            .resolve("io/synthetic/level0/lib-0-0/1.0.0/lib-0-0-1.0.0.jar");
+        byte[] changed = "rebuilt".getBytes();
+        Files.write(jar, changed);
+        
+        AnalysisResult result = analyzeWithLockfile();
+        
+        assertTrue(result.getResolvedFromLockfile());
+        assertEquals(DigestUtils.sha1Hex(changed), findDependency(result.getDependencies(), "lib-0-0").getSha1());
+        assertTrue(Files.readString(lockfilePath).contains(DigestUtils.sha1Hex(changed)));
+    }
+    
+    @Test
+    void testAnalyze_PomChanged_ResolvesAgain() throws Exception {
+        analyzeWithLockfile();
+        Path pom = project.getProjectDirectory().resolve("pom.xml");
+        Files.writeString(pom, Files.readString(pom).replace("<artifactId>lib-0-0</artifactId>", "<artifactId>lib-0-9</artifactId>"));
+        
+        AnalysisResult result = analyzeWithLockfile();
+        
+        assertFalse(result.getResolvedFromLockfile());
+        assertNotNull(findDependency(result.getDependencies(), "lib-0-9"));
+        assertTrue(Files.readString(lockfilePath).contains("lib-0-9"));
+        assertTrue(analyzeWithLockfile().getResolvedFromLockfile());
+    }
+    
+    private AnalysisResult analyzeWithLockfile() throws Exception {
+        return analysisService.analyze(project.getProjectDirectory().toString(), DependencyNodeListener.NONE,
+            PhaseProfiler.DISABLED, LOCKFILE);
+    }
+    
+    private void assertMatches(AnalysisResult expected, AnalysisResult actual) {
+        assertEquals(flatten(expected.getDependencies(), new ArrayList<>()), flatten(actual.getDependencies(), new ArrayList<>()));
+        assertNotNull(expected.getFingerprint());
+        assertEquals(expected.getFingerprint(), actual.getFingerprint());
+        assertEquals(expected.getStatistics(), actual.getStatistics());
+    }
+    
+    private List<String> flatten(List<AnalyzedDependency> dependencies, List<String> lines) {
+        for (AnalyzedDependency dependency : dependencies) {
+            lines.add(dependency + " " + dependency.getSha1() + " " + dependency.getChildren().size());
+            flatten(dependency.getChildren(), lines);
+        }
+        return lines;
+    }
+    
+    private AnalyzedDependency findDependency(List<AnalyzedDependency> dependencies, String artifactId) {
+        for (AnalyzedDependency dependency : dependencies) {
+            if (dependency.getArtifactId().equals(artifactId)) {
+                return dependency;
+            }
+        }
+        return null;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,145 @@
+package io.mend.maven.analyzer.integration;
+
+import io.mend.maven.analyzer.config.MavenResolverConfig;
+import io.mend.maven.analyzer.config.ResolverOptions;
+import io.mend.maven.analyzer.exception.DependencyAnalysisException;
+import io.mend.maven.analyzer.service.analysis.DependencyResolverService;
+import io.mend.maven.analyzer.service.detection.MavenProjectDetectionService;
+import io.mend.maven.analyzer.support.LocalHttpRepository;
+import io.mend.maven.analyzer.support.RepositoryFixtures;
+import io.mend.maven.analyzer.support.SyntheticRepositoryGenerator;
+import org.apache.maven.model.Model;
+import org.eclipse.aether.DefaultRepositorySystemSession;
+import org.eclipse.aether.graph.DependencyNode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * End-to-end resolver runs against a generated repository served by {@link LocalHttpRepository}, with
+ * remote round-trips shaped by latency and bandwidth caps and faults injected, so collection, transfer
+ * parallelism and caching changes can be measured without the network. The timing comparison is tagged
+ * as a benchmark and runs with {@code -Pbenchmarks}; the other tests do not depend on timing.
+ */
+class ResolverHttpBenchmarkTest {
+    
+    private static final String MIRROR_ID = "synthetic-http";
+    private static final Duration LATENCY = Duration.ofMillis(10);
+    private static final long TOTAL_BANDWIDTH = 16L * 1024 * 1024;
+    private static final String RETRY_INTERVAL_PROPERTY = "aether.connector.http.retryHandler.interval";
+    
+    @TempDir
+    Path tempDir;
+    
+    private SyntheticRepositoryGenerator.GeneratedProject project;
+    private LocalHttpRepository remote;
+    private Model model;
+    
+    @BeforeEach
+    void setUp() throws Exception {
+        project = SyntheticRepositoryGenerator.generate(tempDir.resolve("synthetic"), SyntheticRepositoryGenerator.Spec.builder()
+            .artifactCount(60)
+            .depth(4)
+            .fanOut(3)
+            .directDependencies(6)
+            .minJarSize(8 * 1024)
+            .maxJarSize(64 * 1024)
+            .build());
+        remote = LocalHttpRepository.start(project.getRepositoryDirectory());
+        remote.setLatency(LATENCY);
+        remote.setTotalBandwidth(TOTAL_BANDWIDTH);
+        model = new MavenProjectDetectionService().readPomModel(project.getProjectDirectory().toString());
+    }
+    
+    @AfterEach
+    void tearDown() {
+        remote.close();
+    }
+    
+    @Test
+    @Tag("benchmark")
+    void testResolve_ParallelTransfers_FasterThanSingleThread() throws Exception {
+        long sequentialMillis = timeResolution(createResolver("sequential", 1));
+        remote.resetStatistics();
+        
+        long parallelMillis = timeResolution(createResolver("parallel", 8));
+        
+        assertTrue(remote.getPeakConcurrentRequests() > 1);
+        assertTrue(parallelMillis < sequentialMillis,
+            "8 threads took " + parallelMillis + " ms, 1 thread " + sequentialMillis + " ms");
+    }
+    
+    @Test
+    void testResolve_WarmLocalRepository_MakesNoRequests() throws Exception {
+        DependencyResolverService resolver = createResolver("warm", 4);
+        
+        DependencyNode cold = resolver.resolveDependencies(model);
+        int coldRequests = remote.getRequestCount();
+        remote.resetStatistics();
+        DependencyNode warm = resolver.resolveDependencies(model);
+        
+        assertTrue(coldRequests > project.getReachableArtifactCount());
+        assertEquals(0, remote.getRequestCount());
+        assertEquals(cold.getChildren().size(), warm.getChildren().size());
+    }
+    
+    @Test
+    void testResolve_ServiceUnavailableOnFirstAttempt_RetriedUntilResolved() throws Exception {
+        remote.setLatency(Duration.ZERO);
+        remote.setFailFirstAttempts(1);
+        
+        DependencyNode root = createResolver("unavailable", 4).resolveDependencies(model);
+        
+        assertTrue(remote.getInjectedFaultCount() > project.getReachableArtifactCount());
+        assertEquals(6, root.getChildren().size());
+    }
+    
+    @Test
+    void testResolve_TruncatedBodies_FailResolution() {
+        remote.setLatency(Duration.ZERO);
+        remote.setTruncateRate(0.5);
+        
+        DependencyAnalysisException exception = assertThrows(DependencyAnalysisException.class,
+            () -> createResolver("truncated", 4).resolveDependencies(model));
+        
+        assertTrue(remote.getInjectedFaultCount() > 0);
+        assertTrue(hasCauseMessage(exception, "Premature end"), exception.getMessage());
+    }
+    
+    private boolean hasCauseMessage(Throwable throwable, String text) {
+        for (Throwable t = throwable; t != null; t = t.getCause()) {
+            if (t.getMessage() != null && t.getMessage().contains(text)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private long timeResolution(DependencyResolverService resolver) throws Exception {
+        long start = System.nanoTime();
+        resolver.resolveDependencies(model);
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+    
+    private DependencyResolverService createResolver(String name, int threads) throws Exception {
+        Path localRepository = tempDir.resolve(name + "-local");
+        Path settings = RepositoryFixtures.writeMirrorSettings(tempDir.resolve(name + "-settings.xml"), localRepository,
+            MIRROR_ID, remote.getUrl());
+        ResolverOptions options = ResolverOptions.builder()
+            .settingsFile(settings.toString())
+            .localRepository(localRepository.toString())
+            .transferThreads(threads)
+            .build();
+        MavenResolverConfig config = new MavenResolverConfig(options);
+        // Retry injected 503s after 10 ms instead of the default 5 s
+        ((DefaultRepositorySystemSession) config.getSession()).setConfigProperty(RETRY_INTERVAL_PROPERTY, 10L);
+        return new DependencyResolverService(config);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,176 @@
+package io.mend.maven.analyzer.integration;
+
+import io.mend.maven.analyzer.MavenDependencyAnalyzerApplication;
+import io.mend.maven.analyzer.support.LocalHttpRepository;
+import io.mend.maven.analyzer.support.RepositoryFixtures;
+import io.mend.maven.analyzer.support.SyntheticRepositoryGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Starts several analyzer processes at once against one local repository filled from a slow HTTP
+ * mirror, as containers mounting the same {@code ~/.m2} do, and checks that the file locks let each
+ * file be downloaded once and leave every JAR intact. Tagged {@code benchmark}, as it takes half a
+ * minute.
+ */
+@Tag("benchmark")
+class SharedLocalRepositoryTest {
+    
+    private static final int PROCESSES = 4;
+    private static final String MIRROR_ID = "shared-http";
+    private static final Duration PROCESS_TIMEOUT = Duration.ofMinutes(3);
+    
+    @TempDir
+    Path tempDir;
+    
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private SyntheticRepositoryGenerator.GeneratedProject project;
+    private LocalHttpRepository remote;
+    
+    @BeforeEach
+    void setUp() throws Exception {
+        SyntheticRepositoryGenerator.Spec spec = SyntheticRepositoryGenerator.Spec.builder()
+            .artifactCount(60)
+            .depth(3)
+            .fanOut(3)
+            .directDependencies(5)
+            .conflictRate(0.1)
+            .build();
+        project = SyntheticRepositoryGenerator.generate(tempDir, spec);
+        remote = LocalHttpRepository.start(project.getRepositoryDirectory());
+        // Slow enough for the processes to ask for the same files at the same time
+        remote.setLatency(Duration.ofMillis(20));
+    }
+    
+    @AfterEach
+    void tearDown() {
+        remote.close();
+    }
+    
+    @Test
+    void testAnalyze_ConcurrentProcessesWithArtifactLocks_DownloadEachFileOnce() throws Exception {
+        runConcurrentAnalyses("artifact");
+        
+        assertEachFileRequestedOnce();
+        assertLocalRepositoryIntact();
+    }
+    
+    @Test
+    void testAnalyze_ConcurrentProcessesWithRepositoryLock_DownloadEachFileOnce() throws Exception {
+        runConcurrentAnalyses("repository");
+        
+        assertEachFileRequestedOnce();
+        assertLocalRepositoryIntact();
+    }
+    
+    /**
+     * Runs the analyzer in {@link #PROCESSES} JVMs at once and checks they all succeed with the same tree.
+     */
+    private void runConcurrentAnalyses(String lockGranularity) throws Exception {
+        Path settings = RepositoryFixtures.writeMirrorSettings(tempDir.resolve("settings.xml"),
+            project.getLocalRepositoryDirectory(), MIRROR_ID, remote.getUrl());
+        
+        List<Process> processes = new ArrayList<>();
+        for (int i = 0; i < PROCESSES; i++) {
+            processes.add(startAnalyzer(settings, lockGranularity, i));
+        }
+        
+        Set<String> fingerprints = new HashSet<>();
+        for (int i = 0; i < PROCESSES; i++) {
+            Process process = processes.get(i);
+            if (!process.waitFor(PROCESS_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+                processes.forEach(Process::destroyForcibly);
+                fail("Analyzer process " + i + " did not finish:\n" + Files.readString(logFile(i)));
+            }
+            assertEquals(0, process.exitValue(), Files.readString(logFile(i)));
+            fingerprints.add(objectMapper.readTree(outputFile(i).toFile()).get("fingerprint").asText());
+        }
+        assertEquals(1, fingerprints.size());
+    }
+    
+    private Process startAnalyzer(Path settings, String lockGranularity, int index) throws IOException {
+        String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+        return new ProcessBuilder(java, "-Xmx256m", "-cp", System.getProperty("java.class.path"),
+                MavenDependencyAnalyzerApplication.class.getName(),
+                "-d", project.getProjectDirectory().toString(),
+                "-o", outputFile(index).toString(),
+                "-s", settings.toString(),
+                "--lock", lockGranularity,
+                "--fingerprints")
+            .redirectErrorStream(true)
+            .redirectOutput(logFile(index).toFile())
+            .start();
+    }
+    
+    private void assertEachFileRequestedOnce() {
+        Map<String, Integer> requestCounts = remote.getRequestCountsByPath();
+        assertFalse(requestCounts.isEmpty());
+        Map<String, Integer> repeated = requestCounts.entrySet().stream()
+            .filter(entry -> entry.getValue() > 1)
+            .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+        assertEquals(Map.of(), repeated);
+    }
+    
+    /**
+     * Checks every JAR in the shared repository against the generated one and that no partial download is left behind.
+     */
+    private void assertLocalRepositoryIntact() throws IOException {
+        Path localRepository = project.getLocalRepositoryDirectory();
+        List<Path> files;
+        try (Stream<Path> walk = Files.walk(localRepository)) {
+            files = walk.filter(Files::isRegularFile).toList();
+        }
+        
+        int jars = 0;
+        for (Path file : files) {
+            String name = file.getFileName().toString();
+            assertFalse(name.endsWith(".tmp") || name.endsWith(".part"), "Partial download left behind: " + file);
+            if (name.endsWith(".jar")) {
+                assertEquals(project.getJarSha1s().get(coordinates(localRepository.relativize(file))), sha1(file), file.toString());
+                jars++;
+            }
+        }
+        assertTrue(jars >= project.getReachableArtifactCount());
+    }
+    
+    private String coordinates(Path relativeJarPath) {
+        int count = relativeJarPath.getNameCount();
+        String groupId = relativeJarPath.subpath(0, count - 3).toString().replace(relativeJarPath.getFileSystem().getSeparator(), ".");
+        return groupId + ":" + relativeJarPath.getName(count - 3) + ":" + relativeJarPath.getName(count - 2);
+    }
+    
+    private String sha1(Path file) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            return DigestUtils.sha1Hex(in);
+        }
+    }
+    
+    private Path outputFile(int index) {
+        return tempDir.resolve("output-" + index + ".json");
+    }
+    
+    private Path logFile(int index) {
+        return tempDir.resolve("analyzer-" + index + ".log");
+    }
+}
\ No newline at end of file
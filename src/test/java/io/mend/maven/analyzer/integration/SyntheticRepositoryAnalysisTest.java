@@ -0,0 +1,105 @@
+package io.mend.maven.analyzer.integration;
+
+import io.mend.maven.analyzer.config.AnalysisOptions;
+import io.mend.maven.analyzer.config.MavenResolverConfig;
+import io.mend.maven.analyzer.config.ResolverOptions;
+import io.mend.maven.analyzer.model.entity.AnalyzedDependency;
+import io.mend.maven.analyzer.model.response.AnalysisResult;
+import io.mend.maven.analyzer.service.DependencyAnalysisService;
+import io.mend.maven.analyzer.service.analysis.DependencyNodeListener;
+import io.mend.maven.analyzer.service.diff.DependencyDiffService;
+import io.mend.maven.analyzer.service.output.JsonOutputService;
+import io.mend.maven.analyzer.service.profile.PhaseProfiler;
+import io.mend.maven.analyzer.support.SyntheticRepositoryGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the full analysis pipeline against a generated repository served over {@code file://},
+ * checking the resolved tree of a cold run (empty local repository) and that a warm run matches it,
+ * and that a compact tree produces the same report.
+ */
+class SyntheticRepositoryAnalysisTest {
+    
+    @TempDir
+    Path tempDir;
+    
+    @Test
+    void testAnalyze_SyntheticRepository_ResolvesAndHashesReachableArtifacts() throws Exception {
+        SyntheticRepositoryGenerator.Spec spec = SyntheticRepositoryGenerator.Spec.builder()
+            .artifactCount(300)
+            .depth(4)
+            .fanOut(4)
+            .directDependencies(8)
+            .conflictRate(0.2)
+            .build();
+        SyntheticRepositoryGenerator.GeneratedProject project = SyntheticRepositoryGenerator.generate(tempDir, spec);
+        DependencyAnalysisService analysisService = createAnalysisService(project);
+        
+        AnalysisResult cold = analysisService.analyze(project.getProjectDirectory().toString());
+        AnalysisResult warm = analysisService.analyze(project.getProjectDirectory().toString());
+        
+        Set<String> artifacts = new HashSet<>();
+        collectAndVerify(cold.getDependencies(), project, artifacts);
+        assertEquals(project.getReachableArtifactCount(), artifacts.size());
+        assertEquals(cold.getTotalDependencies(), warm.getTotalDependencies());
+    }
+    
+    @Test
+    void testAnalyze_CompactTree_WritesSameJsonAsFullTree() throws Exception {
+        SyntheticRepositoryGenerator.Spec spec = SyntheticRepositoryGenerator.Spec.builder()
+            .artifactCount(200)
+            .depth(4)
+            .fanOut(3)
+            .directDependencies(6)
+            .conflictRate(0.2)
+            .build();
+        SyntheticRepositoryGenerator.GeneratedProject project = SyntheticRepositoryGenerator.generate(tempDir, spec);
+        DependencyAnalysisService analysisService = createAnalysisService(project);
+        String projectPath = project.getProjectDirectory().toString();
+        
+        AnalysisResult full = analysisService.analyze(projectPath, DependencyNodeListener.NONE, PhaseProfiler.DISABLED,
+            AnalysisOptions.builder().fingerprints(true).build());
+        AnalysisResult compact = analysisService.analyze(projectPath, DependencyNodeListener.NONE, PhaseProfiler.DISABLED,
+            AnalysisOptions.builder().fingerprints(true).compact(true).build());
+        Path fullJson = tempDir.resolve("full.json");
+        Path compactJson = tempDir.resolve("compact.json");
+        new JsonOutputService().writeToFile(full, fullJson.toString());
+        new JsonOutputService().writeToFile(compact, compactJson.toString());
+        
+        assertNull(compact.getDependencies());
+        assertEquals(full.getDependencies().size(), compact.getCompactDependencies().size());
+        assertEquals(full.getTotalDependencies(), compact.getTotalDependencies());
+        assertEquals(full.getFingerprint(), compact.getFingerprint());
+        assertEquals(Files.readString(fullJson), Files.readString(compactJson));
+        assertTrue(new DependencyDiffService().diff(full, compact).isIdentical());
+    }
+    
+    private void collectAndVerify(List<AnalyzedDependency> dependencies, SyntheticRepositoryGenerator.GeneratedProject project,
+                                  Set<String> artifacts) {
+        for (AnalyzedDependency dependency : dependencies) {
+            String coordinates = dependency.getGroupId() + ":" + dependency.getArtifactId() + ":" + dependency.getVersion();
+            assertEquals(project.getJarSha1s().get(coordinates), dependency.getSha1(), "SHA1 of " + coordinates);
+            artifacts.add(dependency.getGroupId() + ":" + dependency.getArtifactId());
+            collectAndVerify(dependency.getChildren(), project, artifacts);
+        }
+    }
+    
+    private DependencyAnalysisService createAnalysisService(SyntheticRepositoryGenerator.GeneratedProject project) {
+        ResolverOptions options = ResolverOptions.builder()
+            .localRepository(project.getLocalRepositoryDirectory().toString())
+            .settingsFile(tempDir.resolve("no-settings.xml").toString())
+            .build();
+        return new DependencyAnalysisService(new MavenResolverConfig(options), new PrintStream(OutputStream.nullOutputStream()));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,95 @@
+package io.mend.maven.analyzer.integration;
+
+import io.mend.maven.analyzer.config.MavenResolverConfig;
+import io.mend.maven.analyzer.config.ResolverOptions;
+import io.mend.maven.analyzer.support.LocalHttpRepository;
+import io.mend.maven.analyzer.support.RepositoryFixtures;
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.eclipse.aether.resolution.ArtifactRequest;
+import org.eclipse.aether.resolution.ArtifactResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Measures artifact download time through a settings.xml mirror pointing at a local HTTP repository
+ * with injected latency, comparing a single transfer thread against a parallel connector. Tagged as a
+ * benchmark, since its timing comparison needs an otherwise idle machine; it runs with {@code -Pbenchmarks}.
+ */
+@Tag("benchmark")
+class TransferConcurrencyBenchmarkTest {
+    
+    private static final String GROUP_ID = "com.example.bench";
+    private static final String VERSION = "1.0.0";
+    private static final int ARTIFACT_COUNT = 12;
+    private static final int JAR_SIZE = 16 * 1024;
+    private static final Duration LATENCY = Duration.ofMillis(100);
+    
+    @TempDir
+    Path tempDir;
+    
+    private LocalHttpRepository remote;
+    
+    @BeforeEach
+    void setUp() throws Exception {
+        Path remoteRoot = tempDir.resolve("remote");
+        for (int i = 0; i < ARTIFACT_COUNT; i++) {
+            RepositoryFixtures.writeArtifact(remoteRoot, GROUP_ID, "artifact-" + i, VERSION, JAR_SIZE);
+        }
+        remote = LocalHttpRepository.start(remoteRoot);
+        remote.setLatency(LATENCY);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        remote.close();
+    }
+    
+    @Test
+    void testResolveArtifacts_ParallelTransfers_FasterThanSingleThread() throws Exception {
+        long sequentialMillis = resolveAll("sequential", 1);
+        int sequentialPeak = remote.getPeakConcurrentRequests();
+        remote.resetStatistics();
+        
+        long parallelMillis = resolveAll("parallel", 8);
+        int parallelPeak = remote.getPeakConcurrentRequests();
+        
+        assertEquals(1, sequentialPeak);
+        assertTrue(parallelPeak > 1, "Expected concurrent downloads, peak was " + parallelPeak);
+        assertTrue(parallelMillis * 2 < sequentialMillis,
+            "Parallel resolution (" + parallelMillis + "ms) should be at least twice as fast as sequential (" + sequentialMillis + "ms)");
+    }
+    
+    private long resolveAll(String name, int threads) throws Exception {
+        Path settings = RepositoryFixtures.writeMirrorSettings(tempDir.resolve(name + "-settings.xml"),
+            tempDir.resolve(name + "-local"), "bench-mirror", remote.getUrl());
+        MavenResolverConfig config = new MavenResolverConfig(ResolverOptions.builder()
+            .settingsFile(settings.toString())
+            .transferThreads(threads)
+            .maxConnectionsPerRoute(threads)
+            .build());
+        
+        List<ArtifactRequest> requests = new ArrayList<>();
+        for (int i = 0; i < ARTIFACT_COUNT; i++) {
+            requests.add(new ArtifactRequest(new DefaultArtifact(GROUP_ID, "artifact-" + i, "jar", VERSION),
+                config.getRepositories(), null));
+        }
+        
+        long start = System.nanoTime();
+        List<ArtifactResult> results = config.getRepositorySystem().resolveArtifacts(config.getSession(), requests);
+        long elapsedMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+        
+        assertTrue(results.stream().allMatch(ArtifactResult::isResolved));
+        assertTrue(remote.getRequestCount() >= ARTIFACT_COUNT, "Downloads must go through the mirror");
+        return elapsedMillis;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,148 @@
+package io.mend.maven.analyzer.model.entity;
+
+import io.mend.maven.analyzer.TestConstants;
+import io.mend.maven.analyzer.util.FingerprintUtils;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jol.info.GraphLayout;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompactDependencyTest {
+    
+    private static final String VALID_SHA1 = "da39a3ee5e6b4b0d3255bfef95601890afd80709";
+    
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    
+    @Test
+    void testGetSha1_RoundTripsHexDigest() {
+        CompactDependency dependency = createLeaf(VALID_SHA1);
+        
+        assertTrue(dependency.isSha1Present());
+        assertEquals(VALID_SHA1, dependency.getSha1());
+    }
+    
+    @Test
+    void testGetSha1_UppercaseInput_RendersLowercase() {
+        CompactDependency dependency = createLeaf(VALID_SHA1.toUpperCase());
+        
+        assertEquals(VALID_SHA1, dependency.getSha1());
+    }
+    
+    @Test
+    void testGetSha1_NoHash_ReturnsNull() {
+        CompactDependency dependency = createLeaf(null);
+        
+        assertFalse(dependency.isSha1Present());
+        assertNull(dependency.getSha1());
+    }
+    
+    @Test
+    void testConstructor_InvalidSha1_ThrowsException() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+            () -> createLeaf(TestConstants.SAMPLE_SHA1_HASH));
+        
+        assertTrue(exception.getMessage().contains(TestConstants.SAMPLE_SHA1_HASH));
+    }
+    
+    @Test
+    void testConstructor_InternsCoordinatesAndSharesEmptyChildren() {
+        CompactDependency first = createLeaf(null);
+        CompactDependency second = new CompactDependency(new String(TestConstants.TEST_DEPENDENCY_GROUP_ID),
+            new String(TestConstants.TEST_DEPENDENCY_ARTIFACT_ID), new String(TestConstants.TEST_DEPENDENCY_VERSION),
+            new String(TestConstants.TEST_DEPENDENCY_SCOPE), null, null);
+        
+        assertSame(first.getGroupId(), second.getGroupId());
+        assertSame(first.getVersion(), second.getVersion());
+        assertSame(first.getScope(), second.getScope());
+        assertSame(first.getChildren(), second.getChildren());
+        assertThrows(UnsupportedOperationException.class, () -> first.getChildren().add(second));
+    }
+    
+    @Test
+    void testSerialization_MatchesAnalyzedDependency() throws IOException {
+        AnalyzedDependency tree = createAnalyzedTree();
+        
+        String expected = objectMapper.writeValueAsString(tree);
+        String actual = objectMapper.writeValueAsString(CompactDependency.from(tree));
+        
+        assertEquals(expected, actual);
+    }
+    
+    @Test
+    void testDeserialization_ReadsAnalyzedDependencyJson() throws IOException {
+        AnalyzedDependency tree = createAnalyzedTree();
+        String json = objectMapper.writeValueAsString(tree);
+        
+        CompactDependency compact = objectMapper.readValue(json, CompactDependency.class);
+        
+        assertEquals(VALID_SHA1, compact.getSha1());
+        assertEquals(tree.getFingerprint(), compact.getFingerprint());
+        assertEquals(1, compact.getChildren().size());
+        assertNull(compact.getChildren().get(0).getSha1());
+        assertEquals(json, objectMapper.writeValueAsString(compact.toAnalyzedDependency()));
+    }
+    
+    @Test
+    void testRoundTrip_VerboseTree_KeepsConflictDetails() throws IOException {
+        AnalyzedDependency tree = createAnalyzedTree();
+        tree.getChildren().get(0).setOriginalScope("test");
+        AnalyzedDependency loser = new AnalyzedDependency("org.opentest4j", "opentest4j", "1.1.0", TestConstants.TEST_DEPENDENCY_SCOPE);
+        loser.setOmitted("conflict");
+        loser.setWinnerVersion("1.2.0");
+        tree.addChild(loser);
+        String json = objectMapper.writeValueAsString(tree);
+        
+        CompactDependency compact = objectMapper.readValue(json, CompactDependency.class);
+        
+        CompactDependency omitted = compact.getChildren().get(1);
+        assertEquals("conflict", omitted.getOmitted());
+        assertEquals("1.2.0", omitted.getWinnerVersion());
+        assertNull(omitted.getSha1());
+        assertEquals("test", compact.getChildren().get(0).getOriginalScope());
+        assertNull(compact.getOmitted());
+        assertEquals(json, objectMapper.writeValueAsString(compact));
+        assertEquals(json, objectMapper.writeValueAsString(CompactDependency.from(tree)));
+        assertEquals(json, objectMapper.writeValueAsString(compact.toAnalyzedDependency()));
+    }
+    
+    @Test
+    void testFootprint_LeafIsSmallerThanAnalyzedDependency() {
+        AnalyzedDependency analyzed = new AnalyzedDependency(TestConstants.TEST_DEPENDENCY_GROUP_ID,
+            TestConstants.TEST_DEPENDENCY_ARTIFACT_ID, TestConstants.TEST_DEPENDENCY_VERSION, TestConstants.TEST_DEPENDENCY_SCOPE);
+        analyzed.setSha1(new String(VALID_SHA1));
+        CompactDependency compact = CompactDependency.from(analyzed);
+        
+        long analyzedBytes = perNodeBytes(analyzed, analyzed.getGroupId(), analyzed.getArtifactId(),
+            analyzed.getVersion(), analyzed.getScope());
+        long compactBytes = perNodeBytes(compact, compact.getGroupId(), compact.getArtifactId(),
+            compact.getVersion(), compact.getScope(), compact.getChildren());
+        
+        assertTrue(compactBytes * 2 < analyzedBytes,
+            "Compact node (" + compactBytes + " bytes) should be less than half of " + analyzedBytes + " bytes");
+    }
+    
+    /**
+     * Retained size of the node minus objects shared between nodes (interned strings, the empty list).
+     */
+    private long perNodeBytes(Object node, Object... shared) {
+        return GraphLayout.parseInstance(node).subtract(GraphLayout.parseInstance(shared)).totalSize();
+    }
+    
+    private CompactDependency createLeaf(String sha1) {
+        return new CompactDependency(TestConstants.TEST_DEPENDENCY_GROUP_ID, TestConstants.TEST_DEPENDENCY_ARTIFACT_ID,
+            TestConstants.TEST_DEPENDENCY_VERSION, TestConstants.TEST_DEPENDENCY_SCOPE, sha1, List.of());
+    }
+    
+    private AnalyzedDependency createAnalyzedTree() {
+        AnalyzedDependency parent = new AnalyzedDependency(TestConstants.TEST_DEPENDENCY_GROUP_ID,
+            TestConstants.TEST_DEPENDENCY_ARTIFACT_ID, TestConstants.TEST_DEPENDENCY_VERSION, TestConstants.TEST_DEPENDENCY_SCOPE);
+        parent.setSha1(VALID_SHA1);
+        parent.addChild(new AnalyzedDependency("org.opentest4j", "opentest4j", "1.2.0", TestConstants.TEST_DEPENDENCY_SCOPE));
+        FingerprintUtils.computeFingerprints(List.of(parent));
+        return parent;
+    }
+}
\ No newline at end of file
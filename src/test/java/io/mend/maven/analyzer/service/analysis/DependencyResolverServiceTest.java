@@ -2,15 +2,22 @@ package io.mend.maven.analyzer.service.analysis;
 
 import io.mend.maven.analyzer.config.MavenResolverConfig;
 import io.mend.maven.analyzer.exception.DependencyAnalysisException;
+import io.mend.maven.analyzer.exception.MissingArtifactsException;
 import org.apache.maven.model.Dependency;
+import org.apache.maven.model.Exclusion;
 import org.apache.maven.model.Model;
+import org.apache.maven.repository.internal.MavenRepositorySystemUtils;
 import org.eclipse.aether.RepositorySystem;
 import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.artifact.DefaultArtifact;
 import org.eclipse.aether.collection.CollectRequest;
 import org.eclipse.aether.collection.CollectResult;
 import org.eclipse.aether.collection.DependencyCollectionException;
 import org.eclipse.aether.graph.DependencyNode;
 import org.eclipse.aether.repository.RemoteRepository;
+import org.eclipse.aether.resolution.ArtifactRequest;
+import org.eclipse.aether.resolution.ArtifactResult;
 import org.eclipse.aether.resolution.DependencyRequest;
 import org.eclipse.aether.resolution.DependencyResult;
 import org.eclipse.aether.resolution.DependencyResolutionException;
@@ -21,6 +28,8 @@ import org.mockito.MockitoAnnotations;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -50,7 +59,7 @@ class DependencyResolverServiceTest {
         
         when(config.getRepositorySystem()).thenReturn(repositorySystem);
         when(config.getSession()).thenReturn(session);
-        when(config.getRepositories()).thenReturn(Collections.emptyList());
+        when(config.getRepositories(any(Model.class))).thenReturn(Collections.emptyList());
     }
     
     @Test
@@ -106,6 +115,69 @@ class DependencyResolverServiceTest {
         assertTrue(exception.getCause() instanceof RuntimeException);
     }
     
+    @Test
+    void testResolveDependencies_OfflineUnresolvedArtifacts_ThrowsMissingArtifactsException() throws Exception {
+        Model model = createSampleModel();
+        when(session.isOffline()).thenReturn(true);
+        stubResolutionFailure();
+        
+        MissingArtifactsException exception = assertThrows(MissingArtifactsException.class,
+            () -> service.resolveDependencies(model));
+        
+        assertEquals(List.of("org.junit.jupiter:junit-jupiter-api:5.8.2"), exception.getMissingArtifacts());
+    }
+    
+    @Test
+    void testResolveDependencies_OnlineUnresolvedArtifacts_ThrowsDependencyAnalysisException() throws Exception {
+        Model model = createSampleModel();
+        stubResolutionFailure();
+        
+        DependencyAnalysisException exception = assertThrows(DependencyAnalysisException.class,
+            () -> service.resolveDependencies(model));
+        
+        assertFalse(exception instanceof MissingArtifactsException);
+        assertTrue(exception.getMessage().startsWith("Failed to resolve dependencies"));
+    }
+    
+    @Test
+    void testCreateCollectRequest_PomDependencyDetails_CarriedOver() {
+        when(session.getArtifactTypeRegistry()).thenReturn(MavenRepositorySystemUtils.newSession().getArtifactTypeRegistry());
+        Dependency dependency = new Dependency();
+        dependency.setGroupId("com.test");
+        dependency.setArtifactId("fixtures");
+        dependency.setVersion("1.0.0");
+        dependency.setType("test-jar");
+        dependency.setOptional(true);
+        Exclusion exclusion = new Exclusion();
+        exclusion.setGroupId("commons-logging");
+        exclusion.setArtifactId("commons-logging");
+        dependency.addExclusion(exclusion);
+        Model model = createSampleModel();
+        model.setDependencies(List.of(model.getDependencies().get(0), dependency));
+        
+        List<org.eclipse.aether.graph.Dependency> dependencies = service.createCollectRequest(model).getDependencies();
+        
+        assertEquals("org.junit.jupiter:junit-jupiter-api:jar:5.8.2", dependencies.get(0).getArtifact().toString());
+        org.eclipse.aether.graph.Dependency fixtures = dependencies.get(1);
+        assertEquals("com.test:fixtures:jar:tests:1.0.0", fixtures.getArtifact().toString());
+        assertTrue(fixtures.isOptional());
+        assertEquals(Set.of(new org.eclipse.aether.graph.Exclusion("commons-logging", "commons-logging", "*", "*")),
+            fixtures.getExclusions());
+    }
+    
+    private void stubResolutionFailure() throws Exception {
+        CollectResult collectResult = mock(CollectResult.class);
+        when(repositorySystem.collectDependencies(eq(session), any(CollectRequest.class)))
+            .thenReturn(collectResult);
+        when(collectResult.getRoot()).thenReturn(rootNode);
+        
+        Artifact artifact = new DefaultArtifact("org.junit.jupiter:junit-jupiter-api:5.8.2");
+        ArtifactResult artifactResult = new ArtifactResult(new ArtifactRequest(artifact, null, null));
+        DependencyResult dependencyResult = new DependencyResult(new DependencyRequest());
+        dependencyResult.setArtifactResults(List.of(artifactResult));
+        when(repositorySystem.resolveDependencies(eq(session), any(DependencyRequest.class)))
+            .thenThrow(new DependencyResolutionException(dependencyResult, new RuntimeException("Not found")));
+    }
     
     private Model createSampleModel() {
         Model model = new Model();
@@ -0,0 +1,46 @@
+package io.mend.maven.analyzer.service.analysis;
+
+import io.mend.maven.analyzer.model.response.DependencyStatistics;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DependencyStatisticsAccumulatorTest {
+    
+    @Test
+    void testToStatistics_NoNodes_ReturnsZeroes() {
+        DependencyStatistics statistics = new DependencyStatisticsAccumulator().toStatistics();
+        
+        assertEquals(0, statistics.getTotalNodes());
+        assertEquals(0, statistics.getMaxDepth());
+        assertEquals(0.0, statistics.getAverageDepth());
+        assertTrue(statistics.getFanOutHistogram().isEmpty());
+        assertTrue(statistics.getScopeCounts().isEmpty());
+    }
+    
+    @Test
+    void testToStatistics_RecordedNodes_AggregatesShape() {
+        DependencyStatisticsAccumulator accumulator = new DependencyStatisticsAccumulator();
+        
+        accumulator.recordNode(0, "compile", "hash1", 100L);
+        accumulator.recordNode(1, "compile", "hash2", 50L);
+        accumulator.recordNode(2, "test", null, 0L);
+        accumulator.recordNode(1, "runtime", "", 10L);
+        accumulator.recordFanOut(0);
+        accumulator.recordFanOut(0);
+        accumulator.recordFanOut(1);
+        accumulator.recordFanOut(2);
+        
+        DependencyStatistics statistics = accumulator.toStatistics();
+        
+        assertEquals(4, statistics.getTotalNodes());
+        assertEquals(2, statistics.getMaxDepth());
+        assertEquals(1.0, statistics.getAverageDepth());
+        assertEquals(Map.of(0, 2, 1, 1, 2, 1), statistics.getFanOutHistogram());
+        assertEquals(Map.of("compile", 2, "test", 1, "runtime", 1), statistics.getScopeCounts());
+        assertEquals(2, statistics.getMissingHashCount());
+        assertEquals(150L, statistics.getBytesHashed());
+    }
+}
\ No newline at end of file
@@ -1,9 +1,16 @@
 package io.mend.maven.analyzer.service.analysis;
 
 import io.mend.maven.analyzer.model.entity.AnalyzedDependency;
+import io.mend.maven.analyzer.model.response.DependencyRecord;
+import io.mend.maven.analyzer.model.response.DependencyStatistics;
+import io.mend.maven.analyzer.service.hash.ArtifactHashCache;
 import io.mend.maven.analyzer.service.hash.Sha1HashService;
+import io.mend.maven.analyzer.service.profile.PhaseProfiler;
 import io.mend.maven.analyzer.util.DependencyUtils;
+import io.mend.maven.analyzer.util.FingerprintUtils;
 import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.eclipse.aether.graph.DefaultDependencyNode;
 import org.eclipse.aether.graph.Dependency;
 import org.eclipse.aether.graph.DependencyNode;
 import org.junit.jupiter.api.BeforeEach;
@@ -11,9 +18,11 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -62,7 +71,7 @@ class DependencyTreeBuilderServiceTest {
         when(aetherChild.getDependency()).thenReturn(dependency);
         when(aetherChild.getChildren()).thenReturn(Collections.emptyList());
         
-        when(sha1HashService.calculateSha1Hash("com.example", "parent", "1.0.0"))
+        when(sha1HashService.calculateSha1Hash(eq(artifact), any(ArtifactHashCache.class)))
             .thenReturn("abc123");
         
         List<AnalyzedDependency> result = service.buildDependencyTree(aetherRoot);
@@ -91,16 +100,14 @@ class DependencyTreeBuilderServiceTest {
         
         // Setup grandchild
         Dependency grandchildDep = mock(Dependency.class);
-        Artifact grandchildArtifact = mock(Artifact.class);
+        Artifact grandchildArtifact = new DefaultArtifact("org.slf4j", "slf4j-api", "jar", "1.7.36");
         when(aetherGrandchild.getDependency()).thenReturn(grandchildDep);
+        when(aetherGrandchild.getArtifact()).thenReturn(grandchildArtifact);
         when(grandchildDep.getArtifact()).thenReturn(grandchildArtifact);
         when(grandchildDep.getScope()).thenReturn("runtime");
-        when(grandchildArtifact.getGroupId()).thenReturn("org.slf4j");
-        when(grandchildArtifact.getArtifactId()).thenReturn("slf4j-api");
-        when(grandchildArtifact.getVersion()).thenReturn("1.7.36");
         when(aetherGrandchild.getChildren()).thenReturn(Collections.emptyList());
         
-        when(sha1HashService.calculateSha1Hash(anyString(), anyString(), anyString()))
+        when(sha1HashService.calculateSha1Hash(any(Artifact.class), any(ArtifactHashCache.class)))
             .thenReturn("hash123");
         
         List<AnalyzedDependency> result = service.buildDependencyTree(aetherRoot);
@@ -117,6 +124,117 @@ class DependencyTreeBuilderServiceTest {
         assertEquals("runtime", childDep.getScope());
     }
     
+    @Test
+    void testBuildDependencyTree_WithListener_EmitsRecordsWithHierarchy() {
+        setupMockDependency("com.example", "parent", "1.0.0", "compile");
+        
+        when(aetherRoot.getChildren()).thenReturn(Arrays.asList(aetherChild));
+        when(aetherChild.getDependency()).thenReturn(dependency);
+        when(aetherChild.getChildren()).thenReturn(Arrays.asList(aetherGrandchild));
+        
+        Dependency grandchildDep = mock(Dependency.class);
+        Artifact grandchildArtifact = new DefaultArtifact("org.slf4j", "slf4j-api", "jar", "1.7.36");
+        when(aetherGrandchild.getDependency()).thenReturn(grandchildDep);
+        when(aetherGrandchild.getArtifact()).thenReturn(grandchildArtifact);
+        when(grandchildDep.getArtifact()).thenReturn(grandchildArtifact);
+        when(grandchildDep.getScope()).thenReturn("runtime");
+        when(aetherGrandchild.getChildren()).thenReturn(Collections.emptyList());
+        
+        when(sha1HashService.calculateSha1Hash(any(Artifact.class), any(ArtifactHashCache.class)))
+            .thenReturn("hash123");
+        
+        List<DependencyRecord> records = new ArrayList<>();
+        service.buildDependencyTree(aetherRoot, records::add);
+        
+        assertEquals(2, records.size());
+        
+        DependencyRecord parentRecord = records.get(0);
+        assertEquals("com.example:parent:1.0.0:compile", parentRecord.getId());
+        assertNull(parentRecord.getParentId());
+        assertEquals(parentRecord.getId(), parentRecord.getPathId());
+        assertEquals(0, parentRecord.getDepth());
+        assertEquals("hash123", parentRecord.getSha1());
+        
+        DependencyRecord childRecord = records.get(1);
+        assertEquals("org.slf4j:slf4j-api:1.7.36:runtime", childRecord.getId());
+        assertEquals(parentRecord.getId(), childRecord.getParentId());
+        assertEquals(parentRecord.getId() + "/" + childRecord.getId(), childRecord.getPathId());
+        assertEquals(1, childRecord.getDepth());
+    }
+    
+    @Test
+    void testBuildTree_WithNestedChildren_CollectsStatistics() {
+        setupMockDependency("com.example", "parent", "1.0.0", "compile");
+        
+        when(aetherRoot.getChildren()).thenReturn(Arrays.asList(aetherChild));
+        when(aetherChild.getDependency()).thenReturn(dependency);
+        when(aetherChild.getChildren()).thenReturn(Arrays.asList(aetherGrandchild));
+        
+        Dependency grandchildDep = mock(Dependency.class);
+        Artifact grandchildArtifact = new DefaultArtifact("org.slf4j", "slf4j-api", "jar", "1.7.36");
+        when(aetherGrandchild.getDependency()).thenReturn(grandchildDep);
+        when(aetherGrandchild.getArtifact()).thenReturn(grandchildArtifact);
+        when(grandchildDep.getArtifact()).thenReturn(grandchildArtifact);
+        when(grandchildDep.getScope()).thenReturn("runtime");
+        when(aetherGrandchild.getChildren()).thenReturn(Collections.emptyList());
+        
+        when(sha1HashService.calculateSha1Hash(eq(artifact), any(ArtifactHashCache.class))).thenReturn("hash123");
+        when(sha1HashService.getArtifactSize(artifact)).thenReturn(2048L);
+        
+        DependencyTree tree = service.buildTree(aetherRoot, DependencyNodeListener.NONE);
+        DependencyStatistics statistics = tree.getStatistics();
+        
+        assertEquals(1, tree.getDependencies().size());
+        assertEquals(2, statistics.getTotalNodes());
+        assertEquals(1, statistics.getMaxDepth());
+        assertEquals(0.5, statistics.getAverageDepth());
+        assertEquals(Map.of(0, 1, 1, 1), statistics.getFanOutHistogram());
+        assertEquals(Map.of("compile", 1, "runtime", 1), statistics.getScopeCounts());
+        assertEquals(1, statistics.getMissingHashCount());
+        assertEquals(2048L, statistics.getBytesHashed());
+        verify(sha1HashService, never()).getArtifactSize(grandchildArtifact);
+    }
+    
+    @Test
+    void testBuildTree_WithNestedChildren_ComputesSubtreeFingerprints() {
+        setupMockDependency("com.example", "parent", "1.0.0", "compile");
+        
+        when(aetherRoot.getChildren()).thenReturn(Arrays.asList(aetherChild));
+        when(aetherChild.getDependency()).thenReturn(dependency);
+        when(aetherChild.getChildren()).thenReturn(Arrays.asList(aetherGrandchild));
+        
+        Dependency grandchildDep = mock(Dependency.class);
+        Artifact grandchildArtifact = new DefaultArtifact("org.slf4j", "slf4j-api", "jar", "1.7.36");
+        when(aetherGrandchild.getDependency()).thenReturn(grandchildDep);
+        when(aetherGrandchild.getArtifact()).thenReturn(grandchildArtifact);
+        when(grandchildDep.getArtifact()).thenReturn(grandchildArtifact);
+        when(grandchildDep.getScope()).thenReturn("runtime");
+        when(aetherGrandchild.getChildren()).thenReturn(Collections.emptyList());
+        when(sha1HashService.calculateSha1Hash(any(Artifact.class), any(ArtifactHashCache.class))).thenReturn("hash123");
+        
+        DependencyTree tree = service.buildTree(aetherRoot, DependencyNodeListener.NONE, PhaseProfiler.DISABLED,
+            ArtifactHashCache.DISABLED, true);
+        AnalyzedDependency parent = tree.getDependencies().get(0);
+        AnalyzedDependency grandchild = parent.getChildren().get(0);
+        
+        assertEquals(FingerprintUtils.fingerprint(grandchild), grandchild.getFingerprint());
+        assertEquals(FingerprintUtils.fingerprint(parent), parent.getFingerprint());
+        assertEquals(FingerprintUtils.rootFingerprint(tree.getDependencies()), tree.getFingerprint());
+    }
+    
+    @Test
+    void testBuildTree_FingerprintsNotRequested_LeavesThemOut() {
+        setupMockDependency("com.example", "parent", "1.0.0", "compile");
+        when(aetherRoot.getChildren()).thenReturn(Arrays.asList(aetherChild));
+        when(aetherChild.getDependency()).thenReturn(dependency);
+        when(aetherChild.getChildren()).thenReturn(Collections.emptyList());
+        
+        DependencyTree tree = service.buildTree(aetherRoot, DependencyNodeListener.NONE);
+        
+        assertNull(tree.getDependencies().get(0).getFingerprint());
+        assertNull(tree.getFingerprint());
+    }
+    
     @Test
     void testBuildDependencyTree_NullRoot_ReturnsEmptyList() {
         List<AnalyzedDependency> result = service.buildDependencyTree(null);
@@ -142,13 +260,14 @@ class DependencyTreeBuilderServiceTest {
         
         DependencyNode aetherChild2 = mock(DependencyNode.class);
         when(aetherChild2.getDependency()).thenReturn(dependency);
+        when(aetherChild2.getArtifact()).thenReturn(artifact);
         when(aetherChild2.getChildren()).thenReturn(Collections.emptyList());
         
         when(aetherRoot.getChildren()).thenReturn(Arrays.asList(aetherChild, aetherChild2));
         when(aetherChild.getDependency()).thenReturn(dependency);
         when(aetherChild.getChildren()).thenReturn(Collections.emptyList());
         
-        when(sha1HashService.calculateSha1Hash("com.example", "duplicate", "1.0.0"))
+        when(sha1HashService.calculateSha1Hash(eq(artifact), any(ArtifactHashCache.class)))
             .thenReturn("hash123");
         
         List<AnalyzedDependency> result = service.buildDependencyTree(aetherRoot);
@@ -157,6 +276,29 @@ class DependencyTreeBuilderServiceTest {
         assertEquals(1, result.size()); // Should only have one instance due to duplicate detection
     }
     
+    @Test
+    void testBuildDependencyTree_ClassifierNextToMainArtifact_KeepsBothWithOwnHashes() {
+        Artifact main = new DefaultArtifact("com.example", "lib", "jar", "1.0.0");
+        Artifact tests = new DefaultArtifact("com.example", "lib", "tests", "jar", "1.0.0");
+        DependencyNode mainNode = new DefaultDependencyNode(new Dependency(main, "compile"));
+        DependencyNode testsNode = new DefaultDependencyNode(new Dependency(tests, "compile"));
+        when(aetherRoot.getChildren()).thenReturn(Arrays.asList(mainNode, testsNode));
+        when(sha1HashService.calculateSha1Hash(eq(main), any(ArtifactHashCache.class))).thenReturn("main123");
+        when(sha1HashService.calculateSha1Hash(eq(tests), any(ArtifactHashCache.class))).thenReturn("tests123");
+        
+        List<DependencyRecord> records = new ArrayList<>();
+        List<AnalyzedDependency> result = service.buildDependencyTree(aetherRoot, records::add);
+        
+        assertEquals(2, result.size());
+        assertNull(result.get(0).getClassifier());
+        assertEquals("main123", result.get(0).getSha1());
+        assertEquals("tests", result.get(1).getClassifier());
+        assertNull(result.get(1).getExtension());
+        assertEquals("tests123", result.get(1).getSha1());
+        assertEquals("com.example:lib:1.0.0:compile", records.get(0).getId());
+        assertEquals("com.example:lib:jar:tests:1.0.0:compile", records.get(1).getId());
+    }
+    
     @Test
     void testCountTotalDependencies_WithNestedTree_ReturnsCorrectCount() {
         AnalyzedDependency parent = new AnalyzedDependency("com.example", "parent", "1.0.0", "compile");
@@ -181,11 +323,14 @@ class DependencyTreeBuilderServiceTest {
     
     
     private void setupMockDependency(String groupId, String artifactId, String version, String scope) {
+        when(aetherChild.getArtifact()).thenReturn(artifact);
         when(dependency.getArtifact()).thenReturn(artifact);
         when(dependency.getScope()).thenReturn(scope);
         when(artifact.getGroupId()).thenReturn(groupId);
         when(artifact.getArtifactId()).thenReturn(artifactId);
         when(artifact.getVersion()).thenReturn(version);
+        when(artifact.getClassifier()).thenReturn("");
+        when(artifact.getExtension()).thenReturn("jar");
     }
     
     private void setupMockChildDependency(String groupId, String artifactId, String version, String scope) {
@@ -194,5 +339,7 @@ class DependencyTreeBuilderServiceTest {
         when(childArtifact.getGroupId()).thenReturn(groupId);
         when(childArtifact.getArtifactId()).thenReturn(artifactId);
         when(childArtifact.getVersion()).thenReturn(version);
+        when(childArtifact.getClassifier()).thenReturn("");
+        when(childArtifact.getExtension()).thenReturn("jar");
     }
 }
\ No newline at end of file
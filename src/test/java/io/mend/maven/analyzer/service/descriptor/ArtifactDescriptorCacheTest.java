@@ -0,0 +1,186 @@
+package io.mend.maven.analyzer.service.descriptor;
+
+import io.mend.maven.analyzer.config.AnalysisOptions;
+import io.mend.maven.analyzer.config.MavenResolverConfig;
+import io.mend.maven.analyzer.config.ResolverOptions;
+import io.mend.maven.analyzer.model.response.AnalysisResult;
+import io.mend.maven.analyzer.model.response.ResolverMetrics;
+import io.mend.maven.analyzer.service.DependencyAnalysisService;
+import io.mend.maven.analyzer.service.analysis.DependencyNodeListener;
+import io.mend.maven.analyzer.service.profile.PhaseProfiler;
+import io.mend.maven.analyzer.support.SyntheticRepositoryGenerator;
+import org.eclipse.aether.DefaultRepositorySystemSession;
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.eclipse.aether.graph.Dependency;
+import org.eclipse.aether.graph.Exclusion;
+import org.eclipse.aether.repository.RemoteRepository;
+import org.eclipse.aether.resolution.ArtifactDescriptorRequest;
+import org.eclipse.aether.resolution.ArtifactDescriptorResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ArtifactDescriptorCacheTest {
+    
+    private static final String PARENT_POM = "io/synthetic/synthetic-parent/1.0.0/synthetic-parent-1.0.0.pom";
+    
+    @TempDir
+    Path tempDir;
+    
+    private SyntheticRepositoryGenerator.GeneratedProject project;
+    private Path cacheFile;
+    
+    @BeforeEach
+    void setUp() throws Exception {
+        SyntheticRepositoryGenerator.Spec spec = SyntheticRepositoryGenerator.Spec.builder()
+            .artifactCount(40)
+            .depth(3)
+            .fanOut(3)
+            .directDependencies(4)
+            .build();
+        project = SyntheticRepositoryGenerator.generate(tempDir, spec);
+        cacheFile = tempDir.resolve("descriptors.json");
+    }
+    
+    @Test
+    void testAnalyze_WarmCache_ServesEveryDescriptorWithoutParsing() throws Exception {
+        AnalysisResult uncached = analyze(null);
+        AnalysisResult cold = analyze(cacheFile);
+        AnalysisResult warm = analyze(cacheFile);
+        
+        assertTrue(Files.isRegularFile(cacheFile));
+        assertEquals(0, cold.getMetrics().getDescriptorCacheHits());
+        ResolverMetrics metrics = warm.getMetrics();
+        assertTrue(metrics.getDescriptorReads() > 0);
+        assertEquals(metrics.getDescriptorReads(), metrics.getDescriptorCacheHits());
+        assertNotNull(uncached.getFingerprint());
+        assertEquals(uncached.getFingerprint(), cold.getFingerprint());
+        assertEquals(uncached.getFingerprint(), warm.getFingerprint());
+    }
+    
+    @Test
+    void testAnalyze_TouchedPom_RereadsOnlyThatDescriptor() throws Exception {
+        AnalysisResult cold = analyze(cacheFile);
+        String coordinates = project.getJarSha1s().keySet().iterator().next();
+        String[] parts = coordinates.split(":");
+        touch(project.getLocalRepositoryDirectory().resolve(parts[0].replace('.', '/') + "/" + parts[1] + "/" + parts[2]
+            + "/" + parts[1] + "-" + parts[2] + ".pom"));
+        
+        AnalysisResult warm = analyze(cacheFile);
+        
+        ResolverMetrics metrics = warm.getMetrics();
+        assertEquals(metrics.getDescriptorReads() - 1, metrics.getDescriptorCacheHits());
+        assertEquals(cold.getFingerprint(), warm.getFingerprint());
+    }
+    
+    @Test
+    void testAnalyze_TouchedParentPom_RereadsEveryInheritingDescriptor() throws Exception {
+        AnalysisResult cold = analyze(cacheFile);
+        touch(project.getLocalRepositoryDirectory().resolve(PARENT_POM));
+        
+        AnalysisResult warm = analyze(cacheFile);
+        
+        assertEquals(0, warm.getMetrics().getDescriptorCacheHits());
+        assertEquals(cold.getFingerprint(), warm.getFingerprint());
+        assertEquals(warm.getMetrics().getDescriptorReads(), analyze(cacheFile).getMetrics().getDescriptorCacheHits());
+    }
+    
+    @Test
+    void testLoad_OtherFormatVersionOrContext_StartsEmpty() throws Exception {
+        analyze(cacheFile);
+        ArtifactDescriptorCache cache = ArtifactDescriptorCache.load(cacheFile);
+        cache.attach(new DefaultRepositorySystemSession());
+        assertTrue(cache.size() > 0);
+        
+        DefaultRepositorySystemSession otherContext = new DefaultRepositorySystemSession();
+        otherContext.setUserProperty("java.version", "1.8");
+        ArtifactDescriptorCache discarded = ArtifactDescriptorCache.load(cacheFile);
+        discarded.attach(otherContext);
+        assertEquals(0, discarded.size());
+        
+        Files.writeString(cacheFile, Files.readString(cacheFile).replace("\"formatVersion\":1", "\"formatVersion\":99"));
+        ArtifactDescriptorCache outdated = ArtifactDescriptorCache.load(cacheFile);
+        outdated.attach(new DefaultRepositorySystemSession());
+        assertEquals(0, outdated.size());
+    }
+    
+    @Test
+    void testSave_FailedWrite_IsRetriedByTheNextSave() throws Exception {
+        Path blocked = Files.writeString(tempDir.resolve("blocked"), "not a directory");
+        Path unwritable = blocked.resolve("descriptors.json");
+        MavenResolverConfig config = new MavenResolverConfig(optionsFor(unwritable));
+        new DependencyAnalysisService(config, new PrintStream(OutputStream.nullOutputStream()))
+            .analyze(project.getProjectDirectory().toString());
+        ArtifactDescriptorCache cache = config.getDescriptorCache();
+        assertTrue(cache.size() > 0);
+        assertThrows(IOException.class, cache::save);
+        
+        Files.delete(blocked);
+        Files.createDirectory(blocked);
+        cache.save();
+        
+        assertTrue(Files.isRegularFile(unwritable));
+    }
+    
+    @Test
+    void testCodec_RoundTrip_KeepsDescriptorsAndStoresSharedListsOnce() {
+        List<Dependency> managed = List.of(new Dependency(new DefaultArtifact("com.example:managed:3.0"), "runtime"));
+        CachedDescriptor relocated = new CachedDescriptor("com.example:old:jar::1.0", List.of(new DescriptorCacheFile.PomFile("old.pom", 1, 2)),
+            new DefaultArtifact("com.example", "new", "", "jar", "1.0", Map.of("downloadUrl", "http://example.com"), (File) null),
+            List.of(new DefaultArtifact("com.example:old:jar:1.0")), List.of(),
+            List.of(new Dependency(new DefaultArtifact("com.example:lib:jar:tests:2.0"), "test", true,
+                List.of(new Exclusion("commons-logging", "commons-logging", "*", "*")))),
+            managed, List.of(new RemoteRepository.Builder("internal", "default", "https://repo.example.com/").build()),
+            Map.of("license.count", "0"));
+        CachedDescriptor sibling = new CachedDescriptor("com.example:sibling:jar::1.0", List.of(new DescriptorCacheFile.PomFile("sibling.pom", 3, 4)),
+            new DefaultArtifact("com.example:sibling:1.0"), List.of(), List.of(), List.of(), managed, List.of(), Map.of());
+        
+        DescriptorCacheFile file = DescriptorCacheCodec.encode("context", List.of(relocated, sibling));
+        List<CachedDescriptor> decoded = DescriptorCacheCodec.decode(file);
+        
+        assertEquals(3, file.getDependencyLists().size());
+        ArtifactDescriptorRequest request = new ArtifactDescriptorRequest(new DefaultArtifact("com.example:old:1.0"), List.of(), null);
+        ArtifactDescriptorResult expected = relocated.toResult(request);
+        ArtifactDescriptorResult actual = decoded.get(0).toResult(request);
+        assertEquals("com.example:new:jar:1.0", actual.getArtifact().toString());
+        assertEquals("http://example.com", actual.getArtifact().getProperty("downloadUrl", null));
+        assertEquals(expected.getRelocations(), actual.getRelocations());
+        assertEquals(expected.getDependencies(), actual.getDependencies());
+        assertEquals(expected.getManagedDependencies(), actual.getManagedDependencies());
+        assertEquals(expected.getRepositories(), actual.getRepositories());
+        assertEquals(expected.getProperties(), actual.getProperties());
+        assertSame(decoded.get(0).getManagedDependencies(), decoded.get(1).getManagedDependencies());
+    }
+    
+    private AnalysisResult analyze(Path descriptorCache) throws Exception {
+        DependencyAnalysisService service = new DependencyAnalysisService(new MavenResolverConfig(optionsFor(descriptorCache)),
+            new PrintStream(OutputStream.nullOutputStream()));
+        return service.analyze(project.getProjectDirectory().toString(), DependencyNodeListener.NONE, PhaseProfiler.DISABLED,
+            AnalysisOptions.builder().fingerprints(true).build());
+    }
+    
+    private ResolverOptions optionsFor(Path descriptorCache) {
+        return ResolverOptions.builder()
+            .localRepository(project.getLocalRepositoryDirectory().toString())
+            .settingsFile(tempDir.resolve("no-settings.xml").toString())
+            .descriptorCache(descriptorCache != null ? descriptorCache.toString() : null)
+            .metrics(true)
+            .build();
+    }
+    
+    private static void touch(Path file) throws Exception {
+        Files.setLastModifiedTime(file, FileTime.fromMillis(Files.getLastModifiedTime(file).toMillis() + 10_000));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,158 @@
+package io.mend.maven.analyzer.service.diff;
+
+import io.mend.maven.analyzer.model.entity.AnalyzedDependency;
+import io.mend.maven.analyzer.model.entity.CompactDependency;
+import io.mend.maven.analyzer.model.response.AnalysisResult;
+import io.mend.maven.analyzer.model.response.DependencyChange;
+import io.mend.maven.analyzer.model.response.DependencyDiff;
+import io.mend.maven.analyzer.model.response.DependencyRecord;
+import io.mend.maven.analyzer.service.output.JsonOutputService;
+import io.mend.maven.analyzer.service.output.NdjsonOutputService;
+import io.mend.maven.analyzer.util.FingerprintUtils;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DependencyDiffServiceTest {
+    
+    private static final String SHA1_A = "da39a3ee5e6b4b0d3255bfef95601890afd80709";
+    private static final String SHA1_B = "0123456789abcdef0123456789abcdef01234567";
+    
+    private final DependencyDiffService diffService = new DependencyDiffService();
+    
+    @TempDir
+    Path tempDir;
+    
+    @Test
+    void testDiff_ChangedTrees_ReportsEachChangeTypeWithPath() {
+        AnalysisResult oldResult = createResult(Map.of("slf4j-api", "2.0.9", "jackson-core", "2.16.1", "commons-io", "2.15.0"), SHA1_A);
+        AnalysisResult newResult = createResult(Map.of("slf4j-api", "2.0.12", "jackson-core", "2.16.1", "guava", "33.0.0"), SHA1_B);
+        
+        DependencyDiff diff = diffService.diff(oldResult, newResult);
+        
+        assertFalse(diff.isIdentical());
+        assertEquals(1, diff.getAdded());
+        assertEquals(1, diff.getRemoved());
+        assertEquals(1, diff.getVersionChanged());
+        assertEquals(1, diff.getHashChanged());
+        
+        DependencyChange versionChange = findChange(diff, "slf4j-api");
+        assertEquals(DependencyChange.Type.VERSION_CHANGED, versionChange.getType());
+        assertEquals("2.0.9", versionChange.getOldVersion());
+        assertEquals("2.0.12", versionChange.getNewVersion());
+        assertEquals(List.of("com.example:app-core:1.0.0", "org.example:slf4j-api:2.0.12"), versionChange.getPath());
+        
+        DependencyChange hashChange = findChange(diff, "jackson-core");
+        assertEquals(DependencyChange.Type.HASH_CHANGED, hashChange.getType());
+        assertEquals(SHA1_A, hashChange.getOldSha1());
+        assertEquals(SHA1_B, hashChange.getNewSha1());
+        
+        assertEquals(DependencyChange.Type.ADDED, findChange(diff, "guava").getType());
+        DependencyChange removed = findChange(diff, "commons-io");
+        assertEquals(DependencyChange.Type.REMOVED, removed.getType());
+        assertEquals(List.of("com.example:app-core:1.0.0", "org.example:commons-io:2.15.0"), removed.getPath());
+    }
+    
+    @Test
+    void testDiff_EqualFingerprints_ShortCircuitsAsIdentical() {
+        AnalysisResult oldResult = createResult(Map.of("slf4j-api", "2.0.9"), SHA1_A);
+        AnalysisResult newResult = createResult(Map.of("slf4j-api", "2.0.9"), SHA1_A);
+        
+        DependencyDiff diff = diffService.diff(oldResult, newResult);
+        
+        assertTrue(diff.isIdentical());
+        assertFalse(diff.hasChanges());
+        assertEquals(oldResult.getFingerprint(), diff.getNewFingerprint());
+    }
+    
+    @Test
+    void testDiff_JsonNdjsonAndCompactFiles_MatchInMemoryDiff() throws IOException {
+        AnalysisResult oldResult = createResult(Map.of("slf4j-api", "2.0.9", "commons-io", "2.15.0"), SHA1_A);
+        AnalysisResult newResult = createResult(Map.of("slf4j-api", "2.0.12", "guava", "33.0.0"), SHA1_A);
+        DependencyDiff expected = diffService.diff(oldResult, newResult);
+        
+        Path oldJson = tempDir.resolve("old.json");
+        new JsonOutputService().writeToFile(oldResult, oldJson.toString());
+        Path newNdjson = writeNdjson(newResult, tempDir.resolve("new.ndjson"));
+        Path newCompact = writeCompact(newResult, tempDir.resolve("new-compact.json"));
+        
+        assertEquals(expected.getChanges(), diffService.diff(oldJson, newNdjson).getChanges());
+        assertEquals(expected.getChanges(), diffService.diff(oldJson, newCompact).getChanges());
+    }
+    
+    @Test
+    void testRead_FieldsAfterChildren_StillIndexesNode() throws IOException {
+        String json = "{\"dependencies\":[{\"children\":[{\"groupId\":\"g\",\"artifactId\":\"child\",\"version\":\"1\"}],"
+            + "\"groupId\":\"g\",\"artifactId\":\"parent\",\"version\":\"2\",\"unknown\":{\"nested\":[1,2]}}]}";
+        Path file = Files.writeString(tempDir.resolve("reordered.json"), json);
+        
+        DependencyIndex index = new DependencyIndexReader().read(file);
+        
+        assertEquals(2, index.size());
+        assertEquals(List.of("g:parent:2", "g:child:1"), index.get("g", "child").getPath());
+    }
+    
+    private DependencyChange findChange(DependencyDiff diff, String artifactId) {
+        return diff.getChanges().stream()
+            .filter(change -> change.getArtifactId().equals(artifactId))
+            .findFirst()
+            .orElseThrow();
+    }
+    
+    private AnalysisResult createResult(Map<String, String> libraries, String jacksonSha1) {
+        AnalyzedDependency root = new AnalyzedDependency("com.example", "app-core", "1.0.0", "compile");
+        root.setSha1(SHA1_A);
+        libraries.entrySet().stream().sorted(Map.Entry.comparingByKey()).forEach(library -> {
+            AnalyzedDependency child = new AnalyzedDependency("org.example", library.getKey(), library.getValue(), "compile");
+            child.setSha1(library.getKey().equals("jackson-core") ? jacksonSha1 : SHA1_A);
+            root.addChild(child);
+        });
+        
+        List<AnalyzedDependency> dependencies = new ArrayList<>(List.of(root));
+        AnalysisResult result = new AnalysisResult("/project", "com.example", "app", "1.0.0");
+        result.setDependencies(dependencies);
+        result.setFingerprint(FingerprintUtils.computeFingerprints(dependencies));
+        return result;
+    }
+    
+    private Path writeNdjson(AnalysisResult result, Path file) throws IOException {
+        try (Writer writer = Files.newBufferedWriter(file);
+             NdjsonOutputService output = new NdjsonOutputService(writer)) {
+            writeRecords(result.getDependencies(), null, 0, output);
+        }
+        return file;
+    }
+    
+    private void writeRecords(List<AnalyzedDependency> dependencies, String parentId, int depth, NdjsonOutputService output) {
+        for (AnalyzedDependency dependency : dependencies) {
+            String id = dependency.toString();
+            output.onDependency(DependencyRecord.builder()
+                .id(id)
+                .parentId(parentId)
+                .depth(depth)
+                .groupId(dependency.getGroupId())
+                .artifactId(dependency.getArtifactId())
+                .version(dependency.getVersion())
+                .scope(dependency.getScope())
+                .sha1(dependency.getSha1())
+                .build());
+            writeRecords(dependency.getChildren(), id, depth + 1, output);
+        }
+    }
+    
+    private Path writeCompact(AnalysisResult result, Path file) throws IOException {
+        List<CompactDependency> compact = result.getDependencies().stream().map(CompactDependency::from).toList();
+        new ObjectMapper().writeValue(file.toFile(), Map.of("dependencies", compact));
+        return file;
+    }
+}
\ No newline at end of file
@@ -1,6 +1,10 @@
 package io.mend.maven.analyzer.service.hash;
 
 import io.mend.maven.analyzer.config.MavenResolverConfig;
+import io.mend.maven.analyzer.service.index.IndexedFile;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.artifact.DefaultArtifact;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -11,6 +15,7 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -84,13 +89,63 @@ class Sha1HashServiceTest {
         Files.writeString(testFile, testContent);
         
         // Mock the config to return our test file
-        when(config.getLocalRepositoryFile(groupId, artifactId, version))
+        when(config.getLocalRepositoryFile(any(Artifact.class)))
             .thenReturn(testFile.toFile());
         
         String hash = service.calculateSha1Hash(groupId, artifactId, version);
         
         assertNotNull(hash);
-        verify(config).getLocalRepositoryFile(groupId, artifactId, version);
+        verify(config).getLocalRepositoryFile(new DefaultArtifact(groupId, artifactId, "jar", version));
+    }
+    
+    @Test
+    void testGetArtifactSize_ExistingFile_ReturnsLength() throws IOException {
+        Path testFile = tempDir.resolve("sized.jar");
+        Files.writeString(testFile, "12345");
+        when(config.getLocalRepositoryFile(any(Artifact.class))).thenReturn(testFile.toFile());
+        
+        assertEquals(5L, service.getArtifactSize("com.example", "sized", "1.0.0"));
+    }
+    
+    @Test
+    void testGetArtifactSize_MissingFile_ReturnsZero() {
+        when(config.getLocalRepositoryFile(any(Artifact.class)))
+            .thenReturn(new File(tempDir.toFile(), "missing.jar"));
+        
+        assertEquals(0L, service.getArtifactSize("com.example", "missing", "1.0.0"));
+    }
+    
+    @Test
+    void testCalculateSha1Hash_IndexedArtifact_AnsweredWithoutTouchingRepository() {
+        String sha1 = "0a0a9f2a6772942557ab5355d76af442f8f65e01";
+        when(config.findIndexedFile(any(Artifact.class)))
+            .thenReturn(new IndexedFile("com/example/indexed/1.0.0/indexed-1.0.0.jar", 13L, 1000L, sha1));
+        ArtifactHashCache hashCache = new ArtifactHashCache(List.of());
+        
+        assertEquals(sha1, service.calculateSha1Hash("com.example", "indexed", "1.0.0"));
+        assertEquals(sha1, service.calculateSha1Hash("com.example", "indexed", "1.0.0", hashCache));
+        assertEquals(13L, service.getArtifactSize("com.example", "indexed", "1.0.0"));
+        
+        assertEquals(1000L, hashCache.getEntry("com.example:indexed:1.0.0").getLastModified());
+        verify(config, never()).getLocalRepositoryFile(any(Artifact.class));
+    }
+    
+    @Test
+    void testCalculateSha1Hash_ClassifierNextToMainArtifact_HashesEachResolvedFile() throws IOException {
+        Path mainFile = tempDir.resolve("lib-1.0.jar");
+        Path testsFile = tempDir.resolve("lib-1.0-tests.jar");
+        Files.writeString(mainFile, "main classes");
+        Files.writeString(testsFile, "test classes");
+        Artifact main = new DefaultArtifact("com.example", "lib", "jar", "1.0").setFile(mainFile.toFile());
+        Artifact tests = new DefaultArtifact("com.example", "lib", "tests", "jar", "1.0").setFile(testsFile.toFile());
+        ArtifactHashCache hashCache = new ArtifactHashCache(List.of());
+        
+        assertEquals(DigestUtils.sha1Hex("main classes"), service.calculateSha1Hash(main, hashCache));
+        assertEquals(DigestUtils.sha1Hex("test classes"), service.calculateSha1Hash(tests, hashCache));
+        assertEquals(12L, service.getArtifactSize(tests));
+        
+        assertEquals(DigestUtils.sha1Hex("main classes"), hashCache.getEntry("com.example:lib:1.0").getSha1());
+        assertEquals(DigestUtils.sha1Hex("test classes"), hashCache.getEntry("com.example:lib:jar:tests:1.0").getSha1());
     }
     
     @Test
@@ -100,13 +155,13 @@ class Sha1HashServiceTest {
         String version = "1.0.0";
         
         File nonExistentFile = new File(tempDir.toFile(), "non-existent.jar");
-        when(config.getLocalRepositoryFile(groupId, artifactId, version))
+        when(config.getLocalRepositoryFile(any(Artifact.class)))
             .thenReturn(nonExistentFile);
         
         String hash = service.calculateSha1Hash(groupId, artifactId, version);
         
         assertNull(hash);
-        verify(config).getLocalRepositoryFile(groupId, artifactId, version);
+        verify(config).getLocalRepositoryFile(any(Artifact.class));
     }
     
 }
\ No newline at end of file
@@ -0,0 +1,144 @@
+package io.mend.maven.analyzer.service.index;
+
+import io.mend.maven.analyzer.config.MavenResolverConfig;
+import io.mend.maven.analyzer.config.ResolverOptions;
+import io.mend.maven.analyzer.model.response.RepositoryIndexResult;
+import io.mend.maven.analyzer.support.SyntheticRepositoryGenerator;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LocalRepositoryIndexTest {
+    
+    private static final String JAR = "com/example/lib/1.0/lib-1.0.jar";
+    private static final String POM = "com/example/lib/1.0/lib-1.0.pom";
+    
+    @TempDir
+    Path tempDir;
+    
+    @Test
+    void testIndex_Repository_RecordsArtifactFilesOnly() throws Exception {
+        Path repository = tempDir.resolve("repository");
+        write(repository, JAR, "jar content");
+        write(repository, POM, "<project/>");
+        write(repository, JAR + ".sha1", "checksum");
+        write(repository, "com/example/lib/1.0/_remote.repositories", "lib-1.0.jar>central=");
+        write(repository, "com/example/lib/maven-metadata-central.xml", "<metadata/>");
+        Path indexFile = LocalRepositoryIndex.defaultFile(repository);
+        
+        RepositoryIndexResult result = new LocalRepositoryIndexer(2).index(repository, indexFile);
+        LocalRepositoryIndex index = LocalRepositoryIndex.open(indexFile);
+        
+        assertEquals(2, result.getFiles());
+        assertEquals(2, result.getHashed());
+        assertEquals(2, index.size());
+        assertEquals(repository.toAbsolutePath().normalize().toString(), index.getRepository());
+        IndexedFile jar = index.find(JAR);
+        assertEquals(DigestUtils.sha1Hex("jar content"), jar.getSha1());
+        assertEquals(11L, jar.getSize());
+        assertEquals(Files.getLastModifiedTime(repository.resolve(JAR)).toMillis(), jar.getLastModified());
+        assertNotNull(index.find(POM));
+        assertNull(index.find(JAR + ".sha1"));
+        assertNull(index.find("com/example/lib/1.0/missing-1.0.jar"));
+    }
+    
+    @Test
+    void testIndex_SecondRun_HashesOnlyNewAndChangedFiles() throws Exception {
+        Path repository = tempDir.resolve("repository");
+        write(repository, JAR, "jar content");
+        write(repository, POM, "<project/>");
+        write(repository, "com/example/old/1.0/old-1.0.jar", "old");
+        Path indexFile = tempDir.resolve("repository.idx");
+        new LocalRepositoryIndexer().index(repository, indexFile);
+        
+        write(repository, JAR, "new jar content");
+        Files.setLastModifiedTime(repository.resolve(JAR), FileTime.fromMillis(Files.getLastModifiedTime(repository.resolve(JAR)).toMillis() + 10_000));
+        write(repository, "com/example/added/2.0/added-2.0.jar", "added");
+        Files.delete(repository.resolve("com/example/old/1.0/old-1.0.jar"));
+        
+        RepositoryIndexResult result = new LocalRepositoryIndexer().index(repository, indexFile);
+        
+        assertEquals(3, result.getFiles());
+        assertEquals(2, result.getHashed());
+        assertEquals(1, result.getReused());
+        assertEquals(1, result.getRemoved());
+        LocalRepositoryIndex index = LocalRepositoryIndex.open(indexFile);
+        assertEquals(DigestUtils.sha1Hex("new jar content"), index.find(JAR).getSha1());
+        assertNull(index.find("com/example/old/1.0/old-1.0.jar"));
+    }
+    
+    @Test
+    void testOpen_MissingOrCorruptFile_IsEmpty() throws Exception {
+        Path repository = tempDir.resolve("repository");
+        write(repository, JAR, "jar content");
+        Path indexFile = tempDir.resolve("repository.idx");
+        new LocalRepositoryIndexer().index(repository, indexFile);
+        byte[] bytes = Files.readAllBytes(indexFile);
+        
+        assertEquals(0, LocalRepositoryIndex.open(tempDir.resolve("missing.idx")).size());
+        Files.write(indexFile, Arrays.copyOf(bytes, bytes.length - 1));
+        assertEquals(0, LocalRepositoryIndex.open(indexFile).size());
+        bytes[7] = 99;
+        Files.write(indexFile, bytes);
+        assertEquals(0, LocalRepositoryIndex.open(indexFile).size());
+        Files.writeString(indexFile, "not an index, just text");
+        assertNull(LocalRepositoryIndex.open(indexFile).find(JAR));
+    }
+    
+    @Test
+    void testFindIndexedFile_SyntheticRepository_AnswersEveryJarFromTheIndex() throws Exception {
+        SyntheticRepositoryGenerator.GeneratedProject project = SyntheticRepositoryGenerator.generate(tempDir,
+            SyntheticRepositoryGenerator.Spec.builder().artifactCount(200).depth(4).fanOut(3).directDependencies(5).build());
+        // The generated remote has the local repository layout
+        Path repository = project.getRepositoryDirectory();
+        Path indexFile = LocalRepositoryIndex.defaultFile(repository);
+        new LocalRepositoryIndexer(8).index(repository, indexFile);
+        
+        MavenResolverConfig config = new MavenResolverConfig(ResolverOptions.builder()
+            .offline(true)
+            .settingsFile(tempDir.resolve("no-settings.xml").toString())
+            .localRepository(repository.toString())
+            .repositoryIndex(indexFile.toString())
+            .build());
+        
+        for (Map.Entry<String, String> jar : project.getJarSha1s().entrySet()) {
+            String[] parts = jar.getKey().split(":");
+            IndexedFile indexed = config.findIndexedFile(parts[0], parts[1], parts[2]);
+            assertNotNull(indexed, jar.getKey());
+            assertEquals(jar.getValue(), indexed.getSha1());
+        }
+        assertNull(config.findIndexedFile("io.synthetic", "absent", "1.0.0"));
+    }
+    
+    @Test
+    void testConfig_IndexOfAnotherRepository_IsIgnored() throws Exception {
+        Path repository = tempDir.resolve("repository");
+        write(repository, JAR, "jar content");
+        Path indexFile = tempDir.resolve("repository.idx");
+        new LocalRepositoryIndexer().index(repository, indexFile);
+        
+        MavenResolverConfig config = new MavenResolverConfig(ResolverOptions.builder()
+            .offline(true)
+            .settingsFile(tempDir.resolve("no-settings.xml").toString())
+            .localRepository(tempDir.resolve("other").toString())
+            .repositoryIndex(indexFile.toString())
+            .build());
+        
+        assertNull(config.getRepositoryIndex());
+        assertNull(config.findIndexedFile("com.example", "lib", "1.0"));
+    }
+    
+    private static void write(Path repository, String path, String content) throws Exception {
+        Path file = repository.resolve(path);
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, content);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,66 @@
+package io.mend.maven.analyzer.service.jfr;
+
+import io.mend.maven.analyzer.TestConstants;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AnalysisRecordingTest {
+    
+    @TempDir
+    Path tempDir;
+    
+    @Test
+    void testEvents_NoRecording_AreDisabled() {
+        ArtifactHashEvent hashEvent = new ArtifactHashEvent();
+        PomParseEvent parseEvent = new PomParseEvent();
+        
+        assertFalse(hashEvent.isEnabled());
+        assertFalse(parseEvent.isEnabled());
+    }
+    
+    @Test
+    void testClose_WritesEnabledEventsToFile() throws IOException {
+        Path jfrFile = tempDir.resolve("analysis.jfr");
+        
+        try (AnalysisRecording ignored = AnalysisRecording.start(jfrFile)) {
+            ArtifactHashEvent hashEvent = new ArtifactHashEvent();
+            hashEvent.begin();
+            hashEvent.complete(TestConstants.TEST_DEPENDENCY_GROUP_ID, TestConstants.TEST_DEPENDENCY_ARTIFACT_ID,
+                TestConstants.TEST_DEPENDENCY_VERSION, 2_000_000L, true, 500_000_000L);
+            
+            PomParseEvent parseEvent = new PomParseEvent();
+            parseEvent.begin();
+            parseEvent.complete("com.example:test-project:1.0.0");
+        }
+        
+        assertTrue(Files.size(jfrFile) > 0);
+        List<RecordedEvent> events = RecordingFile.readAllEvents(jfrFile);
+        
+        RecordedEvent hash = findEvent(events, "io.mend.analyzer.ArtifactHash");
+        assertEquals(TestConstants.TEST_DEPENDENCY_GROUP_ID, hash.getString("groupId"));
+        assertEquals(TestConstants.TEST_DEPENDENCY_ARTIFACT_ID, hash.getString("artifactId"));
+        assertEquals(TestConstants.TEST_DEPENDENCY_VERSION, hash.getString("version"));
+        assertEquals(2_000_000L, hash.getLong("fileSize"));
+        assertEquals(4_000_000L, hash.getLong("bytesPerSecond"));
+        assertTrue(hash.getBoolean("hashed"));
+        
+        RecordedEvent parse = findEvent(events, "io.mend.analyzer.PomParse");
+        assertEquals("com.example:test-project:1.0.0", parse.getString("project"));
+    }
+    
+    private RecordedEvent findEvent(List<RecordedEvent> events, String name) {
+        return events.stream()
+            .filter(event -> event.getEventType().getName().equals(name))
+            .findFirst()
+            .orElseThrow(() -> new AssertionError("No " + name + " event recorded"));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,78 @@
+package io.mend.maven.analyzer.service.lock;
+
+import io.mend.maven.analyzer.model.entity.AnalyzedDependency;
+import io.mend.maven.analyzer.service.analysis.DependencySelection;
+import io.mend.maven.analyzer.service.hash.ArtifactHashCache;
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.eclipse.aether.collection.CollectRequest;
+import org.eclipse.aether.graph.Dependency;
+import org.eclipse.aether.graph.DependencyNode;
+import org.eclipse.aether.repository.RemoteRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LockfileServiceTest {
+    
+    private static final String SHA1 = "da39a3ee5e6b4b0d3255bfef95601890afd80709";
+    private static final RemoteRepository CENTRAL =
+        new RemoteRepository.Builder("central", "default", "https://repo1.maven.org/maven2/").build();
+    
+    private final LockfileService lockfileService = new LockfileService();
+    
+    @TempDir
+    Path tempDir;
+    
+    @Test
+    void testWriteAndRead_MatchingFingerprint_RebuildsTreeAndHashes() throws Exception {
+        AnalyzedDependency child = new AnalyzedDependency("org.slf4j", "slf4j-api", "2.0.9", "compile");
+        child.setSha1(SHA1);
+        AnalyzedDependency parent = new AnalyzedDependency("com.example", "app-core", "1.0.0", "compile");
+        parent.setChildren(List.of(child));
+        ArtifactHashCache hashCache = new ArtifactHashCache(List.of());
+        hashCache.store("org.slf4j:slf4j-api:2.0.9", 41L, 1_700_000_000_000L, SHA1);
+        Path lockfilePath = tempDir.resolve(LockfileService.FILE_NAME);
+        
+        lockfileService.write(lockfileService.create("fingerprint", List.of(CENTRAL), List.of(parent), hashCache), lockfilePath);
+        Lockfile lockfile = lockfileService.readMatching(lockfilePath, "fingerprint");
+        
+        assertNotNull(lockfile);
+        assertEquals("https://repo1.maven.org/maven2/", lockfile.getRepositories().get(0).getUrl());
+        DependencyNode root = lockfileService.toDependencyGraph(lockfile);
+        DependencyNode rebuiltParent = root.getChildren().get(0);
+        assertEquals("app-core", rebuiltParent.getArtifact().getArtifactId());
+        assertEquals("slf4j-api", rebuiltParent.getChildren().get(0).getArtifact().getArtifactId());
+        
+        ArtifactHashCache rebuiltCache = lockfileService.toHashCache(lockfile);
+        assertEquals(SHA1, rebuiltCache.lookup("org.slf4j:slf4j-api:2.0.9", 41L, 1_700_000_000_000L));
+        assertNull(rebuiltCache.lookup("org.slf4j:slf4j-api:2.0.9", 42L, 1_700_000_000_000L));
+        assertNull(lockfileService.readMatching(lockfilePath, "other"));
+    }
+    
+    @Test
+    void testFingerprint_DependencyOrScopeChanged_ChangesFingerprint() {
+        String original = lockfileService.fingerprint(request("2.0.9", "compile"));
+        
+        assertEquals(original, lockfileService.fingerprint(request("2.0.9", "compile")));
+        assertNotEquals(original, lockfileService.fingerprint(request("2.0.12", "compile")));
+        assertNotEquals(original, lockfileService.fingerprint(request("2.0.9", "test")));
+    }
+    
+    @Test
+    void testFingerprint_RestrictedSelection_ChangesFingerprint() {
+        CollectRequest request = request("2.0.9", "compile");
+        String original = lockfileService.fingerprint(request);
+        
+        assertEquals(original, lockfileService.fingerprint(request, DependencySelection.ALL));
+        assertNotEquals(original, lockfileService.fingerprint(request, DependencySelection.builder().maxDepth(1).build()));
+    }
+    
+    private CollectRequest request(String version, String scope) {
+        Dependency dependency = new Dependency(new DefaultArtifact("org.slf4j:slf4j-api:" + version), scope);
+        return new CollectRequest(List.of(dependency), null, List.of(CENTRAL));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,228 @@
+package io.mend.maven.analyzer.service.metrics;
+
+import io.mend.maven.analyzer.config.MavenResolverConfig;
+import io.mend.maven.analyzer.config.ResolverOptions;
+import io.mend.maven.analyzer.model.response.ArtifactTiming;
+import io.mend.maven.analyzer.model.response.RepositoryThroughput;
+import io.mend.maven.analyzer.model.response.ResolverMetrics;
+import io.mend.maven.analyzer.support.LocalHttpRepository;
+import io.mend.maven.analyzer.support.RepositoryFixtures;
+import org.eclipse.aether.DefaultRepositorySystemSession;
+import org.eclipse.aether.RepositoryEvent;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.eclipse.aether.collection.CollectRequest;
+import org.eclipse.aether.graph.Dependency;
+import org.eclipse.aether.repository.RepositoryPolicy;
+import org.eclipse.aether.resolution.DependencyRequest;
+import org.eclipse.aether.transfer.TransferEvent;
+import org.eclipse.aether.transfer.TransferResource;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResolverMetricsCollectorTest {
+    
+    private static final String REPOSITORY_ID = "internal";
+    private static final String REPOSITORY_URL = "http://repo.example.com/";
+    private static final Artifact ARTIFACT = new DefaultArtifact("com.example:library:1.0.0");
+    private static final Artifact VERSION_RANGE = new DefaultArtifact("com.example:library:[1.0,2.0)");
+    
+    private final ResolverMetricsCollector collector = new ResolverMetricsCollector();
+    private final DefaultRepositorySystemSession session = new DefaultRepositorySystemSession();
+    
+    @TempDir
+    Path tempDir;
+    
+    @Test
+    void testTransferListener_RecordsBytesAndRepositoryThroughput() throws Exception {
+        collector.getTransferListener().transferSucceeded(transferEvent("com/example/a.jar", 2048));
+        collector.getTransferListener().transferSucceeded(transferEvent("com/example/b.jar", 1024));
+        collector.getTransferListener().transferFailed(transferEvent("com/example/c.jar", 0));
+        
+        ResolverMetrics metrics = collector.toMetrics();
+        
+        assertEquals(3072, metrics.getBytesDownloaded());
+        assertEquals(2, metrics.getTransfersSucceeded());
+        assertEquals(1, metrics.getTransfersFailed());
+        
+        RepositoryThroughput repository = metrics.getRepositories().get(0);
+        assertEquals(REPOSITORY_ID, repository.getRepositoryId());
+        assertEquals(REPOSITORY_URL, repository.getUrl());
+        assertEquals(2, repository.getTransfers());
+        assertEquals(3072, repository.getBytes());
+        assertEquals(2, metrics.getSlowestTransfers().size());
+    }
+    
+    @Test
+    void testRepositoryListener_CountsLocalHitsAndMisses() {
+        collector.getRepositoryListener().artifactResolved(repositoryEvent(RepositoryEvent.EventType.ARTIFACT_RESOLVED, null));
+        collector.getRepositoryListener().artifactDownloaded(repositoryEvent(RepositoryEvent.EventType.ARTIFACT_DOWNLOADED, null));
+        collector.getRepositoryListener().artifactResolved(repositoryEvent(RepositoryEvent.EventType.ARTIFACT_RESOLVED, null));
+        collector.getRepositoryListener().artifactResolved(repositoryEvent(RepositoryEvent.EventType.ARTIFACT_RESOLVED,
+            new IllegalStateException("missing")));
+        
+        ResolverMetrics metrics = collector.toMetrics();
+        
+        assertEquals(1, metrics.getLocalRepositoryHits());
+        assertEquals(2, metrics.getLocalRepositoryMisses());
+    }
+    
+    @Test
+    void testRepositoryListener_CountsMetadataLookupsAndRemoteRequests() {
+        collector.getRepositoryListener().metadataResolved(repositoryEvent(RepositoryEvent.EventType.METADATA_RESOLVED, null));
+        collector.getRepositoryListener().metadataDownloading(repositoryEvent(RepositoryEvent.EventType.METADATA_DOWNLOADING, null));
+        collector.getRepositoryListener().metadataResolved(repositoryEvent(RepositoryEvent.EventType.METADATA_RESOLVED, null));
+        
+        ResolverMetrics metrics = collector.toMetrics();
+        
+        assertEquals(2, metrics.getMetadataLookups());
+        assertEquals(1, metrics.getMetadataRequests());
+    }
+    
+    @Test
+    void testRecordDescriptorRead_KeepsTenSlowestInDescendingOrder() {
+        for (int i = 1; i <= 15; i++) {
+            collector.recordDescriptorRead(new DefaultArtifact("com.example:lib-" + i + ":1.0"), TimeUnit.MILLISECONDS.toNanos(i));
+        }
+        
+        ResolverMetrics metrics = collector.toMetrics();
+        List<ArtifactTiming> slowest = metrics.getSlowestDescriptorReads();
+        
+        assertEquals(15, metrics.getDescriptorReads());
+        assertEquals(120, metrics.getDescriptorReadMillisTotal());
+        assertEquals(15, metrics.getDescriptorReadMillisMax());
+        assertEquals(10, slowest.size());
+        assertEquals("com.example:lib-15:1.0", slowest.get(0).getName());
+        assertEquals(6, slowest.get(9).getMillis());
+    }
+    
+    @Test
+    void testAttach_MakesCollectorFindableFromSession() {
+        assertNull(ResolverMetricsCollector.find(session));
+        
+        collector.attach(session);
+        
+        assertSame(collector, ResolverMetricsCollector.find(session));
+        assertNotNull(session.getTransferListener());
+        assertNotNull(session.getRepositoryListener());
+    }
+    
+    @Test
+    void testAttach_ForkedSession_DoesNotLeakIntoParentOrSiblings() {
+        DefaultRepositorySystemSession first = new DefaultRepositorySystemSession(session);
+        DefaultRepositorySystemSession second = new DefaultRepositorySystemSession(session);
+        ResolverMetricsCollector other = new ResolverMetricsCollector();
+        
+        collector.attach(first);
+        other.attach(second);
+        
+        assertNull(ResolverMetricsCollector.find(session));
+        assertSame(collector, ResolverMetricsCollector.find(first));
+        assertSame(other, ResolverMetricsCollector.find(second));
+    }
+    
+    @Test
+    void testResolution_WithMetricsEnabled_RecordsDownloadsAndDescriptorReads() throws Exception {
+        Path remoteRoot = tempDir.resolve("remote");
+        RepositoryFixtures.writeArtifact(remoteRoot, "com.example", "library", "1.0.0", 4096);
+        
+        try (LocalHttpRepository remote = LocalHttpRepository.start(remoteRoot)) {
+            Path settings = RepositoryFixtures.writeMirrorSettings(tempDir.resolve("settings.xml"),
+                tempDir.resolve("local"), REPOSITORY_ID, remote.getUrl());
+            ResolverOptions options = ResolverOptions.builder().settingsFile(settings.toString()).metrics(true).build();
+            
+            ResolverMetrics first = resolve(new MavenResolverConfig(options), ARTIFACT);
+            ResolverMetrics second = resolve(new MavenResolverConfig(options), ARTIFACT);
+            
+            assertTrue(first.getBytesDownloaded() >= 4096);
+            assertEquals(1, first.getDescriptorReads());
+            assertEquals(REPOSITORY_ID, first.getRepositories().get(0).getRepositoryId());
+            assertTrue(first.getLocalRepositoryMisses() > 0);
+            
+            assertEquals(0, second.getBytesDownloaded());
+            assertTrue(second.getLocalRepositoryHits() > 0);
+            assertEquals(0, second.getLocalRepositoryMisses());
+        }
+    }
+    
+    @Test
+    void testResolution_WarmVersionRangeWithUpdatePolicyNever_MakesNoMetadataRequests() throws Exception {
+        try (LocalHttpRepository remote = startVersionedRepository()) {
+            ResolverOptions options = versionRangeOptions(remote, RepositoryPolicy.UPDATE_POLICY_NEVER);
+            
+            ResolverMetrics cold = resolve(new MavenResolverConfig(options), VERSION_RANGE);
+            remote.resetStatistics();
+            ResolverMetrics warm = resolve(new MavenResolverConfig(options), VERSION_RANGE);
+            
+            assertTrue(cold.getMetadataRequests() > 0);
+            assertTrue(warm.getMetadataLookups() > 0);
+            assertEquals(0, warm.getMetadataRequests());
+            assertEquals(0, remote.getRequestCount());
+        }
+    }
+    
+    @Test
+    void testResolution_WarmVersionRangeWithUpdatePolicyAlways_RequestsMetadataAgain() throws Exception {
+        try (LocalHttpRepository remote = startVersionedRepository()) {
+            ResolverOptions options = versionRangeOptions(remote, RepositoryPolicy.UPDATE_POLICY_ALWAYS);
+            
+            resolve(new MavenResolverConfig(options), VERSION_RANGE);
+            remote.resetStatistics();
+            ResolverMetrics warm = resolve(new MavenResolverConfig(options), VERSION_RANGE);
+            
+            assertTrue(warm.getMetadataRequests() > 0);
+            // maven-metadata.xml and its .sha1 for each request
+            assertEquals(2 * warm.getMetadataRequests(), remote.getRequestCount());
+            assertEquals(0, warm.getLocalRepositoryMisses());
+        }
+    }
+    
+    private LocalHttpRepository startVersionedRepository() throws Exception {
+        Path remoteRoot = tempDir.resolve("remote");
+        RepositoryFixtures.writeArtifact(remoteRoot, "com.example", "library", "1.0.0", 1024);
+        RepositoryFixtures.writeArtifact(remoteRoot, "com.example", "library", "1.1.0", 1024);
+        RepositoryFixtures.writeMetadata(remoteRoot, "com.example", "library", "1.0.0", "1.1.0");
+        return LocalHttpRepository.start(remoteRoot);
+    }
+    
+    private ResolverOptions versionRangeOptions(LocalHttpRepository remote, String updatePolicy) throws Exception {
+        Path settings = RepositoryFixtures.writeMirrorSettings(tempDir.resolve("settings.xml"),
+            tempDir.resolve("local"), REPOSITORY_ID, remote.getUrl());
+        return ResolverOptions.builder()
+            .settingsFile(settings.toString())
+            .updatePolicy(updatePolicy)
+            .metrics(true)
+            .build();
+    }
+    
+    private ResolverMetrics resolve(MavenResolverConfig config, Artifact artifact) throws Exception {
+        CollectRequest collectRequest = new CollectRequest(new Dependency(artifact, "compile"), config.getRepositories());
+        ResolverMetricsCollector metricsCollector = new ResolverMetricsCollector();
+        config.getRepositorySystem().resolveDependencies(config.newRequestSession(metricsCollector),
+            new DependencyRequest(collectRequest, null));
+        return metricsCollector.toMetrics();
+    }
+    
+    private TransferEvent transferEvent(String resourceName, long bytes) throws Exception {
+        TransferResource resource = new TransferResource(REPOSITORY_ID, REPOSITORY_URL, resourceName, new File(resourceName), null);
+        return new TransferEvent.Builder(session, resource)
+            .setType(TransferEvent.EventType.SUCCEEDED)
+            .setTransferredBytes(bytes)
+            .build();
+    }
+    
+    private RepositoryEvent repositoryEvent(RepositoryEvent.EventType type, Exception exception) {
+        return new RepositoryEvent.Builder(session, type)
+            .setArtifact(ARTIFACT)
+            .setFile(exception == null ? tempDir.resolve("library-1.0.0.jar").toFile() : null)
+            .setException(exception)
+            .build();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,126 @@
+package io.mend.maven.analyzer.service.output;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class AtomicOutputWriterTest {
+    
+    @TempDir
+    Path tempDir;
+    
+    @Test
+    void testCommit_MovesContentIntoPlace() throws IOException {
+        Path outputFile = tempDir.resolve("output.json");
+        
+        try (AtomicOutputWriter writer = AtomicOutputWriter.open(outputFile.toString(), true)) {
+            writer.getOutputStream().write("{}".getBytes(StandardCharsets.UTF_8));
+            assertFalse(Files.exists(outputFile), "Target must not be visible before commit");
+            writer.commit();
+        }
+        
+        assertEquals("{}", Files.readString(outputFile));
+        assertEquals(1, countFiles());
+    }
+    
+    @Test
+    void testClose_WithoutCommit_KeepsExistingFileAndRemovesTemp() throws IOException {
+        Path outputFile = tempDir.resolve("output.json");
+        Files.writeString(outputFile, "previous");
+        
+        try (AtomicOutputWriter writer = AtomicOutputWriter.open(outputFile.toString(), false)) {
+            writer.getOutputStream().write("partial".getBytes(StandardCharsets.UTF_8));
+        }
+        
+        assertEquals("previous", Files.readString(outputFile));
+        assertEquals(1, countFiles());
+    }
+    
+    @Test
+    void testCommit_ReplacesExistingFile() throws IOException {
+        Path outputFile = tempDir.resolve("output.json");
+        Files.writeString(outputFile, "previous");
+        
+        try (AtomicOutputWriter writer = AtomicOutputWriter.open(outputFile.toString(), false)) {
+            writer.getOutputStream().write("current".getBytes(StandardCharsets.UTF_8));
+            writer.commit();
+        }
+        
+        assertEquals("current", Files.readString(outputFile));
+    }
+    
+    @Test
+    void testCommit_NewFile_HasDefaultPermissions() throws IOException {
+        assumeTrue(Files.getFileAttributeView(tempDir, PosixFileAttributeView.class) != null);
+        Path outputFile = tempDir.resolve("output.json");
+        Path plainFile = Files.createFile(tempDir.resolve("plain.json"));
+        
+        try (AtomicOutputWriter writer = AtomicOutputWriter.open(outputFile.toString(), false)) {
+            writer.commit();
+        }
+        
+        assertEquals(Files.getPosixFilePermissions(plainFile), Files.getPosixFilePermissions(outputFile));
+    }
+    
+    @Test
+    void testCommit_ExistingFile_KeepsItsPermissions() throws IOException {
+        assumeTrue(Files.getFileAttributeView(tempDir, PosixFileAttributeView.class) != null);
+        Path outputFile = tempDir.resolve("output.json");
+        Files.writeString(outputFile, "previous");
+        Files.setPosixFilePermissions(outputFile, PosixFilePermissions.fromString("rw-r-----"));
+        
+        try (AtomicOutputWriter writer = AtomicOutputWriter.open(outputFile.toString(), false)) {
+            writer.commit();
+        }
+        
+        assertEquals(PosixFilePermissions.fromString("rw-r-----"), Files.getPosixFilePermissions(outputFile));
+    }
+    
+    @Test
+    void testToStream_WritesWithoutClosingStream() throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        PrintStream stream = new PrintStream(buffer);
+        
+        try (AtomicOutputWriter writer = AtomicOutputWriter.toStream(stream)) {
+            writer.getOutputStream().write("piped".getBytes(StandardCharsets.UTF_8));
+            writer.commit();
+        }
+        stream.print("!");
+        stream.flush();
+        
+        assertFalse(stream.checkError());
+        assertEquals("piped!", buffer.toString(StandardCharsets.UTF_8));
+    }
+    
+    @Test
+    void testIsStandardOutput_Dash_ReturnsTrue() {
+        assertTrue(AtomicOutputWriter.isStandardOutput("-"));
+        assertFalse(AtomicOutputWriter.isStandardOutput("output.json"));
+    }
+    
+    @Test
+    void testOpen_EmptyPath_ThrowsException() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+            () -> AtomicOutputWriter.open("", false));
+        
+        assertEquals("Output path cannot be empty", exception.getMessage());
+    }
+    
+    private long countFiles() throws IOException {
+        try (Stream<Path> files = Files.list(tempDir)) {
+            return files.count();
+        }
+    }
+}
\ No newline at end of file
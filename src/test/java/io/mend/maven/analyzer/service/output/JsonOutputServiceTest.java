@@ -3,15 +3,20 @@ package io.mend.maven.analyzer.service.output;
 import io.mend.maven.analyzer.TestConstants;
 import io.mend.maven.analyzer.model.entity.AnalyzedDependency;
 import io.mend.maven.analyzer.model.response.AnalysisResult;
+import io.mend.maven.analyzer.model.response.DependencyStatistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.PrintStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -92,6 +97,54 @@ class JsonOutputServiceTest {
         assertTrue(content.contains(TestConstants.SAMPLE_SHA1_HASH));
     }
     
+    @Test
+    void testWriteToFile_WithStatistics_IncludesStatisticsSection() throws IOException {
+        AnalysisResult result = createSampleResult();
+        result.setDependencies(result.getDependencies(), DependencyStatistics.builder()
+            .totalNodes(1)
+            .scopeCounts(Map.of(TestConstants.TEST_DEPENDENCY_SCOPE, 1))
+            .fanOutHistogram(Map.of(0, 1))
+            .build());
+        Path outputFile = tempDir.resolve("output.json");
+        
+        service.writeToFile(result, outputFile.toString());
+        
+        String content = Files.readString(outputFile);
+        assertTrue(content.contains("\"statistics\""));
+        assertTrue(content.contains("\"totalNodes\" : 1"));
+        assertTrue(content.contains("\"totalDependencies\" : 1"));
+    }
+    
+    @Test
+    void testWriteToFile_LeavesNoTemporaryFiles() throws IOException {
+        AnalysisResult result = createSampleResult();
+        Path outputFile = tempDir.resolve("output.json");
+        
+        service.writeToFile(result, outputFile.toString(), true);
+        
+        try (Stream<Path> files = Files.list(tempDir)) {
+            assertEquals(List.of(outputFile), files.toList());
+        }
+    }
+    
+    @Test
+    void testWriteToFile_Dash_WritesToStandardOutput() throws IOException {
+        AnalysisResult result = createSampleResult();
+        ByteArrayOutputStream stdout = new ByteArrayOutputStream();
+        PrintStream originalOut = System.out;
+        
+        try {
+            System.setOut(new PrintStream(stdout));
+            service.writeToFile(result, "-");
+        } finally {
+            System.setOut(originalOut);
+        }
+        
+        String content = stdout.toString();
+        assertTrue(content.startsWith("{"));
+        assertTrue(content.contains("\"projectGroupId\" : \"" + TestConstants.TEST_PROJECT_GROUP_ID + "\""));
+    }
+    
     private AnalysisResult createSampleResult() {
         AnalysisResult result = new AnalysisResult(
             "/test/path",
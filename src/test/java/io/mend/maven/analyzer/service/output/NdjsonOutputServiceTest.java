@@ -0,0 +1,107 @@
+package io.mend.maven.analyzer.service.output;
+
+import io.mend.maven.analyzer.TestConstants;
+import io.mend.maven.analyzer.model.response.DependencyRecord;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NdjsonOutputServiceTest {
+    
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    
+    @TempDir
+    Path tempDir;
+    
+    @Test
+    void testOnDependency_WritesOneRecordPerLine() throws IOException {
+        StringWriter writer = new StringWriter();
+        
+        try (NdjsonOutputService service = new NdjsonOutputService(writer)) {
+            service.onDependency(createRecord("parent", null, 0));
+            service.onDependency(createRecord("child", "parent", 1));
+            assertEquals(2, service.getRecordCount());
+        }
+        
+        String[] lines = writer.toString().split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(writer.toString().endsWith("\n"));
+        
+        DependencyRecord child = objectMapper.readValue(lines[1], DependencyRecord.class);
+        assertEquals("child", child.getId());
+        assertEquals("parent", child.getParentId());
+        assertEquals(1, child.getDepth());
+        assertEquals(TestConstants.SAMPLE_SHA1_HASH, child.getSha1());
+    }
+    
+    @Test
+    void testOnDependency_RootRecord_OmitsParentId() throws IOException {
+        StringWriter writer = new StringWriter();
+        
+        try (NdjsonOutputService service = new NdjsonOutputService(writer)) {
+            service.onDependency(createRecord("parent", null, 0));
+        }
+        
+        assertFalse(writer.toString().contains("parentId"));
+        assertTrue(writer.toString().startsWith("{\"id\":\"parent\""));
+    }
+    
+    @Test
+    void testForFile_CreatesDirectoriesAndWritesRecords() throws IOException {
+        Path outputFile = tempDir.resolve("nested/dir/output.ndjson");
+        
+        try (NdjsonOutputService service = NdjsonOutputService.forFile(outputFile.toString())) {
+            service.onDependency(createRecord("parent", null, 0));
+            service.commit();
+        }
+        
+        List<String> lines = Files.readAllLines(outputFile);
+        assertEquals(1, lines.size());
+        assertTrue(lines.get(0).contains(TestConstants.TEST_DEPENDENCY_ARTIFACT_ID));
+    }
+    
+    @Test
+    void testForFile_ClosedWithoutCommit_LeavesNoOutput() throws IOException {
+        Path outputFile = tempDir.resolve("aborted.ndjson");
+        
+        try (NdjsonOutputService service = NdjsonOutputService.forFile(outputFile.toString())) {
+            service.onDependency(createRecord("parent", null, 0));
+        }
+        
+        assertFalse(Files.exists(outputFile));
+        try (Stream<Path> files = Files.list(tempDir)) {
+            assertEquals(0, files.count());
+        }
+    }
+    
+    @Test
+    void testForFile_EmptyPath_ThrowsException() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+            () -> NdjsonOutputService.forFile(" "));
+        
+        assertEquals("Output path cannot be empty", exception.getMessage());
+    }
+    
+    private DependencyRecord createRecord(String id, String parentId, int depth) {
+        return DependencyRecord.builder()
+            .id(id)
+            .parentId(parentId)
+            .pathId(parentId == null ? id : parentId + "/" + id)
+            .depth(depth)
+            .groupId(TestConstants.TEST_DEPENDENCY_GROUP_ID)
+            .artifactId(TestConstants.TEST_DEPENDENCY_ARTIFACT_ID)
+            .version(TestConstants.TEST_DEPENDENCY_VERSION)
+            .scope(TestConstants.TEST_DEPENDENCY_SCOPE)
+            .sha1(TestConstants.SAMPLE_SHA1_HASH)
+            .build();
+    }
+}
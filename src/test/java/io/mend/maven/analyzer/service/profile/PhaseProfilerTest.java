@@ -0,0 +1,97 @@
+package io.mend.maven.analyzer.service.profile;
+
+import io.mend.maven.analyzer.model.response.PhaseProfile;
+import io.mend.maven.analyzer.model.response.PhaseTiming;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PhaseProfilerTest {
+    
+    private static final int ALLOCATION_SIZE = 4 * 1024 * 1024;
+    
+    @Test
+    void testStart_NestedPhases_ChargesExclusiveCost() throws InterruptedException {
+        PhaseProfiler profiler = new PhaseProfiler();
+        
+        try (PhaseProfiler.Phase outer = profiler.start(AnalysisPhase.TREE_BUILDING)) {
+            for (int i = 0; i < 3; i++) {
+                try (PhaseProfiler.Phase inner = profiler.start(AnalysisPhase.HASHING)) {
+                    Thread.sleep(20);
+                }
+            }
+        }
+        
+        PhaseProfile profile = profiler.toProfile();
+        PhaseTiming treeBuilding = find(profile, "tree-building");
+        PhaseTiming hashing = find(profile, "hashing");
+        
+        assertEquals(1, treeBuilding.getInvocations());
+        assertEquals(3, hashing.getInvocations());
+        assertTrue(hashing.getWallNanos() >= 60_000_000L);
+        assertTrue(treeBuilding.getWallNanos() < hashing.getWallNanos());
+        assertEquals(treeBuilding.getWallNanos() + hashing.getWallNanos(), profile.getWallNanos());
+    }
+    
+    @Test
+    void testToProfile_PhasesInExecutionOrder() {
+        PhaseProfiler profiler = new PhaseProfiler();
+        
+        profiler.start(AnalysisPhase.OUTPUT).close();
+        profiler.start(AnalysisPhase.VALIDATION).close();
+        
+        List<PhaseTiming> phases = profiler.toProfile().getPhases();
+        
+        assertEquals("validation", phases.get(0).getPhase());
+        assertEquals("output", phases.get(1).getPhase());
+    }
+    
+    @Test
+    void testStart_AllocatingPhase_RecordsAllocatedBytes() {
+        PhaseProfiler profiler = new PhaseProfiler();
+        byte[] buffer;
+        
+        try (PhaseProfiler.Phase phase = profiler.start(AnalysisPhase.POM_PARSING)) {
+            buffer = new byte[ALLOCATION_SIZE];
+        }
+        
+        assertEquals(ALLOCATION_SIZE, buffer.length);
+        assertTrue(find(profiler.toProfile(), "pom-parsing").getAllocatedBytes() >= ALLOCATION_SIZE);
+    }
+    
+    @Test
+    void testDisabled_RecordsNothing() {
+        try (PhaseProfiler.Phase phase = PhaseProfiler.DISABLED.start(AnalysisPhase.COLLECTION)) {
+            assertNotNull(phase);
+        }
+        
+        assertFalse(PhaseProfiler.DISABLED.isEnabled());
+        assertTrue(PhaseProfiler.DISABLED.toProfile().getPhases().isEmpty());
+    }
+    
+    @Test
+    void testPrint_WritesTableWithTotal() {
+        PhaseProfiler profiler = new PhaseProfiler();
+        profiler.start(AnalysisPhase.RESOLUTION).close();
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        
+        PhaseProfileReport.print(new PrintStream(buffer, true, StandardCharsets.UTF_8), profiler.toProfile());
+        
+        String report = buffer.toString(StandardCharsets.UTF_8);
+        assertTrue(report.contains("Phase profile:"));
+        assertTrue(report.contains("resolution"));
+        assertTrue(report.contains("total"));
+    }
+    
+    private PhaseTiming find(PhaseProfile profile, String phase) {
+        return profile.getPhases().stream()
+            .filter(timing -> timing.getPhase().equals(phase))
+            .findFirst()
+            .orElseThrow();
+    }
+}
\ No newline at end of file
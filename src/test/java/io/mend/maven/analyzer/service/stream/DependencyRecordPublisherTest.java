@@ -0,0 +1,173 @@
+package io.mend.maven.analyzer.service.stream;
+
+import io.mend.maven.analyzer.TestConstants;
+import io.mend.maven.analyzer.exception.DependencyAnalysisException;
+import io.mend.maven.analyzer.model.response.DependencyRecord;
+import io.mend.maven.analyzer.service.DependencyAnalysisService;
+import io.mend.maven.analyzer.service.analysis.DependencyNodeListener;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class DependencyRecordPublisherTest {
+    
+    private static final String PROJECT_PATH = "/projects/sample";
+    private static final int RECORD_COUNT = 100;
+    
+    private DependencyAnalysisService analysisService;
+    private ExecutorService executor;
+    private AtomicInteger produced;
+    
+    @BeforeEach
+    void setUp() throws Exception {
+        analysisService = mock(DependencyAnalysisService.class);
+        executor = Executors.newCachedThreadPool();
+        produced = new AtomicInteger();
+        doAnswer(invocation -> {
+            DependencyNodeListener listener = invocation.getArgument(1);
+            for (int i = 0; i < RECORD_COUNT; i++) {
+                listener.onDependency(createRecord(i));
+                produced.incrementAndGet();
+            }
+            return null;
+        }).when(analysisService).analyze(eq(PROJECT_PATH), any(DependencyNodeListener.class));
+    }
+    
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+    
+    @Test
+    void testSubscribe_EmitsAllRecordsInOrderThenCompletes() throws Exception {
+        RecordingSubscriber subscriber = new RecordingSubscriber(Long.MAX_VALUE);
+        
+        new DependencyRecordPublisher(analysisService, PROJECT_PATH).subscribe(subscriber);
+        
+        subscriber.completion.get(5, TimeUnit.SECONDS);
+        assertEquals(RECORD_COUNT, subscriber.records.size());
+        assertNull(subscriber.records.get(0).getParentId());
+        assertEquals(subscriber.records.get(0).getId(), subscriber.records.get(1).getParentId());
+        assertEquals(TestConstants.SAMPLE_SHA1_HASH, subscriber.records.get(RECORD_COUNT - 1).getSha1());
+    }
+    
+    @Test
+    void testSubscribe_SlowSubscriber_BlocksTraversal() throws Exception {
+        RecordingSubscriber subscriber = new RecordingSubscriber(2);
+        
+        new DependencyRecordPublisher(analysisService, PROJECT_PATH, executor, 4).subscribe(subscriber);
+        subscriber.received.await(5, TimeUnit.SECONDS);
+        Thread.sleep(200);
+        
+        assertEquals(2, subscriber.records.size());
+        assertTrue(produced.get() < 10, "Traversal ran ahead of the subscriber: " + produced.get());
+        
+        subscriber.subscription.request(Long.MAX_VALUE);
+        subscriber.completion.get(5, TimeUnit.SECONDS);
+        assertEquals(RECORD_COUNT, subscriber.records.size());
+    }
+    
+    @Test
+    void testSubscribe_Cancelled_StopsAnalysis() throws Exception {
+        RecordingSubscriber subscriber = new RecordingSubscriber(1);
+        
+        new DependencyRecordPublisher(analysisService, PROJECT_PATH, executor, 1).subscribe(subscriber);
+        subscriber.received.await(5, TimeUnit.SECONDS);
+        subscriber.subscription.cancel();
+        Thread.sleep(200);
+        
+        assertTrue(produced.get() < RECORD_COUNT);
+        assertFalse(subscriber.completion.isDone());
+    }
+    
+    @Test
+    void testSubscribe_AnalysisFails_SignalsError() throws Exception {
+        DependencyAnalysisException failure = new DependencyAnalysisException("Failed to collect dependencies");
+        doThrow(failure).when(analysisService).analyze(eq(PROJECT_PATH), any(DependencyNodeListener.class));
+        RecordingSubscriber subscriber = new RecordingSubscriber(Long.MAX_VALUE);
+        
+        new DependencyRecordPublisher(analysisService, PROJECT_PATH).subscribe(subscriber);
+        
+        Exception exception = assertThrows(Exception.class, () -> subscriber.completion.get(5, TimeUnit.SECONDS));
+        assertSame(failure, exception.getCause());
+    }
+    
+    @Test
+    void testSubscribe_SecondSubscriber_Rejected() throws Exception {
+        DependencyRecordPublisher publisher = new DependencyRecordPublisher(analysisService, PROJECT_PATH);
+        publisher.subscribe(new RecordingSubscriber(Long.MAX_VALUE));
+        RecordingSubscriber second = new RecordingSubscriber(Long.MAX_VALUE);
+        
+        publisher.subscribe(second);
+        
+        Exception exception = assertThrows(Exception.class, () -> second.completion.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalStateException.class, exception.getCause());
+        verify(analysisService, timeout(5000).times(1)).analyze(eq(PROJECT_PATH), any(DependencyNodeListener.class));
+    }
+    
+    private DependencyRecord createRecord(int index) {
+        return DependencyRecord.builder()
+            .id("node-" + index)
+            .parentId(index == 0 ? null : "node-" + (index - 1))
+            .depth(index)
+            .groupId(TestConstants.TEST_DEPENDENCY_GROUP_ID)
+            .artifactId(TestConstants.TEST_DEPENDENCY_ARTIFACT_ID)
+            .version(TestConstants.TEST_DEPENDENCY_VERSION)
+            .scope(TestConstants.TEST_DEPENDENCY_SCOPE)
+            .sha1(TestConstants.SAMPLE_SHA1_HASH)
+            .build();
+    }
+    
+    /**
+     * Requests a fixed number of records up front and collects whatever arrives.
+     */
+    private static final class RecordingSubscriber implements Flow.Subscriber<DependencyRecord> {
+        private final long initialRequest;
+        private final List<DependencyRecord> records = new CopyOnWriteArrayList<>();
+        private final CountDownLatch received;
+        private final CompletableFuture<Void> completion = new CompletableFuture<>();
+        private volatile Flow.Subscription subscription;
+        
+        private RecordingSubscriber(long initialRequest) {
+            this.initialRequest = initialRequest;
+            this.received = new CountDownLatch((int) Math.min(initialRequest, RECORD_COUNT));
+        }
+        
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(initialRequest);
+        }
+        
+        @Override
+        public void onNext(DependencyRecord item) {
+            records.add(item);
+            received.countDown();
+        }
+        
+        @Override
+        public void onError(Throwable throwable) {
+            completion.completeExceptionally(throwable);
+        }
+        
+        @Override
+        public void onComplete() {
+            completion.complete(null);
+        }
+    }
+}
\ No newline at end of file
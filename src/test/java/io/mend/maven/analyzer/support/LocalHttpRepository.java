@@ -0,0 +1,259 @@
+package io.mend.maven.analyzer.support;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Serves a Maven repository directory over HTTP on localhost, standing in for a remote repository.
+ *
+ * Round-trips can be shaped with a per-request latency, a bandwidth cap per response and one shared
+ * by all responses (a saturated link), and faults can be injected: the first attempts at every path
+ * or a random share of requests answer with an error status, or a share of bodies is cut off halfway.
+ * Request counts, overall and per path, bytes sent and the peak number of requests in flight are recorded.
+ */
+public class LocalHttpRepository implements AutoCloseable {
+    
+    private static final int NOT_FOUND = 404;
+    private static final int OK = 200;
+    private static final int SERVICE_UNAVAILABLE = 503;
+    private static final int CHUNK_SIZE = 8 * 1024;
+    
+    private final Path root;
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger peakInFlight = new AtomicInteger();
+    private final AtomicInteger injectedFaults = new AtomicInteger();
+    private final AtomicLong bytesSent = new AtomicLong();
+    private final Map<String, AtomicInteger> attemptsByPath = new ConcurrentHashMap<>();
+    private final Random random = new Random(42L);
+    private volatile Throttle sharedThrottle;
+    
+    @Getter
+    @Setter
+    private volatile Duration latency = Duration.ZERO;
+    
+    /** Bytes per second for each response body; 0 means unlimited. */
+    @Getter
+    @Setter
+    private volatile long bandwidthPerConnection;
+    
+    /** Number of initial requests for every path answered with {@link #getErrorStatus()}. */
+    @Getter
+    @Setter
+    private volatile int failFirstAttempts;
+    
+    /** Share of requests, between 0 and 1, answered with {@link #getErrorStatus()}. */
+    @Getter
+    @Setter
+    private volatile double errorRate;
+    
+    /** Share of successful GET responses, between 0 and 1, whose body is cut off after half of its length. */
+    @Getter
+    @Setter
+    private volatile double truncateRate;
+    
+    @Getter
+    @Setter
+    private volatile int errorStatus = SERVICE_UNAVAILABLE;
+    
+    static {
+        // Without TCP_NODELAY, Nagle's algorithm and delayed ACKs add ~40 ms to small responses
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+    }
+    
+    private LocalHttpRepository(Path root) throws IOException {
+        this.root = root;
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        this.executor = Executors.newCachedThreadPool();
+        this.server.setExecutor(executor);
+        this.server.createContext("/", this::handle);
+    }
+    
+    public static LocalHttpRepository start(Path root) throws IOException {
+        LocalHttpRepository repository = new LocalHttpRepository(root);
+        repository.server.start();
+        return repository;
+    }
+    
+    public String getUrl() {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort() + "/";
+    }
+    
+    /**
+     * Caps the combined throughput of all responses in bytes per second; 0 removes the cap.
+     */
+    public void setTotalBandwidth(long bytesPerSecond) {
+        sharedThrottle = bytesPerSecond > 0 ? new Throttle(bytesPerSecond) : null;
+    }
+    
+    public int getRequestCount() {
+        return requestCount.get();
+    }
+    
+    public int getPeakConcurrentRequests() {
+        return peakInFlight.get();
+    }
+    
+    public int getInjectedFaultCount() {
+        return injectedFaults.get();
+    }
+    
+    public long getBytesSent() {
+        return bytesSent.get();
+    }
+    
+    /**
+     * Number of requests received for each path, to spot files fetched more than once.
+     */
+    public Map<String, Integer> getRequestCountsByPath() {
+        Map<String, Integer> counts = new TreeMap<>();
+        attemptsByPath.forEach((path, count) -> counts.put(path, count.get()));
+        return counts;
+    }
+    
+    public void resetStatistics() {
+        requestCount.set(0);
+        peakInFlight.set(0);
+        injectedFaults.set(0);
+        bytesSent.set(0);
+        attemptsByPath.clear();
+    }
+    
+    private void handle(HttpExchange exchange) throws IOException {
+        requestCount.incrementAndGet();
+        peakInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+        try (exchange) {
+            sleep(latency);
+            String path = exchange.getRequestURI().getPath();
+            int attempt = attemptsByPath.computeIfAbsent(path, key -> new AtomicInteger()).incrementAndGet();
+            if (attempt <= failFirstAttempts || chance(errorRate)) {
+                injectedFaults.incrementAndGet();
+                exchange.sendResponseHeaders(errorStatus, -1);
+                return;
+            }
+            
+            Path file = root.resolve(path.substring(1)).normalize();
+            if (!file.startsWith(root) || !Files.isRegularFile(file)) {
+                exchange.sendResponseHeaders(NOT_FOUND, -1);
+                return;
+            }
+            
+            boolean head = "HEAD".equals(exchange.getRequestMethod());
+            long size = Files.size(file);
+            exchange.sendResponseHeaders(OK, head ? -1 : size);
+            if (!head) {
+                boolean truncate = chance(truncateRate);
+                if (truncate) {
+                    injectedFaults.incrementAndGet();
+                }
+                sendBody(exchange, file, truncate ? size / 2 : size);
+            }
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+    
+    /**
+     * Copies up to {@code limit} bytes in chunks, pacing each chunk through the bandwidth caps. A limit below
+     * the announced length makes the client see a premature end of stream.
+     */
+    private void sendBody(HttpExchange exchange, Path file, long limit) throws IOException {
+        long perConnection = bandwidthPerConnection;
+        Throttle connectionThrottle = perConnection > 0 ? new Throttle(perConnection) : null;
+        Throttle shared = sharedThrottle;
+        
+        byte[] buffer = new byte[CHUNK_SIZE];
+        long remaining = limit;
+        try (InputStream in = Files.newInputStream(file); OutputStream body = exchange.getResponseBody()) {
+            int read;
+            while (remaining > 0 && (read = in.read(buffer, 0, (int) Math.min(buffer.length, remaining))) > 0) {
+                if (connectionThrottle != null) {
+                    connectionThrottle.acquire(read);
+                }
+                if (shared != null) {
+                    shared.acquire(read);
+                }
+                body.write(buffer, 0, read);
+                bytesSent.addAndGet(read);
+                remaining -= read;
+            }
+        }
+    }
+    
+    private boolean chance(double rate) {
+        if (rate <= 0) {
+            return false;
+        }
+        synchronized (random) {
+            return random.nextDouble() < rate;
+        }
+    }
+    
+    private static void sleep(Duration duration) {
+        if (duration.isZero()) {
+            return;
+        }
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+    
+    /**
+     * Paces writers to a byte rate by reserving consecutive time slots; shared between threads for a link-wide cap.
+     */
+    private static final class Throttle {
+        private final long bytesPerSecond;
+        private long nextFreeNanos = System.nanoTime();
+        
+        private Throttle(long bytesPerSecond) {
+            this.bytesPerSecond = bytesPerSecond;
+        }
+        
+        private void acquire(int bytes) {
+            long slotEnd;
+            synchronized (this) {
+                long now = System.nanoTime();
+                slotEnd = Math.max(nextFreeNanos, now) + bytes * TimeUnit.SECONDS.toNanos(1) / bytesPerSecond;
+                nextFreeNanos = slotEnd;
+            }
+            long waitNanos = slotEnd - System.nanoTime();
+            if (waitNanos > 0) {
+                try {
+                    TimeUnit.NANOSECONDS.sleep(waitNanos);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
+}
\ No newline at end of file
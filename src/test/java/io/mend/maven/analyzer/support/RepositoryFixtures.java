@@ -0,0 +1,105 @@
+package io.mend.maven.analyzer.support;
+
+import lombok.experimental.UtilityClass;
+import org.apache.commons.codec.digest.DigestUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Writes minimal artifacts in Maven repository layout for resolver tests.
+ */
+@UtilityClass
+public class RepositoryFixtures {
+    
+    private static final String POM_TEMPLATE = """
+            <?xml version="1.0" encoding="UTF-8"?>
+            <project xmlns="http://maven.apache.org/POM/4.0.0">
+                <modelVersion>4.0.0</modelVersion>
+                <groupId>%s</groupId>
+                <artifactId>%s</artifactId>
+                <version>%s</version>
+            </project>
+            """;
+    
+    private static final String METADATA_TEMPLATE = """
+            <?xml version="1.0" encoding="UTF-8"?>
+            <metadata>
+                <groupId>%s</groupId>
+                <artifactId>%s</artifactId>
+                <versioning>
+                    <release>%s</release>
+                    <versions>
+            %s
+                    </versions>
+                    <lastUpdated>20240101000000</lastUpdated>
+                </versioning>
+            </metadata>
+            """;
+    
+    private static final String SETTINGS_TEMPLATE = """
+            <settings xmlns="http://maven.apache.org/SETTINGS/1.0.0">
+                <localRepository>%s</localRepository>
+                <mirrors>
+                    <mirror>
+                        <id>%s</id>
+                        <mirrorOf>*</mirrorOf>
+                        <url>%s</url>
+                    </mirror>
+                </mirrors>
+            </settings>
+            """;
+    
+    /**
+     * Writes a POM and a jar of the given size, each with its {@code .sha1} checksum file.
+     */
+    public static void writeArtifact(Path repositoryRoot, String groupId, String artifactId, String version,
+                                     int jarSize) throws IOException {
+        Path dir = repositoryRoot.resolve(groupId.replace('.', '/')).resolve(artifactId).resolve(version);
+        Files.createDirectories(dir);
+        String baseName = artifactId + "-" + version;
+        
+        writeWithChecksum(dir.resolve(baseName + ".pom"),
+            String.format(POM_TEMPLATE, groupId, artifactId, version).getBytes(StandardCharsets.UTF_8));
+        
+        byte[] jar = new byte[jarSize];
+        for (int i = 0; i < jarSize; i++) {
+            jar[i] = (byte) (i * 31 + artifactId.hashCode());
+        }
+        writeWithChecksum(dir.resolve(baseName + ".jar"), jar);
+    }
+    
+    /**
+     * Writes the {@code maven-metadata.xml} listing the versions of an artifact, as version ranges are resolved from.
+     */
+    public static void writeMetadata(Path repositoryRoot, String groupId, String artifactId, String... versions) throws IOException {
+        Path dir = repositoryRoot.resolve(groupId.replace('.', '/')).resolve(artifactId);
+        Files.createDirectories(dir);
+        StringBuilder versionElements = new StringBuilder();
+        for (String version : versions) {
+            versionElements.append("            <version>").append(version).append("</version>\n");
+        }
+        String metadata = String.format(METADATA_TEMPLATE, groupId, artifactId, versions[versions.length - 1],
+            versionElements.toString().stripTrailing());
+        writeWithChecksum(dir.resolve("maven-metadata.xml"), metadata.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    /**
+     * Writes a settings.xml that mirrors every repository to the given URL.
+     */
+    public static Path writeMirrorSettings(Path settingsFile, Path localRepository, String mirrorId,
+                                           String mirrorUrl) throws IOException {
+        Files.writeString(settingsFile, String.format(SETTINGS_TEMPLATE, localRepository, mirrorId, mirrorUrl));
+        return settingsFile;
+    }
+    
+    /**
+     * Writes the file next to a {@code .sha1} file holding its checksum, as remote repositories serve them.
+     */
+    public static void writeWithChecksum(Path file, byte[] content) throws IOException {
+        Files.write(file, content);
+        Files.writeString(file.resolveSibling(file.getFileName() + ".sha1"), DigestUtils.sha1Hex(content));
+    }
+}
\ No newline at end of file
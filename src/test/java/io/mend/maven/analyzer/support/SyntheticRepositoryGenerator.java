@@ -0,0 +1,306 @@
+package io.mend.maven.analyzer.support;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.UtilityClass;
+import org.apache.commons.codec.digest.DigestUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Generates a reproducible Maven repository of synthetic artifacts plus a project that depends on it
+ * through a {@code file://} repository, for network-free scale tests of the full analysis pipeline.
+ *
+ * Artifacts are arranged in levels; each one depends on {@code fanOut} artifacts of the next level.
+ * They inherit from a shared parent POM that imports a BOM managing their versions, so every
+ * descriptor read resolves a parent and an import. A share of the edges pins version 2.0.0 of its
+ * target instead, creating version conflicts the resolver has to mediate.
+ */
+@UtilityClass
+public class SyntheticRepositoryGenerator {
+    
+    public static final String PRIMARY_VERSION = "1.0.0";
+    public static final String CONFLICT_VERSION = "2.0.0";
+    public static final String REPOSITORY_ID = "synthetic";
+    
+    private static final String PARENT_ARTIFACT_ID = "synthetic-parent";
+    private static final String BOM_ARTIFACT_ID = "synthetic-bom";
+    private static final String PROJECT_ARTIFACT_ID = "synthetic-project";
+    private static final String VERSION_PROPERTY = "synthetic.version";
+    
+    /**
+     * Shape of the generated repository.
+     */
+    @Getter
+    @Builder
+    public static class Spec {
+        @Builder.Default
+        private final String groupId = "io.synthetic";
+        @Builder.Default
+        private final int artifactCount = 100;
+        @Builder.Default
+        private final int depth = 4;
+        @Builder.Default
+        private final int fanOut = 3;
+        @Builder.Default
+        private final int directDependencies = 5;
+        @Builder.Default
+        private final int minJarSize = 1024;
+        @Builder.Default
+        private final int maxJarSize = 16 * 1024;
+        /** Share of dependency edges, between 0 and 1, that pin the conflicting version of their target. */
+        @Builder.Default
+        private final double conflictRate = 0.1;
+        @Builder.Default
+        private final boolean parent = true;
+        @Builder.Default
+        private final boolean bom = true;
+        @Builder.Default
+        private final long seed = 42L;
+    }
+    
+    /**
+     * Locations and expectations of a generated repository and project.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class GeneratedProject {
+        private final Path repositoryDirectory;
+        private final String repositoryUrl;
+        private final Path projectDirectory;
+        private final Path localRepositoryDirectory;
+        /** SHA1 of every generated JAR, keyed by {@code groupId:artifactId:version}. */
+        private final Map<String, String> jarSha1s;
+        /** Number of distinct groupId:artifactId pairs reachable from the project. */
+        private final int reachableArtifactCount;
+        private final long totalJarBytes;
+    }
+    
+    /**
+     * Writes the repository to {@code baseDirectory/repository}, the project to {@code baseDirectory/project}
+     * and creates an empty {@code baseDirectory/local-repository} to resolve into.
+     */
+    public static GeneratedProject generate(@NonNull Path baseDirectory, @NonNull Spec spec) throws IOException {
+        if (spec.getArtifactCount() < spec.getDepth() || spec.getDepth() < 1) {
+            throw new IllegalArgumentException("Need at least one artifact per level: " + spec.getArtifactCount()
+                + " artifacts, depth " + spec.getDepth());
+        }
+        
+        Random random = new Random(spec.getSeed());
+        List<List<Node>> levels = createLevels(spec, random);
+        
+        Path repositoryDirectory = baseDirectory.resolve("repository");
+        Path projectDirectory = baseDirectory.resolve("project");
+        Path localRepositoryDirectory = baseDirectory.resolve("local-repository");
+        Files.createDirectories(projectDirectory);
+        Files.createDirectories(localRepositoryDirectory);
+        
+        if (spec.isBom()) {
+            writePom(repositoryDirectory, spec.getGroupId(), BOM_ARTIFACT_ID, PRIMARY_VERSION, bomPom(spec, levels));
+        }
+        if (spec.isParent()) {
+            writePom(repositoryDirectory, spec.getGroupId(), PARENT_ARTIFACT_ID, PRIMARY_VERSION, parentPom(spec));
+        }
+        
+        Map<String, String> jarSha1s = new LinkedHashMap<>();
+        long totalJarBytes = 0;
+        for (List<Node> level : levels) {
+            for (Node node : level) {
+                totalJarBytes += writeArtifact(repositoryDirectory, spec, node, PRIMARY_VERSION, random, jarSha1s);
+                if (node.conflicted) {
+                    totalJarBytes += writeArtifact(repositoryDirectory, spec, node, CONFLICT_VERSION, random, jarSha1s);
+                }
+            }
+        }
+        
+        List<Node> directDependencies = levels.get(0).subList(0, Math.min(spec.getDirectDependencies(), levels.get(0).size()));
+        String repositoryUrl = repositoryDirectory.toUri().toString();
+        Files.writeString(projectDirectory.resolve("pom.xml"), projectPom(spec, directDependencies, repositoryUrl));
+        
+        return new GeneratedProject(repositoryDirectory, repositoryUrl, projectDirectory, localRepositoryDirectory,
+            Collections.unmodifiableMap(jarSha1s), countReachable(directDependencies), totalJarBytes);
+    }
+    
+    private static List<List<Node>> createLevels(Spec spec, Random random) {
+        List<List<Node>> levels = new ArrayList<>();
+        int perLevel = spec.getArtifactCount() / spec.getDepth();
+        for (int level = 0; level < spec.getDepth(); level++) {
+            int size = level == spec.getDepth() - 1 ? spec.getArtifactCount() - perLevel * level : perLevel;
+            List<Node> nodes = new ArrayList<>(size);
+            for (int index = 0; index < size; index++) {
+                nodes.add(new Node(spec.getGroupId() + ".level" + level, "lib-" + level + "-" + index));
+            }
+            levels.add(nodes);
+        }
+        
+        for (int level = 0; level < levels.size() - 1; level++) {
+            List<Node> next = levels.get(level + 1);
+            for (Node node : levels.get(level)) {
+                List<Node> candidates = new ArrayList<>(next);
+                Collections.shuffle(candidates, random);
+                for (Node target : candidates.subList(0, Math.min(spec.getFanOut(), candidates.size()))) {
+                    boolean conflict = random.nextDouble() < spec.getConflictRate();
+                    target.conflicted |= conflict;
+                    node.edges.add(new Edge(target, conflict));
+                }
+            }
+        }
+        return levels;
+    }
+    
+    private static int countReachable(List<Node> directDependencies) {
+        Set<Node> visited = new HashSet<>(directDependencies);
+        Deque<Node> pending = new ArrayDeque<>(directDependencies);
+        while (!pending.isEmpty()) {
+            for (Edge edge : pending.poll().edges) {
+                if (visited.add(edge.target)) {
+                    pending.add(edge.target);
+                }
+            }
+        }
+        return visited.size();
+    }
+    
+    private static long writeArtifact(Path repositoryDirectory, Spec spec, Node node, String version, Random random,
+                                      Map<String, String> jarSha1s) throws IOException {
+        Path directory = writePom(repositoryDirectory, node.groupId, node.artifactId, version, artifactPom(spec, node, version));
+        
+        int jarSize = spec.getMinJarSize() + random.nextInt(Math.max(1, spec.getMaxJarSize() - spec.getMinJarSize() + 1));
+        byte[] jar = new byte[jarSize];
+        random.nextBytes(jar);
+        RepositoryFixtures.writeWithChecksum(directory.resolve(node.artifactId + "-" + version + ".jar"), jar);
+        jarSha1s.put(node.groupId + ":" + node.artifactId + ":" + version, DigestUtils.sha1Hex(jar));
+        return jarSize;
+    }
+    
+    private static Path writePom(Path repositoryDirectory, String groupId, String artifactId, String version,
+                                 String content) throws IOException {
+        Path directory = repositoryDirectory.resolve(groupId.replace('.', '/')).resolve(artifactId).resolve(version);
+        Files.createDirectories(directory);
+        RepositoryFixtures.writeWithChecksum(directory.resolve(artifactId + "-" + version + ".pom"),
+            content.getBytes(StandardCharsets.UTF_8));
+        return directory;
+    }
+    
+    private static String artifactPom(Spec spec, Node node, String version) {
+        StringBuilder pom = projectHeader();
+        if (spec.isParent()) {
+            pom.append("  <parent>\n");
+            appendCoordinates(pom, "    ", spec.getGroupId(), PARENT_ARTIFACT_ID, PRIMARY_VERSION);
+            pom.append("  </parent>\n");
+        }
+        appendCoordinates(pom, "  ", node.groupId, node.artifactId, version);
+        if (spec.isBom() && !spec.isParent()) {
+            appendBomImport(pom, spec);
+        }
+        pom.append("  <dependencies>\n");
+        for (Edge edge : node.edges) {
+            String edgeVersion = edge.conflict ? CONFLICT_VERSION : spec.isBom() ? null : PRIMARY_VERSION;
+            appendDependency(pom, "    ", edge.target.groupId, edge.target.artifactId, edgeVersion);
+        }
+        return pom.append("  </dependencies>\n</project>\n").toString();
+    }
+    
+    private static String parentPom(Spec spec) {
+        StringBuilder pom = projectHeader();
+        appendCoordinates(pom, "  ", spec.getGroupId(), PARENT_ARTIFACT_ID, PRIMARY_VERSION);
+        pom.append("  <packaging>pom</packaging>\n");
+        if (spec.isBom()) {
+            appendBomImport(pom, spec);
+        }
+        return pom.append("</project>\n").toString();
+    }
+    
+    private static String bomPom(Spec spec, List<List<Node>> levels) {
+        StringBuilder pom = projectHeader();
+        appendCoordinates(pom, "  ", spec.getGroupId(), BOM_ARTIFACT_ID, PRIMARY_VERSION);
+        pom.append("  <packaging>pom</packaging>\n  <dependencyManagement>\n    <dependencies>\n");
+        for (List<Node> level : levels) {
+            for (Node node : level) {
+                appendDependency(pom, "      ", node.groupId, node.artifactId, PRIMARY_VERSION);
+            }
+        }
+        return pom.append("    </dependencies>\n  </dependencyManagement>\n</project>\n").toString();
+    }
+    
+    private static String projectPom(Spec spec, List<Node> directDependencies, String repositoryUrl) {
+        StringBuilder pom = projectHeader();
+        appendCoordinates(pom, "  ", spec.getGroupId(), PROJECT_ARTIFACT_ID, PRIMARY_VERSION);
+        pom.append("  <properties>\n    <").append(VERSION_PROPERTY).append('>').append(PRIMARY_VERSION)
+           .append("</").append(VERSION_PROPERTY).append(">\n  </properties>\n");
+        pom.append("  <repositories>\n    <repository>\n      <id>").append(REPOSITORY_ID).append("</id>\n")
+           .append("      <url>").append(repositoryUrl).append("</url>\n    </repository>\n  </repositories>\n");
+        pom.append("  <dependencies>\n");
+        for (Node node : directDependencies) {
+            appendDependency(pom, "    ", node.groupId, node.artifactId, "${" + VERSION_PROPERTY + "}");
+        }
+        return pom.append("  </dependencies>\n</project>\n").toString();
+    }
+    
+    private static void appendBomImport(StringBuilder pom, Spec spec) {
+        pom.append("  <dependencyManagement>\n    <dependencies>\n      <dependency>\n");
+        appendCoordinates(pom, "        ", spec.getGroupId(), BOM_ARTIFACT_ID, PRIMARY_VERSION);
+        pom.append("        <type>pom</type>\n        <scope>import</scope>\n")
+           .append("      </dependency>\n    </dependencies>\n  </dependencyManagement>\n");
+    }
+    
+    private static StringBuilder projectHeader() {
+        return new StringBuilder(1024)
+            .append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n")
+            .append("<project xmlns=\"http://maven.apache.org/POM/4.0.0\">\n")
+            .append("  <modelVersion>4.0.0</modelVersion>\n");
+    }
+    
+    private static void appendCoordinates(StringBuilder pom, String indent, String groupId, String artifactId, String version) {
+        pom.append(indent).append("<groupId>").append(groupId).append("</groupId>\n")
+           .append(indent).append("<artifactId>").append(artifactId).append("</artifactId>\n")
+           .append(indent).append("<version>").append(version).append("</version>\n");
+    }
+    
+    private static void appendDependency(StringBuilder pom, String indent, String groupId, String artifactId, String version) {
+        pom.append(indent).append("<dependency>\n")
+           .append(indent).append("  <groupId>").append(groupId).append("</groupId>\n")
+           .append(indent).append("  <artifactId>").append(artifactId).append("</artifactId>\n");
+        if (version != null) {
+            pom.append(indent).append("  <version>").append(version).append("</version>\n");
+        }
+        pom.append(indent).append("</dependency>\n");
+    }
+    
+    private static final class Node {
+        private final String groupId;
+        private final String artifactId;
+        private final List<Edge> edges = new ArrayList<>();
+        private boolean conflicted;
+        
+        private Node(String groupId, String artifactId) {
+            this.groupId = groupId;
+            this.artifactId = artifactId;
+        }
+    }
+    
+    private static final class Edge {
+        private final Node target;
+        private final boolean conflict;
+        
+        private Edge(Node target, boolean conflict) {
+            this.target = target;
+            this.conflict = conflict;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,90 @@
+package io.mend.maven.analyzer.util;
+
+import io.mend.maven.analyzer.model.entity.AnalyzedDependency;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FingerprintUtilsTest {
+    
+    @Test
+    void testComputeFingerprints_IdenticalTrees_ProduceIdenticalFingerprints() {
+        List<AnalyzedDependency> first = createTree("aaa");
+        List<AnalyzedDependency> second = createTree("aaa");
+        
+        String firstRoot = FingerprintUtils.computeFingerprints(first);
+        String secondRoot = FingerprintUtils.computeFingerprints(second);
+        
+        assertEquals(firstRoot, secondRoot);
+        assertEquals(40, firstRoot.length());
+        assertEquals(first.get(0).getFingerprint(), second.get(0).getFingerprint());
+    }
+    
+    @Test
+    void testComputeFingerprints_ChangedLeaf_ChangesAncestorsButNotSiblings() {
+        List<AnalyzedDependency> before = createTree("aaa");
+        List<AnalyzedDependency> after = createTree("bbb");
+        
+        String beforeRoot = FingerprintUtils.computeFingerprints(before);
+        String afterRoot = FingerprintUtils.computeFingerprints(after);
+        
+        assertNotEquals(beforeRoot, afterRoot);
+        assertNotEquals(before.get(0).getFingerprint(), after.get(0).getFingerprint());
+        assertNotEquals(child(before, 0).getFingerprint(), child(after, 0).getFingerprint());
+        assertEquals(child(before, 1).getFingerprint(), child(after, 1).getFingerprint());
+        assertEquals(before.get(1).getFingerprint(), after.get(1).getFingerprint());
+    }
+    
+    @Test
+    void testComputeFingerprints_ReorderedChildren_ChangesParent() {
+        List<AnalyzedDependency> tree = createTree("aaa");
+        String original = FingerprintUtils.computeFingerprints(tree);
+        
+        List<AnalyzedDependency> reordered = new ArrayList<>(tree.get(0).getChildren());
+        reordered.add(reordered.remove(0));
+        tree.get(0).setChildren(reordered);
+        
+        assertNotEquals(original, FingerprintUtils.computeFingerprints(tree));
+    }
+    
+    @Test
+    void testFingerprint_FieldBoundaries_AreUnambiguous() {
+        AnalyzedDependency first = new AnalyzedDependency("com.example", "ab", "c", "compile");
+        AnalyzedDependency second = new AnalyzedDependency("com.example", "a", "bc", "compile");
+        AnalyzedDependency withoutScope = new AnalyzedDependency("com.example", "a", "bc", null);
+        AnalyzedDependency emptyScope = new AnalyzedDependency("com.example", "a", "bc", "");
+        
+        assertNotEquals(FingerprintUtils.fingerprint(first), FingerprintUtils.fingerprint(second));
+        assertNotEquals(FingerprintUtils.fingerprint(withoutScope), FingerprintUtils.fingerprint(emptyScope));
+    }
+    
+    @Test
+    void testRootFingerprint_SingleDependency_DiffersFromNodeFingerprint() {
+        List<AnalyzedDependency> tree = createTree("aaa");
+        FingerprintUtils.computeFingerprints(tree);
+        
+        assertNotEquals(tree.get(0).getFingerprint(), FingerprintUtils.rootFingerprint(List.of(tree.get(0))));
+        assertEquals(FingerprintUtils.rootFingerprint(List.of()), FingerprintUtils.rootFingerprint(null));
+    }
+    
+    private AnalyzedDependency child(List<AnalyzedDependency> tree, int index) {
+        return tree.get(0).getChildren().get(index);
+    }
+    
+    private List<AnalyzedDependency> createTree(String leafSha1) {
+        AnalyzedDependency parent = new AnalyzedDependency("com.example", "parent", "1.0.0", "compile");
+        AnalyzedDependency changing = new AnalyzedDependency("org.slf4j", "slf4j-api", "2.0.9", "compile");
+        changing.setSha1(leafSha1);
+        AnalyzedDependency stable = new AnalyzedDependency("org.hamcrest", "hamcrest", "2.2", "test");
+        stable.setSha1("ccc");
+        parent.addChild(changing);
+        parent.addChild(stable);
+        
+        AnalyzedDependency sibling = new AnalyzedDependency("org.junit", "junit", "4.13.2", "test");
+        sibling.setSha1("ddd");
+        return new ArrayList<>(List.of(parent, sibling));
+    }
+}
\ No newline at end of file